@@ -40,8 +40,10 @@ public class ConcurrentIOBufferAllocator implements IOBufferAllocator {
     private static final AtomicLong ALLOCATE_CALLS = new AtomicLong();
     private static final AtomicLong RELEASE_CALLS = new AtomicLong();
 
+    // The pool is per allocator, so allocators with a different minSize or a
+    // different kind of buffers (heap or direct) never hand out each other's buffers.
     @SuppressWarnings("java:S5164")
-    private static final ThreadLocal<Pool> POOL = new ThreadLocal<>();
+    private final ThreadLocal<Pool> threadLocalPool = new ThreadLocal<>();
 
     private final MpmcArrayQueue<IOBuffer> queue = new MpmcArrayQueue<>(4096);
     private final boolean direct;
@@ -74,10 +76,10 @@ public class ConcurrentIOBufferAllocator implements IOBufferAllocator {
     @SuppressWarnings("java:S3776")
     @Override
     public IOBuffer allocate() {
-        Pool pool = POOL.get();
+        Pool pool = threadLocalPool.get();
         if (pool == null) {
             pool = new Pool();
-            POOL.set(pool);
+            threadLocalPool.set(pool);
         }
         pool.allocateCnt++;
         if (pool.index == -1) {
@@ -97,9 +99,10 @@ public class ConcurrentIOBufferAllocator implements IOBufferAllocator {
             // Lets gets some bufs from the queue.
             //int count = queue.drain(pool.consumer, pool.bufs.length);
 
-            // and let's create a bunch of bufs ourselves, so we don't end up
-            // continuously asking the queue for requests.
-            for (int k = count; k < pool.bufs.length; k++) {
+            // The queue is empty as well, so let's create a buf ourselves. The
+            // pool is grown lazily; a thread that only needs a few bufs at a time
+            // doesn't pay for a full pool of them up front.
+            if (count == 0) {
                 //newAllocations.incrementAndGet();
                 //System.out.println(" new buf");
                 ByteBuffer buffer = allocateBuffer(direct, minSize);
@@ -108,7 +111,7 @@ public class ConcurrentIOBufferAllocator implements IOBufferAllocator {
                 buf.allocator = this;
                 pool.newAllocateCnt++;
                 pool.index++;
-                pool.bufs[k] = buf;
+                pool.bufs[pool.index] = buf;
             }
         }
 
@@ -134,6 +137,16 @@ public class ConcurrentIOBufferAllocator implements IOBufferAllocator {
         return buf;
     }
 
+    /**
+     * Returns the number of bufs in the pool of the current thread.
+     * <p>
+     * Only for testing.
+     */
+    int localPoolSize() {
+        Pool pool = threadLocalPool.get();
+        return pool == null ? 0 : pool.index + 1;
+    }
+
     @Override
     public void free(IOBuffer buf) {
         if (buf.refCount.get() != 0) {
@@ -143,7 +156,7 @@ public class ConcurrentIOBufferAllocator implements IOBufferAllocator {
         buf.clear();
         buf.next = null;
 
-        Pool pool = POOL.get();
+        Pool pool = threadLocalPool.get();
         if (pool == null) {
             // if pool == null:
             // if the thread has never allocated anything, we don't want to create
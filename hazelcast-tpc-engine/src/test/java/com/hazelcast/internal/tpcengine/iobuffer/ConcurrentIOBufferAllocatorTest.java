@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.tpcengine.iobuffer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentIOBufferAllocatorTest {
+
+    @Test
+    public void test_whenReleased_thenReused() {
+        ConcurrentIOBufferAllocator allocator = new ConcurrentIOBufferAllocator(16, false);
+
+        IOBuffer buf = allocator.allocate();
+        buf.release();
+
+        assertSame(buf, allocator.allocate());
+    }
+
+    @Test
+    public void test_whenPoolEmpty_thenOnlyOneBufCreated() {
+        ConcurrentIOBufferAllocator allocator = new ConcurrentIOBufferAllocator(16, false);
+
+        IOBuffer buf1 = allocator.allocate();
+        assertEquals(0, allocator.localPoolSize());
+
+        IOBuffer buf2 = allocator.allocate();
+        assertNotSame(buf1, buf2);
+        assertEquals(0, allocator.localPoolSize());
+
+        buf1.release();
+        buf2.release();
+        assertEquals(2, allocator.localPoolSize());
+    }
+
+    @Test
+    public void test_whenReleasedByOtherThread_thenReusedFromQueue() throws Exception {
+        ConcurrentIOBufferAllocator allocator = new ConcurrentIOBufferAllocator(16, false);
+        IOBuffer buf = allocator.allocate();
+
+        // a thread without a pool returns the buf to the shared queue
+        Thread releaser = new Thread(buf::release);
+        releaser.start();
+        releaser.join();
+
+        assertSame(buf, allocator.allocate());
+    }
+
+    @Test
+    public void test_whenSameThread_thenDirectBufNotHandedOutByHeapAllocator() {
+        ConcurrentIOBufferAllocator directAllocator = new ConcurrentIOBufferAllocator(16, true);
+        ConcurrentIOBufferAllocator heapAllocator = new ConcurrentIOBufferAllocator(16, false);
+
+        IOBuffer directBuf = directAllocator.allocate();
+        assertTrue(directBuf.byteBuffer().isDirect());
+        directBuf.release();
+
+        IOBuffer heapBuf = heapAllocator.allocate();
+        assertFalse(heapBuf.byteBuffer().isDirect());
+        assertTrue(heapBuf.byteBuffer().hasArray());
+        assertSame(heapAllocator, heapBuf.allocator);
+    }
+
+    @Test
+    public void test_whenSameThread_thenSmallBufNotHandedOutByLargeAllocator() {
+        ConcurrentIOBufferAllocator smallAllocator = new ConcurrentIOBufferAllocator(16, false);
+        ConcurrentIOBufferAllocator largeAllocator = new ConcurrentIOBufferAllocator(4096, false);
+
+        IOBuffer smallBuf = smallAllocator.allocate();
+        smallBuf.release();
+
+        IOBuffer largeBuf = largeAllocator.allocate();
+        assertNotSame(smallBuf, largeBuf);
+        assertEquals(4096, largeBuf.byteBuffer().capacity());
+
+        // and the released buf is still there for its own allocator
+        assertSame(smallBuf, smallAllocator.allocate());
+    }
+}
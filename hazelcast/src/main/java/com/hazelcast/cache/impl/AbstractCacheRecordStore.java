@@ -40,7 +40,9 @@ import com.hazelcast.internal.eviction.EvictionChecker;
 import com.hazelcast.internal.eviction.EvictionListener;
 import com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider;
 import com.hazelcast.internal.eviction.ExpiredKey;
+import com.hazelcast.internal.eviction.FrequencySketch;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
+import com.hazelcast.internal.eviction.impl.evaluator.TinyLFUEvictionPolicyEvaluator;
 import com.hazelcast.internal.eviction.impl.strategy.sampling.SamplingEvictionStrategy;
 import com.hazelcast.internal.iteration.IterationPointer;
 import com.hazelcast.internal.nearcache.impl.invalidation.InvalidationQueue;
@@ -135,6 +137,8 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     protected final ClearExpiredRecordsTask clearExpiredRecordsTask;
     protected final SamplingEvictionStrategy<Data, R, CRM> evictionStrategy;
     protected final EvictionPolicyEvaluator<Data, R> evictionPolicyEvaluator;
+    // only set when the accesses of the keys are counted for the eviction
+    protected final FrequencySketch frequencySketch;
     protected final Map<CacheEventType, Set<CacheEventData>> batchEvent = new EnumMap<>(CacheEventType.class);
     protected final CompositeCacheRSMutationObserver compositeCacheRSMutationObserver;
 
@@ -175,7 +179,10 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
 
         EvictionPolicyComparator evictionPolicyComparator = createEvictionPolicyComparator(evictionConfig);
         evictionPolicyComparator = injectDependencies(evictionPolicyComparator);
-        this.evictionPolicyEvaluator = new EvictionPolicyEvaluator<>(evictionPolicyComparator);
+        this.evictionPolicyEvaluator = EvictionPolicyEvaluatorProvider
+                .newEvictionPolicyEvaluator(evictionConfig, evictionPolicyComparator);
+        this.frequencySketch = evictionPolicyEvaluator instanceof TinyLFUEvictionPolicyEvaluator
+                ? ((TinyLFUEvictionPolicyEvaluator<?, ?>) evictionPolicyEvaluator).getFrequencySketch() : null;
         this.cacheContext = cacheService.getOrCreateCacheContext(cacheNameWithPrefix);
         this.records = createRecordCacheMap();
         this.evictionChecker = createCacheEvictionChecker(evictionConfig.getSize(), evictionConfig.getMaxSizePolicy());
@@ -634,6 +641,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     protected long onRecordAccess(Data key, R record, ExpiryPolicy expiryPolicy, long now) {
         record.setLastAccessTime(now);
         record.incrementHits();
+        evictionPolicyEvaluator.onAccess(key);
         return updateAccessDuration(key, record, expiryPolicy, now);
     }
 
@@ -1162,6 +1170,10 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     protected R doPutRecord(Data key, R record, UUID source, boolean updateJournal) {
         markExpirable(record.getExpirationTime());
         R oldRecord = records.put(key, record);
+        if (frequencySketch != null) {
+            frequencySketch.ensureCapacity(records.size());
+        }
+        evictionPolicyEvaluator.onAccess(key);
         if (updateJournal) {
             if (oldRecord != null) {
                 compositeCacheRSMutationObserver.onUpdate(
@@ -1209,6 +1221,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
                 if (isStatisticsEnabled()) {
                     statistics.increaseCacheMisses(1);
                 }
+                evictionPolicyEvaluator.onAccess(key);
                 value = readThroughCache(key);
                 if (value == null) {
                     if (isStatisticsEnabled()) {
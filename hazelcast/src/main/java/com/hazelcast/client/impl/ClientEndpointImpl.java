@@ -279,6 +279,24 @@ public final class ClientEndpointImpl implements ClientEndpoint {
         }
     }
 
+    /**
+     * Releases this endpoint without destroying the state of its client. This is
+     * done for the endpoint which authenticated an additional channel of a client,
+     * since that channel is attached to the endpoint of the client.
+     *
+     * @see ClientEndpointManager#attachConnection(ClientEndpoint)
+     */
+    void release() throws LoginException {
+        try {
+            LoginContext lc = loginContext;
+            if (lc != null) {
+                lc.logout();
+            }
+        } finally {
+            clientEngine.onEndpointDestroyed(this);
+        }
+    }
+
     private void removeAndCallRemoveAction(UUID uuid) {
         Callable callable = removeListenerActions.remove(uuid);
         if (callable != null) {
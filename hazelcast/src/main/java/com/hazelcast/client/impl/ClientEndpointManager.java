@@ -29,6 +29,16 @@ import java.util.UUID;
  */
 public interface ClientEndpointManager {
 
+    /**
+     * The label a client adds to the authentication of an additional channel
+     * to a member. Such a channel is not an endpoint on its own, it is attached
+     * to the endpoint of its client.
+     *
+     * @see com.hazelcast.client.properties.ClientProperty#CONNECTION_COUNT_PER_MEMBER
+     * @see #attachConnection(ClientEndpoint)
+     */
+    String ADDITIONAL_CHANNEL_LABEL = "hazelcast.client.additional.channel";
+
     /**
      * Returns the current endpoints.
      *
@@ -89,4 +99,26 @@ public interface ClientEndpointManager {
      */
     void removeEndpoint(ClientEndpoint endpoint);
 
+    /**
+     * Attaches the connection of the given endpoint, which authenticated an
+     * additional channel of a client, to the registered endpoint of the same
+     * client. The given endpoint isn't registered: {@link #getEndpoint(Connection)}
+     * returns the endpoint of the client for the connection, but the connection
+     * isn't reported as an endpoint and fires no client events. The attached
+     * connections are closed when the endpoint of the client is removed.
+     *
+     * @param endpoint the authenticated endpoint of the additional channel.
+     * @return false if the client has no registered endpoint with a live connection
+     * @throws java.lang.NullPointerException if endpoint is null.
+     */
+    boolean attachConnection(ClientEndpoint endpoint);
+
+    /**
+     * Detaches the given connection from the endpoint of its client, without
+     * closing the connection or removing the endpoint.
+     *
+     * @param connection the connection attached by {@link #attachConnection(ClientEndpoint)}.
+     * @throws java.lang.NullPointerException if connection is null.
+     */
+    void detachConnection(Connection connection);
 }
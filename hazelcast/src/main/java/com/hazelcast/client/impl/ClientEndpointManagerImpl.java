@@ -57,6 +57,10 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     private final ConcurrentMap<Connection, ClientEndpoint> endpoints =
             new ConcurrentHashMap<>();
 
+    // the additional channels of the clients, mapped to the endpoints of their clients
+    private final ConcurrentMap<Connection, ClientEndpoint> attachedConnections =
+            new ConcurrentHashMap<>();
+
     @Probe(name = CLIENT_METRIC_ENDPOINT_MANAGER_TOTAL_REGISTRATIONS, level = MANDATORY)
     private final MwCounter totalRegistrations = newMwCounter();
 
@@ -81,7 +85,8 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     public ClientEndpoint getEndpoint(Connection connection) {
         checkNotNull(connection, "connection can't be null");
 
-        return endpoints.get(connection);
+        ClientEndpoint endpoint = endpoints.get(connection);
+        return endpoint != null ? endpoint : attachedConnections.get(connection);
     }
 
     @Override
@@ -112,6 +117,8 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
             return;
         }
 
+        closeAttachedConnections(endpoint);
+
         logger.info("Destroying " + endpoint);
         try {
             endpoint.destroy();
@@ -127,6 +134,47 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
         sendClientEvent(event);
     }
 
+    @Override
+    public boolean attachConnection(ClientEndpoint attachedEndpoint) {
+        checkNotNull(attachedEndpoint, "endpoint can't be null");
+
+        ClientEndpoint endpoint = null;
+        for (ClientEndpoint candidate : endpoints.values()) {
+            if (candidate.getUuid().equals(attachedEndpoint.getUuid()) && candidate.isAlive()) {
+                endpoint = candidate;
+                break;
+            }
+        }
+        if (endpoint == null) {
+            return false;
+        }
+
+        // the additional channels closed by the client are only dropped here, there is no event for them
+        attachedConnections.keySet().removeIf(connection -> !connection.isAlive());
+        attachedConnections.put(attachedEndpoint.getConnection(), endpoint);
+        // the endpoint could be removed concurrently, after its attached connections were closed
+        if (!endpoints.containsKey(endpoint.getConnection())) {
+            closeAttachedConnections(endpoint);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void detachConnection(Connection connection) {
+        checkNotNull(connection, "connection can't be null");
+
+        attachedConnections.remove(connection);
+    }
+
+    private void closeAttachedConnections(ClientEndpoint endpoint) {
+        attachedConnections.forEach((connection, attachedTo) -> {
+            if (attachedTo == endpoint && attachedConnections.remove(connection, attachedTo)) {
+                connection.close("The endpoint of the client was removed", null);
+            }
+        });
+    }
+
     private void sendClientEvent(ClientEvent event) {
         final Collection<EventRegistration> regs = eventService.getRegistrations(SERVICE_NAME, SERVICE_NAME);
         UUID uuid = event.getUuid();
@@ -136,6 +184,7 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     @Override
     public void clear() {
         endpoints.clear();
+        attachedConnections.clear();
     }
 
     @Override
@@ -353,6 +353,11 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
             conn.setRemoteAddress(address);
         }
 
+        Set<String> labels = endpoint.getLabels();
+        if (labels != null && labels.contains(ClientEndpointManager.ADDITIONAL_CHANNEL_LABEL)) {
+            return attachAdditionalChannel(endpoint);
+        }
+
         if (endpointManager.registerEndpoint(endpoint)) {
             // remote address can be null if connection closed before bind.
             // On such a case, `ClientEngine#connectionRemoved` will not be called for this connection since
@@ -373,6 +378,18 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
     }
 
 
+    // the additional channel isn't registered as an endpoint, so the client is
+    // counted and reported once and gets a single CONNECTED and DISCONNECTED event
+    private boolean attachAdditionalChannel(ClientEndpoint endpoint) {
+        boolean attached = endpointManager.attachConnection(endpoint);
+        try {
+            ((ClientEndpointImpl) endpoint).release();
+        } catch (LoginException e) {
+            logger.warning(e);
+        }
+        return attached;
+    }
+
     @Override
     public void applySelector(ClientSelector newSelector) {
         logger.info("Applying a new client selector :" + newSelector);
@@ -485,6 +502,11 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
                 logger.finest("connectionRemoved: No endpoint for connection:%s", connection);
                 return;
             }
+            if (endpoint.getConnection() != connection) {
+                // an additional channel of the client is closed, its endpoint stays
+                endpointManager.detachConnection(connection);
+                return;
+            }
             UUID clientUuid = endpoint.getUuid();
             if (clientUuid != null) {
                 node.getLocalAddressRegistry().tryRemoveRegistration(clientUuid,
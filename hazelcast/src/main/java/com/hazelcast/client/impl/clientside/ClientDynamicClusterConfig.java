@@ -139,6 +139,13 @@ public class ClientDynamicClusterConfig extends Config {
 
     @Override
     public Config addMapConfig(MapConfig mapConfig) {
+        // the storage type is not part of the client protocol yet, it cannot
+        // be sent to the cluster, so it must not be silently dropped either
+        if (mapConfig.getStorageType() != MapConfig.DEFAULT_STORAGE_TYPE) {
+            throw new UnsupportedOperationException("Adding a map config with the storage type "
+                    + mapConfig.getStorageType() + " is not supported by the client, the storage type can only"
+                    + " be configured on the members");
+        }
         List<ListenerConfigHolder> listenerConfigs = adaptListenerConfigs(mapConfig.getEntryListenerConfigs());
         List<ListenerConfigHolder> partitionLostListenerConfigs =
                 adaptListenerConfigs(mapConfig.getPartitionLostListenerConfigs());
@@ -61,4 +61,14 @@ public interface ClientConnection extends Connection {
      */
     @Nullable
     Channel[] getTpcChannels();
+
+    /**
+     * Returns the additional channels opened to the member of this
+     * connection, or {@code null}, if the client opens a single
+     * connection per member or they are not established yet.
+     *
+     * @see com.hazelcast.client.properties.ClientProperty#CONNECTION_COUNT_PER_MEMBER
+     */
+    @Nullable
+    Channel[] getMemberChannels();
 }
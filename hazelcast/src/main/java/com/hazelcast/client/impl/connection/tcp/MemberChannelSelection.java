@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection.tcp;
+
+/**
+ * Decides over which of the channels to a member a partition specific
+ * message is sent, when the client opens more than one connection per member.
+ *
+ * @see com.hazelcast.client.properties.ClientProperty#CONNECTION_COUNT_PER_MEMBER
+ */
+public enum MemberChannelSelection {
+
+    /**
+     * The channel is selected by the partition ID of the message, so the
+     * messages of a partition are always sent over the same channel and
+     * keep their order.
+     */
+    PARTITION_ID,
+
+    /**
+     * The channel with the fewest bytes waiting to be written to the socket
+     * is selected. This spreads the load more evenly when the partitions
+     * aren't accessed evenly, but the concurrent messages of a partition
+     * might be sent over different channels and overtake each other.
+     */
+    LEAST_PENDING_BYTES
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection.tcp;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.internal.networking.Channel;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.hazelcast.client.impl.connection.tcp.MemberChannelSelection.PARTITION_ID;
+
+/**
+ * The channels of a {@link TcpClientConnection} to its member: the channel
+ * of the connection followed by its additional channels.
+ * <p>
+ * Partition specific messages are spread over all channels. All other
+ * messages, including listener registrations, are sent over the channel of
+ * the connection, so the events of the listeners are received over it too.
+ * The responses received over the additional channels are handled by the
+ * connection.
+ */
+final class MemberChannels {
+
+    private final Channel[] channels;
+    private final MemberChannelSelection selection;
+    /**
+     * The bytes handed to each channel, compared to the bytes it has
+     * written to find the pending bytes. Only used by
+     * {@link MemberChannelSelection#LEAST_PENDING_BYTES}.
+     */
+    private final AtomicLongArray submittedBytes;
+
+    MemberChannels(Channel channel, Channel[] additionalChannels, MemberChannelSelection selection) {
+        this.channels = new Channel[additionalChannels.length + 1];
+        this.channels[0] = channel;
+        System.arraycopy(additionalChannels, 0, channels, 1, additionalChannels.length);
+        this.selection = selection;
+        this.submittedBytes = new AtomicLongArray(channels.length);
+        for (int i = 0; i < channels.length; i++) {
+            submittedBytes.set(i, channels[i].bytesWritten());
+        }
+    }
+
+    boolean write(ClientMessage message) {
+        int partitionId = message.getPartitionId();
+        if (partitionId < 0) {
+            return write(0, message);
+        }
+        if (selection == PARTITION_ID) {
+            return channels[partitionId % channels.length].write(message);
+        }
+        return write(leastPendingIndex(), message);
+    }
+
+    boolean contains(Channel channel) {
+        for (Channel c : channels) {
+            if (c == channel) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the channels without the given additional channel, which
+     * spread its partitions over the remaining channels
+     */
+    MemberChannels without(Channel additionalChannel) {
+        Channel[] remaining = new Channel[channels.length - 2];
+        int i = 0;
+        for (int k = 1; k < channels.length; k++) {
+            if (channels[k] != additionalChannel) {
+                remaining[i++] = channels[k];
+            }
+        }
+        return new MemberChannels(channels[0], remaining, selection);
+    }
+
+    /**
+     * @return the additional channels, without the channel of the connection
+     */
+    Channel[] getAdditionalChannels() {
+        return Arrays.copyOfRange(channels, 1, channels.length);
+    }
+
+    private boolean write(int index, ClientMessage message) {
+        if (selection != PARTITION_ID) {
+            submittedBytes.addAndGet(index, message.getFrameLength());
+        }
+        return channels[index].write(message);
+    }
+
+    private int leastPendingIndex() {
+        // start from a random channel, so idle channels are selected evenly
+        int start = ThreadLocalRandom.current().nextInt(channels.length);
+        int leastPendingIndex = start;
+        long leastPendingBytes = Long.MAX_VALUE;
+        for (int i = 0; i < channels.length; i++) {
+            int index = (start + i) % channels.length;
+            long pendingBytes = pendingBytes(index);
+            if (pendingBytes < leastPendingBytes) {
+                leastPendingIndex = index;
+                leastPendingBytes = pendingBytes;
+                if (pendingBytes == 0) {
+                    break;
+                }
+            }
+        }
+        return leastPendingIndex;
+    }
+
+    private long pendingBytes(int index) {
+        long submitted = submittedBytes.get(index);
+        long written = channels[index].bytesWritten();
+        if (submitted <= written) {
+            // the channel writes a few bytes which aren't submitted here, like
+            // the protocol header, pings and the TLS overhead, so the counters
+            // are aligned whenever the channel has nothing left to write
+            submittedBytes.compareAndSet(index, submitted, written);
+            return 0;
+        }
+        return submitted - written;
+    }
+}
@@ -73,6 +73,7 @@ public class TcpClientConnection implements ClientConnection {
     private final ConcurrentMap<Long, EventHandler> eventHandlerMap = new ConcurrentHashMap<>();
     @Probe(name = CLIENT_METRIC_CONNECTION_CLOSED_TIME, level = ProbeLevel.DEBUG)
     private final AtomicLong closedTime = new AtomicLong();
+    private final Object memberChannelsLock = new Object();
 
     private volatile Address remoteAddress;
     private volatile Throwable closeCause;
@@ -80,6 +81,7 @@ public class TcpClientConnection implements ClientConnection {
     private volatile UUID remoteUuid;
     private volatile UUID clusterUuid;
     private volatile Channel[] tpcChannels;
+    private volatile MemberChannels memberChannels;
 
     public TcpClientConnection(HazelcastClientInstance client, int connectionId, Channel channel) {
         this.client = client;
@@ -114,7 +116,11 @@ public class TcpClientConnection implements ClientConnection {
     public boolean write(OutboundFrame frame) {
         Channel[] tpcChannels = this.tpcChannels;
         if (tpcChannels == null) {
-            return channel.write(frame);
+            MemberChannels memberChannels = this.memberChannels;
+            if (memberChannels == null) {
+                return channel.write(frame);
+            }
+            return memberChannels.write((ClientMessage) frame);
         }
 
         ClientMessage clientMessage = (ClientMessage) frame;
@@ -228,6 +234,17 @@ public class TcpClientConnection implements ClientConnection {
 
     @SuppressWarnings("java:S1135")
     protected void innerClose() throws IOException {
+        MemberChannels memberChannels = this.memberChannels;
+        if (memberChannels != null) {
+            for (Channel memberChannel : memberChannels.getAdditionalChannels()) {
+                try {
+                    memberChannel.close();
+                } catch (Exception e) {
+                    logger.warning("Exception while closing member channel " + e.getMessage());
+                }
+            }
+        }
+
         if (tpcChannels != null) {
             for (Channel tpcChannel : tpcChannels) {
                 try {
@@ -343,4 +360,45 @@ public class TcpClientConnection implements ClientConnection {
     public Channel[] getTpcChannels() {
         return tpcChannels;
     }
+
+    /**
+     * Spreads the partition specific messages over the channel of this
+     * connection and the given additional channels to the same member.
+     */
+    public void setMemberChannels(Channel[] additionalChannels, MemberChannelSelection selection) {
+        synchronized (memberChannelsLock) {
+            this.memberChannels = new MemberChannels(channel, additionalChannels, selection);
+        }
+        for (Channel memberChannel : additionalChannels) {
+            memberChannel.addCloseListener(this::removeMemberChannel);
+            // the channel might have been closed before the listener was added
+            if (memberChannel.isClosed()) {
+                removeMemberChannel(memberChannel);
+            }
+        }
+    }
+
+    /**
+     * Stops using the given closed additional channel, so its partitions
+     * are spread over the remaining channels instead of failing.
+     */
+    private void removeMemberChannel(Channel memberChannel) {
+        synchronized (memberChannelsLock) {
+            MemberChannels memberChannels = this.memberChannels;
+            if (memberChannels == null || !memberChannels.contains(memberChannel)) {
+                return;
+            }
+            this.memberChannels = memberChannels.without(memberChannel);
+        }
+        if (isAlive()) {
+            logger.info("The additional channel " + memberChannel + " of " + this + " is closed, "
+                    + "its messages are sent over the remaining channels");
+        }
+    }
+
+    @Override
+    public Channel[] getMemberChannels() {
+        MemberChannels memberChannels = this.memberChannels;
+        return memberChannels == null ? null : memberChannels.getAdditionalChannels();
+    }
 }
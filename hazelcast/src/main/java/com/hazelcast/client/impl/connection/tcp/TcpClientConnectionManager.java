@@ -29,6 +29,7 @@ import com.hazelcast.client.config.ClientNetworkConfig;
 import com.hazelcast.client.config.ClientTpcConfig;
 import com.hazelcast.client.config.ConnectionRetryConfig;
 import com.hazelcast.client.config.RoutingMode;
+import com.hazelcast.client.impl.ClientEndpointManager;
 import com.hazelcast.client.impl.clientside.CandidateClusterContext;
 import com.hazelcast.client.impl.clientside.ClientLoggingService;
 import com.hazelcast.client.impl.clientside.ClusterDiscoveryService;
@@ -117,7 +118,10 @@ import static com.hazelcast.client.config.ConnectionRetryConfig.DEFAULT_CLUSTER_
 import static com.hazelcast.client.config.ConnectionRetryConfig.FAILOVER_CLIENT_DEFAULT_CLUSTER_CONNECT_TIMEOUT_MILLIS;
 import static com.hazelcast.client.impl.connection.tcp.AuthenticationKeyValuePairConstants.ROUTING_MODE_NOT_SUPPORTED_MESSAGE;
 import static com.hazelcast.client.impl.management.ManagementCenterService.MC_CLIENT_MODE_PROP;
+import static com.hazelcast.client.impl.protocol.AuthenticationStatus.AUTHENTICATED;
 import static com.hazelcast.client.impl.protocol.AuthenticationStatus.NOT_ALLOWED_IN_CLUSTER;
+import static com.hazelcast.client.properties.ClientProperty.CONNECTION_COUNT_PER_MEMBER;
+import static com.hazelcast.client.properties.ClientProperty.CONNECTION_SELECTION_PER_MEMBER;
 import static com.hazelcast.client.properties.ClientProperty.HEARTBEAT_TIMEOUT;
 import static com.hazelcast.client.properties.ClientProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.IO_INPUT_THREAD_COUNT;
@@ -177,6 +181,9 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     // accessed only in synchronized block
     private final LinkedList<Integer> outboundPorts = new LinkedList<>();
     private final Set<String> labels;
+    // the labels of the additional channels mark them for the member, which attaches
+    // them to the endpoint of the client instead of registering an endpoint per channel
+    private final Set<String> memberChannelLabels;
     private final int outboundPortCount;
     private final boolean failoverConfigProvided;
     private final ScheduledExecutorService executor;
@@ -189,6 +196,8 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     private final LoadBalancer loadBalancer;
     private final RoutingMode routingMode;
     private final boolean isTpcAwareClient;
+    private final int connectionCountPerMember;
+    private final MemberChannelSelection memberChannelSelection;
     private final boolean skipMemberListDuringReconnection;
     private final ClientClusterService clientClusterService;
     private volatile Credentials currentCredentials;
@@ -251,6 +260,9 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         HazelcastProperties properties = client.getProperties();
         this.loadBalancer = client.getLoadBalancer();
         this.labels = Collections.unmodifiableSet(config.getLabels());
+        Set<String> memberChannelLabels = new HashSet<>(labels);
+        memberChannelLabels.add(ClientEndpointManager.ADDITIONAL_CHANNEL_LABEL);
+        this.memberChannelLabels = Collections.unmodifiableSet(memberChannelLabels);
         LoggingService loggingService = client.getLoggingService();
         this.logger = loggingService.getLogger(ClientConnectionManager.class);
         this.connectionType = properties.getBoolean(MC_CLIENT_MODE_PROP)
@@ -267,6 +279,9 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         this.shuffleMemberList = properties.getBoolean(SHUFFLE_MEMBER_LIST);
         this.routingMode = decideRoutingMode(config);
         this.isTpcAwareClient = config.getTpcConfig().isEnabled();
+        this.connectionCountPerMember = routingMode == RoutingMode.SINGLE_MEMBER
+                ? 1 : Math.max(properties.getInteger(CONNECTION_COUNT_PER_MEMBER), 1);
+        this.memberChannelSelection = properties.getEnum(CONNECTION_SELECTION_PER_MEMBER, MemberChannelSelection.class);
         this.asyncStart = config.getConnectionStrategyConfig().isAsyncStart();
         this.reconnectMode = config.getConnectionStrategyConfig().getReconnectMode();
         this.connectionProcessListenerRunner = new ClientConnectionProcessListenerRegistry(client);
@@ -838,6 +853,19 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     }
 
     private Channel createTpcChannel(Address address, TcpClientConnection connection) {
+        // TODO: Socket interceptor for TPC?
+        return createAdditionalChannel(address, connection, false);
+    }
+
+    private Channel createMemberChannel(Address address, TcpClientConnection connection) {
+        return createAdditionalChannel(address, connection, true);
+    }
+
+    /**
+     * Creates a channel which is not a connection on its own, but whose
+     * messages are handled by the given connection.
+     */
+    private Channel createAdditionalChannel(Address address, TcpClientConnection connection, boolean memberChannel) {
         SocketChannel socketChannel = null;
         try {
             socketChannel = SocketChannel.open();
@@ -859,7 +887,14 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
             InetSocketAddress socketAddress = new InetSocketAddress(address.getHost(), address.getPort());
             channel.connect(socketAddress, connectionTimeoutMillis);
 
-            // TODO: Socket interceptor for TPC?
+            if (memberChannel) {
+                socketChannel.configureBlocking(true);
+                SocketInterceptor socketInterceptor = clusterDiscoveryService.current().getSocketInterceptor();
+                if (socketInterceptor != null) {
+                    socketInterceptor.onConnect(socket);
+                }
+            }
+
             channel.start();
             return channel;
         } catch (Exception e) {
@@ -1025,7 +1060,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
 
     private AuthenticationResponse authenticateOnCluster(TcpClientConnection connection) {
         Address memberAddress = connection.getInitAddress();
-        ClientMessage request = encodeAuthenticationRequest(memberAddress);
+        ClientMessage request = encodeAuthenticationRequest(memberAddress, labels);
         ClientInvocationFuture future = new ClientInvocation(client, request, null, connection).invokeUrgent();
         try {
             return AuthenticationResponse.from(future.get(authenticationTimeout, MILLISECONDS));
@@ -1076,6 +1111,8 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
             List<Integer> tpcPorts = response.getTpcPorts();
             if (isTpcAwareClient && tpcPorts != null && !tpcPorts.isEmpty()) {
                 connectTpcPorts(connection, tpcPorts, response.getTpcToken());
+            } else if (connectionCountPerMember > 1) {
+                executor.execute(() -> connectMemberChannels(connection));
             }
 
             boolean connectionsEmpty = activeConnections.isEmpty();
@@ -1277,7 +1314,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         }
     }
 
-    private ClientMessage encodeAuthenticationRequest(Address toAddress) {
+    private ClientMessage encodeAuthenticationRequest(Address toAddress, Set<String> labels) {
         InternalSerializationService ss = client.getSerializationService();
         String clientVersion = BuildInfoProvider.getBuildInfo().getVersion();
 
@@ -1289,7 +1326,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         byte routingModeByte = (byte) client.getConnectionManager().getRoutingMode().ordinal();
         if (credentials instanceof PasswordCredentials passwordCredentials) {
             return encodePasswordCredentialsRequest(clusterName, passwordCredentials,
-                    ss.getVersion(), clientVersion, routingModeByte, cpDirectToLeader);
+                    ss.getVersion(), clientVersion, routingModeByte, cpDirectToLeader, labels);
         } else {
             byte[] secretBytes;
             if (credentials instanceof TokenCredentials tokenCredentials) {
@@ -1299,7 +1336,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
             }
 
             return encodeCustomCredentialsRequest(clusterName, secretBytes, ss.getVersion(), clientVersion, routingModeByte,
-                    cpDirectToLeader);
+                    cpDirectToLeader, labels);
         }
     }
 
@@ -1307,7 +1344,8 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
                                                            PasswordCredentials credentials,
                                                            byte serializationVersion,
                                                            String clientVersion, byte routingMode,
-                                                           boolean cpDirectToLeader) {
+                                                           boolean cpDirectToLeader,
+                                                           Set<String> labels) {
         return ClientAuthenticationCodec.encodeRequest(clusterName, credentials.getName(),
                 credentials.getPassword(), clientUuid, connectionType, serializationVersion,
                 clientVersion, client.getName(), labels, routingMode, cpDirectToLeader);
@@ -1318,7 +1356,8 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
                                                          byte serializationVersion,
                                                          String clientVersion,
                                                          byte routingMode,
-                                                         boolean cpDirectToLeader) {
+                                                         boolean cpDirectToLeader,
+                                                         Set<String> labels) {
         return ClientAuthenticationCustomCodec.encodeRequest(clusterName, secretBytes, clientUuid,
                 connectionType, serializationVersion, clientVersion, client.getName(), labels, routingMode, cpDirectToLeader);
     }
@@ -1390,6 +1429,60 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         connector.initiate();
     }
 
+    /**
+     * Opens the additional channels to the member of the connection and
+     * authenticates them. If any of them fails, the connection is used on
+     * its own.
+     */
+    private void connectMemberChannels(TcpClientConnection connection) {
+        Address address = connection.getInitAddress();
+        UUID memberUuid = connection.getRemoteUuid();
+        Channel[] channels = new Channel[connectionCountPerMember - 1];
+        try {
+            for (int i = 0; i < channels.length; i++) {
+                if (!connection.isAlive()) {
+                    throw new IllegalStateException("The connection is closed");
+                }
+                channels[i] = createMemberChannel(address, connection);
+                authenticateMemberChannel(channels[i], address, memberUuid);
+            }
+        } catch (Exception e) {
+            logger.warning("Failed to open " + channels.length + " additional channels for " + connection
+                    + ", the client will use only this connection to the member: " + e, e);
+            closeChannels(channels);
+            return;
+        }
+
+        connection.setMemberChannels(channels, memberChannelSelection);
+        // the connection might have been closed before the channels were set
+        if (!connection.isAlive()) {
+            closeChannels(channels);
+        } else {
+            logger.info("Opened " + channels.length + " additional channels for " + connection);
+        }
+    }
+
+    private void authenticateMemberChannel(Channel channel, Address address, UUID memberUuid) throws Exception {
+        ClientConnection adapter = (ClientConnection) channel.attributeMap().get(TpcChannelClientConnectionAdapter.class);
+        ClientMessage request = encodeAuthenticationRequest(address, memberChannelLabels);
+        ClientInvocationFuture future = new ClientInvocation(client, request, null, adapter).invokeUrgent();
+        AuthenticationResponse response = AuthenticationResponse.from(future.get(authenticationTimeout, MILLISECONDS));
+        if (AuthenticationStatus.getById(response.getStatus()) != AUTHENTICATED) {
+            throw new AuthenticationException("Authentication status of the channel " + channel + ": "
+                    + AuthenticationStatus.getById(response.getStatus()));
+        }
+        if (!memberUuid.equals(response.getMemberUuid())) {
+            throw new IllegalStateException("The channel " + channel + " is connected to the member "
+                    + response.getMemberUuid() + " instead of " + memberUuid);
+        }
+    }
+
+    private static void closeChannels(Channel[] channels) {
+        for (Channel channel : channels) {
+            closeResource(channel);
+        }
+    }
+
     static List<Integer> getTargetTpcPorts(List<Integer> tpcPorts, ClientTpcConfig tpcConfig) {
         List<Integer> targetTpcPorts;
         int tpcConnectionCount = tpcConfig.getConnectionCount();
@@ -100,6 +100,12 @@ public class TpcChannelClientConnectionAdapter implements ClientConnection {
         throw new UnsupportedOperationException("Not supported for TPC channels");
     }
 
+    @Nullable
+    @Override
+    public Channel[] getMemberChannels() {
+        throw new UnsupportedOperationException("Not supported for TPC channels");
+    }
+
     @Override
     public ConcurrentMap attributeMap() {
         throw new UnsupportedOperationException("Not supported for TPC channels");
@@ -132,6 +132,8 @@ public final class ClientMessage implements OutboundFrame {
 
     private transient Frame startFrame;
     private Frame endFrame;
+    // the frames following endFrame, if they are encoded in a single array
+    private transient FlatFrames flatFrames;
 
     private transient boolean isRetryable;
     private transient String operationName;
@@ -172,6 +174,7 @@ public final class ClientMessage implements OutboundFrame {
     }
 
     public ClientMessage add(Frame frame) {
+        assert flatFrames == null : "No frames can be added after the flat frames";
         frame.next = null;
         if (startFrame == null) {
             startFrame = frame;
@@ -184,8 +187,44 @@ public final class ClientMessage implements OutboundFrame {
         return this;
     }
 
+    /**
+     * Adds the frames encoded into a single array as the last frames of this
+     * message. No frames can be added after them.
+     */
+    public ClientMessage addFlatFrames(FlatFrames frames) {
+        assert flatFrames == null;
+        assert startFrame != null;
+        flatFrames = frames;
+        return this;
+    }
+
+    /**
+     * @return the frames encoded into a single array following the end frame,
+     * or {@code null} if all the frames of this message are linked frames
+     */
+    public FlatFrames getFlatFrames() {
+        return flatFrames;
+    }
+
     public ForwardFrameIterator frameIterator() {
-        return new ForwardFrameIterator(startFrame);
+        if (flatFrames == null) {
+            return new ForwardFrameIterator(startFrame);
+        }
+        // the linked frames are copied so that the flat frames can be appended
+        // to them without changing this message
+        Frame first = null;
+        Frame last = null;
+        for (Frame frame = startFrame; frame != null; frame = frame.next) {
+            Frame copy = frame.copy();
+            if (first == null) {
+                first = copy;
+            } else {
+                last.next = copy;
+            }
+            last = copy;
+        }
+        last.next = flatFrames.toFrames();
+        return new ForwardFrameIterator(first);
     }
 
     public int getMessageType() {
@@ -300,6 +339,9 @@ public final class ClientMessage implements OutboundFrame {
             frameLength += currentFrame.getSize();
             currentFrame = currentFrame.next;
         }
+        if (flatFrames != null) {
+            frameLength += flatFrames.length();
+        }
         return frameLength;
     }
 
@@ -311,6 +353,9 @@ public final class ClientMessage implements OutboundFrame {
             currentFrame = currentFrame.next;
 
         }
+        if (flatFrames != null) {
+            length += flatFrames.length();
+        }
         return length;
     }
 
@@ -382,6 +427,7 @@ public final class ClientMessage implements OutboundFrame {
 
         newMessage.setCorrelationId(correlationId);
 
+        newMessage.flatFrames = flatFrames;
         newMessage.isRetryable = isRetryable;
         newMessage.operationName = operationName;
         newMessage.containsSerializedDataInRequest = containsSerializedDataInRequest;
@@ -403,6 +449,7 @@ public final class ClientMessage implements OutboundFrame {
         Frame initialFrameCopy = startFrame.deepCopy();
         ClientMessage newMessage = new ClientMessage(initialFrameCopy, endFrame);
 
+        newMessage.flatFrames = flatFrames;
         newMessage.isRetryable = isRetryable;
         newMessage.operationName = operationName;
         newMessage.containsSerializedDataInRequest = containsSerializedDataInRequest;
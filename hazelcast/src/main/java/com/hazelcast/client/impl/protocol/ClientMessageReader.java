@@ -29,6 +29,10 @@ import static com.hazelcast.client.impl.protocol.ClientMessage.SIZE_OF_FRAME_LEN
 public final class ClientMessageReader {
 
     private static final int INT_MASK = 0xffff;
+    // Every frame is read into an array of its own, since the codecs read the
+    // content of a frame starting at index 0. Only the empty frames (e.g. begin,
+    // end and null frames) share an array, as there is nothing to read into it.
+    private static final byte[] EMPTY_CONTENT = new byte[0];
     private int readOffset = -1;
     private ClientMessage clientMessage;
     private int sumUntrustedMessageLength;
@@ -94,7 +98,7 @@ public final class ClientMessageReader {
             src.position(src.position() + Bits.SHORT_SIZE_IN_BYTES);
 
             int size = frameLength - SIZE_OF_FRAME_LENGTH_AND_FLAGS;
-            byte[] bytes = new byte[size];
+            byte[] bytes = size == 0 ? EMPTY_CONTENT : new byte[size];
             ClientMessage.Frame frame = new ClientMessage.Frame(bytes, flags);
             if (clientMessage == null) {
                 clientMessage = ClientMessage.createForDecode(frame);
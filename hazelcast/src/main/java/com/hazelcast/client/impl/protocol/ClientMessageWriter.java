@@ -28,24 +28,48 @@ public class ClientMessageWriter {
     private transient ClientMessage.Frame currentFrame;
     //-1 means length is not written yet
     private transient int writeOffset = -1;
+    //-1 means the flat frames of the message, if any, are not being written yet
+    private transient int flatWriteOffset = -1;
 
     public boolean writeTo(ByteBuffer dst, ClientMessage clientMessage) {
-        if (currentFrame == null) {
-            currentFrame = clientMessage.getStartFrame();
-        }
-        for (; ; ) {
-            boolean isLastFrame = currentFrame.next == null;
-            if (writeFrame(dst, currentFrame, isLastFrame)) {
-                writeOffset = -1;
-                if (isLastFrame) {
-                    currentFrame = null;
-                    return true;
+        FlatFrames flatFrames = clientMessage.getFlatFrames();
+        if (flatWriteOffset == -1) {
+            if (currentFrame == null) {
+                currentFrame = clientMessage.getStartFrame();
+            }
+            for (; ; ) {
+                boolean isLastFrame = currentFrame.next == null;
+                if (writeFrame(dst, currentFrame, isLastFrame && flatFrames == null)) {
+                    writeOffset = -1;
+                    if (isLastFrame) {
+                        currentFrame = null;
+                        break;
+                    }
+                    currentFrame = currentFrame.next;
+                } else {
+                    return false;
                 }
-                currentFrame = currentFrame.next;
-            } else {
-                return false;
             }
+            if (flatFrames == null) {
+                return true;
+            }
+            flatWriteOffset = 0;
+        }
+        if (writeFlatFrames(dst, flatFrames)) {
+            flatWriteOffset = -1;
+            return true;
         }
+        return false;
+    }
+
+    // The flat frames are already in their wire format, including the final flag
+    // of the last frame, so they are copied as they are.
+    private boolean writeFlatFrames(ByteBuffer dst, FlatFrames flatFrames) {
+        int bytesNeeded = flatFrames.length() - flatWriteOffset;
+        int bytesWrite = Math.min(dst.remaining(), bytesNeeded);
+        dst.put(flatFrames.bytes(), flatWriteOffset, bytesWrite);
+        flatWriteOffset += bytesWrite;
+        return bytesWrite == bytesNeeded;
     }
 
     private boolean writeFrame(ByteBuffer dst, ClientMessage.Frame frame, boolean isLastFrame) {
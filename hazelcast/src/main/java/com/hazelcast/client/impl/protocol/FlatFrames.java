@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol;
+
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.serialization.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static com.hazelcast.client.impl.protocol.ClientMessage.DEFAULT_FLAGS;
+import static com.hazelcast.client.impl.protocol.ClientMessage.IS_FINAL_FLAG;
+import static com.hazelcast.client.impl.protocol.ClientMessage.SIZE_OF_FRAME_LENGTH_AND_FLAGS;
+
+/**
+ * The trailing frames of a {@link ClientMessage}, encoded in their wire format
+ * into a single array instead of a {@link ClientMessage.Frame} with an array of
+ * its own for each frame. Every frame is stored as its frame length, its flags
+ * and its content, one after the other, so the {@link ClientMessageWriter}
+ * copies all of them into the socket buffer in bulk.
+ * <p>
+ * The last frame carries the {@link ClientMessage#IS_FINAL_FLAG}, so these are
+ * always the last frames of a message. They are created with an {@link Encoder}.
+ */
+public final class FlatFrames {
+
+    private final byte[] bytes;
+    private final int frameCount;
+
+    private FlatFrames(byte[] bytes, int frameCount) {
+        this.bytes = bytes;
+        this.frameCount = frameCount;
+    }
+
+    /**
+     * @return the number of bytes of the frames, including their frame lengths and flags
+     */
+    public int length() {
+        return bytes.length;
+    }
+
+    public int frameCount() {
+        return frameCount;
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * Creates a linked {@link ClientMessage.Frame} for each of the frames, e.g. to
+     * decode the message or to split it into fragments. The content of the frames
+     * is copied, so this is not meant for the path a message takes to the socket.
+     *
+     * @return the first of the linked frames
+     */
+    ClientMessage.Frame toFrames() {
+        ClientMessage.Frame first = null;
+        ClientMessage.Frame last = null;
+        int offset = 0;
+        while (offset < bytes.length) {
+            int frameLength = Bits.readIntL(bytes, offset);
+            int flags = Bits.readShortL(bytes, offset + Bits.INT_SIZE_IN_BYTES) & ~IS_FINAL_FLAG & 0xffff;
+            int contentOffset = offset + SIZE_OF_FRAME_LENGTH_AND_FLAGS;
+            byte[] content = Arrays.copyOfRange(bytes, contentOffset, offset + frameLength);
+            ClientMessage.Frame frame = new ClientMessage.Frame(content, flags);
+            if (first == null) {
+                first = frame;
+            } else {
+                last.next = frame;
+            }
+            last = frame;
+            offset += frameLength;
+        }
+        return first;
+    }
+
+    /**
+     * Encodes frames into a growable buffer. The encoder, and so its buffer, is
+     * pooled per thread: {@link #acquire()} hands out the encoder of the calling
+     * thread and {@link #build()} copies the encoded frames into an array of the
+     * exact length and leaves the buffer to the next encoding on the thread. So
+     * encoding a message of any number of frames allocates a single array once
+     * the buffer has grown. The copy keeps the message independent of the buffer,
+     * since a message may be written more than once, e.g. when it is retried.
+     * <p>
+     * An encoding must be completed with {@link #build()} before the thread
+     * acquires the encoder again.
+     */
+    public static final class Encoder {
+
+        private static final int INITIAL_CAPACITY = 1 << 12;
+        // a larger buffer is not kept for the next encoding, so that a single very
+        // large message does not pin its memory to the thread
+        private static final int MAX_POOLED_CAPACITY = 1 << 20;
+        private static final ThreadLocal<Encoder> POOL = ThreadLocal.withInitial(Encoder::new);
+
+        private byte[] buffer = new byte[INITIAL_CAPACITY];
+        private int position;
+        private int lastFrameOffset;
+        private int frameCount;
+
+        private Encoder() {
+        }
+
+        public static Encoder acquire() {
+            Encoder encoder = POOL.get();
+            encoder.position = 0;
+            encoder.lastFrameOffset = -1;
+            encoder.frameCount = 0;
+            return encoder;
+        }
+
+        public Encoder addFrame(byte[] content, int flags) {
+            int contentOffset = beginFrame(content.length, flags);
+            System.arraycopy(content, 0, buffer, contentOffset, content.length);
+            return this;
+        }
+
+        /**
+         * Adds a frame with the given flags and no content, e.g. a begin, end or null frame.
+         */
+        public Encoder addFrame(int flags) {
+            beginFrame(0, flags);
+            return this;
+        }
+
+        public Encoder addString(String value) {
+            return addFrame(value.getBytes(StandardCharsets.UTF_8), DEFAULT_FLAGS);
+        }
+
+        /**
+         * Adds a frame with the bytes of the data, copied straight into the buffer
+         * instead of through {@link Data#toByteArray()}.
+         */
+        public Encoder addData(Data data) {
+            int size = data.totalSize();
+            int contentOffset = beginFrame(size, DEFAULT_FLAGS);
+            if (size > 0) {
+                data.copyTo(buffer, contentOffset);
+            }
+            return this;
+        }
+
+        public FlatFrames build() {
+            if (lastFrameOffset == -1) {
+                throw new IllegalStateException("No frames are encoded");
+            }
+            int flagsOffset = lastFrameOffset + Bits.INT_SIZE_IN_BYTES;
+            short flags = Bits.readShortL(buffer, flagsOffset);
+            Bits.writeShortL(buffer, flagsOffset, (short) (flags | IS_FINAL_FLAG));
+
+            FlatFrames frames = new FlatFrames(Arrays.copyOf(buffer, position), frameCount);
+            if (buffer.length > MAX_POOLED_CAPACITY) {
+                buffer = new byte[INITIAL_CAPACITY];
+            }
+            return frames;
+        }
+
+        private int beginFrame(int contentLength, int flags) {
+            int frameLength = SIZE_OF_FRAME_LENGTH_AND_FLAGS + contentLength;
+            ensureAvailable(frameLength);
+            Bits.writeIntL(buffer, position, frameLength);
+            Bits.writeShortL(buffer, position + Bits.INT_SIZE_IN_BYTES, (short) flags);
+            lastFrameOffset = position;
+            frameCount++;
+            position += frameLength;
+            return lastFrameOffset + SIZE_OF_FRAME_LENGTH_AND_FLAGS;
+        }
+
+        private void ensureAvailable(int length) {
+            if (buffer.length - position < length) {
+                int newCapacity = Math.max(buffer.length << 1, position + length);
+                buffer = Arrays.copyOf(buffer, newCapacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.util;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.FlatFrames;
+import com.hazelcast.client.impl.protocol.codec.MapPutAllCodec;
+import com.hazelcast.internal.serialization.Data;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static com.hazelcast.client.impl.protocol.ClientMessage.BEGIN_DATA_STRUCTURE_FLAG;
+import static com.hazelcast.client.impl.protocol.ClientMessage.END_DATA_STRUCTURE_FLAG;
+import static com.hazelcast.client.impl.protocol.ClientMessage.PARTITION_ID_FIELD_OFFSET;
+import static com.hazelcast.client.impl.protocol.ClientMessage.TYPE_FIELD_OFFSET;
+import static com.hazelcast.client.impl.protocol.ClientMessage.UNFRAGMENTED_MESSAGE;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.BOOLEAN_SIZE_IN_BYTES;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.INT_SIZE_IN_BYTES;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.encodeBoolean;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.encodeInt;
+
+/**
+ * Encodes the same request as {@link MapPutAllCodec#encodeRequest}, with the
+ * frames following the initial frame encoded into {@link FlatFrames}. The
+ * generated codec allocates a {@link ClientMessage.Frame} and an array for
+ * each key and value, so a request with 10k entries allocates tens of
+ * thousands of small arrays which the {@link com.hazelcast.client.impl.protocol.ClientMessageWriter}
+ * then copies one by one. This encoder copies the keys and values straight
+ * into a pooled buffer and the writer copies the frames in bulk.
+ * <p>
+ * The bytes on the wire are the same, so the member decodes the request with
+ * {@link MapPutAllCodec#decodeRequest} as usual.
+ */
+public final class MapPutAllFlatEncoder {
+
+    private static final int REQUEST_TRIGGER_MAP_LOADER_FIELD_OFFSET = PARTITION_ID_FIELD_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int REQUEST_INITIAL_FRAME_SIZE = REQUEST_TRIGGER_MAP_LOADER_FIELD_OFFSET + BOOLEAN_SIZE_IN_BYTES;
+
+    private MapPutAllFlatEncoder() {
+    }
+
+    public static ClientMessage encodeRequest(String name, Collection<Map.Entry<Data, Data>> entries,
+                                              boolean triggerMapLoader) {
+        ClientMessage clientMessage = ClientMessage.createForEncode();
+        clientMessage.setContainsSerializedDataInRequest(true);
+        clientMessage.setRetryable(false);
+        clientMessage.setOperationName("Map.PutAll");
+        ClientMessage.Frame initialFrame = new ClientMessage.Frame(new byte[REQUEST_INITIAL_FRAME_SIZE], UNFRAGMENTED_MESSAGE);
+        encodeInt(initialFrame.content, TYPE_FIELD_OFFSET, MapPutAllCodec.REQUEST_MESSAGE_TYPE);
+        encodeInt(initialFrame.content, PARTITION_ID_FIELD_OFFSET, -1);
+        encodeBoolean(initialFrame.content, REQUEST_TRIGGER_MAP_LOADER_FIELD_OFFSET, triggerMapLoader);
+        clientMessage.add(initialFrame);
+
+        FlatFrames.Encoder encoder = FlatFrames.Encoder.acquire();
+        encoder.addString(name);
+        encoder.addFrame(BEGIN_DATA_STRUCTURE_FLAG);
+        for (Map.Entry<Data, Data> entry : entries) {
+            encoder.addData(entry.getKey());
+            encoder.addData(entry.getValue());
+        }
+        encoder.addFrame(END_DATA_STRUCTURE_FLAG);
+        return clientMessage.addFlatFrames(encoder.build());
+    }
+}
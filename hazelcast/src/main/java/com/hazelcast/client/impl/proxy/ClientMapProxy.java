@@ -60,7 +60,6 @@ import com.hazelcast.client.impl.protocol.codec.MapLoadGivenKeysCodec;
 import com.hazelcast.client.impl.protocol.codec.MapLockCodec;
 import com.hazelcast.client.impl.protocol.codec.MapProjectCodec;
 import com.hazelcast.client.impl.protocol.codec.MapProjectWithPredicateCodec;
-import com.hazelcast.client.impl.protocol.codec.MapPutAllCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutAllWithMetadataCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutIfAbsentCodec;
@@ -90,6 +89,7 @@ import com.hazelcast.client.impl.protocol.codec.MapValuesCodec;
 import com.hazelcast.client.impl.protocol.codec.MapValuesWithPagingPredicateCodec;
 import com.hazelcast.client.impl.protocol.codec.MapValuesWithPredicateCodec;
 import com.hazelcast.client.impl.protocol.codec.holder.PagingPredicateHolder;
+import com.hazelcast.client.impl.protocol.util.MapPutAllFlatEncoder;
 import com.hazelcast.client.impl.spi.ClientContext;
 import com.hazelcast.client.impl.spi.ClientPartitionService;
 import com.hazelcast.client.impl.spi.ClientProxy;
@@ -102,6 +102,7 @@ import com.hazelcast.client.map.impl.iterator.ClientMapIterator;
 import com.hazelcast.client.map.impl.iterator.ClientMapPartitionIterable;
 import com.hazelcast.client.map.impl.iterator.ClientMapPartitionIterator;
 import com.hazelcast.client.map.impl.iterator.ClientMapQueryIterable;
+import com.hazelcast.client.map.impl.iterator.ClientMapQueryIterator;
 import com.hazelcast.client.map.impl.iterator.ClientMapQueryPartitionIterable;
 import com.hazelcast.client.map.impl.iterator.ClientMapQueryPartitionIterator;
 import com.hazelcast.client.map.impl.querycache.ClientQueryCacheContext;
@@ -121,6 +122,7 @@ import com.hazelcast.internal.serialization.impl.SerializationUtil;
 import com.hazelcast.internal.util.CollectionUtil;
 import com.hazelcast.internal.util.ConcurrencyUtil;
 import com.hazelcast.internal.util.IterationType;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.EventJournalMapEvent;
 import com.hazelcast.map.IMap;
@@ -139,6 +141,7 @@ import com.hazelcast.map.impl.querycache.subscriber.SubscriberContext;
 import com.hazelcast.map.listener.MapListener;
 import com.hazelcast.map.listener.MapPartitionLostListener;
 import com.hazelcast.projection.Projection;
+import com.hazelcast.projection.Projections;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.PartitionPredicate;
 import com.hazelcast.query.Predicate;
@@ -146,9 +149,11 @@ import com.hazelcast.query.impl.IndexUtils;
 import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
 import com.hazelcast.ringbuffer.ReadResultSet;
 import com.hazelcast.ringbuffer.impl.ReadResultSetImpl;
+import com.hazelcast.spi.impl.DelegatingCompletableFuture;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.UnmodifiableLazyList;
 import com.hazelcast.spi.impl.UnmodifiableLazySet;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -170,11 +175,15 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.client.properties.ClientProperty.MAP_GET_COALESCING_ENABLED;
+import static com.hazelcast.client.properties.ClientProperty.MAP_GET_COALESCING_MAX_BATCH_SIZE;
+import static com.hazelcast.client.properties.ClientProperty.MAP_GET_COALESCING_WINDOW_MICROS;
 import static com.hazelcast.internal.util.CollectionUtil.objectToDataCollection;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.SetUtil.allPartitionIds;
 import static com.hazelcast.internal.util.ThreadUtil.getThreadId;
 import static com.hazelcast.internal.util.TimeUtil.timeInMsOrOneIfResultIsZero;
 import static com.hazelcast.internal.util.TimeUtil.timeInMsOrTimeIfNullUnit;
@@ -216,6 +225,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
     private ClientLockReferenceIdGenerator lockReferenceIdGenerator;
     private ClientQueryCacheContext queryCacheContext;
     private boolean useDefaultReplaceAllOperation;
+    private MapGetCoalescer getCoalescer;
 
     public ClientMapProxy(String serviceName, String name, ClientContext context) {
         super(serviceName, name, context);
@@ -227,6 +237,13 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
         lockReferenceIdGenerator = getClient().getLockReferenceIdGenerator();
         queryCacheContext = getContext().getQueryCacheContext();
+
+        HazelcastProperties properties = getClient().getProperties();
+        if (properties.getBoolean(MAP_GET_COALESCING_ENABLED)) {
+            getCoalescer = new MapGetCoalescer(getClient(), name,
+                    properties.getNanos(MAP_GET_COALESCING_WINDOW_MICROS),
+                    properties.getInteger(MAP_GET_COALESCING_MAX_BATCH_SIZE));
+        }
     }
 
     @Override
@@ -262,6 +279,10 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
     protected Object getInternal(Object key) {
         Data keyData = toData(key);
+        if (getCoalescer != null) {
+            int partitionId = getContext().getPartitionService().getPartitionId(keyData);
+            return getCoalescer.get(keyData, partitionId).joinInternal();
+        }
         ClientMessage request = MapGetCodec.encodeRequest(name, keyData, getThreadId());
         ClientMessage response = invoke(request, keyData);
         return MapGetCodec.decodeResponse(response);
@@ -353,6 +374,11 @@ public class ClientMapProxy<K, V> extends ClientProxy
     public InternalCompletableFuture<V> getAsync(@Nonnull K key) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
 
+        if (getCoalescer != null) {
+            Data keyData = toData(key);
+            int partitionId = getContext().getPartitionService().getPartitionId(keyData);
+            return new DelegatingCompletableFuture<>(getSerializationService(), getCoalescer.get(keyData, partitionId));
+        }
         return new ClientDelegatingFuture<>(getAsyncInternal(key),
                 getSerializationService(), MapGetCodec::decodeResponse);
     }
@@ -1682,7 +1708,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
             Integer partitionId = entry.getKey();
             // if there is only one entry, consider how we can use MapPutRequest
             // without having to get back the return value
-            ClientMessage request = MapPutAllCodec.encodeRequest(name, entry.getValue(), triggerMapLoader);
+            ClientMessage request = MapPutAllFlatEncoder.encodeRequest(name, entry.getValue(), triggerMapLoader);
             new ClientInvocation(getClient(), request, getName(), partitionId)
                     .invoke()
                     .whenCompleteAsync(callback, ConcurrencyUtil.getDefaultAsyncExecutor());
@@ -1797,6 +1823,26 @@ public class ClientMapProxy<K, V> extends ClientProxy
         return new ClientMapIterator<>(this, fetchSize, partitionCount, false);
     }
 
+    @Override
+    @Nonnull
+    public Iterator<Entry<K, V>> iterator(int fetchSize, @Nonnull Predicate<K, V> predicate) {
+        checkPositive("fetchSize", fetchSize);
+        checkNotNull(predicate, NULL_PREDICATE_IS_NOT_ALLOWED);
+        checkDoesNotContainPagingPredicate(predicate, "iterator");
+        ClientPartitionService partitionService = getContext().getPartitionService();
+        PartitionIdSet partitionIds;
+        if (predicate instanceof PartitionPredicate<K, V> partitionPredicate) {
+            partitionIds = new PartitionIdSet(partitionService.getPartitionCount());
+            for (Object partitionKey : partitionPredicate.getPartitionKeys()) {
+                partitionIds.add(partitionService.getPartitionId(partitionKey));
+            }
+            predicate = partitionPredicate.getTarget();
+        } else {
+            partitionIds = allPartitionIds(partitionService.getPartitionCount());
+        }
+        return new ClientMapQueryIterator<>(this, fetchSize, partitionIds, Projections.identity(), predicate);
+    }
+
     /**
      * Returns an iterator for iterating entries in the {@code partitionId}. If {@code prefetchValues} is
      * {@code true}, all values will be sent along with the keys and no additional data will be fetched when
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.proxy;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapGetAllCodec;
+import com.hazelcast.client.impl.spi.impl.ClientInvocation;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.ConcurrencyUtil;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Coalesces the single key reads of a map into {@code getAll} requests.
+ * <p>
+ * The reads of the partitions owned by the same member are collected into a
+ * batch, which is sent when its time window ends. The {@code getAll} request
+ * is partition scoped, so a batch is sent as one request per partition it
+ * has reads of. The reads of a partition are sent right away once they reach
+ * the maximum batch size. A read while no other read of the map is waiting
+ * has nothing to be coalesced with, so it is sent right away. The entries of
+ * the response are handed back to the futures of the individual reads, the
+ * keys missing from the response are completed with {@code null}.
+ * <p>
+ * Batching per member rather than per partition means a single window and a
+ * single scheduled task per member, instead of one per partition with reads.
+ *
+ * @see com.hazelcast.client.properties.ClientProperty#MAP_GET_COALESCING_ENABLED
+ */
+final class MapGetCoalescer {
+
+    private final HazelcastClientInstanceImpl client;
+    private final String name;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    // the batches by the owner of their partitions, or by the partition ID
+    // while the owner of the partition is not known
+    private final ConcurrentMap<Object, Batch> batches = new ConcurrentHashMap<>();
+    // the number of reads which are not completed yet
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    MapGetCoalescer(HazelcastClientInstanceImpl client, String name, long windowNanos, int maxBatchSize) {
+        this.client = client;
+        this.name = name;
+        this.windowNanos = Math.max(windowNanos, 1);
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+    }
+
+    /**
+     * Adds the key to the current batch of the owner of its partition.
+     *
+     * @param keyData     the key to read
+     * @param partitionId the partition of the key
+     * @return the future of the value, completed with {@code null} if there is no value
+     */
+    InternalCompletableFuture<Data> get(Data keyData, int partitionId) {
+        InternalCompletableFuture<Data> future = new InternalCompletableFuture<>();
+        boolean alone = waiting.getAndIncrement() == 0;
+        Object batchKey = batchKey(partitionId);
+        for (; ; ) {
+            Batch batch = batches.computeIfAbsent(batchKey, Batch::new);
+            int size = batch.add(partitionId, keyData, future);
+            if (size < 0) {
+                // the batch was sent in the meantime
+                batches.remove(batchKey, batch);
+                continue;
+            }
+            if (alone) {
+                send(batch);
+                return future;
+            }
+            if (size == 1) {
+                schedule(batch);
+            }
+            PartitionReads full = batch.removeIfFull(partitionId, maxBatchSize);
+            if (full != null) {
+                send(full);
+            }
+            return future;
+        }
+    }
+
+    private Object batchKey(int partitionId) {
+        UUID owner = client.getClientPartitionService().getPartitionOwner(partitionId);
+        return owner != null ? owner : partitionId;
+    }
+
+    private void schedule(Batch batch) {
+        try {
+            client.getTaskScheduler().schedule(() -> send(batch), windowNanos, NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            send(batch);
+        }
+    }
+
+    private void send(Batch batch) {
+        batches.remove(batch.key, batch);
+        Map<Integer, PartitionReads> reads = batch.close();
+        if (reads == null) {
+            return;
+        }
+        for (PartitionReads partitionReads : reads.values()) {
+            send(partitionReads);
+        }
+    }
+
+    private void send(PartitionReads reads) {
+        Map<Data, List<InternalCompletableFuture<Data>>> waiters = reads.waiters;
+        int count = reads.size;
+        try {
+            ClientMessage request = MapGetAllCodec.encodeRequest(name, new ArrayList<>(waiters.keySet()));
+            new ClientInvocation(client, request, name, reads.partitionId).invoke()
+                    .whenCompleteAsync((response, throwable) -> {
+                        waiting.addAndGet(-count);
+                        if (throwable != null) {
+                            completeExceptionally(waiters, throwable);
+                            return;
+                        }
+                        try {
+                            complete(waiters, response);
+                        } catch (Throwable t) {
+                            // e.g. the response couldn't be decoded, the reads must not be left hanging
+                            completeExceptionally(waiters, t);
+                        }
+                    }, ConcurrencyUtil.getDefaultAsyncExecutor());
+        } catch (Throwable t) {
+            waiting.addAndGet(-count);
+            completeExceptionally(waiters, t);
+        }
+    }
+
+    private static void complete(Map<Data, List<InternalCompletableFuture<Data>>> waiters, ClientMessage response) {
+        List<Entry<Data, Data>> entries = MapGetAllCodec.decodeResponse(response);
+        for (Entry<Data, Data> entry : entries) {
+            List<InternalCompletableFuture<Data>> futures = waiters.remove(entry.getKey());
+            if (futures != null) {
+                for (InternalCompletableFuture<Data> future : futures) {
+                    future.complete(entry.getValue());
+                }
+            }
+        }
+        for (List<InternalCompletableFuture<Data>> futures : waiters.values()) {
+            for (InternalCompletableFuture<Data> future : futures) {
+                future.complete(null);
+            }
+        }
+    }
+
+    private static void completeExceptionally(Map<Data, List<InternalCompletableFuture<Data>>> waiters,
+                                              Throwable throwable) {
+        for (List<InternalCompletableFuture<Data>> futures : waiters.values()) {
+            for (InternalCompletableFuture<Data> future : futures) {
+                future.completeExceptionally(throwable);
+            }
+        }
+    }
+
+    /**
+     * The reads of the partitions owned by the same member which are
+     * collected in the same window.
+     */
+    private static final class Batch {
+
+        private final Object key;
+        private Map<Integer, PartitionReads> reads = new HashMap<>();
+        private int size;
+
+        Batch(Object key) {
+            this.key = key;
+        }
+
+        /**
+         * @return the number of reads added to the batch, or {@code -1} if the batch is closed
+         */
+        synchronized int add(int partitionId, Data keyData, InternalCompletableFuture<Data> future) {
+            if (reads == null) {
+                return -1;
+            }
+            reads.computeIfAbsent(partitionId, PartitionReads::new).add(keyData, future);
+            return ++size;
+        }
+
+        /**
+         * Removes the reads of the given partition if there are at least the
+         * given number of them, so that they are sent without waiting for the
+         * window to end.
+         *
+         * @return the removed reads, or {@code null} if there are fewer reads
+         * or the batch is closed
+         */
+        synchronized PartitionReads removeIfFull(int partitionId, int maxSize) {
+            if (reads == null) {
+                return null;
+            }
+            PartitionReads partitionReads = reads.get(partitionId);
+            if (partitionReads == null || partitionReads.size < maxSize) {
+                return null;
+            }
+            return reads.remove(partitionId);
+        }
+
+        /**
+         * @return the reads of the batch by partition ID, or {@code null} if the batch was already closed
+         */
+        synchronized Map<Integer, PartitionReads> close() {
+            Map<Integer, PartitionReads> result = reads;
+            reads = null;
+            return result;
+        }
+    }
+
+    /**
+     * The reads of a partition which are sent in the same request.
+     * The same key read concurrently is sent only once. Guarded by the
+     * {@link Batch} the reads belong to until they are removed from it.
+     */
+    private static final class PartitionReads {
+
+        private final int partitionId;
+        private final Map<Data, List<InternalCompletableFuture<Data>>> waiters = new HashMap<>();
+        private int size;
+
+        PartitionReads(int partitionId) {
+            this.partitionId = partitionId;
+        }
+
+        void add(Data keyData, InternalCompletableFuture<Data> future) {
+            waiters.computeIfAbsent(keyData, k -> new ArrayList<>(1)).add(future);
+            size++;
+        }
+    }
+}
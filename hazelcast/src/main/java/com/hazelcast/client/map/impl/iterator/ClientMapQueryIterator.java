@@ -17,6 +17,7 @@
 package com.hazelcast.client.map.impl.iterator;
 
 import com.hazelcast.client.impl.proxy.ClientMapProxy;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.map.impl.iterator.AbstractMapQueryIterator;
 import com.hazelcast.map.impl.iterator.MapQueryPartitionIterator;
 import com.hazelcast.projection.Projection;
@@ -43,4 +44,9 @@ public class ClientMapQueryIterator<K, V, R> extends AbstractMapQueryIterator<R>
                                   Projection<? super Map.Entry<K, V>, R> projection, Predicate<K, V> predicate) {
         super(partitionId -> mapProxy.iterator(fetchSize, partitionId, projection, predicate), partitionCount);
     }
+
+    public ClientMapQueryIterator(ClientMapProxy<K, V> mapProxy, int fetchSize, PartitionIdSet partitionIds,
+                                  Projection<? super Map.Entry<K, V>, R> projection, Predicate<K, V> predicate) {
+        super(partitionId -> mapProxy.iterator(fetchSize, partitionId, projection, predicate), partitionIds.intIterator());
+    }
 }
@@ -18,11 +18,13 @@ package com.hazelcast.client.properties;
 
 import com.hazelcast.client.config.ClientMetricsConfig;
 import com.hazelcast.client.config.RoutingMode;
+import com.hazelcast.client.impl.connection.tcp.MemberChannelSelection;
 import com.hazelcast.config.MetricsJmxConfig;
 import com.hazelcast.core.IndeterminateOperationStateException;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.client.util.ClientConnectivityLogger;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -355,6 +357,72 @@ public final class ClientProperty {
     public static final HazelcastProperty CLIENT_CONNECTIVITY_LOGGING_DELAY_SECONDS
             = new HazelcastProperty("hazelcast.client.connectivity.logging.delay.seconds", 10);
 
+    /**
+     * The number of connections the client opens to each member it connects to.
+     * <p>
+     * A single connection is served by a single IO thread on each side, which
+     * can limit the throughput of a client process running many threads. When
+     * set to a value larger than 1, partition specific invocations are spread
+     * over the connections as configured by {@link #CONNECTION_SELECTION_PER_MEMBER},
+     * while all other invocations and the events of the listeners use the
+     * first connection.
+     * <p>
+     * The additional connections are authenticated like the first one and
+     * the member attaches them to the endpoint of the client, so the client is
+     * still listed and reported once by the member. Has no effect
+     * in {@link RoutingMode#SINGLE_MEMBER} routing mode or when the TPC
+     * channels of a member are used.
+     */
+    public static final HazelcastProperty CONNECTION_COUNT_PER_MEMBER
+            = new HazelcastProperty("hazelcast.client.connection.count.per.member", 1);
+
+    /**
+     * Decides over which of the connections to a member a partition specific
+     * invocation is sent, see {@link #CONNECTION_COUNT_PER_MEMBER}.
+     * <p>
+     * {@code PARTITION_ID}, the default, selects the connection by the partition
+     * ID of the invocation, so the invocations of a partition keep their order.
+     * {@code LEAST_PENDING_BYTES} selects the connection with the fewest bytes
+     * waiting to be written, so concurrent invocations of the same partition
+     * may be sent over different connections and are not guaranteed to be run
+     * in the order they were made.
+     */
+    public static final HazelcastProperty CONNECTION_SELECTION_PER_MEMBER
+            = new HazelcastProperty("hazelcast.client.connection.selection.per.member", MemberChannelSelection.PARTITION_ID);
+
+    /**
+     * Enables coalescing of concurrent {@link com.hazelcast.map.IMap#get(Object)}
+     * and {@link com.hazelcast.map.IMap#getAsync(Object)} calls.
+     * <p>
+     * When enabled, the keys read within
+     * {@link #MAP_GET_COALESCING_WINDOW_MICROS} are sent as a single
+     * {@code getAll} request per partition and the entries of the response
+     * are handed back to the individual calls. This reduces the number of
+     * messages when many threads read from the same map, at the cost of
+     * up to one window of additional latency per read. A read while no other
+     * read of the map is waiting is sent right away.
+     * <p>
+     * A coalesced read isn't blocked by a transactional lock on its key.
+     */
+    public static final HazelcastProperty MAP_GET_COALESCING_ENABLED
+            = new HazelcastProperty("hazelcast.client.map.get.coalescing.enabled", false);
+
+    /**
+     * The time window in microseconds in which the reads of the partitions
+     * owned by the same member are coalesced, into a single request per
+     * partition. See {@link #MAP_GET_COALESCING_ENABLED}.
+     */
+    public static final HazelcastProperty MAP_GET_COALESCING_WINDOW_MICROS
+            = new HazelcastProperty("hazelcast.client.map.get.coalescing.window.micros", 100, MICROSECONDS);
+
+    /**
+     * The maximum number of keys in a coalesced read. The request of a
+     * partition is sent as soon as this many keys of the partition are
+     * collected, without waiting for the end of the window. See {@link #MAP_GET_COALESCING_ENABLED}.
+     */
+    public static final HazelcastProperty MAP_GET_COALESCING_MAX_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.client.map.get.coalescing.max.batch.size", 64);
+
     private ClientProperty() {
     }
 }
@@ -35,7 +35,19 @@ public enum EvictionPolicy {
     /**
      * Randomly
      */
-    RANDOM(3);
+    RANDOM(3),
+    /**
+     * Least Frequently Used, estimated by a count-min sketch of the recent
+     * accesses (TinyLFU). The sampled entry whose key is estimated to be
+     * accessed least often is evicted, the least recently used one among
+     * equally frequent entries. A new entry isn't admitted to a full
+     * IMap or Near Cache if its key is accessed less often than the key of
+     * the entry it would replace, so a scan of keys which are accessed once
+     * doesn't evict the frequently accessed entries.
+     *
+     * @since 6.0
+     */
+    TINY_LFU(4);
 
     private static final EvictionPolicy[] VALUES = values();
 
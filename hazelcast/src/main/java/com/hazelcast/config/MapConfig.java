@@ -25,6 +25,7 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.nio.serialization.impl.Versioned;
+import com.hazelcast.spi.annotation.Beta;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -92,6 +93,11 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
      */
     public static final MetadataPolicy DEFAULT_METADATA_POLICY = MetadataPolicy.CREATE_ON_UPDATE;
 
+    /**
+     * Default storage type.
+     */
+    public static final MapStorageType DEFAULT_STORAGE_TYPE = MapStorageType.HASH_MAP;
+
     /**
      * Default value of whether statistics are enabled or not
      */
@@ -129,6 +135,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
     private CacheDeserializedValues cacheDeserializedValues = DEFAULT_CACHED_DESERIALIZED_VALUES;
     private MergePolicyConfig mergePolicyConfig = new MergePolicyConfig();
     private InMemoryFormat inMemoryFormat = DEFAULT_IN_MEMORY_FORMAT;
+    private MapStorageType storageType = DEFAULT_STORAGE_TYPE;
     private WanReplicationRef wanReplicationRef;
     private List<EntryListenerConfig> entryListenerConfigs;
     private List<MapPartitionLostListenerConfig> partitionLostListenerConfigs;
@@ -167,6 +174,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         this.metadataPolicy = config.metadataPolicy;
         this.evictionConfig = new EvictionConfig(config.evictionConfig);
         this.inMemoryFormat = config.inMemoryFormat;
+        this.storageType = config.storageType;
         this.mapStoreConfig = config.mapStoreConfig != null ? new MapStoreConfig(config.mapStoreConfig) : null;
         this.nearCacheConfig = config.nearCacheConfig != null ? new NearCacheConfig(config.nearCacheConfig) : null;
         this.readBackupData = config.readBackupData;
@@ -239,6 +247,38 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         return this;
     }
 
+    /**
+     * Returns the data structure used to hold the entries of a partition.
+     *
+     * @return the storage type of this map
+     * @since 6.0
+     */
+    @Beta
+    public MapStorageType getStorageType() {
+        return storageType;
+    }
+
+    /**
+     * Sets the data structure used to hold the entries of a partition.
+     * Possible values:
+     * <ul>
+     * <li>HASH_MAP (default): entries are held in a concurrent hash map</li>
+     * <li>OPEN_ADDRESSING: serialized keys are packed into slabs and
+     * located through an open-addressing hash table</li>
+     * </ul>
+     * It has no effect when {@link InMemoryFormat#NATIVE} is used.
+     *
+     * @param storageType the storage type to set for this {@link IMap}
+     * @return the updated map configuration
+     * @throws IllegalArgumentException if storageType is {@code null}
+     * @since 6.0
+     */
+    @Beta
+    public MapConfig setStorageType(MapStorageType storageType) {
+        this.storageType = isNotNull(storageType, "storageType");
+        return this;
+    }
+
     /**
      * Gets the {@link EvictionConfig} instance of the eviction
      * configuration for this {@link IMap}.
@@ -920,6 +960,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (inMemoryFormat != that.inMemoryFormat) {
             return false;
         }
+        if (storageType != that.storageType) {
+            return false;
+        }
         if (metadataPolicy != that.metadataPolicy) {
             return false;
         }
@@ -984,6 +1027,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         result = 31 * result + cacheDeserializedValues.hashCode();
         result = 31 * result + (mergePolicyConfig != null ? mergePolicyConfig.hashCode() : 0);
         result = 31 * result + inMemoryFormat.hashCode();
+        result = 31 * result + storageType.hashCode();
         result = 31 * result + metadataPolicy.hashCode();
         result = 31 * result + (wanReplicationRef != null ? wanReplicationRef.hashCode() : 0);
         result = 31 * result + getEntryListenerConfigs().hashCode();
@@ -1010,6 +1054,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         return "MapConfig{"
                 + "name='" + name + '\''
                 + ", inMemoryFormat='" + inMemoryFormat + '\''
+                + ", storageType=" + storageType
                 + ", metadataPolicy=" + metadataPolicy
                 + ", backupCount=" + backupCount
                 + ", asyncBackupCount=" + asyncBackupCount
@@ -1087,6 +1132,11 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (out.getVersion().isGreaterOrEqual(Versions.V5_4)) {
             out.writeString(userCodeNamespace);
         }
+
+        // RU_COMPAT_5_5
+        if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            out.writeString(storageType.name());
+        }
     }
 
     @Override
@@ -1127,5 +1177,10 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (in.getVersion().isGreaterOrEqual(Versions.V5_4)) {
             userCodeNamespace = in.readString();
         }
+
+        // RU_COMPAT_5_5
+        if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            storageType = MapStorageType.valueOf(in.readString());
+        }
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.config;
+
+import com.hazelcast.spi.annotation.Beta;
+
+/**
+ * Determines the data structure used to hold the entries of each
+ * partition of an {@link com.hazelcast.map.IMap}.
+ * <p>
+ * It has no effect when {@link InMemoryFormat#NATIVE} is used.
+ *
+ * @since 6.0
+ */
+@Beta
+public enum MapStorageType {
+
+    /**
+     * Entries are held in a concurrent hash map which keeps
+     * a node and an on-heap key instance per entry.
+     */
+    HASH_MAP,
+
+    /**
+     * Serialized keys are packed into contiguous slabs and located
+     * through an open-addressing hash table. Lowers the per-entry
+     * heap overhead and the number of objects the garbage collector
+     * has to trace, at the cost of key copying on iteration.
+     */
+    OPEN_ADDRESSING
+}
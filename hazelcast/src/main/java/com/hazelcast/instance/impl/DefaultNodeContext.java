@@ -43,9 +43,11 @@ import java.util.Properties;
 
 import static com.hazelcast.config.ConfigAccessor.getActiveMemberNetworkConfig;
 import static com.hazelcast.internal.util.ThreadAffinity.newSystemThreadAffinity;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_BALANCER_COST_BASED_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_INPUT_THREAD_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_OUTPUT_THREAD_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_GATHERING_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_THROUGH_ENABLED;
 
 public class DefaultNodeContext implements NodeContext {
@@ -174,7 +176,9 @@ public class DefaultNodeContext implements NodeContext {
                         .outputThreadCount(props.getInteger(IO_OUTPUT_THREAD_COUNT))
                         .outputThreadAffinity(newSystemThreadAffinity("hazelcast.io.output.thread.affinity"))
                         .balancerIntervalSeconds(props.getInteger(IO_BALANCER_INTERVAL_SECONDS))
+                        .balancerCostBased(props.getBoolean(IO_BALANCER_COST_BASED_ENABLED))
                         .writeThroughEnabled(props.getBoolean(IO_WRITE_THROUGH_ENABLED))
+                        .gatheringWritesEnabled(props.getBoolean(IO_WRITE_GATHERING_ENABLED))
                         .concurrencyDetection(node.nodeEngine.getConcurrencyDetection())
         );
     }
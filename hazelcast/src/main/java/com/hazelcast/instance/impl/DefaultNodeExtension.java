@@ -58,6 +58,7 @@ import com.hazelcast.internal.diagnostics.ConfigPropertiesPlugin;
 import com.hazelcast.internal.diagnostics.Diagnostics;
 import com.hazelcast.internal.diagnostics.EventQueuePlugin;
 import com.hazelcast.internal.diagnostics.HealthMonitor;
+import com.hazelcast.internal.diagnostics.IndexAdvisorPlugin;
 import com.hazelcast.internal.diagnostics.InvocationProfilerPlugin;
 import com.hazelcast.internal.diagnostics.InvocationSamplePlugin;
 import com.hazelcast.internal.diagnostics.MemberHazelcastInstanceInfoPlugin;
@@ -89,6 +90,7 @@ import com.hazelcast.internal.networking.ChannelInitializer;
 import com.hazelcast.internal.networking.InboundHandler;
 import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
+import com.hazelcast.internal.nio.PacketBufferAllocator;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationServiceBuilder;
 import com.hazelcast.internal.serialization.impl.CodebaseClusterVersionAware;
@@ -151,6 +153,8 @@ import static com.hazelcast.internal.util.StringUtil.isNullOrEmpty;
 import static com.hazelcast.jet.impl.util.Util.JET_IS_DISABLED_MESSAGE;
 import static com.hazelcast.jet.impl.util.Util.checkJetIsEnabled;
 import static com.hazelcast.map.impl.MapServiceConstructor.getDefaultMapServiceConstructor;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_INBOUND_BUFFER_POOLING_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_INBOUND_BUFFER_POOLING_THRESHOLD_BYTES;
 
 @SuppressWarnings({"checkstyle:methodcount", "checkstyle:classfanoutcomplexity", "checkstyle:classdataabstractioncoupling"})
 public class DefaultNodeExtension implements NodeExtension {
@@ -174,6 +178,9 @@ public class DefaultNodeExtension implements NodeExtension {
 
     private final MemoryStats memoryStats = new DefaultMemoryStats();
     private final Set<Version> supportedVersions;
+    // shared by the connections, null if the inbound buffers aren't pooled
+    private final PacketBufferAllocator inboundBufferAllocator;
+    private final int inboundBufferPoolingThreshold;
 
     public DefaultNodeExtension(Node node) {
         this.node = node;
@@ -194,6 +201,15 @@ public class DefaultNodeExtension implements NodeExtension {
 
         integrityChecker = new IntegrityChecker(node.getConfig().getIntegrityCheckerConfig(), this.systemLogger);
         supportedVersions = setOf(BuildInfoProvider.getBuildInfo().getCodebaseVersion().asVersion());
+
+        HazelcastProperties properties = node.getProperties();
+        if (properties != null && properties.getBoolean(IO_INBOUND_BUFFER_POOLING_ENABLED)) {
+            inboundBufferPoolingThreshold = properties.getInteger(IO_INBOUND_BUFFER_POOLING_THRESHOLD_BYTES);
+            inboundBufferAllocator = new PacketBufferAllocator(inboundBufferPoolingThreshold);
+        } else {
+            inboundBufferPoolingThreshold = Integer.MAX_VALUE;
+            inboundBufferAllocator = null;
+        }
     }
 
     private void checkCPSubsystemAllowed() {
@@ -468,7 +484,8 @@ public class DefaultNodeExtension implements NodeExtension {
     public InboundHandler[] createInboundHandlers(EndpointQualifier qualifier,
                                                   ServerConnection connection, ServerContext serverContext) {
         NodeEngineImpl nodeEngine = node.nodeEngine;
-        PacketDecoder decoder = new PacketDecoder(connection, nodeEngine.getPacketDispatcher());
+        PacketDecoder decoder = new PacketDecoder(connection, nodeEngine.getPacketDispatcher(),
+                inboundBufferAllocator, inboundBufferPoolingThreshold);
         return new InboundHandler[]{decoder};
     }
 
@@ -665,6 +682,7 @@ public class DefaultNodeExtension implements NodeExtension {
         diagnostics.register(new OperationHeartbeatPlugin(nodeEngine.getLogger(OperationHeartbeatPlugin.class),
                 nodeEngine.getOperationService().getInvocationMonitor(), properties));
         diagnostics.register(new OperationThreadSamplerPlugin(nodeEngine));
+        diagnostics.register(new IndexAdvisorPlugin(nodeEngine));
     }
 
     @Override
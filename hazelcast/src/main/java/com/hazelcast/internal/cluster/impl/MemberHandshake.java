@@ -60,6 +60,9 @@ public class MemberHandshake
 
     public static final String OPTION_PLANE_COUNT = "planeCount";
     public static final String OPTION_PLANE_INDEX = "planeIndex";
+    public static final String OPTION_COMPRESSION = "compression";
+    public static final String COMPRESSION_LZ4 = "lz4";
+    public static final String OPTION_FRAGMENTATION = "fragmentation";
 
     private byte schemaVersion;
     private Map<ProtocolType, Collection<Address>> localAddresses;
@@ -101,6 +104,22 @@ public class MemberHandshake
         return getIntOption(OPTION_PLANE_INDEX, 0);
     }
 
+    /**
+     * Checks if the member that sent the handshake can decompress the packets
+     * compressed with LZ4.
+     */
+    public boolean isCompressionSupported() {
+        return COMPRESSION_LZ4.equals(options.get(OPTION_COMPRESSION));
+    }
+
+    /**
+     * Checks if the member that sent the handshake can reassemble the packets
+     * split into fragments.
+     */
+    public boolean isFragmentationSupported() {
+        return Boolean.parseBoolean(options.get(OPTION_FRAGMENTATION));
+    }
+
     byte getSchemaVersion() {
         return schemaVersion;
     }
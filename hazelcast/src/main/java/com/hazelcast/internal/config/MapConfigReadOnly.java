@@ -27,6 +27,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MapPartitionLostListenerConfig;
+import com.hazelcast.config.MapStorageType;
 import com.hazelcast.config.MapStoreConfig;
 import com.hazelcast.config.MergePolicyConfig;
 import com.hazelcast.config.MerkleTreeConfig;
@@ -284,6 +285,11 @@ public class MapConfigReadOnly extends MapConfig {
         throw throwReadOnly();
     }
 
+    @Override
+    public MapConfig setStorageType(MapStorageType storageType) {
+        throw throwReadOnly();
+    }
+
     @Override
     public MapConfig setBackupCount(int backupCount) {
         throw throwReadOnly();
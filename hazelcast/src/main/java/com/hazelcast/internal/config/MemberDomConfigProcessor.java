@@ -62,6 +62,7 @@ import com.hazelcast.config.LocalDeviceConfig;
 import com.hazelcast.config.ManagementCenterConfig;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MapPartitionLostListenerConfig;
+import com.hazelcast.config.MapStorageType;
 import com.hazelcast.config.MapStoreConfig;
 import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.config.MemberAddressProviderConfig;
@@ -1972,6 +1973,8 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
                 mapConfig.setMetadataPolicy(MetadataPolicy.valueOf(upperCaseInternal(getTextContent(node))));
             } else if (matches("in-memory-format", nodeName)) {
                 mapConfig.setInMemoryFormat(InMemoryFormat.valueOf(upperCaseInternal(getTextContent(node))));
+            } else if (matches("storage-type", nodeName)) {
+                mapConfig.setStorageType(MapStorageType.valueOf(upperCaseInternal(getTextContent(node))));
             } else if (matches("async-backup-count", nodeName)) {
                 mapConfig.setAsyncBackupCount(getIntegerValue("async-backup-count", getTextContent(node)));
             } else if (matches("eviction", nodeName)) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.query.IndexAdvisor;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The IndexAdvisorPlugin renders the indexes recommended by the {@link
+ * IndexAdvisor} for the maps queried by partition scans, along with the
+ * statistics of the scans the recommendations are based on.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#QUERY_INDEX_ADVISOR_ENABLED
+ */
+public class IndexAdvisorPlugin extends DiagnosticsPlugin {
+
+    /**
+     * The period in seconds this plugin runs.
+     * <p>
+     * The plugin renders nothing unless the index advisor is enabled.
+     * <p>
+     * If set to 0, the plugin is disabled.
+     */
+    public static final HazelcastProperty PERIOD_SECONDS
+            = new HazelcastProperty("hazelcast.diagnostics.index.advisor.period.seconds", 0, SECONDS);
+
+    private final NodeEngineImpl nodeEngine;
+    private long periodMillis;
+
+    public IndexAdvisorPlugin(NodeEngineImpl nodeEngine) {
+        super(nodeEngine.getLogger(IndexAdvisorPlugin.class));
+        this.nodeEngine = nodeEngine;
+        readProperties();
+    }
+
+    @Override
+    void readProperties() {
+        this.periodMillis = nodeEngine.getProperties().getMillis(overrideProperty(PERIOD_SECONDS));
+    }
+
+    @Override
+    public long getPeriodMillis() {
+        return periodMillis;
+    }
+
+    @Override
+    public void onStart() {
+        super.onStart();
+        logger.info("Plugin:active, period-millis:" + periodMillis);
+    }
+
+    @Override
+    public void onShutdown() {
+        super.onShutdown();
+        logger.info("Plugin:inactive");
+    }
+
+    @Override
+    public void run(DiagnosticsLogWriter writer) {
+        if (!isActive()) {
+            return;
+        }
+        MapService mapService = nodeEngine.getServiceOrNull(MapService.SERVICE_NAME);
+        if (mapService == null) {
+            return;
+        }
+        IndexAdvisor indexAdvisor = mapService.getMapServiceContext().getIndexAdvisor();
+        if (!indexAdvisor.isEnabled()) {
+            return;
+        }
+
+        writer.startSection("IndexAdvisor");
+        for (String mapName : indexAdvisor.getMapNames()) {
+            List<IndexConfig> recommendations = indexAdvisor.getRecommendations(mapName);
+            if (recommendations.isEmpty()) {
+                continue;
+            }
+            Map<String, IndexAdvisor.AttributeStats> stats = indexAdvisor.getStats(mapName);
+            writer.startSection(mapName);
+            for (IndexConfig recommendation : recommendations) {
+                String attribute = recommendation.getAttributes().get(0);
+                IndexAdvisor.AttributeStats attributeStats = stats.get(attribute);
+                writer.startSection(attribute);
+                writer.writeKeyValueEntry("recommendedIndexType", recommendation.getType().name());
+                writer.writeKeyValueEntry("scanCount", attributeStats.getScanCount());
+                writer.writeKeyValueEntry("rangeScanCount", attributeStats.getRangeScanCount());
+                writer.writeKeyValueEntry("scannedEntryCount", attributeStats.getScannedEntryCount());
+                writer.endSection();
+            }
+            writer.endSection();
+        }
+        writer.endSection();
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.internal.diagnostics;
 import com.hazelcast.internal.networking.Networking;
 import com.hazelcast.internal.networking.nio.NioNetworking;
 import com.hazelcast.internal.networking.nio.NioThread;
+import com.hazelcast.internal.networking.nio.iobalancer.IOBalancer;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.internal.server.Server;
 import com.hazelcast.internal.server.tcp.TcpServer;
@@ -33,7 +34,8 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * <p>
  * This  plugin will probably mostly be used for internal purposes to get a
  * better understanding of imbalances. Normally imbalances are taken care of
- * by the IOBalancer; but we need to make sure it makes the right choice.
+ * by the IOBalancer; but we need to make sure it makes the right choice. So
+ * it also renders the imbalance calculated by the IOBalancer.
  * <p>
  * This plugin can be used on server and client side.
  */
@@ -114,6 +116,21 @@ public class NetworkingImbalancePlugin extends DiagnosticsPlugin {
         render(writer, networking.getOutputThreads());
         writer.endSection();
 
+        render(writer, networking.getIOBalancer());
+
+        writer.endSection();
+    }
+
+    private void render(DiagnosticsLogWriter writer, IOBalancer ioBalancer) {
+        if (ioBalancer == null) {
+            // the networking hasn't been started yet
+            return;
+        }
+
+        writer.startSection("IOBalancer");
+        writer.writeKeyValueEntry("strategy", ioBalancer.strategyName());
+        writer.writeKeyValueEntry("input-imbalance-percentage", toPercentage(ioBalancer.inputImbalancePercentage()));
+        writer.writeKeyValueEntry("output-imbalance-percentage", toPercentage(ioBalancer.outputImbalancePercentage()));
         writer.endSection();
     }
 
@@ -167,6 +184,10 @@ public class NetworkingImbalancePlugin extends DiagnosticsPlugin {
         } else {
             percentage = (HUNDRED * amount) / total;
         }
+        return toPercentage(percentage);
+    }
+
+    private String toPercentage(double percentage) {
         return String.format("%1$,.2f", percentage) + " %";
     }
 }
@@ -25,6 +25,8 @@ import com.hazelcast.config.ConfigPatternMatcher;
 import com.hazelcast.config.DataConnectionConfig;
 import com.hazelcast.internal.diagnostics.DiagnosticsConfig;
 import com.hazelcast.config.DurableExecutorConfig;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.EventJournalConfig;
 import com.hazelcast.config.ExecutorConfig;
 import com.hazelcast.config.FlakeIdGeneratorConfig;
@@ -33,7 +35,9 @@ import com.hazelcast.config.ListConfig;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MerkleTreeConfig;
 import com.hazelcast.config.MultiMapConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.PNCounterConfig;
+import com.hazelcast.config.QueryCacheConfig;
 import com.hazelcast.config.QueueConfig;
 import com.hazelcast.config.ReliableTopicConfig;
 import com.hazelcast.config.ReplicatedMapConfig;
@@ -258,6 +262,7 @@ public class ClusterWideConfigurationService implements
                                                                   BiFunction<ClusterService, IdentifiedDataSerializable,
                                                                   DynamicConfigOperationSupplier> dynamicConfigOpGenerator) {
         checkConfigVersion(config);
+        checkEvictionPolicyVersion(config);
         // we create a defensive copy as local operation execution might use a fast-path
         // and avoid config serialization altogether.
         // we certainly do not want the dynamic config service to reference object a user can mutate
@@ -281,6 +286,45 @@ public class ClusterWideConfigurationService implements
         }
     }
 
+    /**
+     * The members before 6.0 fail to deserialize an eviction config with the
+     * {@link EvictionPolicy#TINY_LFU} eviction policy, so a config using it is
+     * rejected until the cluster is upgraded.
+     */
+    private void checkEvictionPolicyVersion(IdentifiedDataSerializable config) {
+        Version currentClusterVersion = version;
+        // RU_COMPAT_5_5
+        if (currentClusterVersion.isGreaterOrEqual(V6_0) || !usesTinyLfu(config)) {
+            return;
+        }
+        throw new UnsupportedOperationException(format("Eviction policy '%s' is available since version '%s'. "
+                        + "Current cluster version '%s' does not allow dynamically adding '%s' with it.",
+                EvictionPolicy.TINY_LFU, V6_0, currentClusterVersion, config.getClass().getSimpleName()));
+    }
+
+    private static boolean usesTinyLfu(IdentifiedDataSerializable config) {
+        if (config instanceof MapConfig mapConfig) {
+            NearCacheConfig nearCacheConfig = mapConfig.getNearCacheConfig();
+            if (isTinyLfu(mapConfig.getEvictionConfig())
+                    || nearCacheConfig != null && isTinyLfu(nearCacheConfig.getEvictionConfig())) {
+                return true;
+            }
+            for (QueryCacheConfig queryCacheConfig : mapConfig.getQueryCacheConfigs()) {
+                if (isTinyLfu(queryCacheConfig.getEvictionConfig())) {
+                    return true;
+                }
+            }
+            return false;
+        } else if (config instanceof CacheSimpleConfig cacheConfig) {
+            return isTinyLfu(cacheConfig.getEvictionConfig());
+        }
+        return false;
+    }
+
+    private static boolean isTinyLfu(EvictionConfig evictionConfig) {
+        return evictionConfig != null && evictionConfig.getEvictionPolicy() == EvictionPolicy.TINY_LFU;
+    }
+
     private IdentifiedDataSerializable cloneConfig(IdentifiedDataSerializable config) {
         SerializationService serializationService = nodeEngine.getSerializationService();
         Data data = serializationService.toData(config);
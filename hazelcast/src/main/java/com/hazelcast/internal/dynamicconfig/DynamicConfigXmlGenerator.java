@@ -102,6 +102,7 @@ public final class DynamicConfigXmlGenerator {
             MergePolicyConfig mergePolicyConfig = m.getMergePolicyConfig();
             gen.open("map", "name", m.getName())
                     .node("in-memory-format", m.getInMemoryFormat())
+                    .node("storage-type", m.getStorageType())
                     .node("statistics-enabled", m.isStatisticsEnabled())
                     .node("per-entry-stats-enabled", m.isPerEntryStatsEnabled())
                     .node("cache-deserialized-values", cacheDeserializedVal)
@@ -207,6 +207,8 @@ public class DynamicConfigYamlGenerator {
 
             addNonNullToMap(subConfigAsMap, "in-memory-format",
                     subConfigAsObject.getInMemoryFormat().name());
+            addNonNullToMap(subConfigAsMap, "storage-type",
+                    subConfigAsObject.getStorageType().name());
             addNonNullToMap(subConfigAsMap, "statistics-enabled",
                     subConfigAsObject.isStatisticsEnabled());
             addNonNullToMap(subConfigAsMap, "per-entry-stats-enabled",
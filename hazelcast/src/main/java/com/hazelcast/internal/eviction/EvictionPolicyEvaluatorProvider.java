@@ -21,6 +21,7 @@ import com.hazelcast.internal.eviction.impl.comparator.LFUEvictionPolicyComparat
 import com.hazelcast.internal.eviction.impl.comparator.LRUEvictionPolicyComparator;
 import com.hazelcast.internal.eviction.impl.comparator.RandomEvictionPolicyComparator;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
+import com.hazelcast.internal.eviction.impl.evaluator.TinyLFUEvictionPolicyEvaluator;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
 import com.hazelcast.spi.eviction.EvictionPolicyComparator;
 
@@ -52,7 +53,37 @@ public final class EvictionPolicyEvaluatorProvider {
     getEvictionPolicyEvaluator(EvictionConfiguration evictionConfig, ClassLoader classLoader) {
         checkNotNull(evictionConfig);
 
-        return new EvictionPolicyEvaluator<>(getEvictionPolicyComparator(evictionConfig, classLoader));
+        return newEvictionPolicyEvaluator(evictionConfig, getEvictionPolicyComparator(evictionConfig, classLoader));
+    }
+
+    /**
+     * Creates the {@link EvictionPolicyEvaluator} implementation specified
+     * with {@code evictionPolicy}, which uses the given comparator.
+     *
+     * @param evictionConfig {@link EvictionConfiguration} for
+     *                       requested {@link EvictionPolicyEvaluator} implementation
+     * @param comparator     the {@link EvictionPolicyComparator} of the
+     *                       {@code evictionConfig}
+     * @return the requested
+     * {@link EvictionPolicyEvaluator} implementation
+     */
+    public static <A, E extends Evictable> EvictionPolicyEvaluator<A, E>
+    newEvictionPolicyEvaluator(EvictionConfiguration evictionConfig, EvictionPolicyComparator comparator) {
+        return usesFrequencySketch(evictionConfig)
+                ? new TinyLFUEvictionPolicyEvaluator<>(comparator)
+                : new EvictionPolicyEvaluator<>(comparator);
+    }
+
+    /**
+     * @param evictionConfig {@link EvictionConfiguration} to check
+     * @return {@code true} if the accesses of the keys are counted by a
+     * {@link FrequencySketch}, which is the case when the eviction policy is
+     * {@link EvictionPolicy#TINY_LFU} and no custom comparator is configured
+     */
+    public static boolean usesFrequencySketch(EvictionConfiguration evictionConfig) {
+        return evictionConfig.getEvictionPolicy() == EvictionPolicy.TINY_LFU
+                && isNullOrEmpty(evictionConfig.getComparatorClassName())
+                && evictionConfig.getComparator() == null;
     }
 
     /**
@@ -95,6 +126,9 @@ public final class EvictionPolicyEvaluatorProvider {
                 return LFUEvictionPolicyComparator.INSTANCE;
             case RANDOM:
                 return RandomEvictionPolicyComparator.INSTANCE;
+            case TINY_LFU:
+                // breaks the ties of the estimated frequencies
+                return LRUEvictionPolicyComparator.INSTANCE;
             case NONE:
                 return null;
             default:
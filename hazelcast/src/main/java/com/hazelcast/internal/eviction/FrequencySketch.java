@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.eviction;
+
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * A count-min sketch estimating how often the keys of a store are accessed,
+ * used by the {@link com.hazelcast.config.EvictionPolicy#TINY_LFU} eviction
+ * policy.
+ * <p>
+ * Each key is counted by four 4-bit counters, so the estimated frequency of a
+ * key is at most 15. The sketch holds 16 counters per {@code long} and has at
+ * least as many {@code long}s as the store has entries. Once the number of
+ * counted accesses reaches ten times that size, all the counters are halved,
+ * so the estimates follow the recent accesses.
+ * <p>
+ * The sketch isn't thread-safe, but it tolerates racy updates: a counter is
+ * read and written back as part of a single read of its {@code long}, so it
+ * never overflows into its neighbours. A racy update may still be lost, or
+ * write back counters from before a concurrent update or reset, so an estimate
+ * can be lower or higher than it should be until the next reset.
+ */
+public final class FrequencySketch {
+
+    /**
+     * The maximum estimated frequency of a key.
+     */
+    public static final int MAX_FREQUENCY = 15;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int SAMPLE_FACTOR = 10;
+    private static final int COUNTERS_PER_KEY = 4;
+    private static final int COUNTER_BITS = 4;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final long[] SEEDS = {
+            0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L,
+    };
+
+    private long[] table;
+    private int sampleSize;
+    private int size;
+
+    public FrequencySketch() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the expected number of entries of the store
+     */
+    public FrequencySketch(int expectedSize) {
+        resize(expectedSize);
+    }
+
+    /**
+     * Grows the sketch if the store has more entries than the sketch was
+     * sized for. Growing the sketch forgets the counted accesses.
+     *
+     * @param storeSize the number of entries of the store
+     * @return {@code true} if the sketch was grown, {@code false} otherwise
+     */
+    public boolean ensureCapacity(int storeSize) {
+        if (storeSize <= table.length || table.length == MAX_CAPACITY) {
+            return false;
+        }
+        resize(storeSize);
+        return true;
+    }
+
+    private void resize(int expectedSize) {
+        int capacity = nextPowerOfTwo(Math.min(Math.max(expectedSize, MIN_CAPACITY), MAX_CAPACITY));
+        table = new long[capacity];
+        sampleSize = (int) Math.min((long) capacity * SAMPLE_FACTOR, Integer.MAX_VALUE);
+        size = 0;
+    }
+
+    /**
+     * Returns the estimated number of accesses of the key with the given hash,
+     * at most {@link #MAX_FREQUENCY}.
+     */
+    public int frequency(int hash) {
+        long[] table = this.table;
+        int spread = spread(hash);
+        int start = (spread & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < COUNTERS_PER_KEY; i++) {
+            int offset = (start + i) * COUNTER_BITS;
+            int count = (int) ((table[indexOf(table, spread, i)] >>> offset) & COUNTER_MASK);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Counts an access of the key with the given hash.
+     */
+    public void increment(int hash) {
+        long[] table = this.table;
+        int spread = spread(hash);
+        int start = (spread & 3) << 2;
+        boolean incremented = false;
+        for (int i = 0; i < COUNTERS_PER_KEY; i++) {
+            incremented |= incrementAt(table, indexOf(table, spread, i), start + i);
+        }
+
+        if (incremented && ++size >= sampleSize) {
+            reset(table);
+        }
+    }
+
+    /**
+     * Returns the number of bytes used by the counters of the sketch.
+     */
+    public long getMemoryCost() {
+        return (long) table.length * Long.BYTES;
+    }
+
+    private static boolean incrementAt(long[] table, int index, int counter) {
+        int offset = counter * COUNTER_BITS;
+        long mask = COUNTER_MASK << offset;
+        // the word is read once, so a concurrent increment can't make the
+        // counter wrap after it was checked for saturation
+        long word = table[index];
+        if ((word & mask) == mask) {
+            return false;
+        }
+        table[index] = word + (1L << offset);
+        return true;
+    }
+
+    // halves the counters, the odd counters lose their remainder, which is
+    // subtracted from the size so the next reset happens after as many
+    // accesses as the counters lost
+    private void reset(long[] table) {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size >>> 1) - (odd >>> 2);
+    }
+
+    private static int indexOf(long[] table, int spread, int i) {
+        long hash = (spread + SEEDS[i]) * SEEDS[i];
+        hash += hash >>> Integer.SIZE;
+        return (int) hash & (table.length - 1);
+    }
+
+    // the keys' hash codes may be poorly distributed, e.g. small integers
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static int spread(int hash) {
+        int x = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+        x = ((x >>> 16) ^ x) * 0x45D9F3B;
+        return (x >>> 16) ^ x;
+    }
+}
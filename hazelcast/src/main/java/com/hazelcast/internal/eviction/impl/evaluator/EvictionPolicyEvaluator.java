@@ -71,13 +71,45 @@ public class EvictionPolicyEvaluator<A, E extends Evictable> {
             }
 
             // check if current candidate is more eligible than selected.
-            if (comparator.compare(current, selected) < 0) {
+            if (compare(current, selected) < 0) {
                 selected = current;
             }
         }
         return selected;
     }
 
+    /**
+     * Compares the given candidates, a negative result means the first one
+     * is more eligible to be evicted.
+     */
+    protected int compare(EvictionCandidate<A, E> candidate1, EvictionCandidate<A, E> candidate2) {
+        return comparator.compare(candidate1, candidate2);
+    }
+
+    /**
+     * Called when the entry of the given key is accessed, or when the key
+     * is looked up and has no entry. Used by the eviction policies which
+     * track the accesses of the keys.
+     *
+     * @param key the accessor (id) of the entry
+     */
+    public void onAccess(Object key) {
+        // NOP
+    }
+
+    /**
+     * Decides if the entry of the given key is stored in place of the given
+     * eviction candidate, when the store is full.
+     *
+     * @param key    the accessor (id) of the entry to be stored
+     * @param victim the candidate to be evicted to make room for it
+     * @return {@code true} if the entry is stored and the candidate is
+     * evicted, {@code false} if the entry isn't stored
+     */
+    public boolean admit(Object key, EvictionCandidate<A, E> victim) {
+        return true;
+    }
+
     private static boolean isExpired(Evictable evictable, long now) {
         if (!(evictable instanceof Expirable)) {
             return false;
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.eviction.impl.evaluator;
+
+import com.hazelcast.internal.eviction.Evictable;
+import com.hazelcast.internal.eviction.EvictionCandidate;
+import com.hazelcast.internal.eviction.FrequencySketch;
+import com.hazelcast.spi.eviction.EvictionPolicyComparator;
+
+/**
+ * {@link EvictionPolicyEvaluator} of the {@link com.hazelcast.config.EvictionPolicy#TINY_LFU}
+ * eviction policy.
+ * <p>
+ * The accesses of the keys are counted by a {@link FrequencySketch}. The
+ * candidate with the lowest estimated frequency is evicted, the comparator
+ * breaks the ties. A new entry is only {@link #admit admitted} if its key
+ * is estimated to be accessed at least as often as the key of the
+ * candidate it replaces.
+ *
+ * @param <A> Type of the accessor (id) of the {@link EvictionCandidate}
+ * @param <E> Type of the {@link Evictable} value of {@link EvictionCandidate}
+ */
+public class TinyLFUEvictionPolicyEvaluator<A, E extends Evictable> extends EvictionPolicyEvaluator<A, E> {
+
+    private final FrequencySketch sketch = new FrequencySketch();
+
+    public TinyLFUEvictionPolicyEvaluator(EvictionPolicyComparator comparator) {
+        super(comparator);
+    }
+
+    public FrequencySketch getFrequencySketch() {
+        return sketch;
+    }
+
+    @Override
+    protected int compare(EvictionCandidate<A, E> candidate1, EvictionCandidate<A, E> candidate2) {
+        int result = Integer.compare(frequency(candidate1.getAccessor()), frequency(candidate2.getAccessor()));
+        return result != 0 ? result : super.compare(candidate1, candidate2);
+    }
+
+    @Override
+    public void onAccess(Object key) {
+        sketch.increment(key.hashCode());
+    }
+
+    @Override
+    public boolean admit(Object key, EvictionCandidate<A, E> victim) {
+        return frequency(key) >= frequency(victim.getAccessor());
+    }
+
+    private int frequency(Object key) {
+        return sketch.frequency(key.hashCode());
+    }
+}
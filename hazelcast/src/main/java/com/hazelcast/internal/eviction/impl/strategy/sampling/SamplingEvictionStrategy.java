@@ -60,6 +60,38 @@ public final class SamplingEvictionStrategy<A, E extends Evictable, S extends Sa
         }
     }
 
+    /**
+     * Does eviction if required to make room for the entry of the given key,
+     * unless the {@link EvictionPolicyEvaluator} doesn't
+     * {@link EvictionPolicyEvaluator#admit admit} the entry in place of the
+     * selected candidate.
+     *
+     * @param evictableStore            Store that holds {@link Evictable} entries
+     * @param evictionPolicyEvaluator   {@link EvictionPolicyEvaluator} to evaluate
+     *                                  {@link com.hazelcast.config.EvictionPolicy} on entries
+     * @param evictionChecker           {@link EvictionChecker} to check whether max size is reached, therefore
+     *                                  eviction is required or not.
+     * @param evictionListener          {@link EvictionListener} to listen evicted entries
+     * @param key                       the accessor (id) of the entry to be stored
+     *
+     * @return false if the entry isn't admitted, otherwise true
+     */
+    public boolean evictToAdmit(S evictableStore, EvictionPolicyEvaluator<A, E> evictionPolicyEvaluator,
+                                EvictionChecker evictionChecker, EvictionListener<A, E> evictionListener,
+                                Object key) {
+        if (!evictionChecker.isEvictionRequired()) {
+            return true;
+        }
+
+        final Iterable<EvictionCandidate<A, E>> samples = evictableStore.sample(SAMPLE_COUNT);
+        final EvictionCandidate<A, E> evictionCandidate = evictionPolicyEvaluator.evaluate(samples);
+        if (evictionCandidate != null && !evictionPolicyEvaluator.admit(key, evictionCandidate)) {
+            return false;
+        }
+        evictableStore.tryEvict(evictionCandidate, evictionListener);
+        return true;
+    }
+
     /**
      * Processes sampling based eviction logic on {@link SampleableEvictableStore}.
      *
@@ -197,14 +197,17 @@ public final class MetricDescriptorConstants {
     // ===[MAP]=========================================================
     public static final String MAP_PREFIX = "map";
     public static final String MAP_PREFIX_INDEX = "map.index";
+    public static final String MAP_PREFIX_INDEX_ADVISOR = "map.index.advisor";
     public static final String MAP_PREFIX_NEARCACHE = "map.nearcache";
     public static final String MAP_PREFIX_ENTRY_PROCESSOR_OFFLOADABLE_EXECUTOR = "map.entry.processor.offloadable.executor";
     public static final String MAP_DISCRIMINATOR_NAME = "name";
     public static final String MAP_TAG_PARTITION = "partition";
     public static final String MAP_TAG_INDEX = "index";
+    public static final String MAP_TAG_ATTRIBUTE = "attribute";
     public static final String MAP_METRIC_LAST_ACCESS_TIME = "lastAccessTime";
     public static final String MAP_METRIC_LAST_UPDATE_TIME = "lastUpdateTime";
     public static final String MAP_METRIC_HITS = "hits";
+    public static final String MAP_METRIC_MISSES = "misses";
     public static final String MAP_METRIC_NUMBER_OF_OTHER_OPERATIONS = "numberOfOtherOperations";
     public static final String MAP_METRIC_NUMBER_OF_EVENTS = "numberOfEvents";
     public static final String MAP_METRIC_GET_COUNT = "getCount";
@@ -213,6 +216,7 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_REMOVE_COUNT = "removeCount";
     public static final String MAP_METRIC_EVICTION_COUNT = "evictionCount";
     public static final String MAP_METRIC_EXPIRATION_COUNT = "expirationCount";
+    public static final String MAP_METRIC_ADMISSION_REJECT_COUNT = "admissionRejectCount";
     public static final String MAP_METRIC_VALUES_COUNT = "valuesCount";
     public static final String MAP_METRIC_ENTRYSET_COUNT = "entrySetCount";
     public static final String MAP_METRIC_QUERY_LIMITER_HIT_COUNT = "queryLimiterHitCount";
@@ -223,6 +227,7 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_BACKUP_ENTRY_MEMORY_COST = "backupEntryMemoryCost";
     public static final String MAP_METRIC_HEAP_COST = "heapCost";
     public static final String MAP_METRIC_MERKLE_TREES_COST = "merkleTreesCost";
+    public static final String MAP_METRIC_FREQUENCY_SKETCH_MEMORY_COST = "frequencySketchMemoryCost";
     public static final String MAP_METRIC_LOCKED_ENTRY_COUNT = "lockedEntryCount";
     public static final String MAP_METRIC_DIRTY_ENTRY_COUNT = "dirtyEntryCount";
     public static final String MAP_METRIC_BACKUP_COUNT = "backupCount";
@@ -254,6 +259,9 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_INDEX_PARTITION_UPDATES_STARTED = "partitionUpdatesStarted";
     public static final String MAP_METRIC_INDEX_PARTITION_UPDATES_FINISHED = "partitionUpdatesFinished";
     public static final String MAP_METRIC_INDEX_NOT_READY_QUERY_COUNT = "notReadyQueryCount";
+    public static final String MAP_METRIC_INDEX_ADVISOR_SCAN_COUNT = "scanCount";
+    public static final String MAP_METRIC_INDEX_ADVISOR_RANGE_SCAN_COUNT = "rangeScanCount";
+    public static final String MAP_METRIC_INDEX_ADVISOR_SCANNED_ENTRY_COUNT = "scannedEntryCount";
     public static final String MAP_METRIC_FULL_PARTITION_REPLICATION_COUNT = "fullPartitionReplicationCount";
     public static final String MAP_METRIC_DIFF_PARTITION_REPLICATION_COUNT = "differentialPartitionReplicationCount";
     public static final String MAP_METRIC_FULL_PARTITION_REPLICATION_RECORDS_COUNT
@@ -323,6 +331,8 @@ public final class MetricDescriptorConstants {
     public static final String NEARCACHE_METRIC_LAST_PERSISTENCE_DURATION = "lastPersistenceDuration";
     public static final String NEARCACHE_METRIC_LAST_PERSISTENCE_WRITTEN_BYTES = "lastPersistenceWrittenBytes";
     public static final String NEARCACHE_METRIC_LAST_PERSISTENCE_KEY_COUNT = "lastPersistenceKeyCount";
+    public static final String NEARCACHE_METRIC_ADMISSION_REJECTS = "admissionRejects";
+    public static final String NEARCACHE_METRIC_FREQUENCY_SKETCH_MEMORY_COST = "frequencySketchMemoryCost";
     // ===[/NEAR CACHE]=================================================
 
     // ===[NETWORKING]==================================================
@@ -344,7 +354,11 @@ public final class MetricDescriptorConstants {
             "priorityWriteQueuePendingBytes";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SCHEDULED = "scheduled";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SOCKET_WRITES = "socketWrites";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FRAMES_PER_SOCKET_WRITE = "framesPerSocketWrite";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_PER_SOCKET_WRITE = "bytesPerSocketWrite";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT = "processCount";
+    public static final String NETWORKING_METRIC_NIO_PIPELINE_PROCESS_TIME_NANOS = "processTimeNanos";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID = "ownerId";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_STARTED_MIGRATIONS = "startedMigrations";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_COMPLETED_MIGRATIONS = "completedMigrations";
@@ -404,6 +418,9 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_BACKUP_COUNT = "responses.backupCount";
     public static final String OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_ERROR_COUNT = "responses.errorCount";
     public static final String OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_MISSING_COUNT = "responses.missingCount";
+    public static final String OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_BATCH_COUNT = "responses.batchCount";
+    public static final String OPERATION_METRIC_OUTBOUND_RESPONSE_HANDLER_RESPONSE_BATCHES_SENT = "responseBatchesSent";
+    public static final String OPERATION_METRIC_OUTBOUND_RESPONSE_HANDLER_BATCHED_RESPONSES_SENT = "batchedResponsesSent";
     public static final String OPERATION_METRIC_INVOCATION_MONITOR_BACKUP_TIMEOUTS = "backupTimeouts";
     public static final String OPERATION_METRIC_INVOCATION_MONITOR_NORMAL_TIMEOUTS = "normalTimeouts";
     public static final String OPERATION_METRIC_INVOCATION_MONITOR_HEARTBEAT_PACKETS_RECEIVED = "heartbeatPacketsReceived";
@@ -417,6 +434,8 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_USED_PERCENTAGE = "usedPercentage";
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LAST_CALL_ID = "lastCallId";
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_PENDING = "pending";
+    public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LIMIT = "limit";
+    public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_REJECTED = "rejected";
     public static final String OPERATION_METRIC_OPERATION_RUNNER_EXECUTED_OPERATIONS_COUNT = "executedOperationsCount";
     public static final String OPERATION_METRIC_OPERATION_SERVICE_ASYNC_OPERATIONS = "asyncOperations";
     public static final String OPERATION_METRIC_OPERATION_SERVICE_TIMEOUT_COUNT = "operationTimeoutCount";
@@ -560,6 +579,20 @@ public final class MetricDescriptorConstants {
     public static final String TCP_METRIC_ACCEPTOR_SELECTOR_RECREATE_COUNT = "selectorRecreateCount";
     public static final String TCP_METRIC_ACCEPTOR_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String TCP_METRIC_CONNECTION_CONNECTION_TYPE = "connectionType";
+    public static final String TCP_METRIC_CONNECTION_COMPRESSED_PACKETS_WRITTEN = "compressedPacketsWritten";
+    public static final String TCP_METRIC_CONNECTION_INCOMPRESSIBLE_PACKETS_WRITTEN = "incompressiblePacketsWritten";
+    public static final String TCP_METRIC_CONNECTION_COMPRESSION_BYTES_IN = "compressionBytesIn";
+    public static final String TCP_METRIC_CONNECTION_COMPRESSION_BYTES_OUT = "compressionBytesOut";
+    public static final String TCP_METRIC_CONNECTION_COMPRESSION_RATIO = "compressionRatio";
+    public static final String TCP_METRIC_CONNECTION_COMPRESSION_TIME_NANOS = "compressionTimeNanos";
+    public static final String TCP_METRIC_CONNECTION_DECOMPRESSED_PACKETS_READ = "decompressedPacketsRead";
+    public static final String TCP_METRIC_CONNECTION_DECOMPRESSION_BYTES_IN = "decompressionBytesIn";
+    public static final String TCP_METRIC_CONNECTION_DECOMPRESSION_BYTES_OUT = "decompressionBytesOut";
+    public static final String TCP_METRIC_CONNECTION_DECOMPRESSION_TIME_NANOS = "decompressionTimeNanos";
+    public static final String TCP_METRIC_CONNECTION_FRAGMENTED_PACKETS_WRITTEN = "fragmentedPacketsWritten";
+    public static final String TCP_METRIC_CONNECTION_FRAGMENTS_WRITTEN = "fragmentsWritten";
+    public static final String TCP_METRIC_CONNECTION_REASSEMBLED_PACKETS_READ = "reassembledPacketsRead";
+    public static final String TCP_METRIC_CONNECTION_FRAGMENTS_READ = "fragmentsRead";
     public static final String TCP_METRIC_ENDPOINT_MANAGER_IN_PROGRESS_COUNT = "inProgressCount";
     public static final String TCP_METRIC_ENDPOINT_MANAGER_COUNT = "count";
     public static final String TCP_METRIC_ENDPOINT_MANAGER_ACTIVE_COUNT = "activeCount";
@@ -43,14 +43,37 @@ public interface LocalRecordStoreStats {
      */
     long getLastUpdateTime();
 
+    /**
+     * Returns the number of reads of this partition which found no locally owned entry.
+     *
+     * @return number of reads of this partition which found no locally owned entry.
+     */
+    long getMisses();
+
     long getEvictionCount();
 
     long getExpirationCount();
 
+    /**
+     * Returns the number of entries of this partition which were evicted right after
+     * they were stored, because their keys are accessed less often than the keys of
+     * the entries they would replace.
+     *
+     * @return number of entries of this partition which weren't admitted.
+     */
+    long getAdmissionRejectCount();
+
     void increaseEvictions();
 
     void increaseExpirations();
 
+    void increaseAdmissionRejects();
+
+    /**
+     * Increases the number of reads of this partition which found no locally owned entry.
+     */
+    void increaseMisses();
+
     /**
      * Increases the number of hits of the locally owned entries of this partition.
      */
@@ -35,10 +35,12 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_BACKUP_ENTRY_MEMORY_COST;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_CREATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_DIRTY_ENTRY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_ADMISSION_REJECT_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_ENTRYSET_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EVICTION_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EXPIRATION_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_GET_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_FREQUENCY_SKETCH_MEMORY_COST;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_HEAP_COST;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_HITS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEXED_QUERY_COUNT;
@@ -47,6 +49,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_LAST_UPDATE_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_LOCKED_ENTRY_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_MERKLE_TREES_COST;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_MISSES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_NO_MATCHING_INDEX_QUERY_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_NUMBER_OF_EVENTS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_NUMBER_OF_OTHER_OPERATIONS;
@@ -124,6 +127,8 @@ public class LocalMapStatsImpl implements LocalMapStats {
     private volatile long lastUpdateTime;
     @Probe(name = MAP_METRIC_HITS)
     private volatile long hits;
+    @Probe(name = MAP_METRIC_MISSES)
+    private volatile long misses;
     @Probe(name = MAP_METRIC_NUMBER_OF_OTHER_OPERATIONS)
     private volatile long numberOfOtherOperations;
     @Probe(name = MAP_METRIC_NUMBER_OF_EVENTS)
@@ -140,6 +145,8 @@ public class LocalMapStatsImpl implements LocalMapStats {
     private volatile long evictionCount;
     @Probe(name = MAP_METRIC_EXPIRATION_COUNT)
     private volatile long expirationCount;
+    @Probe(name = MAP_METRIC_ADMISSION_REJECT_COUNT)
+    private volatile long admissionRejectCount;
 
     @Probe(name = MAP_METRIC_VALUES_COUNT)
     private volatile long valuesCount;
@@ -176,6 +183,8 @@ public class LocalMapStatsImpl implements LocalMapStats {
      */
     @Probe(name = MAP_METRIC_MERKLE_TREES_COST)
     private volatile long merkleTreesCost;
+    @Probe(name = MAP_METRIC_FREQUENCY_SKETCH_MEMORY_COST, unit = BYTES)
+    private volatile long frequencySketchMemoryCost;
     @Probe(name = MAP_METRIC_LOCKED_ENTRY_COUNT)
     private volatile long lockedEntryCount;
     @Probe(name = MAP_METRIC_DIRTY_ENTRY_COUNT)
@@ -288,6 +297,15 @@ public class LocalMapStatsImpl implements LocalMapStats {
         this.hits = hits;
     }
 
+    @Override
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
     @Override
     public long getExpirationCount() {
         return expirationCount;
@@ -306,6 +324,15 @@ public class LocalMapStatsImpl implements LocalMapStats {
         this.evictionCount = evictionCount;
     }
 
+    @Override
+    public long getAdmissionRejectCount() {
+        return admissionRejectCount;
+    }
+
+    public void setAdmissionRejectCount(long admissionRejectCount) {
+        this.admissionRejectCount = admissionRejectCount;
+    }
+
     @Override
     public long getLockedEntryCount() {
         return lockedEntryCount;
@@ -435,6 +462,15 @@ public class LocalMapStatsImpl implements LocalMapStats {
         this.merkleTreesCost = merkleTreeCost;
     }
 
+    @Override
+    public long getFrequencySketchMemoryCost() {
+        return frequencySketchMemoryCost;
+    }
+
+    public void setFrequencySketchMemoryCost(long frequencySketchMemoryCost) {
+        this.frequencySketchMemoryCost = frequencySketchMemoryCost;
+    }
+
     @Override
     public NearCacheStats getNearCacheStats() {
         return nearCacheStats;
@@ -598,6 +634,7 @@ public class LocalMapStatsImpl implements LocalMapStats {
                 + "lastAccessTime=" + lastAccessTime
                 + ", lastUpdateTime=" + lastUpdateTime
                 + ", hits=" + hits
+                + ", misses=" + misses
                 + ", numberOfOtherOperations=" + numberOfOtherOperations
                 + ", numberOfEvents=" + numberOfEvents
                 + ", getCount=" + getCount
@@ -606,6 +643,7 @@ public class LocalMapStatsImpl implements LocalMapStats {
                 + ", removeCount=" + removeCount
                 + ", evictionCount=" + evictionCount
                 + ", expirationCount=" + expirationCount
+                + ", admissionRejectCount=" + admissionRejectCount
                 + ", totalGetLatencies=" + convertNanosToMillis(totalGetLatenciesNanos)
                 + ", totalPutLatencies=" + convertNanosToMillis(totalPutLatenciesNanos)
                 + ", totalSetLatencies=" + convertNanosToMillis(totalSetLatenciesNanos)
@@ -624,6 +662,7 @@ public class LocalMapStatsImpl implements LocalMapStats {
                 + ", dirtyEntryCount=" + dirtyEntryCount
                 + ", heapCost=" + heapCost
                 + ", merkleTreesCost=" + merkleTreesCost
+                + ", frequencySketchMemoryCost=" + frequencySketchMemoryCost
                 + ", nearCacheStats=" + (nearCacheStats != null ? nearCacheStats : "")
                 + ", queryCount=" + queryCount
                 + ", indexedQueryCount=" + indexedQueryCount
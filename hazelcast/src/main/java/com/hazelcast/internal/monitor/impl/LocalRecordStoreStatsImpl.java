@@ -33,23 +33,29 @@ public class LocalRecordStoreStatsImpl
         implements LocalRecordStoreStats, IdentifiedDataSerializable, Versioned {
 
     private static final VarHandle HITS = ReflectionUtil.findVarHandle("hits", long.class);
+    private static final VarHandle MISSES = ReflectionUtil.findVarHandle("misses", long.class);
     private static final VarHandle EVICTION_COUNT = ReflectionUtil.findVarHandle("evictionCount", long.class);
     private static final VarHandle EXPIRATION_COUNT = ReflectionUtil.findVarHandle("expirationCount", long.class);
+    private static final VarHandle ADMISSION_REJECT_COUNT = ReflectionUtil.findVarHandle("admissionRejectCount", long.class);
     private static final VarHandle LAST_ACCESS_TIME = ReflectionUtil.findVarHandle("lastAccessTime", long.class);
     private static final VarHandle LAST_UPDATE_TIME = ReflectionUtil.findVarHandle("lastUpdateTime", long.class);
 
     private volatile long hits;
+    private volatile long misses;
     private volatile long lastAccessTime;
     private volatile long lastUpdateTime;
     private volatile long evictionCount;
     private volatile long expirationCount;
+    private volatile long admissionRejectCount;
 
     public void copyFrom(LocalRecordStoreStats stats) {
         this.hits = stats.getHits();
+        this.misses = stats.getMisses();
         this.lastAccessTime = stats.getLastAccessTime();
         this.lastUpdateTime = stats.getLastUpdateTime();
         this.evictionCount = stats.getEvictionCount();
         this.expirationCount = stats.getExpirationCount();
+        this.admissionRejectCount = stats.getAdmissionRejectCount();
     }
 
     @Override
@@ -62,11 +68,21 @@ public class LocalRecordStoreStatsImpl
         return expirationCount;
     }
 
+    @Override
+    public long getAdmissionRejectCount() {
+        return admissionRejectCount;
+    }
+
     @Override
     public long getHits() {
         return hits;
     }
 
+    @Override
+    public long getMisses() {
+        return misses;
+    }
+
     @Override
     public long getLastAccessTime() {
         return lastAccessTime;
@@ -97,17 +113,29 @@ public class LocalRecordStoreStatsImpl
         EXPIRATION_COUNT.setOpaque(this, expirationCount + 1);
     }
 
+    @Override
+    public void increaseAdmissionRejects() {
+        ADMISSION_REJECT_COUNT.setOpaque(this, admissionRejectCount + 1);
+    }
+
     @Override
     public void increaseHits() {
         HITS.setOpaque(this, hits + 1);
     }
 
+    @Override
+    public void increaseMisses() {
+        MISSES.setOpaque(this, misses + 1);
+    }
+
     public void reset() {
         this.hits = 0;
+        this.misses = 0;
         this.lastAccessTime = 0;
         this.lastUpdateTime = 0;
         this.evictionCount = 0;
         this.expirationCount = 0;
+        this.admissionRejectCount = 0;
     }
 
     @Override
@@ -121,6 +149,12 @@ public class LocalRecordStoreStatsImpl
             out.writeLong(evictionCount);
             out.writeLong(expirationCount);
         }
+
+        // RU_COMPAT 5.5
+        if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            out.writeLong(misses);
+            out.writeLong(admissionRejectCount);
+        }
     }
 
     @Override
@@ -134,6 +168,12 @@ public class LocalRecordStoreStatsImpl
             evictionCount = in.readLong();
             expirationCount = in.readLong();
         }
+
+        // RU_COMPAT 5.5
+        if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            misses = in.readLong();
+            admissionRejectCount = in.readLong();
+        }
     }
 
     @Override
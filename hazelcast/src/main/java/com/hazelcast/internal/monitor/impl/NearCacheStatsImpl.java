@@ -22,9 +22,11 @@ import com.hazelcast.nearcache.NearCacheStats;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.LongAccumulator;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_ADMISSION_REJECTS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_CREATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_EVICTIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_EXPIRATIONS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_FREQUENCY_SKETCH_MEMORY_COST;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_HITS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_INVALIDATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_INVALIDATION_REQUESTS;
@@ -60,6 +62,8 @@ public class NearCacheStatsImpl implements NearCacheStats {
             newUpdater(NearCacheStatsImpl.class, "invalidationRequests");
     private static final AtomicLongFieldUpdater<NearCacheStatsImpl> PERSISTENCE_COUNT =
             newUpdater(NearCacheStatsImpl.class, "persistenceCount");
+    private static final AtomicLongFieldUpdater<NearCacheStatsImpl> ADMISSION_REJECTS =
+            newUpdater(NearCacheStatsImpl.class, "admissionRejects");
 
     @Probe(name = NEARCACHE_METRIC_CREATION_TIME, unit = MS)
     private final long creationTime;
@@ -93,6 +97,11 @@ public class NearCacheStatsImpl implements NearCacheStats {
     private volatile long lastPersistenceKeyCount;
     private volatile String lastPersistenceFailure = "";
 
+    @Probe(name = NEARCACHE_METRIC_ADMISSION_REJECTS)
+    private volatile long admissionRejects;
+    @Probe(name = NEARCACHE_METRIC_FREQUENCY_SKETCH_MEMORY_COST, unit = BYTES)
+    private volatile long frequencySketchMemoryCost;
+
     public NearCacheStatsImpl() {
         this.creationTime = getNowInMillis();
     }
@@ -114,6 +123,9 @@ public class NearCacheStatsImpl implements NearCacheStats {
         lastPersistenceWrittenBytes = stats.getLastPersistenceWrittenBytes();
         lastPersistenceKeyCount = stats.getLastPersistenceKeyCount();
         lastPersistenceFailure = stats.getLastPersistenceFailure();
+
+        admissionRejects = stats.getAdmissionRejects();
+        frequencySketchMemoryCost = stats.getFrequencySketchMemoryCost();
     }
 
     @Override
@@ -265,6 +277,24 @@ public class NearCacheStatsImpl implements NearCacheStats {
         lastPersistenceFailure = t.getClass().getSimpleName() + ": " + t.getMessage();
     }
 
+    @Override
+    public long getAdmissionRejects() {
+        return admissionRejects;
+    }
+
+    public void incrementAdmissionRejects() {
+        ADMISSION_REJECTS.incrementAndGet(this);
+    }
+
+    @Override
+    public long getFrequencySketchMemoryCost() {
+        return frequencySketchMemoryCost;
+    }
+
+    public void setFrequencySketchMemoryCost(long frequencySketchMemoryCost) {
+        this.frequencySketchMemoryCost = frequencySketchMemoryCost;
+    }
+
     private static long getNowInMillis() {
         return System.currentTimeMillis();
     }
@@ -313,6 +343,8 @@ public class NearCacheStatsImpl implements NearCacheStats {
                 + ", lastPersistenceWrittenBytes=" + lastPersistenceWrittenBytes
                 + ", lastPersistenceKeyCount=" + lastPersistenceKeyCount
                 + ", lastPersistenceFailure='" + lastPersistenceFailure + "'"
+                + ", admissionRejects=" + admissionRejects
+                + ", frequencySketchMemoryCost=" + frequencySketchMemoryCost
                 + '}';
     }
 }
@@ -58,6 +58,18 @@ public interface NearCache<K, V> extends InitializingObject {
             = new HazelcastProperty(PROP_EXPIRATION_TASK_PERIOD_SECONDS,
             DEFAULT_EXPIRATION_TASK_PERIOD_SECONDS);
 
+    String PROP_COMPACT_RECORD_STORE_ENABLED
+            = "hazelcast.internal.nearcache.compact.record.store.enabled";
+
+    /**
+     * Stores the entries of the Near Caches with
+     * {@link com.hazelcast.config.InMemoryFormat#BINARY} in-memory-format in
+     * a {@link com.hazelcast.internal.nearcache.impl.store.CompactNearCacheRecordStore},
+     * which needs less memory per entry and creates no objects per entry.
+     */
+    HazelcastProperty COMPACT_RECORD_STORE_ENABLED
+            = new HazelcastProperty(PROP_COMPACT_RECORD_STORE_ENABLED, false);
+
     /**
      * Indicates how a near cache is updated.
      */
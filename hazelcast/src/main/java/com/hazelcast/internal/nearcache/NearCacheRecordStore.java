@@ -114,6 +114,22 @@ public interface NearCacheRecordStore<K, V> extends InitializingObject {
      */
     boolean doEviction(boolean withoutMaxSizeCheck);
 
+    /**
+     * Does eviction as specified configuration {@link com.hazelcast.config.EvictionConfig}
+     * in {@link com.hazelcast.config.NearCacheConfig} to make room for the
+     * given key, after a max size check. With the
+     * {@link com.hazelcast.config.EvictionPolicy#TINY_LFU} eviction policy,
+     * the key may not be admitted instead.
+     *
+     * @param key the key to be stored
+     * @return {@code true} if the key may be stored, {@code false} if it
+     * isn't admitted
+     */
+    default boolean doEvictionToAdmit(K key) {
+        doEviction(false);
+        return true;
+    }
+
     /**
      * Loads the keys into the Near Cache.
      */
@@ -21,6 +21,7 @@ import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.internal.adapter.DataStructureAdapter;
 import com.hazelcast.internal.nearcache.NearCache;
 import com.hazelcast.internal.nearcache.NearCacheRecordStore;
+import com.hazelcast.internal.nearcache.impl.store.CompactNearCacheRecordStore;
 import com.hazelcast.internal.nearcache.impl.store.NearCacheDataRecordStore;
 import com.hazelcast.internal.nearcache.impl.store.NearCacheObjectRecordStore;
 import com.hazelcast.internal.serialization.Data;
@@ -34,6 +35,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.hazelcast.config.NearCacheConfig.DEFAULT_MEMORY_FORMAT;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
 import static com.hazelcast.internal.util.Preconditions.checkInstanceOf;
 import static com.hazelcast.internal.util.Preconditions.checkNotInstanceOf;
 
@@ -91,6 +93,9 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
         }
         switch (inMemoryFormat) {
             case BINARY:
+                if (properties.getBoolean(COMPACT_RECORD_STORE_ENABLED)) {
+                    return new CompactNearCacheRecordStore<>(name, nearCacheConfig, serializationService, classLoader);
+                }
                 return new NearCacheDataRecordStore<>(name, nearCacheConfig, serializationService, classLoader);
             case OBJECT:
                 return new NearCacheObjectRecordStore<>(name, nearCacheConfig, serializationService, classLoader);
@@ -130,9 +135,9 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
     public void put(K key, Data keyData, V value, Data valueData) {
         checkKeyFormat(key);
 
-        nearCacheRecordStore.doEviction(false);
-
-        nearCacheRecordStore.put(key, keyData, value, valueData);
+        if (nearCacheRecordStore.doEvictionToAdmit(key)) {
+            nearCacheRecordStore.put(key, keyData, value, valueData);
+        }
     }
 
     @Override
@@ -200,7 +205,9 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
 
     @Override
     public long tryReserveForUpdate(K key, Data keyData, UpdateSemantic updateSemantic) {
-        nearCacheRecordStore.doEviction(false);
+        if (!nearCacheRecordStore.doEvictionToAdmit(key)) {
+            return NOT_RESERVED;
+        }
 
         return nearCacheRecordStore.tryReserveForUpdate(key, keyData, updateSemantic);
     }
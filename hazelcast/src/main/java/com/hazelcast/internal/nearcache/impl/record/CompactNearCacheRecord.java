@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.record;
+
+import com.hazelcast.internal.serialization.Data;
+
+import java.util.UUID;
+
+/**
+ * Implementation of {@link com.hazelcast.internal.nearcache.NearCacheRecord} which is
+ * a copy of an entry of a {@link com.hazelcast.internal.nearcache.impl.store.CompactNearCacheRecordMap}.
+ * <p>
+ * The entries of the map aren't stored as records, so changing a copy doesn't
+ * change the entry it was copied from.
+ */
+public class CompactNearCacheRecord extends AbstractNearCacheRecord<Data> {
+
+    /**
+     * @param value          the value, {@code null} if there is no value
+     * @param creationTime   the creation time, as stripped by
+     *                       {@link com.hazelcast.internal.util.TimeStripUtil#stripBaseTime(long)}
+     * @param expirationTime the expiration time, as stripped by
+     *                       {@link com.hazelcast.internal.util.TimeStripUtil#stripBaseTime(long)}
+     */
+    public CompactNearCacheRecord(Data value, int creationTime, int expirationTime) {
+        super(value, TIME_NOT_SET, TIME_NOT_SET);
+        this.creationTime = creationTime;
+        this.expirationTime = expirationTime;
+    }
+
+    /**
+     * @return the stripped creation time
+     */
+    public int getRawCreationTime() {
+        return creationTime;
+    }
+
+    /**
+     * @return the stripped expiration time
+     */
+    public int getRawExpirationTime() {
+        return expirationTime;
+    }
+
+    /**
+     * @return the stripped last access time
+     */
+    public int getRawLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    /**
+     * @param lastAccessTime the stripped last access time
+     */
+    public void setRawLastAccessTime(int lastAccessTime) {
+        this.lastAccessTime = lastAccessTime;
+    }
+
+    /**
+     * @return the UUID of the invalidation source, {@code null} if not set
+     */
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactNearCacheRecord{" + super.toString() + '}';
+    }
+}
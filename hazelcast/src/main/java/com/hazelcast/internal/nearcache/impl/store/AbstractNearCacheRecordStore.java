@@ -22,7 +22,9 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.internal.eviction.EvictionChecker;
 import com.hazelcast.internal.eviction.EvictionListener;
+import com.hazelcast.internal.eviction.FrequencySketch;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
+import com.hazelcast.internal.eviction.impl.evaluator.TinyLFUEvictionPolicyEvaluator;
 import com.hazelcast.internal.eviction.impl.strategy.sampling.SamplingEvictionStrategy;
 import com.hazelcast.internal.monitor.impl.NearCacheStatsImpl;
 import com.hazelcast.internal.nearcache.NearCache;
@@ -79,6 +81,8 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
     protected EvictionChecker evictionChecker;
     protected SamplingEvictionStrategy<KS, R, NCRM> evictionStrategy;
     protected EvictionPolicyEvaluator<KS, R> evictionPolicyEvaluator;
+    // only set when the accesses of the keys are counted for the eviction
+    protected FrequencySketch frequencySketch;
 
     protected volatile long reservationId;
     protected volatile StaleReadDetector staleReadDetector = ALWAYS_FRESH;
@@ -110,6 +114,10 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         if (!evictionDisabled) {
             this.evictionStrategy = SamplingEvictionStrategy.INSTANCE;
             this.evictionPolicyEvaluator = getEvictionPolicyEvaluator(evictionConfig, classLoader);
+            if (evictionPolicyEvaluator instanceof TinyLFUEvictionPolicyEvaluator) {
+                this.frequencySketch = ((TinyLFUEvictionPolicyEvaluator<?, ?>) evictionPolicyEvaluator).getFrequencySketch();
+                nearCacheStats.setFrequencySketchMemoryCost(frequencySketch.getMemoryCost());
+            }
         }
     }
 
@@ -227,6 +235,9 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
     @Override
     public V get(K key) {
         checkAvailable();
+        if (frequencySketch != null) {
+            evictionPolicyEvaluator.onAccess(key);
+        }
 
         R record = null;
         V value = null;
@@ -339,6 +350,28 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         return true;
     }
 
+    @Override
+    public boolean doEvictionToAdmit(K key) {
+        checkAvailable();
+
+        if (evictionDisabled) {
+            return true;
+        }
+
+        FrequencySketch frequencySketch = this.frequencySketch;
+        if (frequencySketch != null && frequencySketch.ensureCapacity(records.size())) {
+            nearCacheStats.setFrequencySketchMemoryCost(frequencySketch.getMemoryCost());
+        }
+
+        // an existing key is updated in place, so it is always admitted
+        if (evictionStrategy.evictToAdmit(records, evictionPolicyEvaluator, evictionChecker, this, key)
+                || containsRecordKey(key)) {
+            return true;
+        }
+        nearCacheStats.incrementAdmissionRejects();
+        return false;
+    }
+
     @Override
     public long tryReserveForUpdate(K key, Data keyData, NearCache.UpdateSemantic updateSemantic) {
         checkAvailable();
@@ -0,0 +1,716 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.internal.eviction.EvictionCandidate;
+import com.hazelcast.internal.eviction.EvictionListener;
+import com.hazelcast.internal.eviction.impl.strategy.sampling.SampleableEvictableStore;
+import com.hazelcast.internal.monitor.impl.NearCacheStatsImpl;
+import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
+import com.hazelcast.internal.nearcache.impl.record.CompactNearCacheRecord;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.READ_PERMITTED;
+import static com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector.ALWAYS_FRESH;
+import static com.hazelcast.internal.serialization.impl.HeapData.TYPE_OFFSET;
+import static com.hazelcast.internal.util.HashUtil.MurmurHash3_fmix;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+
+/**
+ * Hash map of the entries of a {@link CompactNearCacheRecordStore}, which
+ * doesn't allocate objects per entry.
+ * <p>
+ * The map is split into segments, each of them is an open addressing hash
+ * table with linear probing. A segment stores the fields of its entries in
+ * three packed arrays, one of {@code int}s, one of {@code long}s and one of
+ * references. The keys which are {@link Data} are stored as their serialized
+ * bytes, the values as exact-size {@link HeapData}, so a read can hand out the
+ * stored value. So an entry costs its slots, the byte array of its key and its
+ * value, instead of a map node, a record and two {@link Data} instances.
+ * <p>
+ * A segment is guarded by its monitor. A {@link #read} looks up an entry and
+ * records the access in one locked step, without allocating. The records
+ * returned by the other methods are {@link CompactNearCacheRecord} copies of
+ * its entries.
+ * <p>
+ * The map maintains the owned entry count and memory cost of the
+ * {@link NearCacheStatsImpl}: an entry is owned once it has a value.
+ *
+ * @param <K> the type of the key stored in Near Cache
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class CompactNearCacheRecordMap<K>
+        implements SampleableEvictableStore<K, CompactNearCacheRecord> {
+
+    // int fields of an entry
+    private static final int HASH = 0;
+    private static final int PARTITION_ID = 1;
+    private static final int CREATION_TIME = 2;
+    private static final int EXPIRATION_TIME = 3;
+    private static final int LAST_ACCESS_TIME = 4;
+    private static final int HITS = 5;
+    private static final int INT_FIELDS = 6;
+
+    // long fields of an entry
+    private static final int RESERVATION_ID = 0;
+    private static final int SEQUENCE = 1;
+    private static final int LONG_FIELDS = 2;
+
+    // reference fields of an entry
+    private static final int KEY = 0;
+    private static final int VALUE = 1;
+    private static final int UUID_REF = 2;
+    private static final int REFERENCE_FIELDS = 3;
+
+    /**
+     * Memory cost of the slots of an entry, in bytes.
+     */
+    static final int SLOT_COST = INT_FIELDS * Integer.BYTES + LONG_FIELDS * Long.BYTES
+            + REFERENCE_FIELDS * REFERENCE_COST_IN_BYTES;
+
+    /**
+     * Returned by {@link #read} if there is no readable entry of the key.
+     */
+    static final Object MISS = new Object();
+    /**
+     * Returned by {@link #read} if the entry of the key is a stale read.
+     */
+    static final Object STALE = new Object();
+    /**
+     * Returned by {@link #read} if the entry of the key is expired or idle.
+     */
+    static final Object EXPIRED = new Object();
+    /**
+     * Returned by {@link #read} if the entry of the key is cached as null,
+     * and the stored value of such an entry.
+     */
+    static final Object CACHED_AS_NULL = new Object();
+
+    private static final int ARRAY_HEADER_SIZE_IN_BYTES = 16;
+    private static final int SEGMENT_COUNT = 16;
+    private static final int SEGMENT_MASK = SEGMENT_COUNT - 1;
+    private static final int SEGMENT_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(SEGMENT_COUNT);
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+    private static final int LOAD_FACTOR_PERCENTAGE = 75;
+    private static final int PERCENTAGE = 100;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final SerializationService serializationService;
+
+    CompactNearCacheRecordMap(SerializationService serializationService, NearCacheStatsImpl nearCacheStats) {
+        this.serializationService = serializationService;
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(nearCacheStats, MIN_SEGMENT_CAPACITY);
+        }
+    }
+
+    /**
+     * @return the number of entries, including the reserved ones
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    public boolean containsKey(K key) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            return segment.indexOf(hash, key) >= 0;
+        }
+    }
+
+    /**
+     * @return a copy of the entry of the given key, {@code null} if there is no entry
+     */
+    public CompactNearCacheRecord get(K key) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            int slot = segment.indexOf(hash, key);
+            return slot < 0 ? null : segment.copyOf(slot);
+        }
+    }
+
+    /**
+     * Reads the value of the entry of the given key and records the access,
+     * in one locked step and without allocating.
+     *
+     * @param key               the key of the entry
+     * @param now               the current time in milliseconds
+     * @param maxIdleMillis     the maximum idle time, non-positive if there is none
+     * @param staleReadDetector the detector of stale reads, called while the segment is locked
+     * @return the stored {@link Data} value, {@link #CACHED_AS_NULL} if the value is
+     * cached as null, otherwise {@link #MISS}, {@link #STALE} or {@link #EXPIRED},
+     * in which case no access is recorded
+     */
+    public Object read(K key, long now, long maxIdleMillis, StaleReadDetector staleReadDetector) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            int slot = segment.indexOf(hash, key);
+            if (slot < 0) {
+                return MISS;
+            }
+            Object value = segment.refs[slot * REFERENCE_FIELDS + VALUE];
+            boolean readable = segment.longs[slot * LONG_FIELDS + RESERVATION_ID] == READ_PERMITTED;
+            if (!readable && value == null) {
+                return MISS;
+            }
+            if (staleReadDetector != ALWAYS_FRESH
+                    && staleReadDetector.isStaleRead(key, segment.staleReadProbe(slot))) {
+                return STALE;
+            }
+            // a reserved entry can't be checked for expiry
+            if (readable && segment.isExpired(slot, now, maxIdleMillis)) {
+                return EXPIRED;
+            }
+            int offset = slot * INT_FIELDS;
+            segment.ints[offset + LAST_ACCESS_TIME] = stripBaseTime(now);
+            segment.ints[offset + HITS]++;
+            return value;
+        }
+    }
+
+    /**
+     * Adds the given reservation record for the key, if the key has no entry.
+     *
+     * @return the reservation ID of the entry of the key
+     */
+    public long reserveForReadUpdate(K key, CompactNearCacheRecord reservation) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            int slot = segment.indexOf(hash, key);
+            if (slot >= 0) {
+                return segment.longs[slot * LONG_FIELDS + RESERVATION_ID];
+            }
+            segment.insert(-slot - 1, hash, storedKey(key), reservation);
+            return reservation.getReservationId();
+        }
+    }
+
+    /**
+     * Adds the given reservation record for the key if the key has no entry,
+     * or reserves the existing entry if it isn't reserved. If the existing
+     * entry is reserved, it is removed, since there are concurrent updates
+     * of the key.
+     *
+     * @return the reservation ID of the given record if reserved,
+     * {@link com.hazelcast.internal.nearcache.NearCacheRecord#NOT_RESERVED} otherwise
+     */
+    public long reserveForWriteUpdate(K key, CompactNearCacheRecord reservation) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            int slot = segment.indexOf(hash, key);
+            if (slot < 0) {
+                segment.insert(-slot - 1, hash, storedKey(key), reservation);
+                return reservation.getReservationId();
+            }
+            int offset = slot * LONG_FIELDS;
+            if (segment.longs[offset + RESERVATION_ID] == READ_PERMITTED) {
+                segment.longs[offset + RESERVATION_ID] = reservation.getReservationId();
+                return reservation.getReservationId();
+            }
+            segment.removeAt(slot);
+            return NOT_RESERVED;
+        }
+    }
+
+    /**
+     * Sets the value of the entry of the given key and makes it readable, if
+     * the entry is reserved with the given reservation ID.
+     *
+     * @return the value of the entry of the key after publishing, {@code null}
+     * if there is no entry, or it has no value or it is cached as null
+     */
+    public Data publish(K key, long reservationId, Data value) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            int slot = segment.indexOf(hash, key);
+            if (slot < 0) {
+                return null;
+            }
+            if (segment.longs[slot * LONG_FIELDS + RESERVATION_ID] == reservationId) {
+                segment.publish(slot, storedValue(value));
+            }
+            return toData(segment.refs[slot * REFERENCE_FIELDS + VALUE]);
+        }
+    }
+
+    /**
+     * Removes the entry of the given key.
+     *
+     * @return {@code true} if the removed entry wasn't reserved,
+     * {@code false} if it was or if there is no entry
+     */
+    public boolean remove(K key) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            int slot = segment.indexOf(hash, key);
+            if (slot < 0) {
+                return false;
+            }
+            boolean readable = segment.longs[slot * LONG_FIELDS + RESERVATION_ID] == READ_PERMITTED;
+            segment.removeAt(slot);
+            return readable;
+        }
+    }
+
+    /**
+     * Removes the expired and idle entries which aren't reserved.
+     *
+     * @param now           the current time in milliseconds
+     * @param maxIdleMillis the maximum idle time, non-positive if there is none
+     * @return the number of removed entries
+     */
+    public int removeExpired(long now, long maxIdleMillis) {
+        int removed = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                int slot = 0;
+                while (slot <= segment.mask) {
+                    // removing shifts the next entries back, so the slot is checked again
+                    if (segment.refs[slot * REFERENCE_FIELDS + KEY] != null
+                            && segment.isExpired(slot, now, maxIdleMillis)) {
+                        segment.removeAt(slot);
+                        removed++;
+                    } else {
+                        slot++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the entries.
+     *
+     * @return the number of removed entries
+     */
+    public int clear() {
+        int removed = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                removed += segment.size;
+                segment.allocate(MIN_SEGMENT_CAPACITY);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the keys: the keys of a
+     * segment are copied when the iteration reaches the segment.
+     */
+    public Iterator<K> keyIterator() {
+        return new KeyIterator();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <C extends EvictionCandidate<K, CompactNearCacheRecord>> Iterable<C> sample(int sampleCount) {
+        List<C> samples = new ArrayList<>(sampleCount);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstSegment = random.nextInt(SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT && samples.size() < sampleCount; i++) {
+            Segment segment = segments[(firstSegment + i) & SEGMENT_MASK];
+            synchronized (segment) {
+                if (segment.size == 0) {
+                    continue;
+                }
+                int firstSlot = random.nextInt(segment.mask + 1);
+                for (int j = 0; j <= segment.mask && samples.size() < sampleCount; j++) {
+                    int slot = (firstSlot + j) & segment.mask;
+                    Object storedKey = segment.refs[slot * REFERENCE_FIELDS + KEY];
+                    if (storedKey != null) {
+                        samples.add((C) new CompactEvictionCandidate(keyOf(storedKey), segment.copyOf(slot)));
+                    }
+                }
+            }
+        }
+        return samples;
+    }
+
+    @Override
+    public <C extends EvictionCandidate<K, CompactNearCacheRecord>> boolean tryEvict(
+            C evictionCandidate, EvictionListener<K, CompactNearCacheRecord> evictionListener) {
+        if (evictionCandidate == null) {
+            return false;
+        }
+        if (!remove(evictionCandidate.getAccessor())) {
+            // no entry was removed or the entry was a placeholder marked for update
+            return false;
+        }
+        if (evictionListener != null) {
+            evictionListener.onEvict(evictionCandidate.getAccessor(), evictionCandidate.getEvictable(), false);
+        }
+        return true;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash >>> SEGMENT_SHIFT];
+    }
+
+    private static int hash(Object key) {
+        return MurmurHash3_fmix(key.hashCode());
+    }
+
+    private static Object storedKey(Object key) {
+        return key instanceof Data data ? toBytes(data) : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyOf(Object storedKey) {
+        return storedKey instanceof byte[] bytes ? (K) new HeapData(bytes) : (K) storedKey;
+    }
+
+    private List<K> keysOf(Segment segment) {
+        if (segment.size == 0) {
+            return Collections.emptyList();
+        }
+        List<K> keys = new ArrayList<>(segment.size);
+        for (int slot = 0; slot <= segment.mask; slot++) {
+            Object storedKey = segment.refs[slot * REFERENCE_FIELDS + KEY];
+            if (storedKey != null) {
+                keys.add(keyOf(storedKey));
+            }
+        }
+        return keys;
+    }
+
+    private static boolean keyEquals(Object storedKey, Object key) {
+        if (storedKey instanceof byte[] bytes) {
+            // compares like HeapData#equals, which ignores the partition hash
+            if (!(key instanceof Data data) || data.totalSize() != bytes.length) {
+                return false;
+            }
+            return bytes.length < TYPE_OFFSET
+                    || Arrays.equals(bytes, TYPE_OFFSET, bytes.length, data.toByteArray(), TYPE_OFFSET, bytes.length);
+        }
+        return storedKey.equals(key);
+    }
+
+    private static byte[] toBytes(Data data) {
+        byte[] bytes = data.toByteArray();
+        int totalSize = data.totalSize();
+        // the array of a pooled payload can be larger than the data
+        return bytes.length == totalSize ? bytes : Arrays.copyOf(bytes, totalSize);
+    }
+
+    private static Object storedValue(Data value) {
+        if (value == null || value.totalSize() == 0) {
+            return CACHED_AS_NULL;
+        }
+        // the stored value is handed out by reads, so it must not be a view of a pooled payload
+        return value instanceof HeapData && value.toByteArray().length == value.totalSize()
+                ? value : new HeapData(toBytes(value));
+    }
+
+    private static Data toData(Object storedValue) {
+        return storedValue instanceof Data data ? data : null;
+    }
+
+    private static long costOf(Object stored) {
+        if (stored instanceof byte[] bytes) {
+            return ARRAY_HEADER_SIZE_IN_BYTES + bytes.length;
+        }
+        // the reference to the value is part of the slot cost
+        return stored instanceof Data data ? data.getHeapCost() - REFERENCE_COST_IN_BYTES : 0L;
+    }
+
+    /**
+     * An open addressing hash table with linear probing, which stores the
+     * fields of its entries in packed arrays. An empty slot has no key.
+     */
+    private static final class Segment {
+
+        private final NearCacheStatsImpl nearCacheStats;
+        // passed to the StaleReadDetector by reads, only used while the segment is locked
+        private final CompactNearCacheRecord staleReadProbe = new CompactNearCacheRecord(null, 0, 0);
+
+        private int[] ints;
+        private long[] longs;
+        private Object[] refs;
+        private int mask;
+        private int threshold;
+        private volatile int size;
+
+        Segment(NearCacheStatsImpl nearCacheStats, int capacity) {
+            this.nearCacheStats = nearCacheStats;
+            allocate(capacity);
+        }
+
+        void allocate(int capacity) {
+            ints = new int[capacity * INT_FIELDS];
+            longs = new long[capacity * LONG_FIELDS];
+            refs = new Object[capacity * REFERENCE_FIELDS];
+            mask = capacity - 1;
+            threshold = capacity * LOAD_FACTOR_PERCENTAGE / PERCENTAGE;
+            size = 0;
+        }
+
+        /**
+         * @return the slot of the key if found, otherwise
+         * {@code -(insertion slot) - 1}
+         */
+        int indexOf(int hash, Object key) {
+            int slot = hash & mask;
+            while (true) {
+                Object storedKey = refs[slot * REFERENCE_FIELDS + KEY];
+                if (storedKey == null) {
+                    return -slot - 1;
+                }
+                if (ints[slot * INT_FIELDS + HASH] == hash && keyEquals(storedKey, key)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        // inserts an entry without a value, so the entry isn't owned yet
+        void insert(int slot, int hash, Object storedKey, CompactNearCacheRecord reservation) {
+            if (size >= threshold) {
+                resize();
+                slot = -indexOf(hash, storedKey) - 1;
+            }
+            int intOffset = slot * INT_FIELDS;
+            ints[intOffset + HASH] = hash;
+            ints[intOffset + PARTITION_ID] = reservation.getPartitionId();
+            ints[intOffset + CREATION_TIME] = reservation.getRawCreationTime();
+            ints[intOffset + EXPIRATION_TIME] = reservation.getRawExpirationTime();
+            ints[intOffset + LAST_ACCESS_TIME] = reservation.getRawLastAccessTime();
+            ints[intOffset + HITS] = (int) reservation.getHits();
+            int longOffset = slot * LONG_FIELDS;
+            longs[longOffset + RESERVATION_ID] = reservation.getReservationId();
+            longs[longOffset + SEQUENCE] = reservation.getInvalidationSequence();
+            int refOffset = slot * REFERENCE_FIELDS;
+            refs[refOffset + KEY] = storedKey;
+            refs[refOffset + VALUE] = null;
+            refs[refOffset + UUID_REF] = reservation.getUuid();
+            size++;
+        }
+
+        void publish(int slot, Object value) {
+            int refOffset = slot * REFERENCE_FIELDS;
+            Object oldValue = refs[refOffset + VALUE];
+            refs[refOffset + VALUE] = value;
+            longs[slot * LONG_FIELDS + RESERVATION_ID] = READ_PERMITTED;
+            if (oldValue == null) {
+                nearCacheStats.incrementOwnedEntryCount();
+                nearCacheStats.incrementOwnedEntryMemoryCost(entryCost(slot));
+            } else {
+                nearCacheStats.incrementOwnedEntryMemoryCost(costOf(value) - costOf(oldValue));
+            }
+        }
+
+        // removes with backward shifting, so the table needs no tombstones
+        void removeAt(int slot) {
+            if (refs[slot * REFERENCE_FIELDS + VALUE] != null) {
+                nearCacheStats.decrementOwnedEntryCount();
+                nearCacheStats.decrementOwnedEntryMemoryCost(entryCost(slot));
+            }
+            int free = slot;
+            int next = (free + 1) & mask;
+            while (refs[next * REFERENCE_FIELDS + KEY] != null) {
+                int home = ints[next * INT_FIELDS + HASH] & mask;
+                // the entry can be moved if the free slot is between its home slot and its slot
+                if (((next - home) & mask) >= ((next - free) & mask)) {
+                    move(next, free);
+                    free = next;
+                }
+                next = (next + 1) & mask;
+            }
+            Arrays.fill(refs, free * REFERENCE_FIELDS, (free + 1) * REFERENCE_FIELDS, null);
+            size--;
+        }
+
+        private void move(int from, int to) {
+            System.arraycopy(ints, from * INT_FIELDS, ints, to * INT_FIELDS, INT_FIELDS);
+            System.arraycopy(longs, from * LONG_FIELDS, longs, to * LONG_FIELDS, LONG_FIELDS);
+            System.arraycopy(refs, from * REFERENCE_FIELDS, refs, to * REFERENCE_FIELDS, REFERENCE_FIELDS);
+        }
+
+        private void resize() {
+            int[] oldInts = ints;
+            long[] oldLongs = longs;
+            Object[] oldRefs = refs;
+            int oldCapacity = mask + 1;
+            int oldSize = size;
+            allocate(oldCapacity << 1);
+            for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+                if (oldRefs[oldSlot * REFERENCE_FIELDS + KEY] == null) {
+                    continue;
+                }
+                int slot = oldInts[oldSlot * INT_FIELDS + HASH] & mask;
+                while (refs[slot * REFERENCE_FIELDS + KEY] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                System.arraycopy(oldInts, oldSlot * INT_FIELDS, ints, slot * INT_FIELDS, INT_FIELDS);
+                System.arraycopy(oldLongs, oldSlot * LONG_FIELDS, longs, slot * LONG_FIELDS, LONG_FIELDS);
+                System.arraycopy(oldRefs, oldSlot * REFERENCE_FIELDS, refs, slot * REFERENCE_FIELDS, REFERENCE_FIELDS);
+            }
+            size = oldSize;
+        }
+
+        private long entryCost(int slot) {
+            int refOffset = slot * REFERENCE_FIELDS;
+            return SLOT_COST + costOf(refs[refOffset + KEY]) + costOf(refs[refOffset + VALUE]);
+        }
+
+        // same as NearCacheRecord#isExpiredAt and NearCacheRecord#isIdleAt on a readable record
+        boolean isExpired(int slot, long now, long maxIdleMillis) {
+            if (longs[slot * LONG_FIELDS + RESERVATION_ID] != READ_PERMITTED) {
+                return false;
+            }
+            int intOffset = slot * INT_FIELDS;
+            long expirationTime = recomputeWithBaseTime(ints[intOffset + EXPIRATION_TIME]);
+            if (expirationTime > 0L && expirationTime <= now) {
+                return true;
+            }
+            if (maxIdleMillis <= 0) {
+                return false;
+            }
+            long lastAccessTime = recomputeWithBaseTime(ints[intOffset + LAST_ACCESS_TIME]);
+            return lastAccessTime > 0L
+                    ? lastAccessTime + maxIdleMillis < now
+                    : recomputeWithBaseTime(ints[intOffset + CREATION_TIME]) + maxIdleMillis < now;
+        }
+
+        // the stale read detection only needs the invalidation metadata of the entry
+        CompactNearCacheRecord staleReadProbe(int slot) {
+            CompactNearCacheRecord probe = staleReadProbe;
+            probe.setPartitionId(ints[slot * INT_FIELDS + PARTITION_ID]);
+            probe.setInvalidationSequence(longs[slot * LONG_FIELDS + SEQUENCE]);
+            probe.setUuid((UUID) refs[slot * REFERENCE_FIELDS + UUID_REF]);
+            return probe;
+        }
+
+        CompactNearCacheRecord copyOf(int slot) {
+            int intOffset = slot * INT_FIELDS;
+            int longOffset = slot * LONG_FIELDS;
+            int refOffset = slot * REFERENCE_FIELDS;
+            Object value = refs[refOffset + VALUE];
+            CompactNearCacheRecord record = new CompactNearCacheRecord(toData(value),
+                    ints[intOffset + CREATION_TIME], ints[intOffset + EXPIRATION_TIME]);
+            record.setCachedAsNull(value == CACHED_AS_NULL);
+            record.setPartitionId(ints[intOffset + PARTITION_ID]);
+            record.setRawLastAccessTime(ints[intOffset + LAST_ACCESS_TIME]);
+            record.setHits(ints[intOffset + HITS]);
+            record.setReservationId(longs[longOffset + RESERVATION_ID]);
+            record.setInvalidationSequence(longs[longOffset + SEQUENCE]);
+            record.setUuid((UUID) refs[refOffset + UUID_REF]);
+            return record;
+        }
+
+    }
+
+    private final class KeyIterator implements Iterator<K> {
+
+        private int nextSegment;
+        private Iterator<K> current = Collections.emptyIterator();
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && nextSegment < SEGMENT_COUNT) {
+                Segment segment = segments[nextSegment++];
+                synchronized (segment) {
+                    current = keysOf(segment).iterator();
+                }
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public K next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    /**
+     * {@link EvictionCandidate} of a sampled entry.
+     */
+    private final class CompactEvictionCandidate implements EvictionCandidate<K, CompactNearCacheRecord> {
+
+        private final K key;
+        private final CompactNearCacheRecord record;
+
+        CompactEvictionCandidate(K key, CompactNearCacheRecord record) {
+            this.key = key;
+            this.record = record;
+        }
+
+        @Override
+        public K getAccessor() {
+            return key;
+        }
+
+        @Override
+        public CompactNearCacheRecord getEvictable() {
+            return record;
+        }
+
+        @Override
+        public Object getKey() {
+            return serializationService.toObject(key);
+        }
+
+        @Override
+        public Object getValue() {
+            return serializationService.toObject(record.getValue());
+        }
+
+        @Override
+        public long getCreationTime() {
+            return record.getCreationTime();
+        }
+
+        @Override
+        public long getLastAccessTime() {
+            return record.getLastAccessTime();
+        }
+
+        @Override
+        public long getHits() {
+            return record.getHits();
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCachePreloaderConfig;
+import com.hazelcast.internal.adapter.DataStructureAdapter;
+import com.hazelcast.internal.eviction.EvictionChecker;
+import com.hazelcast.internal.eviction.EvictionListener;
+import com.hazelcast.internal.eviction.FrequencySketch;
+import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
+import com.hazelcast.internal.eviction.impl.evaluator.TinyLFUEvictionPolicyEvaluator;
+import com.hazelcast.internal.eviction.impl.strategy.sampling.SamplingEvictionStrategy;
+import com.hazelcast.internal.monitor.impl.NearCacheStatsImpl;
+import com.hazelcast.internal.nearcache.NearCache;
+import com.hazelcast.internal.nearcache.NearCacheRecordStore;
+import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataContainer;
+import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
+import com.hazelcast.internal.nearcache.impl.preloader.NearCachePreloader;
+import com.hazelcast.internal.nearcache.impl.record.CompactNearCacheRecord;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.util.Clock;
+import com.hazelcast.nearcache.NearCacheStats;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import static com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider.getEvictionPolicyEvaluator;
+import static com.hazelcast.internal.nearcache.NearCache.CACHED_AS_NULL;
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.WRITE_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.TIME_NOT_SET;
+import static com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector.ALWAYS_FRESH;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static java.lang.String.format;
+import static java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater;
+
+/**
+ * {@link NearCacheRecordStore} implementation for on-heap Near Caches with
+ * {@link com.hazelcast.config.InMemoryFormat#BINARY} in-memory-format, which
+ * stores its entries in a {@link CompactNearCacheRecordMap}.
+ * <p>
+ * Compared to the {@link NearCacheDataRecordStore}, an entry costs less than
+ * half of the memory and no objects besides the byte array of its key and its
+ * value, which makes a difference for Near Caches with millions of entries.
+ * A read looks up the entry and records the access in one locked step, and
+ * hands out the stored value without copying the entry.
+ *
+ * @param <K> the type of the key stored in Near Cache
+ * @param <V> the type of the value stored in Near Cache
+ * @see NearCache#COMPACT_RECORD_STORE_ENABLED
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class CompactNearCacheRecordStore<K, V>
+        implements NearCacheRecordStore<K, V>, EvictionListener<K, CompactNearCacheRecord> {
+
+    private static final long MILLI_SECONDS_IN_A_SECOND = 1000;
+    private static final AtomicLongFieldUpdater<CompactNearCacheRecordStore> RESERVATION_ID
+            = newUpdater(CompactNearCacheRecordStore.class, "reservationId");
+
+    private final long timeToLiveMillis;
+    private final long maxIdleMillis;
+    private final boolean evictionDisabled;
+    private final ClassLoader classLoader;
+    private final NearCacheConfig nearCacheConfig;
+    private final NearCacheStatsImpl nearCacheStats = new NearCacheStatsImpl();
+    private final SerializationService serializationService;
+    private final NearCachePreloader<K> nearCachePreloader;
+
+    private CompactNearCacheRecordMap<K> records;
+    private EvictionChecker evictionChecker;
+    private SamplingEvictionStrategy<K, CompactNearCacheRecord, CompactNearCacheRecordMap<K>> evictionStrategy;
+    private EvictionPolicyEvaluator<K, CompactNearCacheRecord> evictionPolicyEvaluator;
+    // only set when the accesses of the keys are counted for the eviction
+    private FrequencySketch frequencySketch;
+
+    private volatile long reservationId;
+    private volatile StaleReadDetector staleReadDetector = ALWAYS_FRESH;
+
+    public CompactNearCacheRecordStore(String name,
+                                       NearCacheConfig nearCacheConfig,
+                                       SerializationService serializationService,
+                                       ClassLoader classLoader) {
+        this.nearCacheConfig = nearCacheConfig;
+        this.timeToLiveMillis = nearCacheConfig.getTimeToLiveSeconds() * MILLI_SECONDS_IN_A_SECOND;
+        this.maxIdleMillis = nearCacheConfig.getMaxIdleSeconds() * MILLI_SECONDS_IN_A_SECOND;
+        this.serializationService = serializationService;
+        this.classLoader = classLoader;
+        this.evictionDisabled = nearCacheConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.NONE;
+
+        NearCachePreloaderConfig preloaderConfig = nearCacheConfig.getPreloaderConfig();
+        this.nearCachePreloader = preloaderConfig.isEnabled()
+                ? new NearCachePreloader<>(name, preloaderConfig, nearCacheStats, serializationService) : null;
+    }
+
+    @Override
+    public void initialize() {
+        this.records = new CompactNearCacheRecordMap<>(serializationService, nearCacheStats);
+        EvictionConfig evictionConfig = nearCacheConfig.getEvictionConfig();
+        this.evictionChecker = createNearCacheEvictionChecker(evictionConfig);
+        if (!evictionDisabled) {
+            this.evictionStrategy = SamplingEvictionStrategy.INSTANCE;
+            this.evictionPolicyEvaluator = getEvictionPolicyEvaluator(evictionConfig, classLoader);
+            if (evictionPolicyEvaluator instanceof TinyLFUEvictionPolicyEvaluator) {
+                this.frequencySketch = ((TinyLFUEvictionPolicyEvaluator<?, ?>) evictionPolicyEvaluator).getFrequencySketch();
+                nearCacheStats.setFrequencySketchMemoryCost(frequencySketch.getMemoryCost());
+            }
+        }
+    }
+
+    private EvictionChecker createNearCacheEvictionChecker(EvictionConfig evictionConfig) {
+        MaxSizePolicy maxSizePolicy = evictionConfig.getMaxSizePolicy();
+        if (maxSizePolicy == MaxSizePolicy.ENTRY_COUNT) {
+            int maxSize = evictionConfig.getSize();
+            return () -> records.size() >= maxSize;
+        }
+
+        throw new IllegalArgumentException(format("Invalid max-size policy (%s) for %s! Only %s is supported.",
+                maxSizePolicy, getClass().getName(), MaxSizePolicy.ENTRY_COUNT));
+    }
+
+    @Override
+    public void setStaleReadDetector(StaleReadDetector staleReadDetector) {
+        this.staleReadDetector = staleReadDetector;
+    }
+
+    // only used for testing purposes
+    public StaleReadDetector getStaleReadDetector() {
+        return staleReadDetector;
+    }
+
+    private void checkAvailable() {
+        if (records == null) {
+            throw new IllegalStateException(nearCacheConfig.getName() + " named Near Cache record store is not available");
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        checkAvailable();
+        if (frequencySketch != null) {
+            evictionPolicyEvaluator.onAccess(key);
+        }
+
+        Object value = records.read(key, Clock.currentTimeMillis(), maxIdleMillis, staleReadDetector);
+        if (value == CompactNearCacheRecordMap.MISS) {
+            nearCacheStats.incrementMisses();
+            return null;
+        }
+
+        if (value == CompactNearCacheRecordMap.STALE) {
+            invalidate(key);
+            nearCacheStats.incrementMisses();
+            return null;
+        }
+
+        if (value == CompactNearCacheRecordMap.EXPIRED) {
+            invalidate(key);
+            nearCacheStats.incrementExpirations();
+            return null;
+        }
+
+        nearCacheStats.incrementHits();
+
+        return value == CompactNearCacheRecordMap.CACHED_AS_NULL
+                ? (V) CACHED_AS_NULL : serializationService.toObject((Data) value);
+    }
+
+    // only implemented for testing purposes
+    @Override
+    public void put(K key, Data keyData, V value, Data valueData) {
+        long reservationId = tryReserveForUpdate(key, keyData, READ_UPDATE);
+        if (reservationId != NOT_RESERVED) {
+            tryPublishReserved(key, value, reservationId, false);
+        }
+    }
+
+    @Override
+    public long tryReserveForUpdate(K key, Data keyData, NearCache.UpdateSemantic updateSemantic) {
+        checkAvailable();
+        // if there is no eviction configured we return if the Near Cache is full and it's a new key
+        // (we have to check the key, otherwise we might lose updates on existing keys)
+        if (evictionDisabled && evictionChecker.isEvictionRequired() && !records.containsKey(key)) {
+            return NOT_RESERVED;
+        }
+
+        long reservationId = RESERVATION_ID.incrementAndGet(this);
+        CompactNearCacheRecord reservation = newReservationRecord(key, keyData, reservationId);
+
+        long reserved = updateSemantic == WRITE_UPDATE
+                ? records.reserveForWriteUpdate(key, reservation)
+                : records.reserveForReadUpdate(key, reservation);
+
+        return reserved == reservationId ? reservationId : NOT_RESERVED;
+    }
+
+    private CompactNearCacheRecord newReservationRecord(K key, Data keyData, long reservationId) {
+        long creationTime = Clock.currentTimeMillis();
+        long expirationTime = timeToLiveMillis > 0 ? creationTime + timeToLiveMillis : TIME_NOT_SET;
+        CompactNearCacheRecord record = new CompactNearCacheRecord(null,
+                stripBaseTime(creationTime), stripBaseTime(expirationTime));
+        record.setReservationId(reservationId);
+
+        StaleReadDetector staleReadDetector = this.staleReadDetector;
+        if (staleReadDetector != ALWAYS_FRESH) {
+            int partitionId = staleReadDetector.getPartitionId(keyData == null ? serializationService.toData(key) : keyData);
+            MetaDataContainer metaDataContainer = staleReadDetector.getMetaDataContainer(partitionId);
+            record.setPartitionId(partitionId);
+            record.setInvalidationSequence(metaDataContainer.getSequence());
+            record.setUuid(metaDataContainer.getUuid());
+        }
+        return record;
+    }
+
+    @Nullable
+    @Override
+    public V tryPublishReserved(K key, V value, long reservationId, boolean deserialize) {
+        checkAvailable();
+
+        Data cachedValue = records.publish(key, reservationId, serializationService.toData(value));
+        if (cachedValue == null || !deserialize) {
+            return null;
+        }
+        return serializationService.toObject(cachedValue);
+    }
+
+    @Override
+    public void invalidate(K key) {
+        checkAvailable();
+
+        if (records.remove(key)) {
+            nearCacheStats.incrementInvalidations();
+        }
+        nearCacheStats.incrementInvalidationRequests();
+    }
+
+    @Override
+    public void clear() {
+        checkAvailable();
+
+        int size = records.clear();
+        nearCacheStats.setOwnedEntryCount(0);
+        nearCacheStats.setOwnedEntryMemoryCost(0L);
+        nearCacheStats.incrementInvalidations(size);
+        nearCacheStats.incrementInvalidationRequests();
+    }
+
+    @Override
+    public void destroy() {
+        clear();
+        if (nearCachePreloader != null) {
+            nearCachePreloader.destroy();
+        }
+    }
+
+    @Override
+    public int size() {
+        checkAvailable();
+
+        return records.size();
+    }
+
+    @Override
+    public CompactNearCacheRecord getRecord(K key) {
+        return records.get(key);
+    }
+
+    @Override
+    public NearCacheStats getNearCacheStats() {
+        checkAvailable();
+
+        return nearCacheStats;
+    }
+
+    @Override
+    public void doExpiration() {
+        int expired = records.removeExpired(Clock.currentTimeMillis(), maxIdleMillis);
+        nearCacheStats.incrementInvalidations(expired);
+        for (int i = 0; i < expired; i++) {
+            nearCacheStats.incrementInvalidationRequests();
+            nearCacheStats.incrementExpirations();
+        }
+    }
+
+    @Override
+    public boolean doEviction(boolean withoutMaxSizeCheck) {
+        checkAvailable();
+
+        if (evictionDisabled) {
+            return false;
+        }
+
+        EvictionChecker evictionChecker = withoutMaxSizeCheck ? null : this.evictionChecker;
+        evictionStrategy.evict(records, evictionPolicyEvaluator, evictionChecker, this);
+        return true;
+    }
+
+    @Override
+    public boolean doEvictionToAdmit(K key) {
+        checkAvailable();
+
+        if (evictionDisabled) {
+            return true;
+        }
+
+        FrequencySketch frequencySketch = this.frequencySketch;
+        if (frequencySketch != null && frequencySketch.ensureCapacity(records.size())) {
+            nearCacheStats.setFrequencySketchMemoryCost(frequencySketch.getMemoryCost());
+        }
+
+        // an existing key is updated in place, so it is always admitted
+        if (evictionStrategy.evictToAdmit(records, evictionPolicyEvaluator, evictionChecker, this, key)
+                || records.containsKey(key)) {
+            return true;
+        }
+        nearCacheStats.incrementAdmissionRejects();
+        return false;
+    }
+
+    @Override
+    public void onEvict(K key, CompactNearCacheRecord record, boolean wasExpired) {
+        // the owned entry count and memory cost are updated by the record map
+        if (wasExpired) {
+            nearCacheStats.incrementExpirations();
+        } else {
+            nearCacheStats.incrementEvictions();
+        }
+    }
+
+    @Override
+    public void loadKeys(DataStructureAdapter<Object, ?> adapter) {
+        if (nearCachePreloader != null) {
+            nearCachePreloader.loadKeys(adapter);
+        }
+    }
+
+    @Override
+    public void storeKeys() {
+        if (nearCachePreloader != null) {
+            nearCachePreloader.storeKeys(records.keyIterator());
+        }
+    }
+}
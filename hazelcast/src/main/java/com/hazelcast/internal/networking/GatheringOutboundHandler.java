@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking;
+
+/**
+ * An {@link OutboundHandler} that can write its output to an {@link IOVector}
+ * instead of its dst buffer, so that large payloads are referenced instead of
+ * copied into the dst buffer.
+ * <p>
+ * The outbound pipeline hands out its vector only to the last handler of the
+ * pipeline and only if gathering writes are enabled; the output of the other
+ * handlers is processed by the next handler. When a vector is set, the
+ * handler adds the regions of its dst buffer and the referenced payloads to
+ * the vector in the order they have to be written, and must not modify its
+ * dst buffer while the vector is not empty. When the vector is {@code null},
+ * the handler writes its output to its dst buffer.
+ */
+public interface GatheringOutboundHandler {
+
+    /**
+     * Sets the vector to add the output of this handler to.
+     *
+     * @param ioVector the vector, or {@code null} to write to the dst buffer.
+     */
+    void ioVector(IOVector ioVector);
+}
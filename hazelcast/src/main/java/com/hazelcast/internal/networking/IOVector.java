@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+/**
+ * An ordered sequence of buffers written to a channel with a single
+ * gathering write, so instead of passing a single buffer, an array of
+ * buffers is passed to the socket write.
+ * <p>
+ * The buffers are in reading mode and are not copied; they must not be
+ * modified until they are completely written.
+ * <p>
+ * This class is not thread-safe, it is owned by the thread processing the
+ * outbound pipeline.
+ *
+ * @see GatheringOutboundHandler
+ */
+public final class IOVector {
+
+    /**
+     * The maximum number of buffers of a vector, the maximum number of
+     * buffers in a single {@code writev} call on Linux.
+     */
+    public static final int IOV_MAX = 1024;
+
+    private final ByteBuffer[] array = new ByteBuffer[IOV_MAX];
+    private int length;
+    private long pending;
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the array of the buffers, the buffers are at the indexes
+     * {@code 0} to {@link #length()} exclusive.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "the array is passed to the channel as is")
+    public ByteBuffer[] array() {
+        return array;
+    }
+
+    /**
+     * Returns the number of bytes remaining to be written.
+     */
+    public long pending() {
+        return pending;
+    }
+
+    /**
+     * Returns the number of buffers that can still be added.
+     */
+    public int remainingCapacity() {
+        return IOV_MAX - length;
+    }
+
+    /**
+     * Adds the given buffer to the end of the vector, unless it is empty.
+     *
+     * @param buffer the buffer to add, in reading mode.
+     * @return {@code true} if the buffer got added or was empty,
+     * {@code false} if the vector is full.
+     */
+    public boolean offer(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            return true;
+        }
+        if (length == IOV_MAX) {
+            return false;
+        }
+        array[length] = buffer;
+        length++;
+        pending += buffer.remaining();
+        return true;
+    }
+
+    /**
+     * Writes the buffers to the given channel and removes the completely
+     * written buffers.
+     *
+     * @param channel the channel to write to.
+     * @return the number of bytes written.
+     * @throws IOException if the write fails.
+     */
+    public long write(GatheringByteChannel channel) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        long written = channel.write(array, 0, length);
+        compact(written);
+        return written;
+    }
+
+    /**
+     * Removes all the buffers.
+     */
+    public void clear() {
+        for (int k = 0; k < length; k++) {
+            array[k] = null;
+        }
+        length = 0;
+        pending = 0;
+    }
+
+    private void compact(long written) {
+        if (written == pending) {
+            clear();
+            return;
+        }
+
+        int firstRemaining = 0;
+        while (!array[firstRemaining].hasRemaining()) {
+            firstRemaining++;
+        }
+        if (firstRemaining > 0) {
+            int newLength = length - firstRemaining;
+            System.arraycopy(array, firstRemaining, array, 0, newLength);
+            for (int k = newLength; k < length; k++) {
+                array[k] = null;
+            }
+            length = newLength;
+        }
+        pending -= written;
+    }
+}
@@ -53,4 +53,22 @@ public interface MigratablePipeline {
      * @return total load recorded by this pipeline
      */
     long load();
+
+    /**
+     * Get the number of bytes read or written by the current pipeline.
+     *
+     * @return total number of bytes processed by this pipeline
+     */
+    long bytesProcessed();
+
+    /**
+     * Get the time the {@link NioThread owners} of the current pipeline spent
+     * processing it. Unlike the number of processed bytes or events, it
+     * reflects the CPU time the pipeline costs its owner. It is only measured
+     * when the {@link com.hazelcast.internal.networking.nio.iobalancer.CostMigrationStrategy}
+     * is used, otherwise it is always {@code 0}.
+     *
+     * @return total processing time of this pipeline in nanoseconds
+     */
+    long processTimeNanos();
 }
@@ -172,6 +172,11 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
         return bytesRead.get();
     }
 
+    @Override
+    public long bytesProcessed() {
+        return bytesRead.get();
+    }
+
     @Override
     void publishMetrics() {
         if (currentThread() != owner) {
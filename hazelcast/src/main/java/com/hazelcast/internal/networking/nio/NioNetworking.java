@@ -109,6 +109,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
     private final String threadNamePrefix;
     private final ChannelErrorHandler errorHandler;
     private final int balancerIntervalSeconds;
+    private final boolean balancerCostBased;
     private final int inputThreadCount;
     private final int outputThreadCount;
     private final Set<NioChannel> channels = newSetFromMap(new ConcurrentHashMap<>());
@@ -121,6 +122,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
     private volatile ExecutorService closeListenerExecutor;
     private final ConcurrencyDetection concurrencyDetection;
     private final boolean writeThroughEnabled;
+    private final boolean gatheringWritesEnabled;
     private final ThreadAffinity inputThreadAffinity;
     private volatile IOBalancer ioBalancer;
     private volatile NioThread[] inputThreads;
@@ -149,10 +151,12 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         this.inputThreadAffinity = ctx.inputThreadAffinity;
         this.outputThreadAffinity = ctx.outputThreadAffinity;
         this.balancerIntervalSeconds = ctx.balancerIntervalSeconds;
+        this.balancerCostBased = ctx.balancerCostBased;
         this.selectorMode = ctx.selectorMode;
         this.selectorWorkaroundTest = ctx.selectorWorkaroundTest;
         this.idleStrategy = ctx.idleStrategy;
         this.concurrencyDetection = ctx.concurrencyDetection;
+        this.gatheringWritesEnabled = ctx.gatheringWritesEnabled;
         // selector mode SELECT_WITH_FIX requires that a single thread
         // accesses a selector & its selectionKeys. Selection key wake-up
         // and write through break this requirement, therefore must be
@@ -199,6 +203,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
                     + inputThreadCount + " input threads and "
                     + outputThreadCount + " output threads");
             logger.fine("write through enabled:" + writeThroughEnabled);
+            logger.fine("gathering writes enabled:" + gatheringWritesEnabled);
         }
 
         logger.log(selectorMode != SELECT ? Level.INFO : FINE, "IO threads selector mode is " + selectorMode);
@@ -249,7 +254,8 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
     }
 
     private void startIOBalancer() {
-        ioBalancer = new IOBalancer(inputThreads, outputThreads, threadNamePrefix, balancerIntervalSeconds, loggingService);
+        ioBalancer = new IOBalancer(inputThreads, outputThreads, threadNamePrefix, balancerIntervalSeconds,
+                balancerCostBased, loggingService);
         ioBalancer.start();
     }
 
@@ -334,7 +340,8 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
                 ioBalancer,
                 concurrencyDetection,
                 writeThroughEnabled,
-                selectionKeyWakeupEnabled);
+                selectionKeyWakeupEnabled,
+                gatheringWritesEnabled);
     }
 
     private NioInboundPipeline newInboundPipeline(NioChannel channel) {
@@ -416,6 +423,10 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         return selectionKeyWakeupEnabled;
     }
 
+    boolean isGatheringWritesEnabled() {
+        return gatheringWritesEnabled;
+    }
+
     private class ChannelCloseListenerImpl implements ChannelCloseListener {
         @Override
         public void onClose(Channel channel) {
@@ -483,6 +494,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         private int inputThreadCount = 1;
         private int outputThreadCount = 1;
         private int balancerIntervalSeconds;
+        private boolean balancerCostBased;
         private ThreadAffinity inputThreadAffinity = ThreadAffinity.DISABLED;
         private ThreadAffinity outputThreadAffinity = ThreadAffinity.DISABLED;
 
@@ -504,6 +516,10 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         // this is an optimization that can speed up low threaded setups
         private boolean writeThroughEnabled;
 
+        // if the frames are written to the socket with gathering writes, referencing
+        // the large payloads instead of copying them into the send buffer
+        private boolean gatheringWritesEnabled;
+
         public Context() {
             String selectorModeString = SelectorMode.getConfiguredString();
             if (selectorModeString.startsWith(SELECT_NOW_STRING + ",")) {
@@ -521,6 +537,11 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
             return this;
         }
 
+        public Context gatheringWritesEnabled(boolean gatheringWritesEnabled) {
+            this.gatheringWritesEnabled = gatheringWritesEnabled;
+            return this;
+        }
+
         public Context concurrencyDetection(ConcurrencyDetection concurrencyDetection) {
             this.concurrencyDetection = concurrencyDetection;
             return this;
@@ -594,5 +615,10 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
             this.balancerIntervalSeconds = balancerIntervalSeconds;
             return this;
         }
+
+        public Context balancerCostBased(boolean balancerCostBased) {
+            this.balancerCostBased = balancerCostBased;
+            return this;
+        }
     }
 }
@@ -19,7 +19,9 @@ package com.hazelcast.internal.networking.nio;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.networking.ChannelErrorHandler;
 import com.hazelcast.internal.networking.ChannelHandler;
+import com.hazelcast.internal.networking.GatheringOutboundHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.IOVector;
 import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.networking.OutboundPipeline;
@@ -38,13 +40,16 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_PER_SOCKET_WRITE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FRAMES_PER_SOCKET_WRITE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_NORMAL_FRAMES_WRITTEN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_WRITE_QUEUE_PENDING_BYTES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_WRITE_QUEUE_SIZE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SCHEDULED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SOCKET_WRITES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_QUEUE_PENDING_BYTES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_QUEUE_SIZE;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
@@ -116,6 +121,10 @@ public final class NioOutboundPipeline
 
     private OutboundHandler[] handlers = new OutboundHandler[0];
     private ByteBuffer sendBuffer;
+    // the vector written instead of the sendBuffer when the last handler writes to it;
+    // null if gathering writes are disabled
+    private final IOVector ioVector;
+    private boolean gathering;
 
     private final AtomicReference<State> scheduled = new AtomicReference<>(State.SCHEDULED);
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN, unit = BYTES, level = DEBUG)
@@ -124,6 +133,8 @@ public final class NioOutboundPipeline
     private final SwCounter normalFramesWritten = newSwCounter();
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN, level = DEBUG)
     private final SwCounter priorityFramesWritten = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SOCKET_WRITES, level = DEBUG)
+    private final SwCounter socketWrites = newSwCounter();
 
     private volatile long lastWriteTime;
 
@@ -142,11 +153,13 @@ public final class NioOutboundPipeline
                         IOBalancer balancer,
                         ConcurrencyDetection concurrencyDetection,
                         boolean writeThroughEnabled,
-                        boolean selectionKeyWakeupEnabled) {
+                        boolean selectionKeyWakeupEnabled,
+                        boolean gatheringWritesEnabled) {
         super(channel, owner, errorHandler, OP_WRITE, logger, balancer);
         this.concurrencyDetection = concurrencyDetection;
         this.writeThroughEnabled = writeThroughEnabled;
         this.selectionKeyWakeupEnabled = selectionKeyWakeupEnabled;
+        this.ioVector = gatheringWritesEnabled ? new IOVector() : null;
     }
 
     @Override
@@ -199,6 +212,18 @@ public final class NioOutboundPipeline
         return scheduled.get().ordinal();
     }
 
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FRAMES_PER_SOCKET_WRITE, level = DEBUG)
+    private double framesPerSocketWrite() {
+        long writes = socketWrites.get();
+        return writes == 0 ? 0 : (double) (normalFramesWritten.get() + priorityFramesWritten.get()) / writes;
+    }
+
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_PER_SOCKET_WRITE, level = DEBUG, unit = BYTES)
+    private double bytesPerSocketWrite() {
+        long writes = socketWrites.get();
+        return writes == 0 ? 0 : (double) bytesWritten.get() / writes;
+    }
+
     public void write(OutboundFrame frame) {
         if (frame.isUrgent()) {
             priorityWriteQueue.offer(frame);
@@ -331,7 +356,7 @@ public final class NioOutboundPipeline
             return;
         }
 
-        if (sendBuffer.remaining() > 0) {
+        if (gathering ? !ioVector.isEmpty() : sendBuffer.remaining() > 0) {
             pipelineStatus = DIRTY;
         }
 
@@ -437,7 +462,19 @@ public final class NioOutboundPipeline
 
     private void flushToSocket() throws IOException {
         lastWriteTime = currentTimeMillis();
-        int written = socketChannel.write(sendBuffer);
+        long written;
+        if (gathering) {
+            if (ioVector.isEmpty()) {
+                return;
+            }
+            written = ioVector.write(socketChannel);
+        } else {
+            if (!sendBuffer.hasRemaining()) {
+                return;
+            }
+            written = socketChannel.write(sendBuffer);
+        }
+        socketWrites.inc();
         bytesWritten.inc(written);
         //System.out.println(channel + " bytes written:" + written);
     }
@@ -451,6 +488,19 @@ public final class NioOutboundPipeline
         return bytesWritten.get();
     }
 
+    @Override
+    public long bytesProcessed() {
+        return bytesWritten.get();
+    }
+
+    long socketWrites() {
+        return socketWrites.get();
+    }
+
+    boolean isGathering() {
+        return gathering;
+    }
+
     @Override
     protected void publishMetrics() {
         if (currentThread() != owner) {
@@ -513,7 +563,16 @@ public final class NioOutboundPipeline
 
     private void updatePipeline(OutboundHandler[] newHandlers) {
         this.handlers = newHandlers;
-        this.sendBuffer = newHandlers.length == 0 ? null : (ByteBuffer) newHandlers[newHandlers.length - 1].dst();
+        OutboundHandler last = newHandlers.length == 0 ? null : newHandlers[newHandlers.length - 1];
+        this.sendBuffer = last == null ? null : (ByteBuffer) last.dst();
+        // only the output of the last handler is written to the socket, so only
+        // the last handler may reference its output in the vector
+        this.gathering = ioVector != null && last instanceof GatheringOutboundHandler;
+        for (OutboundHandler handler : newHandlers) {
+            if (handler instanceof GatheringOutboundHandler gatheringHandler) {
+                gatheringHandler.ioVector(gathering && handler == last ? ioVector : null);
+            }
+        }
 
         OutboundHandler prev = null;
         for (OutboundHandler handler : handlers) {
@@ -35,8 +35,10 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKIN
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_OPS_READY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_PROCESS_TIME_NANOS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_STARTED_MIGRATIONS;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static java.lang.Thread.currentThread;
 
@@ -65,7 +67,13 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
     private final ChannelErrorHandler errorHandler;
     private final int initialOps;
     private final IOBalancer ioBalancer;
+    // the process time is measured only if the IOBalancer needs it
+    private final boolean processTimeTracked;
     private final AtomicReference<TaskNode> delayedTaskStack = new AtomicReference<>();
+    // the time the owners spent in the NioPipeline.process() method, 0 unless processTimeTracked. The processing
+    // done by other threads, e.g. a write through, isn't included since it doesn't load the owner.
+    @Probe(name = NETWORKING_METRIC_NIO_PIPELINE_PROCESS_TIME_NANOS, unit = NS, level = DEBUG)
+    private final SwCounter processTimeNanos = newSwCounter();
     @Probe(name = NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID, level = DEBUG)
     private volatile int ownerId;
     // counts the number of migrations that have happened so far
@@ -88,6 +96,7 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
         this.logger = logger;
         this.initialOps = initialOps;
         this.ioBalancer = ioBalancer;
+        this.processTimeTracked = ioBalancer != null && ioBalancer.isCostBased();
         this.errorHandler = errorHandler;
     }
 
@@ -124,7 +133,7 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
         owner.addTaskAndWakeup(() -> {
             try {
                 initSelectionKey();
-                process();
+                processOnOwner();
             } catch (Throwable t) {
                 onError(t);
             }
@@ -165,6 +174,36 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
      */
     abstract void process() throws Exception;
 
+    /**
+     * Processes the pipeline on the {@link NioThread owner} and records the
+     * time spent if the {@link IOBalancer} balances by cost.
+     *
+     * @throws Exception
+     * @see #process()
+     */
+    final void processOnOwner() throws Exception {
+        if (!processTimeTracked) {
+            process();
+            return;
+        }
+
+        NioThread processingOwner = owner;
+        long startNanos = System.nanoTime();
+        try {
+            process();
+        } finally {
+            // once the pipeline started migrating, the new owner records its own time
+            if (owner == processingOwner) {
+                processTimeNanos.inc(System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    @Override
+    public long processTimeNanos() {
+        return processTimeNanos.get();
+    }
+
     /**
      * Adds a task to be executed on the {@link NioThread owner}.
      * <p>
@@ -227,7 +266,7 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
     public final void run() {
         if (owner == currentThread()) {
             try {
-                process();
+                processOnOwner();
             } catch (Throwable t) {
                 onError(t);
             }
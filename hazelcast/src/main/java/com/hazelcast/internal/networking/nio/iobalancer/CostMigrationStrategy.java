@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio.iobalancer;
+
+import com.hazelcast.internal.networking.nio.MigratablePipeline;
+import com.hazelcast.internal.networking.nio.NioThread;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A {@link MigrationStrategy} that balances the cost of the
+ * {@link MigratablePipeline} instances instead of their number of events or
+ * bytes.
+ * <p>
+ * The cost of a pipeline is the time its owner spent processing it plus one
+ * nanosecond per processed byte. The time reflects the CPU the pipeline
+ * costs its owner, e.g. a pipeline handling many tiny events, while the bytes
+ * keep a pipeline that transfers a few large packets from looking idle when
+ * its processing time is hard to measure.
+ * <p>
+ * To prevent the pipelines from bouncing between the NioThreads:
+ * <ul>
+ * <li>an imbalance only triggers a migration once it has been detected for
+ * the same busiest NioThread {@link #CONFIRMATION_CHECKS} checks in a row</li>
+ * <li>a pipeline is only migrated if the migration reduces the difference
+ * between the NioThreads by at least {@link #MIN_IMPROVEMENT_RATIO}, so that it
+ * doesn't just swap the busiest and the least busy NioThread</li>
+ * <li>a migrated pipeline isn't migrated again for {@link #COOLDOWN_CHECKS}
+ * checks</li>
+ * </ul>
+ * <p>
+ * The strategy keeps track of its past decisions, so an instance must only
+ * be used for a single {@link LoadTracker}.
+ */
+class CostMigrationStrategy implements MigrationStrategy {
+
+    /**
+     * The minimum cost difference between the busiest and the least busy
+     * NioThread for a migration; the smaller differences aren't worth a
+     * migration.
+     */
+    static final long MIN_COST_DIFFERENCE = MILLISECONDS.toNanos(10);
+
+    /**
+     * A migration is only attempted if the least busy NioThread has less
+     * than this ratio of the cost of the busiest NioThread. It is lower than
+     * the ratio of the {@link LoadMigrationStrategy}, since the processing time
+     * fluctuates more than the number of bytes.
+     */
+    static final double MIN_MAX_RATIO_MIGRATION_THRESHOLD = 0.7;
+
+    /**
+     * The number of checks in a row an imbalance must be detected in before
+     * a migration is attempted.
+     */
+    static final int CONFIRMATION_CHECKS = 2;
+
+    /**
+     * The number of checks a migrated pipeline isn't migrated again for.
+     */
+    static final int COOLDOWN_CHECKS = 3;
+
+    /**
+     * The minimum reduction of the difference between the busiest and the
+     * least busy NioThread a migration must achieve.
+     */
+    static final double MIN_IMPROVEMENT_RATIO = 0.2;
+
+    private final Map<MigratablePipeline, Long> lastMigrationChecks = new HashMap<>();
+    private long checkCount;
+    private NioThread imbalancedOwner;
+    private int imbalancedChecks;
+
+    @Override
+    public long load(MigratablePipeline pipeline) {
+        return pipeline.processTimeNanos() + pipeline.bytesProcessed();
+    }
+
+    @Override
+    public boolean imbalanceDetected(LoadImbalance imbalance) {
+        checkCount++;
+        lastMigrationChecks.values().removeIf(check -> checkCount - check > COOLDOWN_CHECKS);
+
+        long min = imbalance.minimumLoad;
+        long max = imbalance.maximumLoad;
+        if (imbalance.srcOwner == null || imbalance.dstOwner == null
+                || max - min < MIN_COST_DIFFERENCE || min >= (long) (MIN_MAX_RATIO_MIGRATION_THRESHOLD * max)) {
+            imbalancedOwner = null;
+            imbalancedChecks = 0;
+            return false;
+        }
+
+        if (imbalance.srcOwner != imbalancedOwner) {
+            imbalancedOwner = imbalance.srcOwner;
+            imbalancedChecks = 0;
+        }
+        imbalancedChecks++;
+        return imbalancedChecks >= CONFIRMATION_CHECKS;
+    }
+
+    /**
+     * Finds the pipeline whose migration gets the busiest and the least busy
+     * NioThread the closest to each other.
+     */
+    @Override
+    public MigratablePipeline findPipelineToMigrate(LoadImbalance imbalance) {
+        Set<? extends MigratablePipeline> candidates = imbalance.getPipelinesOwnedBy(imbalance.srcOwner);
+        long difference = imbalance.maximumLoad - imbalance.minimumLoad;
+        // the difference after a migration must not exceed this
+        long maxDifferenceAfterMigration = (long) (difference * (1 - MIN_IMPROVEMENT_RATIO));
+        MigratablePipeline candidate = null;
+        long candidateDifference = Long.MAX_VALUE;
+        for (MigratablePipeline pipeline : candidates) {
+            if (lastMigrationChecks.containsKey(pipeline)) {
+                continue;
+            }
+            long load = imbalance.getLoad(pipeline);
+            // the migration moves the load from the busiest to the least busy NioThread
+            long differenceAfterMigration = Math.abs(difference - 2 * load);
+            if (differenceAfterMigration <= maxDifferenceAfterMigration && differenceAfterMigration < candidateDifference) {
+                candidate = pipeline;
+                candidateDifference = differenceAfterMigration;
+            }
+        }
+
+        if (candidate != null) {
+            lastMigrationChecks.put(candidate, checkCount);
+            imbalancedOwner = null;
+            imbalancedChecks = 0;
+        }
+        return candidate;
+    }
+}
@@ -57,6 +57,8 @@ import static com.hazelcast.spi.properties.ClusterProperty.IO_THREAD_COUNT;
  * {@link com.hazelcast.internal.networking.nio.iobalancer.MigrationStrategy}.
  * <p>
  * Measuring interval can be customized via {@link ClusterProperty#IO_BALANCER_INTERVAL_SECONDS}
+ * and the {@link CostMigrationStrategy} can be enabled via
+ * {@link ClusterProperty#IO_BALANCER_COST_BASED_ENABLED}.
  *
  * It doesn't leverage {@link ConnectionListener} capability
  * provided by {@link ServerConnectionManager} to observe connections
@@ -69,7 +71,9 @@ public class IOBalancer {
     private final ILogger logger;
 
     private final int balancerIntervalSeconds;
-    private final MigrationStrategy strategy;
+    private final boolean costBased;
+    private final MigrationStrategy inStrategy;
+    private final MigrationStrategy outStrategy;
 
     private final LoadTracker inLoadTracker;
     private final LoadTracker outLoadTracker;
@@ -90,14 +94,26 @@ public class IOBalancer {
                       NioThread[] outputThreads,
                       String hzName,
                       int balancerIntervalSeconds, LoggingService loggingService) {
+        this(inputThreads, outputThreads, hzName, balancerIntervalSeconds, false, loggingService);
+    }
+
+    public IOBalancer(NioThread[] inputThreads,
+                      NioThread[] outputThreads,
+                      String hzName,
+                      int balancerIntervalSeconds,
+                      boolean costBased,
+                      LoggingService loggingService) {
         this.logger = loggingService.getLogger(IOBalancer.class);
         this.balancerIntervalSeconds = balancerIntervalSeconds;
+        this.costBased = costBased;
 
-        this.strategy = createMigrationStrategy();
+        // the cost based strategy keeps track of its past decisions, so each direction needs its own strategy
+        this.inStrategy = createMigrationStrategy(costBased);
+        this.outStrategy = createMigrationStrategy(costBased);
         this.hzName = hzName;
 
-        this.inLoadTracker = new LoadTracker(inputThreads, logger);
-        this.outLoadTracker = new LoadTracker(outputThreads, logger);
+        this.inLoadTracker = new LoadTracker(inputThreads, logger, inStrategy::load);
+        this.outLoadTracker = new LoadTracker(outputThreads, logger, outStrategy::load);
 
         this.enabled = isEnabled(inputThreads, outputThreads);
     }
@@ -117,6 +133,43 @@ public class IOBalancer {
         return workQueue;
     }
 
+    /**
+     * Checks if the pipelines are balanced by their cost, so they need to
+     * measure the time they spend processing.
+     */
+    public boolean isCostBased() {
+        return costBased;
+    }
+
+    // just for testing
+    MigrationStrategy getInStrategy() {
+        return inStrategy;
+    }
+
+    /**
+     * Returns the imbalance of the input threads calculated by the last
+     * balancer execution, as a percentage of the load of the busiest thread.
+     */
+    public double inputImbalancePercentage() {
+        return inLoadTracker.imbalancePercentage();
+    }
+
+    /**
+     * Returns the imbalance of the output threads calculated by the last
+     * balancer execution, as a percentage of the load of the busiest thread.
+     */
+    public double outputImbalancePercentage() {
+        return outLoadTracker.imbalancePercentage();
+    }
+
+    /**
+     * Returns the name of the strategy used to measure the load and to
+     * choose the pipelines to migrate.
+     */
+    public String strategyName() {
+        return inStrategy.getClass().getSimpleName();
+    }
+
     public void channelAdded(MigratablePipeline inboundPipeline, MigratablePipeline outboundPipeline) {
         // if not enabled, then don't schedule tasks that will not get processed.
         // See https://github.com/hazelcast/hazelcast/issues/11501
@@ -147,15 +200,15 @@ public class IOBalancer {
     }
 
     void rebalance() {
-        scheduleMigrationIfNeeded(inLoadTracker);
-        scheduleMigrationIfNeeded(outLoadTracker);
+        scheduleMigrationIfNeeded(inLoadTracker, inStrategy);
+        scheduleMigrationIfNeeded(outLoadTracker, outStrategy);
     }
 
-    private void scheduleMigrationIfNeeded(LoadTracker loadTracker) {
+    private void scheduleMigrationIfNeeded(LoadTracker loadTracker, MigrationStrategy strategy) {
         LoadImbalance loadImbalance = loadTracker.updateImbalance();
         if (strategy.imbalanceDetected(loadImbalance)) {
             imbalanceDetectedCount.inc();
-            tryMigrate(loadImbalance);
+            tryMigrate(loadImbalance, strategy);
         } else {
             if (logger.isFinestEnabled()) {
                 long min = loadImbalance.minimumLoad;
@@ -169,11 +222,14 @@ public class IOBalancer {
         }
     }
 
-    private MigrationStrategy createMigrationStrategy() {
+    private MigrationStrategy createMigrationStrategy(boolean costBased) {
         if (Boolean.getBoolean(PROP_MONKEY_BALANCER)) {
             logger.warning("Using Monkey IO Balancer Strategy. This is for stress tests only. Do not user in production! "
                     + "Disable by not setting the property '" + PROP_MONKEY_BALANCER + "' to true.");
             return new MonkeyMigrationStrategy();
+        } else if (costBased) {
+            logger.finest("Using cost based IO Balancer Strategy.");
+            return new CostMigrationStrategy();
         } else {
             logger.finest("Using normal IO Balancer Strategy.");
             return new LoadMigrationStrategy();
@@ -200,7 +256,7 @@ public class IOBalancer {
         return true;
     }
 
-    private void tryMigrate(LoadImbalance loadImbalance) {
+    private void tryMigrate(LoadImbalance loadImbalance, MigrationStrategy strategy) {
         MigratablePipeline pipeline = strategy.findPipelineToMigrate(loadImbalance);
         if (pipeline == null) {
             logger.finest("I/O imbalance is detected, but no suitable migration candidate is found.");
@@ -24,6 +24,7 @@ import com.hazelcast.internal.util.ItemCounter;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 
@@ -35,6 +36,8 @@ import static com.hazelcast.internal.util.MapUtil.createHashMap;
  * {@link #removePipeline(MigratablePipeline)}
  */
 class LoadTracker {
+    private static final double HUNDRED = 100d;
+
     private final ILogger logger;
 
     //all known IO ioThreads. we assume no. of ioThreads is constant during a lifespan of a member
@@ -53,9 +56,20 @@ class LoadTracker {
     private final Set<MigratablePipeline> pipelines = new HashSet<>();
 
     private final LoadImbalance imbalance;
+    private final ToLongFunction<MigratablePipeline> loadFunction;
+
+    // the loads of the busiest and the least busy NioThread of the last calculation, read by
+    // the diagnostics
+    private volatile long lastMaximumLoad;
+    private volatile long lastMinimumLoad;
 
     LoadTracker(NioThread[] ioThreads, ILogger logger) {
+        this(ioThreads, logger, MigratablePipeline::load);
+    }
+
+    LoadTracker(NioThread[] ioThreads, ILogger logger, ToLongFunction<MigratablePipeline> loadFunction) {
         this.logger = logger;
+        this.loadFunction = loadFunction;
 
         this.ioThreads = new NioThread[ioThreads.length];
         System.arraycopy(ioThreads, 0, this.ioThreads, 0, ioThreads.length);
@@ -77,10 +91,36 @@ class LoadTracker {
         clearWorkingImbalance();
         updateNewWorkingImbalance();
         updateNewFinalImbalance();
+        publishImbalance();
         printDebugTable();
         return imbalance;
     }
 
+    /**
+     * Returns the difference between the loads of the busiest and the least
+     * busy NioThread as a percentage of the load of the busiest NioThread,
+     * as calculated by the last {@link #updateImbalance()}.
+     * <p>
+     * This method is thread-safe.
+     *
+     * @return the imbalance percentage, 0 if there is no load
+     */
+    double imbalancePercentage() {
+        long max = lastMaximumLoad;
+        long min = lastMinimumLoad;
+        return max <= 0 ? 0 : HUNDRED * (max - min) / max;
+    }
+
+    private void publishImbalance() {
+        if (imbalance.srcOwner == null || imbalance.dstOwner == null) {
+            lastMaximumLoad = 0;
+            lastMinimumLoad = 0;
+        } else {
+            lastMaximumLoad = imbalance.maximumLoad;
+            lastMinimumLoad = imbalance.minimumLoad;
+        }
+    }
+
     // just for testing
     Set<MigratablePipeline> getPipelines() {
         return pipelines;
@@ -139,7 +179,7 @@ class LoadTracker {
     }
 
     private long getLoadSinceLastCheck(MigratablePipeline pipeline) {
-        long load = pipeline.load();
+        long load = loadFunction.applyAsLong(pipeline);
         long lastLoad = lastLoadCounter.getAndSet(pipeline, load);
         return load - lastLoad;
     }
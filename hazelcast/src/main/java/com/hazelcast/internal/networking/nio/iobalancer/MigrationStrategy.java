@@ -41,4 +41,15 @@ interface MigrationStrategy {
      * @return Handler to migrate or <code>null</code> if no suitable candidate is found
      */
     MigratablePipeline findPipelineToMigrate(LoadImbalance imbalance);
+
+    /**
+     * Gets the total load recorded by a {@link MigratablePipeline pipeline}.
+     * The imbalance is calculated from the load recorded since the previous
+     * check.
+     *
+     * @return the total load recorded by the pipeline
+     */
+    default long load(MigratablePipeline pipeline) {
+        return pipeline.load();
+    }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nio;
+
+import static com.hazelcast.internal.nio.Bits.readIntL;
+
+/**
+ * Compresses and decompresses byte arrays in the LZ4 block format.
+ * <p>
+ * A block is a sequence of sequences; every sequence has a token byte with
+ * the number of literals in the high 4 bits and the length of the match in the
+ * low 4 bits, the literals, and the match as a 2 byte little endian offset
+ * back into the decompressed bytes. A length that doesn't fit in 4 bits is
+ * continued in the following bytes. The last sequence only has literals.
+ * <p>
+ * The compression is greedy: it looks up the previous position of the next
+ * 4 bytes in a hash table and emits a match if the bytes at that position
+ * are equal. It favours speed over the compression ratio, so that compressing
+ * costs less than writing the saved bytes to the network.
+ * <p>
+ * The decompression checks the bounds of every sequence, so a malformed
+ * block fails with an {@link IllegalArgumentException} instead of reading or
+ * writing outside the arrays.
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+public final class LZ4Block {
+
+    private static final int MIN_MATCH = 4;
+    // the last 5 bytes are always literals
+    private static final int LAST_LITERALS = 5;
+    // a match must start at least 12 bytes before the end of the block
+    private static final int MATCH_FIND_LIMIT = 12;
+    private static final int MAX_DISTANCE = 0xFFFF;
+    private static final int RUN_MASK = 0xF;
+    private static final int HASH_LOG = 12;
+    // the search skips faster over the bytes without matches, 1 byte more per 64 missed bytes
+    private static final int SKIP_TRIGGER = 6;
+
+    private LZ4Block() {
+    }
+
+    /**
+     * Returns the maximum length of the compressed block of the given
+     * number of bytes.
+     */
+    public static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Creates a hash table for {@link #compress}. The hash table can be reused
+     * for subsequent compressions, it doesn't need to be cleared.
+     */
+    public static int[] newHashTable() {
+        return new int[1 << HASH_LOG];
+    }
+
+    /**
+     * Compresses the given bytes.
+     *
+     * @param src       the bytes to compress
+     * @param srcOff    the offset of the bytes to compress
+     * @param srcLen    the number of bytes to compress
+     * @param dst       the array to write the block to, with at least
+     *                  {@link #maxCompressedLength(int)} bytes after the offset
+     * @param dstOff    the offset to write the block at
+     * @param hashTable the hash table created by {@link #newHashTable()}
+     * @return the length of the block
+     */
+    public static int compress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int[] hashTable) {
+        int srcEnd = srcOff + srcLen;
+        int matchFindLimit = srcEnd - MATCH_FIND_LIMIT;
+        int matchLimit = srcEnd - LAST_LITERALS;
+
+        int dp = dstOff;
+        int anchor = srcOff;
+        int sp = srcOff;
+        while (sp < matchFindLimit) {
+            int sequence = readIntL(src, sp);
+            int hash = hash(sequence);
+            int ref = hashTable[hash];
+            hashTable[hash] = sp;
+            // the hash table may contain the positions of a previous compression, so the
+            // position is checked to be before the current position in the current bytes
+            if (ref < srcOff || ref >= sp || sp - ref > MAX_DISTANCE || readIntL(src, ref) != sequence) {
+                sp += 1 + ((sp - anchor) >>> SKIP_TRIGGER);
+                continue;
+            }
+
+            // extend the match backwards over the pending literals
+            while (sp > anchor && ref > srcOff && src[sp - 1] == src[ref - 1]) {
+                sp--;
+                ref--;
+            }
+            int matchLength = MIN_MATCH;
+            while (sp + matchLength < matchLimit && src[sp + matchLength] == src[ref + matchLength]) {
+                matchLength++;
+            }
+
+            dp = writeSequence(src, anchor, sp - anchor, sp - ref, matchLength, dst, dp);
+            sp += matchLength;
+            anchor = sp;
+        }
+
+        dp = writeLiterals(src, anchor, srcEnd - anchor, dst, dp, 0);
+        return dp - dstOff;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (Integer.SIZE - HASH_LOG);
+    }
+
+    private static int writeSequence(byte[] src, int literalsOff, int literalsLength, int offset, int matchLength,
+                                     byte[] dst, int dp) {
+        int matchToken = Math.min(matchLength - MIN_MATCH, RUN_MASK);
+        dp = writeLiterals(src, literalsOff, literalsLength, dst, dp, matchToken);
+
+        dst[dp++] = (byte) offset;
+        dst[dp++] = (byte) (offset >>> 8);
+        if (matchToken == RUN_MASK) {
+            dp = writeLength(matchLength - MIN_MATCH - RUN_MASK, dst, dp);
+        }
+        return dp;
+    }
+
+    private static int writeLiterals(byte[] src, int literalsOff, int literalsLength, byte[] dst, int dp, int matchToken) {
+        int literalsToken = Math.min(literalsLength, RUN_MASK);
+        dst[dp++] = (byte) (literalsToken << 4 | matchToken);
+        if (literalsToken == RUN_MASK) {
+            dp = writeLength(literalsLength - RUN_MASK, dst, dp);
+        }
+        System.arraycopy(src, literalsOff, dst, dp, literalsLength);
+        return dp + literalsLength;
+    }
+
+    private static int writeLength(int length, byte[] dst, int dp) {
+        while (length >= 0xFF) {
+            dst[dp++] = (byte) 0xFF;
+            length -= 0xFF;
+        }
+        dst[dp++] = (byte) length;
+        return dp;
+    }
+
+    /**
+     * Decompresses the given block.
+     *
+     * @param src    the block
+     * @param srcOff the offset of the block
+     * @param srcLen the length of the block
+     * @param dst    the array to write the decompressed bytes to
+     * @param dstOff the offset to write the decompressed bytes at
+     * @param dstLen the number of decompressed bytes
+     * @throws IllegalArgumentException if the block is malformed, or it doesn't
+     *                                  decompress to the given number of bytes
+     */
+    public static void decompress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int dstLen) {
+        int srcEnd = srcOff + srcLen;
+        int dstEnd = dstOff + dstLen;
+        int sp = srcOff;
+        int dp = dstOff;
+        for (; ; ) {
+            check(sp < srcEnd);
+            int token = src[sp++] & 0xFF;
+
+            int literalsLength = token >>> 4;
+            if (literalsLength == RUN_MASK) {
+                literalsLength = readLength(src, sp, srcEnd, literalsLength);
+                sp = skipLength(src, sp);
+            }
+            check(literalsLength <= srcEnd - sp && literalsLength <= dstEnd - dp);
+            System.arraycopy(src, sp, dst, dp, literalsLength);
+            sp += literalsLength;
+            dp += literalsLength;
+            if (sp == srcEnd) {
+                // the last sequence only has literals
+                break;
+            }
+
+            check(srcEnd - sp >= 2);
+            int offset = (src[sp] & 0xFF) | (src[sp + 1] & 0xFF) << 8;
+            sp += 2;
+            check(offset > 0 && offset <= dp - dstOff);
+
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                matchLength = readLength(src, sp, srcEnd, matchLength);
+                sp = skipLength(src, sp);
+            }
+            matchLength += MIN_MATCH;
+            check(matchLength <= dstEnd - dp);
+            copyMatch(dst, dp - offset, dp, matchLength);
+            dp += matchLength;
+        }
+        check(dp == dstEnd);
+    }
+
+    private static int readLength(byte[] src, int sp, int srcEnd, int length) {
+        int b;
+        do {
+            check(sp < srcEnd);
+            b = src[sp++] & 0xFF;
+            length += b;
+            // a length larger than any array is malformed; this also prevents an overflow
+            check(length >= 0);
+        } while (b == 0xFF);
+        return length;
+    }
+
+    private static int skipLength(byte[] src, int sp) {
+        // the bytes have been checked by readLength
+        while (src[sp] == (byte) 0xFF) {
+            sp++;
+        }
+        return sp + 1;
+    }
+
+    private static void copyMatch(byte[] dst, int ref, int dp, int length) {
+        if (dp - ref >= length) {
+            System.arraycopy(dst, ref, dst, dp, length);
+        } else {
+            // the match overlaps the bytes it copies, e.g. a run of the same byte
+            for (int k = 0; k < length; k++) {
+                dst[dp + k] = dst[ref + k];
+            }
+        }
+    }
+
+    private static void check(boolean condition) {
+        if (!condition) {
+            throw new IllegalArgumentException("Malformed LZ4 block");
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.internal.nio;
 import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.tpcengine.iobuffer.IOBuffer;
 
 import static com.hazelcast.internal.nio.PacketIOHelper.HEADER_SIZE;
 
@@ -45,6 +46,8 @@ public final class Packet extends HeapData implements OutboundFrame {
     // 2. Packet type (bits 0, 2, 5)
     // 3. Flags specific to a given packet type (bits 1, 6)
     // 4. 4.x flag (bit 7)
+    // 5. COMPRESSED (bit 3)
+    // 6. FRAGMENT (bit 8)
 
     // 1. URGENT flag
 
@@ -101,6 +104,24 @@ public final class Packet extends HeapData implements OutboundFrame {
      */
     public static final int FLAG_4_0 = 1 << 7;
 
+    // 5. COMPRESSED flag
+
+    /**
+     * Marks the payload of the packet as compressed on the connection it is
+     * received from. The flag is removed when the packet is decompressed, so
+     * it is never raised on a packet handed over to the rest of the system.
+     */
+    public static final int FLAG_COMPRESSED = 1 << 3;
+
+    // 6. FRAGMENT flag
+
+    /**
+     * Marks the packet as a fragment of a larger packet on the connection it
+     * is received from. The flag is removed when the packet is reassembled, so
+     * it is never raised on a packet handed over to the rest of the system.
+     */
+    public static final int FLAG_FRAGMENT = 1 << 8;
+
     //            END OF HEADER FLAG SECTION
 
 
@@ -109,6 +130,9 @@ public final class Packet extends HeapData implements OutboundFrame {
 
     private int partitionId;
     private transient ServerConnection conn;
+    // the pooled buffer the payload is read into, null if the payload isn't pooled
+    private transient IOBuffer buffer;
+    private int size;
 
     public Packet() {
         raiseFlags(FLAG_4_0);
@@ -124,6 +148,50 @@ public final class Packet extends HeapData implements OutboundFrame {
         raiseFlags(FLAG_4_0);
     }
 
+    /**
+     * Creates a packet with a payload read into a pooled buffer. The payload
+     * is the first {@code size} bytes of the backing array of the buffer.
+     * <p>
+     * The packet holds a reference to the buffer until it is {@link #release() released}.
+     *
+     * @param buffer      the pooled heap buffer holding the payload
+     * @param size        the size of the payload
+     * @param partitionId the partition ID
+     */
+    public Packet(IOBuffer buffer, int size, int partitionId) {
+        this(buffer.byteBuffer().array(), partitionId);
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * Checks if the payload of this packet is held by a pooled buffer.
+     *
+     * @return {@code true} if the payload is pooled, {@code false} otherwise.
+     */
+    public boolean isPooled() {
+        return buffer != null;
+    }
+
+    /**
+     * Releases the pooled buffer holding the payload of this packet, so it can
+     * be reused for another packet. The payload of the packet must not be
+     * accessed after the release. Does nothing if the payload isn't pooled.
+     */
+    public void release() {
+        IOBuffer buffer0 = buffer;
+        if (buffer0 != null) {
+            buffer = null;
+            payload = null;
+            buffer0.release();
+        }
+    }
+
+    @Override
+    public int totalSize() {
+        return buffer != null ? size : super.totalSize();
+    }
+
     /**
      * Gets the Connection this Packet was send with.
      *
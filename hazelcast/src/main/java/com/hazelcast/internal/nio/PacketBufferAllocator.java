@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nio;
+
+import com.hazelcast.internal.tpcengine.iobuffer.ConcurrentIOBufferAllocator;
+import com.hazelcast.internal.tpcengine.iobuffer.IOBuffer;
+
+/**
+ * The allocator of the pooled heap buffers the payloads of the large inbound
+ * operation packets are read into, see {@link PacketIOHelper}.
+ * <p>
+ * The buffers are allocated by the IO threads and released by the operation
+ * threads, so the pooling is done by a {@link ConcurrentIOBufferAllocator}.
+ * Its pool belongs to this allocator and only holds heap buffers, which
+ * {@link PacketIOHelper} relies on to read into their backing arrays. The pool
+ * is grown lazily, so an IO thread only allocates the buffers it actually uses.
+ * A buffer that grew larger than {@link #MAX_RETAINED_BUFFER_SIZE} to hold a
+ * very large payload is not returned to the pool, so that the pool doesn't
+ * retain a lot of memory after a burst of very large packets.
+ * <p>
+ * A buffer that is never released, e.g. because its packet is dropped, is just
+ * garbage collected.
+ */
+public class PacketBufferAllocator extends ConcurrentIOBufferAllocator {
+
+    /**
+     * The maximum capacity of the buffers returned to the pool.
+     */
+    public static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * @param minSize the initial capacity of the buffers
+     */
+    public PacketBufferAllocator(int minSize) {
+        super(minSize, false);
+    }
+
+    @Override
+    public void free(IOBuffer buf) {
+        if (buf.byteBuffer().capacity() <= MAX_RETAINED_BUFFER_SIZE) {
+            super.free(buf);
+        }
+    }
+}
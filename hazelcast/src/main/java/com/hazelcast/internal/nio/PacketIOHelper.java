@@ -16,11 +16,18 @@
 
 package com.hazelcast.internal.nio;
 
+import com.hazelcast.internal.tpcengine.iobuffer.IOBuffer;
+import com.hazelcast.internal.tpcengine.iobuffer.IOBufferAllocator;
+
 import java.nio.ByteBuffer;
 
 import static com.hazelcast.internal.nio.Bits.BYTE_SIZE_IN_BYTES;
 import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
 import static com.hazelcast.internal.nio.Bits.SHORT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.nio.Packet.FLAG_FRAGMENT;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_CONTROL;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
 import static com.hazelcast.internal.nio.Packet.VERSION;
 
 /**
@@ -34,16 +41,39 @@ import static com.hazelcast.internal.nio.Packet.VERSION;
  * write at the same time, you need to have 2 instances.
  * <p>
  * A {@link PacketIOHelper} is designed to be reused.
+ * <p>
+ * A reading {@link PacketIOHelper} can read the payloads of the large operation packets into pooled
+ * buffers instead of allocating a new array for every packet. Such a packet is {@link Packet#isPooled() pooled}
+ * and its buffer is returned to the pool when the operation is done with it, see {@link Packet#release()}.
  */
 public class PacketIOHelper {
     static final int HEADER_SIZE = BYTE_SIZE_IN_BYTES + SHORT_SIZE_IN_BYTES + INT_SIZE_IN_BYTES + INT_SIZE_IN_BYTES;
 
+    private final IOBufferAllocator allocator;
+    private final int poolingThreshold;
     private int valueOffset;
     private int size;
     private boolean headerComplete;
     private char flags;
     private int partitionId;
     private byte[] payload;
+    private IOBuffer buffer;
+
+    public PacketIOHelper() {
+        this(null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@link PacketIOHelper} that reads the payloads of the operation packets of at least
+     * {@code poolingThreshold} bytes into buffers of the given allocator.
+     *
+     * @param allocator        the allocator of the heap buffers, or {@code null} to not pool any payload
+     * @param poolingThreshold the minimum size of the pooled payloads
+     */
+    public PacketIOHelper(IOBufferAllocator allocator, int poolingThreshold) {
+        this.allocator = allocator;
+        this.poolingThreshold = allocator == null ? Integer.MAX_VALUE : poolingThreshold;
+    }
 
     /**
      * Writes the packet data to the supplied {@code ByteBuffer}, up to the buffer's limit. If it returns {@code false},
@@ -58,11 +88,8 @@ public class PacketIOHelper {
                 return false;
             }
 
-            dst.put(VERSION);
-            dst.putChar(packet.getFlags());
-            dst.putInt(packet.getPartitionId());
+            writeHeader(packet, dst);
             size = packet.totalSize();
-            dst.putInt(size);
             headerComplete = true;
         }
 
@@ -74,6 +101,29 @@ public class PacketIOHelper {
         }
     }
 
+    /**
+     * Writes only the header of the packet to the supplied {@code ByteBuffer}, the payload of the packet
+     * ({@link Packet#toByteArray()}) is written separately by the caller right after the header.
+     *
+     * @param dst the destination byte buffer
+     * @return {@code true} if the header is now written out; {@code false} if this helper is in the middle
+     * of writing a packet or the buffer doesn't have enough room for the header.
+     */
+    public boolean writeHeaderTo(Packet packet, ByteBuffer dst) {
+        if (headerComplete || dst.remaining() < HEADER_SIZE) {
+            return false;
+        }
+        writeHeader(packet, dst);
+        return true;
+    }
+
+    private static void writeHeader(Packet packet, ByteBuffer dst) {
+        dst.put(VERSION);
+        dst.putChar(packet.getFlags());
+        dst.putInt(packet.getPartitionId());
+        dst.putInt(packet.totalSize());
+    }
+
     private boolean writeValue(Packet packet, ByteBuffer dst) {
         if (size > 0) {
             // the number of bytes that can be written to the bb.
@@ -131,7 +181,9 @@ public class PacketIOHelper {
         }
 
         if (readValue(src)) {
-            Packet packet = new Packet(payload, partitionId).resetFlagsTo(flags);
+            Packet packet = buffer != null
+                    ? new Packet(buffer, size, partitionId).resetFlagsTo(flags)
+                    : new Packet(payload, partitionId).resetFlagsTo(flags);
             reset();
             return packet;
         } else {
@@ -142,12 +194,18 @@ public class PacketIOHelper {
     private void reset() {
         headerComplete = false;
         payload = null;
+        buffer = null;
         valueOffset = 0;
     }
 
     private boolean readValue(ByteBuffer src) {
         if (payload == null) {
-            payload = new byte[size];
+            if (size >= poolingThreshold && isPoolable(flags)) {
+                buffer = allocator.allocate(size);
+                payload = buffer.byteBuffer().array();
+            } else {
+                payload = new byte[size];
+            }
         }
 
         if (size > 0) {
@@ -177,4 +235,10 @@ public class PacketIOHelper {
         return true;
     }
 
+    // only the operations are pooled; they are deserialized and run by a single operation
+    // thread, which releases the packet once the operation is done with it
+    private static boolean isPoolable(char flags) {
+        return Packet.Type.fromFlags(flags) == Packet.Type.OPERATION
+                && (flags & (FLAG_OP_RESPONSE | FLAG_OP_CONTROL | FLAG_COMPRESSED | FLAG_FRAGMENT)) == 0;
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.nio.LZ4Block;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_COMPRESSED_PACKETS_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_COMPRESSION_BYTES_IN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_COMPRESSION_BYTES_OUT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_COMPRESSION_RATIO;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_COMPRESSION_TIME_NANOS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_DECOMPRESSED_PACKETS_READ;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_DECOMPRESSION_BYTES_IN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_DECOMPRESSION_BYTES_OUT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_DECOMPRESSION_TIME_NANOS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_INCOMPRESSIBLE_PACKETS_WRITTEN;
+import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
+/**
+ * Compresses the packets written to a channel and decompresses the packets
+ * read from it.
+ * <p>
+ * A compressed packet has the {@link Packet#FLAG_COMPRESSED} flag raised, and
+ * its payload is the length of the original payload followed by the original
+ * payload compressed as a {@link LZ4Block}. Since every packet is compressed
+ * on its own, the compressed and the uncompressed packets can be freely mixed
+ * on a channel.
+ * <p>
+ * The packets are only compressed once the compression is {@link #enable enabled},
+ * which happens when the member on the other side of the channel announced
+ * it can decompress them. The compressed packets are always decompressed.
+ * <p>
+ * The compression is done by the {@link PacketEncoder} and the decompression
+ * by the {@link PacketDecoder}; each is only used by the IO thread of its
+ * pipeline.
+ */
+public final class PacketCompression {
+
+    /**
+     * The minimum threshold; the smaller payloads barely compress.
+     */
+    static final int MIN_THRESHOLD = 64;
+
+    // the maximum size of the retained compression buffer; the buffer for larger payloads
+    // is discarded after the compression, so that an idle channel doesn't hold on to it
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+    private static final int MAX_EXPANSION = 255;
+    private static final double HUNDRED = 100d;
+
+    @Probe(name = TCP_METRIC_CONNECTION_COMPRESSED_PACKETS_WRITTEN, level = DEBUG)
+    final SwCounter compressedPacketsWritten = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_INCOMPRESSIBLE_PACKETS_WRITTEN, level = DEBUG)
+    private final SwCounter incompressiblePacketsWritten = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_COMPRESSION_BYTES_IN, unit = BYTES, level = DEBUG)
+    private final SwCounter compressionBytesIn = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_COMPRESSION_BYTES_OUT, unit = BYTES, level = DEBUG)
+    private final SwCounter compressionBytesOut = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_COMPRESSION_TIME_NANOS, unit = NS, level = DEBUG)
+    private final SwCounter compressionTimeNanos = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_DECOMPRESSED_PACKETS_READ, level = DEBUG)
+    private final SwCounter decompressedPacketsRead = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_DECOMPRESSION_BYTES_IN, unit = BYTES, level = DEBUG)
+    private final SwCounter decompressionBytesIn = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_DECOMPRESSION_BYTES_OUT, unit = BYTES, level = DEBUG)
+    private final SwCounter decompressionBytesOut = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_DECOMPRESSION_TIME_NANOS, unit = NS, level = DEBUG)
+    private final SwCounter decompressionTimeNanos = newSwCounter();
+
+    // the minimum payload size of the compressed packets, Integer.MAX_VALUE if the compression is disabled
+    private volatile int threshold = Integer.MAX_VALUE;
+
+    // only used by the IO thread of the outbound pipeline
+    private int[] hashTable;
+    private byte[] buffer;
+
+    PacketCompression() {
+    }
+
+    /**
+     * Returns the compression of the given channel, and creates it if the
+     * channel doesn't have one yet.
+     */
+    @SuppressWarnings("unchecked")
+    public static PacketCompression of(Channel channel) {
+        return (PacketCompression) channel.attributeMap()
+                .computeIfAbsent(PacketCompression.class, key -> new PacketCompression());
+    }
+
+    /**
+     * Enables the compression of the packets with a payload of at least the
+     * given number of bytes.
+     */
+    public void enable(int threshold) {
+        this.threshold = Math.max(threshold, MIN_THRESHOLD);
+    }
+
+    public boolean isEnabled() {
+        return threshold != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Compresses the given packet.
+     * <p>
+     * The given packet is not modified, since it may be written to multiple
+     * channels.
+     *
+     * @return the compressed packet, or the given packet if the compression is
+     * disabled, the payload is smaller than the threshold or the payload doesn't
+     * get smaller
+     */
+    public Packet compress(Packet packet) {
+        int length = packet.totalSize();
+        if (length < threshold || packet.isFlagRaised(FLAG_COMPRESSED)) {
+            return packet;
+        }
+
+        long startNanos = System.nanoTime();
+        if (hashTable == null) {
+            hashTable = LZ4Block.newHashTable();
+        }
+        int maxLength = INT_SIZE_IN_BYTES + LZ4Block.maxCompressedLength(length);
+        byte[] dst = buffer != null && buffer.length >= maxLength ? buffer : new byte[maxLength];
+        int compressedLength = INT_SIZE_IN_BYTES
+                + LZ4Block.compress(packet.toByteArray(), 0, length, dst, INT_SIZE_IN_BYTES, hashTable);
+        if (dst.length <= MAX_RETAINED_BUFFER_SIZE) {
+            buffer = dst;
+        }
+
+        Packet compressed = null;
+        if (compressedLength < length) {
+            writeIntB(dst, 0, length);
+            byte[] payload = new byte[compressedLength];
+            System.arraycopy(dst, 0, payload, 0, compressedLength);
+            compressed = new Packet(payload, packet.getPartitionId()).resetFlagsTo(packet.getFlags() | FLAG_COMPRESSED);
+        }
+        compressionTimeNanos.inc(System.nanoTime() - startNanos);
+        compressionBytesIn.inc(length);
+        if (compressed == null) {
+            incompressiblePacketsWritten.inc();
+            compressionBytesOut.inc(length);
+            return packet;
+        }
+        compressedPacketsWritten.inc();
+        compressionBytesOut.inc(compressedLength);
+        return compressed;
+    }
+
+    /**
+     * Decompresses the given packet.
+     *
+     * @return the decompressed packet, or the given packet if it isn't compressed
+     * @throws IllegalArgumentException if the payload of the packet is malformed
+     */
+    public Packet decompress(Packet packet) {
+        if (!packet.isFlagRaised(FLAG_COMPRESSED)) {
+            return packet;
+        }
+
+        long startNanos = System.nanoTime();
+        if (packet.totalSize() < INT_SIZE_IN_BYTES) {
+            throw new IllegalArgumentException("Malformed compressed packet");
+        }
+        byte[] src = packet.toByteArray();
+        int length = readIntB(src, 0);
+        // a byte of a block decompresses to at most 255 bytes, a larger length would
+        // only allocate a large array before the decompression fails
+        if (length < 0 || length / MAX_EXPANSION > src.length) {
+            throw new IllegalArgumentException("Malformed compressed packet");
+        }
+        byte[] payload = new byte[length];
+        LZ4Block.decompress(src, INT_SIZE_IN_BYTES, src.length - INT_SIZE_IN_BYTES, payload, 0, length);
+        Packet decompressed = new Packet(payload, packet.getPartitionId())
+                .resetFlagsTo(packet.getFlags() & ~FLAG_COMPRESSED);
+
+        decompressionTimeNanos.inc(System.nanoTime() - startNanos);
+        decompressedPacketsRead.inc();
+        decompressionBytesIn.inc(src.length);
+        decompressionBytesOut.inc(length);
+        return decompressed;
+    }
+
+    /**
+     * Returns the size of the compressed payloads as a percentage of the size
+     * of the original payloads.
+     */
+    @Probe(name = TCP_METRIC_CONNECTION_COMPRESSION_RATIO, unit = PERCENT, level = DEBUG)
+    public double compressionRatio() {
+        long bytesIn = compressionBytesIn.get();
+        return bytesIn == 0 ? HUNDRED : HUNDRED * compressionBytesOut.get() / bytesIn;
+    }
+}
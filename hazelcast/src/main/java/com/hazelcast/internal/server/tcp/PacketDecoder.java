@@ -22,19 +22,24 @@ import com.hazelcast.internal.networking.nio.InboundHandlerWithCounters;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.nio.PacketIOHelper;
 import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.tpcengine.iobuffer.IOBufferAllocator;
 
 import java.nio.ByteBuffer;
 import java.util.function.Consumer;
 
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.nio.Packet.FLAG_FRAGMENT;
 import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
 
 /**
  * The {@link InboundHandler} for member to member communication.
  * <p>
  * It reads as many packets from the src {@link ByteBuffer} as possible, and
- * each of the Packets is sent to the destination.
+ * each of the Packets is sent to the destination. The fragments are
+ * reassembled by the {@link PacketFragmentation} of the channel, and the
+ * compressed packets are decompressed by its {@link PacketCompression}.
  *
  * @see Consumer
  * @see PacketEncoder
@@ -42,16 +47,32 @@ import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
 public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consumer<Packet>> {
 
     protected final ServerConnection connection;
-    private final PacketIOHelper packetReader = new PacketIOHelper();
+    private final PacketIOHelper packetReader;
+    private PacketCompression compression;
+    private PacketFragmentation fragmentation;
 
     public PacketDecoder(ServerConnection connection, Consumer<Packet> dst) {
+        this(connection, dst, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a decoder that reads the payloads of the operation packets of at
+     * least {@code poolingThreshold} bytes into buffers of the given allocator.
+     *
+     * @see PacketIOHelper#PacketIOHelper(IOBufferAllocator, int)
+     */
+    public PacketDecoder(ServerConnection connection, Consumer<Packet> dst,
+                         IOBufferAllocator allocator, int poolingThreshold) {
         this.connection = connection;
         this.dst = dst;
+        this.packetReader = new PacketIOHelper(allocator, poolingThreshold);
     }
 
     @Override
     public void handlerAdded() {
         initSrcBuffer();
+        compression = PacketCompression.of(channel);
+        fragmentation = PacketFragmentation.of(channel);
     }
 
     @Override
@@ -73,14 +94,41 @@ public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consum
     }
 
     protected void onPacketComplete(Packet packet) {
+        if (packet.isFlagRaised(FLAG_FRAGMENT)) {
+            packet = reassemble(packet);
+            if (packet == null) {
+                // more fragments are needed
+                return;
+            }
+        }
+
         if (packet.isFlagRaised(FLAG_URGENT)) {
             priorityPacketsRead.inc();
         } else {
             normalPacketsRead.inc();
         }
 
+        if (packet.isFlagRaised(FLAG_COMPRESSED)) {
+            packet = decompress(packet);
+        }
         packet.setConn(connection);
 
         dst.accept(packet);
     }
+
+    private Packet reassemble(Packet fragment) {
+        if (fragmentation == null) {
+            // the decoder isn't part of a channel
+            fragmentation = new PacketFragmentation();
+        }
+        return fragmentation.reassemble(fragment);
+    }
+
+    private Packet decompress(Packet packet) {
+        if (compression == null) {
+            // the decoder isn't part of a channel
+            compression = new PacketCompression();
+        }
+        return compression.decompress(packet);
+    }
 }
@@ -16,8 +16,10 @@
 
 package com.hazelcast.internal.server.tcp;
 
-import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.networking.GatheringOutboundHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.IOVector;
+import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.nio.PacketIOHelper;
 
@@ -36,27 +38,71 @@ import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
  * It makes use of a flyweight to allow the sharing of a packet-instance over
  * multiple connections. The flyweight contains the actual 'position' state of
  * what has been written.
+ * <p>
+ * When it is given an {@link IOVector}, it writes the headers and the small
+ * packets to the dst buffer, but references the payloads of the large packets
+ * in the vector instead of copying them into the dst buffer. The bytes
+ * referenced by a vector are bounded by the capacity of the dst buffer, so a
+ * single gathering write never references more than a regular write would.
+ * <p>
+ * Once the {@link PacketCompression} of the channel is enabled, the large
+ * packets are compressed before they are written. Once the
+ * {@link PacketFragmentation} of the channel is enabled, the packets still
+ * large after the compression are written as fragments, interleaved with the
+ * packets queued after them.
  *
  * @see PacketDecoder
  */
-public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer> {
+public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer> implements GatheringOutboundHandler {
+
+    /**
+     * The minimum payload size of the packets referenced in the vector, the
+     * smaller payloads are cheaper to copy than to write separately.
+     */
+    static final int GATHERING_PAYLOAD_THRESHOLD = 4096;
+
+    // the number of buffers a large packet may add: the region of the dst buffer
+    // before its payload, its payload and the region of the dst buffer after it
+    private static final int LARGE_PACKET_BUFFER_COUNT = 3;
 
     private final PacketIOHelper packetWriter = new PacketIOHelper();
+    private final Supplier<Packet> compressingSrc = this::nextCompressedPacket;
 
+    private PacketCompression compression;
+    private PacketFragmentation fragmentation;
     private Packet packet;
+    private IOVector ioVector;
+    // the offset of the payload of the current packet written to the vector, -1 if the
+    // current packet is written to the dst buffer
+    private int payloadOffset = -1;
+    // the start of the region of the dst buffer not yet added to the vector
+    private int regionStart;
+    // the number of payload bytes that can still be added to the vector
+    private long budget;
 
     @Override
     public void handlerAdded() {
         initDstBuffer();
+        compression = PacketCompression.of(channel);
+        fragmentation = PacketFragmentation.of(channel);
+    }
+
+    @Override
+    public void ioVector(IOVector ioVector) {
+        this.ioVector = ioVector;
     }
 
     @Override
     public HandlerStatus onWrite() {
+        if (ioVector != null) {
+            return onWriteGathering();
+        }
+
         compactOrClear(dst);
         try {
             for (; ; ) {
                 if (packet == null) {
-                    packet = src.get();
+                    packet = nextPacket();
 
                     if (packet == null) {
                         // everything is processed, so we are done
@@ -76,4 +122,91 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
             dst.flip();
         }
     }
+
+    private Packet nextPacket() {
+        if (fragmentation != null && fragmentation.isEnabled()) {
+            return fragmentation.next(compressingSrc);
+        }
+        return nextCompressedPacket();
+    }
+
+    private Packet nextCompressedPacket() {
+        Packet next = src.get();
+        if (next != null && compression != null) {
+            next = compression.compress(next);
+        }
+        return next;
+    }
+
+    private HandlerStatus onWriteGathering() {
+        if (!ioVector.isEmpty()) {
+            // the dst buffer is referenced by the vector until the vector is written
+            return DIRTY;
+        }
+
+        dst.clear();
+        regionStart = 0;
+        budget = dst.capacity();
+        try {
+            for (; ; ) {
+                if (packet == null) {
+                    packet = nextPacket();
+
+                    if (packet == null) {
+                        // everything is processed, so we are done
+                        return CLEAN;
+                    }
+                }
+
+                if (writeToVector()) {
+                    // packet got written, lets see if another packet can be written
+                    packet = null;
+                } else {
+                    // the packet didn't get written completely, so we are done.
+                    return DIRTY;
+                }
+            }
+        } finally {
+            ioVector.offer(region(regionStart, dst.position()));
+            // the content of the dst buffer is written through the vector, so the dst buffer
+            // is left in reading mode without remaining bytes
+            dst.limit(dst.position());
+        }
+    }
+
+    private boolean writeToVector() {
+        if (payloadOffset < 0 && packet.totalSize() >= GATHERING_PAYLOAD_THRESHOLD) {
+            if (budget <= 0 || ioVector.remainingCapacity() < LARGE_PACKET_BUFFER_COUNT) {
+                return false;
+            }
+            if (packetWriter.writeHeaderTo(packet, dst)) {
+                payloadOffset = 0;
+            }
+        }
+
+        if (payloadOffset < 0) {
+            return packetWriter.writeTo(packet, dst);
+        }
+        if (budget <= 0) {
+            return false;
+        }
+
+        ioVector.offer(region(regionStart, dst.position()));
+        regionStart = dst.position();
+        int length = (int) Math.min(packet.totalSize() - payloadOffset, budget);
+        ioVector.offer(ByteBuffer.wrap(packet.toByteArray(), payloadOffset, length));
+        payloadOffset += length;
+        budget -= length;
+        if (payloadOffset < packet.totalSize()) {
+            return false;
+        }
+        payloadOffset = -1;
+        return true;
+    }
+
+    private ByteBuffer region(int start, int end) {
+        ByteBuffer region = dst.duplicate();
+        region.limit(end).position(start);
+        return region;
+    }
 }
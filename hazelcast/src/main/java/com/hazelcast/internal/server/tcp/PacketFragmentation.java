@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_FRAGMENTED_PACKETS_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_FRAGMENTS_READ;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_FRAGMENTS_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_REASSEMBLED_PACKETS_READ;
+import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.nio.Packet.FLAG_FRAGMENT;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
+/**
+ * Splits the large packets written to a channel into fragments and reassembles
+ * the fragments read from it.
+ * <p>
+ * A fragment has the {@link Packet#FLAG_FRAGMENT} flag raised, the other flags
+ * and the partition ID of the original packet, and its payload is the length
+ * of the original payload and the offset of the fragment in it, followed by
+ * the next part of the original payload.
+ * The fragments of a packet are written in order, and the fragments of the
+ * next packet are only written once all the fragments of the previous one
+ * are written, so the reader reassembles a single packet at a time.
+ * <p>
+ * Once a packet is split, the packets queued after it are written between
+ * its fragments, so they don't wait for the whole packet to be written. A
+ * packet only overtakes the split packets if that doesn't change the order
+ * the rest of the system relies on: it must be an operation, response or
+ * operation control packet that isn't for the partition of one of the
+ * packets it overtakes. The events and the Jet packets are ordered, so they
+ * stay behind the split packets.
+ * <p>
+ * The packets are only split once the fragmentation is {@link #enable enabled},
+ * which happens when the member on the other side of the channel announced
+ * it can reassemble them. The fragments are always reassembled.
+ * <p>
+ * The packets are split by the {@link PacketEncoder} and reassembled by the
+ * {@link PacketDecoder}; each is only used by the IO thread of its pipeline.
+ */
+public final class PacketFragmentation {
+
+    /**
+     * The minimum fragment size; smaller fragments add more headers than they
+     * save waiting time.
+     */
+    static final int MIN_FRAGMENT_SIZE = 1024;
+
+    // the length of the original payload and the offset of the fragment
+    private static final int FRAGMENT_HEADER_SIZE = 2 * INT_SIZE_IN_BYTES;
+
+    @Probe(name = TCP_METRIC_CONNECTION_FRAGMENTED_PACKETS_WRITTEN, level = DEBUG)
+    final SwCounter fragmentedPacketsWritten = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_FRAGMENTS_WRITTEN, level = DEBUG)
+    private final SwCounter fragmentsWritten = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_REASSEMBLED_PACKETS_READ, level = DEBUG)
+    private final SwCounter reassembledPacketsRead = newSwCounter();
+    @Probe(name = TCP_METRIC_CONNECTION_FRAGMENTS_READ, level = DEBUG)
+    private final SwCounter fragmentsRead = newSwCounter();
+
+    // the maximum number of payload bytes of a fragment, Integer.MAX_VALUE if the fragmentation is disabled
+    private volatile int fragmentSize = Integer.MAX_VALUE;
+
+    // only used by the IO thread of the outbound pipeline
+    // the split packets and the packets queued behind them, the head is the packet written next
+    private final ArrayDeque<Packet> pending = new ArrayDeque<>();
+    // the offset of the next fragment of the head of the pending packets
+    private int fragmentOffset;
+    // if the next packet is taken from the pending packets instead of the src
+    private boolean pendingTurn;
+
+    // only used by the IO thread of the inbound pipeline
+    private byte[] reassembled;
+    private int reassembledOffset;
+    private char reassembledFlags;
+    private int reassembledPartitionId;
+
+    PacketFragmentation() {
+    }
+
+    /**
+     * Returns the fragmentation of the given channel, and creates it if the
+     * channel doesn't have one yet.
+     */
+    public static PacketFragmentation of(Channel channel) {
+        return (PacketFragmentation) channel.attributeMap()
+                .computeIfAbsent(PacketFragmentation.class, key -> new PacketFragmentation());
+    }
+
+    /**
+     * Enables splitting the packets into fragments with a payload of at most
+     * the given number of bytes.
+     */
+    public void enable(int fragmentSize) {
+        this.fragmentSize = Math.max(fragmentSize, MIN_FRAGMENT_SIZE);
+    }
+
+    public boolean isEnabled() {
+        return fragmentSize != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the next packet or fragment to write. The packets written
+     * whole are taken from the given src as long as they may overtake the
+     * split packets, the pending packets and the src take turns otherwise.
+     *
+     * @param src the supplier of the packets to write
+     * @return the next packet or fragment, or {@code null} if there is
+     * nothing to write
+     */
+    public Packet next(Supplier<Packet> src) {
+        if (pending.isEmpty()) {
+            Packet packet = src.get();
+            if (packet == null || packet.totalSize() <= fragmentSize) {
+                return packet;
+            }
+            pending.add(packet);
+        } else if (!pendingTurn) {
+            Packet packet = src.get();
+            if (packet != null) {
+                if (packet.totalSize() <= fragmentSize && mayOvertakePending(packet)) {
+                    pendingTurn = true;
+                    return packet;
+                }
+                pending.add(packet);
+            }
+        }
+        pendingTurn = false;
+        return nextPending();
+    }
+
+    private boolean mayOvertakePending(Packet packet) {
+        if (packet.getPacketType() != Packet.Type.OPERATION) {
+            return false;
+        }
+        int partitionId = packet.getPartitionId();
+        if (partitionId < 0) {
+            // responses and generic operations aren't ordered
+            return true;
+        }
+        for (Packet pendingPacket : pending) {
+            if (pendingPacket.getPartitionId() == partitionId) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Packet nextPending() {
+        Packet packet = pending.peek();
+        int length = packet.totalSize();
+        if (length <= fragmentSize) {
+            // a small packet queued behind a split packet
+            return pending.poll();
+        }
+
+        int fragmentLength = Math.min(length - fragmentOffset, fragmentSize);
+        byte[] payload = new byte[FRAGMENT_HEADER_SIZE + fragmentLength];
+        writeIntB(payload, 0, length);
+        writeIntB(payload, INT_SIZE_IN_BYTES, fragmentOffset);
+        System.arraycopy(packet.toByteArray(), fragmentOffset, payload, FRAGMENT_HEADER_SIZE, fragmentLength);
+        Packet fragment = new Packet(payload, packet.getPartitionId()).resetFlagsTo(packet.getFlags() | FLAG_FRAGMENT);
+
+        fragmentsWritten.inc();
+        fragmentOffset += fragmentLength;
+        if (fragmentOffset == length) {
+            fragmentOffset = 0;
+            pending.poll();
+            fragmentedPacketsWritten.inc();
+        }
+        return fragment;
+    }
+
+    /**
+     * Reassembles the packet the given fragment is part of.
+     *
+     * @return the reassembled packet if the given fragment is its last
+     * fragment, {@code null} if more fragments are needed, or the given packet
+     * if it isn't a fragment
+     * @throws IllegalArgumentException if the fragment is malformed or doesn't
+     *                                  belong to the packet being reassembled
+     */
+    public Packet reassemble(Packet fragment) {
+        if (!fragment.isFlagRaised(FLAG_FRAGMENT)) {
+            return fragment;
+        }
+
+        int fragmentLength = fragment.totalSize() - FRAGMENT_HEADER_SIZE;
+        if (fragmentLength < 0) {
+            throw new IllegalArgumentException("Malformed packet fragment");
+        }
+        byte[] src = fragment.toByteArray();
+        int length = readIntB(src, 0);
+        int offset = readIntB(src, INT_SIZE_IN_BYTES);
+        char flags = (char) (fragment.getFlags() & ~FLAG_FRAGMENT);
+        if (!isNextFragment(length, offset, flags, fragment.getPartitionId())) {
+            throw new IllegalArgumentException("Packet fragment doesn't belong to the packet being reassembled");
+        }
+        if (length < 0 || fragmentLength > length - offset) {
+            throw new IllegalArgumentException("Malformed packet fragment");
+        }
+        if (reassembled == null) {
+            reassembled = new byte[length];
+            reassembledFlags = flags;
+            reassembledPartitionId = fragment.getPartitionId();
+        }
+
+        System.arraycopy(src, FRAGMENT_HEADER_SIZE, reassembled, reassembledOffset, fragmentLength);
+        reassembledOffset += fragmentLength;
+        fragmentsRead.inc();
+        if (reassembledOffset < length) {
+            return null;
+        }
+
+        Packet packet = new Packet(reassembled, reassembledPartitionId).resetFlagsTo(reassembledFlags);
+        reassembled = null;
+        reassembledOffset = 0;
+        reassembledPacketsRead.inc();
+        return packet;
+    }
+
+    private boolean isNextFragment(int length, int offset, char flags, int partitionId) {
+        if (reassembled == null) {
+            return offset == 0;
+        }
+        return length == reassembled.length && offset == reassembledOffset
+                && flags == reassembledFlags && partitionId == reassembledPartitionId;
+    }
+}
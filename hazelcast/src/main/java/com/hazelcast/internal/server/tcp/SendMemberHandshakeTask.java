@@ -29,6 +29,9 @@ import java.util.Collection;
 import java.util.EnumMap;
 import java.util.Map;
 
+import static com.hazelcast.internal.cluster.impl.MemberHandshake.COMPRESSION_LZ4;
+import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_COMPRESSION;
+import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_FRAGMENTATION;
 import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_PLANE_COUNT;
 import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_PLANE_INDEX;
 import static com.hazelcast.internal.cluster.impl.MemberHandshake.SCHEMA_VERSION_2;
@@ -74,7 +77,9 @@ public class SendMemberHandshakeTask implements Runnable {
                 reply,
                 serverContext.getThisUuid())
                 .addOption(OPTION_PLANE_COUNT, planeCount)
-                .addOption(OPTION_PLANE_INDEX, planeIndex);
+                .addOption(OPTION_PLANE_INDEX, planeIndex)
+                .addOption(OPTION_COMPRESSION, COMPRESSION_LZ4)
+                .addOption(OPTION_FRAGMENTATION, true);
         byte[] bytes = serverContext.getSerializationService().toBytes(memberHandshake);
         Packet packet = new Packet(bytes).setPacketType(Packet.Type.SERVER_CONTROL);
         connection.write(packet);
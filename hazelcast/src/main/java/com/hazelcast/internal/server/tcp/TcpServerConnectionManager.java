@@ -353,9 +353,18 @@ public class TcpServerConnectionManager extends TcpServerConnectionManagerBase
 
         for (TcpServerConnection connection : connections) {
             if (connection.getRemoteAddress() != null) {
-                context.collect(rootDescriptor
+                MetricDescriptor connectionDescriptor = rootDescriptor
                         .copy()
-                        .withDiscriminator(TCP_DISCRIMINATOR_ENDPOINT, connection.getRemoteAddress().toString()), connection);
+                        .withDiscriminator(TCP_DISCRIMINATOR_ENDPOINT, connection.getRemoteAddress().toString());
+                context.collect(connectionDescriptor, connection);
+                Object compression = connection.attributeMap().get(PacketCompression.class);
+                if (compression != null) {
+                    context.collect(connectionDescriptor.copy(), compression);
+                }
+                Object fragmentation = connection.attributeMap().get(PacketFragmentation.class);
+                if (fragmentation != null) {
+                    context.collect(connectionDescriptor.copy(), fragmentation);
+                }
             }
         }
 
@@ -36,6 +36,10 @@ import java.util.UUID;
 import java.util.logging.Level;
 
 import static com.hazelcast.spi.properties.ClusterProperty.CHANNEL_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_THRESHOLD_BYTES;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_FRAGMENTATION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_FRAGMENT_SIZE_BYTES;
 
 /**
  * The ServerControl is responsible for sending/receiving TcpServerControl messages.
@@ -48,6 +52,10 @@ public final class TcpServerControl {
     private final boolean unifiedEndpointManager;
     private final Set<ProtocolType> supportedProtocolTypes;
     private final int expectedPlaneCount;
+    private final boolean compressionEnabled;
+    private final int compressionThreshold;
+    private final boolean fragmentationEnabled;
+    private final int fragmentSize;
 
     public TcpServerControl(TcpServerConnectionManager connectionManager,
                             ServerContext serverContext,
@@ -59,6 +67,10 @@ public final class TcpServerControl {
         this.supportedProtocolTypes = supportedProtocolTypes;
         this.unifiedEndpointManager = connectionManager.getEndpointQualifier() == null;
         this.expectedPlaneCount = serverContext.properties().getInteger(CHANNEL_COUNT);
+        this.compressionEnabled = serverContext.properties().getBoolean(IO_COMPRESSION_ENABLED);
+        this.compressionThreshold = serverContext.properties().getInteger(IO_COMPRESSION_THRESHOLD_BYTES);
+        this.fragmentationEnabled = serverContext.properties().getBoolean(IO_FRAGMENTATION_ENABLED);
+        this.fragmentSize = serverContext.properties().getInteger(IO_FRAGMENT_SIZE_BYTES);
     }
 
     public void process(Packet packet) {
@@ -89,6 +101,14 @@ public final class TcpServerControl {
         // before we register the connection on the plane, we make sure the plane index is set on the connection
         // so that we can safely remove the connection from the plane.
         connection.setPlaneIndex(handshake.getPlaneIndex());
+        if (compressionEnabled && handshake.isCompressionSupported()) {
+            // the other member decompresses the packets, so the packets sent to it can be compressed
+            PacketCompression.of(connection.getChannel()).enable(compressionThreshold);
+        }
+        if (fragmentationEnabled && handshake.isFragmentationSupported()) {
+            // the other member reassembles the fragments, so the packets sent to it can be split
+            PacketFragmentation.of(connection.getChannel()).enable(fragmentSize);
+        }
         process(connection, handshake);
     }
 
@@ -59,7 +59,7 @@ public class HsaHeapMemoryManager implements MemoryManager {
     public long getUsedMemory() {
         long used = 0;
         for (long[] block : blocks) {
-            used += (block != null ? block.length : 0);
+            used += (block != null ? (long) block.length << ADDR_TO_ARRAY_INDEX_SHIFT : 0);
         }
         return used;
     }
@@ -90,7 +90,7 @@ public class HsaHeapMemoryManager implements MemoryManager {
         public long allocate(long size) {
             assert size > 0 && size <= Integer.MAX_VALUE && isAligned(size) : "HsaHeapAllocator.allocate(" + size + ")";
             final int emptyBlockIndex = findEmptyBlockIndex();
-            blocks[emptyBlockIndex] = new long[(int) size];
+            blocks[emptyBlockIndex] = new long[(int) (size >> ADDR_TO_ARRAY_INDEX_SHIFT)];
             return ((long) emptyBlockIndex << BLOCK_INDEX_BIT) + LOWEST_ADDRESS;
         }
 
@@ -103,7 +103,8 @@ public class HsaHeapMemoryManager implements MemoryManager {
         public void free(long address, long size) {
             final int blockIndex = addrToBlockIndex(address);
             final long[] block = blocks[blockIndex];
-            assert addrToArrayIndex(address) == 0 && block != null && block.length == size
+            assert addrToArrayIndex(address) == 0 && block != null
+                    && (long) block.length << ADDR_TO_ARRAY_INDEX_SHIFT == size
                     : String.format("Misplaced HsaHeapAllocator.free(%x, %,d)", address, size);
             blocks[blockIndex] = null;
         }
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static java.util.concurrent.locks.LockSupport.park;
+import static java.util.concurrent.locks.LockSupport.unpark;
+
+/**
+ * Multi producer single consumer blocking queue backed by linked arrays, so unlike the {@link MPSCQueue} offering an item
+ * doesn't allocate a node; an array is allocated once per chunk size offered items. Just like the {@link MPSCQueue}, this
+ * queue has a configurable {@link IdleStrategy} so if there is nothing to take, the consumer thread can idle instead of
+ * blocking; if it idles, the offering threads don't need to unpark it.
+ * <p>
+ * Like the {@link ManyToOneConcurrentArrayQueue}, an offering thread claims a sequence and then sets the item in the array
+ * slot of the sequence; but the queue is unbounded: when the claimed sequence is past the last array, the offering thread
+ * links a new array. The consumer takes the items in the order of their sequence, so the items offered by a thread are
+ * taken in the order they got offered.
+ *
+ * @param <E> the type of elements held in this collection
+ */
+public final class MPSCArrayQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MPSCArrayQueue, Chunk> PRODUCER_CHUNK =
+            AtomicReferenceFieldUpdater.newUpdater(MPSCArrayQueue.class, Chunk.class, "producerChunk");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MPSCArrayQueue> TAIL =
+            AtomicLongFieldUpdater.newUpdater(MPSCArrayQueue.class, "tail");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MPSCArrayQueue> HEAD =
+            AtomicLongFieldUpdater.newUpdater(MPSCArrayQueue.class, "head");
+
+    private final int chunkSize;
+    private final IdleStrategy idleStrategy;
+
+    // the last linked chunk known by the offering threads; it only moves forward
+    private volatile Chunk<E> producerChunk;
+    private volatile long tail;
+    private volatile long head;
+    private volatile boolean consumerBlocked;
+
+    private Chunk<E> consumerChunk;
+    private Thread consumerThread;
+
+    /**
+     * Creates a new {@link MPSCArrayQueue} with the provided chunk size and {@link IdleStrategy}.
+     *
+     * @param chunkSize    the length of the arrays holding the items.
+     * @param idleStrategy the idleStrategy. If null, the consumer will block.
+     * @throws IllegalArgumentException when chunkSize is not positive.
+     */
+    public MPSCArrayQueue(int chunkSize, IdleStrategy idleStrategy) {
+        this.chunkSize = checkPositive("chunkSize", chunkSize);
+        this.idleStrategy = idleStrategy;
+        this.consumerChunk = new Chunk<>(0, chunkSize);
+        this.producerChunk = consumerChunk;
+    }
+
+    /**
+     * Sets the consumer thread.
+     * <p>
+     * The consumer thread is needed for blocking, so that an offering thread knows which thread
+     * to wakeup. There can only be a single consumerThread and this method should be called
+     * before the queue is safely published. It will not provide a happens before relation on
+     * its own.
+     *
+     * @param consumerThread the consumer thread.
+     * @throws NullPointerException when consumerThread null.
+     */
+    public void setConsumerThread(Thread consumerThread) {
+        this.consumerThread = checkNotNull(consumerThread, "consumerThread can't be null");
+    }
+
+    @Override
+    public boolean offer(E item) {
+        checkNotNull(item, "item can't be null");
+
+        // the chunk is read before the sequence is claimed, so it can't be past the chunk of the sequence
+        Chunk<E> chunk = producerChunk;
+        long sequence = TAIL.getAndIncrement(this);
+        chunk = chunkOf(chunk, sequence);
+        chunk.items.lazySet((int) (sequence - chunk.firstSequence), item);
+
+        // the sequence has been claimed, so either this thread sees the consumer blocked
+        // or the consumer sees the queue isn't empty
+        if (consumerBlocked) {
+            unpark(consumerThread);
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Chunk<E> chunkOf(Chunk<E> chunk, long sequence) {
+        Chunk<E> start = chunk;
+        while (sequence >= chunk.firstSequence + chunkSize) {
+            Chunk<E> next = chunk.next;
+            if (next == null) {
+                Chunk<E> newChunk = new Chunk<>(chunk.firstSequence + chunkSize, chunkSize);
+                next = Chunk.NEXT.compareAndSet(chunk, null, newChunk) ? newChunk : chunk.next;
+            }
+            chunk = next;
+        }
+
+        if (chunk != start) {
+            for (; ; ) {
+                Chunk<E> current = producerChunk;
+                if (current.firstSequence >= chunk.firstSequence || PRODUCER_CHUNK.compareAndSet(this, current, chunk)) {
+                    break;
+                }
+            }
+        }
+        return chunk;
+    }
+
+    @Override
+    public E peek() {
+        Chunk<E> chunk = nextChunk();
+        return chunk == null ? null : chunk.items.get((int) (head - chunk.firstSequence));
+    }
+
+    @Override
+    public E poll() {
+        Chunk<E> chunk = nextChunk();
+        if (chunk == null) {
+            return null;
+        }
+
+        long head = this.head;
+        int index = (int) (head - chunk.firstSequence);
+        E item = chunk.items.get(index);
+        if (item == null) {
+            // the queue is empty, or the item of the sequence has been claimed but isn't visible yet
+            return null;
+        }
+        chunk.items.lazySet(index, null);
+        HEAD.lazySet(this, head + 1);
+        return item;
+    }
+
+    /**
+     * Returns the chunk of the head sequence, or {@code null} if the chunk isn't linked yet.
+     */
+    private Chunk<E> nextChunk() {
+        Chunk<E> chunk = consumerChunk;
+        if (head == chunk.firstSequence + chunkSize) {
+            chunk = chunk.next;
+            if (chunk == null) {
+                return null;
+            }
+            consumerChunk = chunk;
+        }
+        return chunk;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        long iteration = 0;
+        for (; ; ) {
+            E item = poll();
+            if (item != null) {
+                return item;
+            }
+
+            if (consumerThread.isInterrupted()) {
+                throw new InterruptedException();
+            }
+
+            if (idleStrategy != null) {
+                idleStrategy.idle(iteration++);
+                continue;
+            }
+
+            consumerBlocked = true;
+            if (isEmpty()) {
+                park(this);
+            }
+            consumerBlocked = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Best effort implementation.
+     */
+    @Override
+    public int size() {
+        long currentHead = head;
+        return (int) Math.min(tail - currentHead, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * The queue isn't empty while an item is being offered, even if the item can't be taken yet.
+     */
+    @Override
+    public boolean isEmpty() {
+        return tail == head;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Should only be called by the consumer thread.
+     */
+    @Override
+    public void clear() {
+        E item;
+        do {
+            item = poll();
+        } while (item != null);
+    }
+
+    @Override
+    public void put(E e) {
+        offer(e);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) {
+        add(e);
+        return true;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    private static final class Chunk<E> {
+
+        @SuppressWarnings("rawtypes")
+        static final AtomicReferenceFieldUpdater<Chunk, Chunk> NEXT =
+                AtomicReferenceFieldUpdater.newUpdater(Chunk.class, Chunk.class, "next");
+
+        final long firstSequence;
+        final AtomicReferenceArray<E> items;
+        volatile Chunk<E> next;
+
+        Chunk(long firstSequence, int size) {
+            this.firstSequence = firstSequence;
+            this.items = new AtomicReferenceArray<>(size);
+        }
+    }
+}
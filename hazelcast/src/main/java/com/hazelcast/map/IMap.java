@@ -3399,4 +3399,39 @@ public interface IMap<K, V> extends ConcurrentMap<K, V>, BaseMap<K, V>, Iterable
     @Nonnull
     Iterator<Entry<K, V>> iterator(int fetchSize);
 
+    /**
+     * Returns an iterator over the entries of the map matching the specified
+     * predicate. It sequentially iterates partitions, the predicate is
+     * evaluated on a partition when the iteration reaches it and the matching
+     * entries are fetched in batches. Unlike {@link #entrySet(Predicate)},
+     * neither the members nor the caller hold the whole result, so the heap
+     * utilization is constant regardless of the number of matching entries,
+     * and the query result size limit is not applied.
+     * <p>
+     * If the predicate is a {@link com.hazelcast.query.PartitionPredicate},
+     * only the partitions of its partition keys are iterated.
+     * <p>
+     * The iteration may be done when the map is being mutated or when there
+     * are membership changes. The iterator does not reflect the state when it
+     * has been constructed - it may return some entries that were added after
+     * the iteration has started and may not return some entries that were
+     * removed after iteration has started. The iterator will not, however,
+     * skip an entry if it has not been changed and will not return an entry
+     * twice.
+     *
+     * @param fetchSize the maximum number of entries fetched in a batch. The
+     *                  underlying implementation may fetch more entries in
+     *                  one batch if it needs to get to a point from which
+     *                  the iteration can be resumed.
+     * @param predicate specified query criteria
+     * @return an iterator for the matching entries
+     * @throws NullPointerException     if the predicate is {@code null}
+     * @throws IllegalArgumentException if the fetch size is not positive or
+     *                                  the predicate is or contains a
+     *                                  {@link com.hazelcast.query.PagingPredicate}
+     * @since 6.0
+     */
+    @Nonnull
+    Iterator<Entry<K, V>> iterator(int fetchSize, @Nonnull Predicate<K, V> predicate);
+
 }
@@ -316,6 +316,47 @@ public interface LocalMapStats extends LocalInstanceStats {
         return 0L;
     }
 
+    /**
+     * Returns the number of reads of the locally owned keys
+     * which found no entry. Together with {@link #getHits()},
+     * it gives the hit ratio of the map.
+     * <p>
+     * The number of misses may be inaccurate after a
+     * partition is migrated to a new owner member.
+     *
+     * @return number of misses of the locally owned keys.
+     * @since 6.0
+     */
+    default long getMisses() {
+        return 0L;
+    }
+
+    /**
+     * Returns the number of locally owned entries which were
+     * evicted right after they were stored, because their keys
+     * are accessed less often than the keys of the entries they
+     * would replace (when the eviction policy is
+     * {@link com.hazelcast.config.EvictionPolicy#TINY_LFU}).
+     *
+     * @return number of entries which weren't admitted.
+     * @since 6.0
+     */
+    default long getAdmissionRejectCount() {
+        return 0L;
+    }
+
+    /**
+     * Returns the memory cost of the sketches estimating how
+     * often the locally owned keys are accessed (when the
+     * eviction policy is {@link com.hazelcast.config.EvictionPolicy#TINY_LFU}).
+     *
+     * @return memory cost of the frequency sketches in bytes.
+     * @since 6.0
+     */
+    default long getFrequencySketchMemoryCost() {
+        return 0L;
+    }
+
     /**
      * Returns the per-index statistics map keyed by the index name.
      */
@@ -21,6 +21,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.DistributedObject;
 import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.eviction.FrequencySketch;
 import com.hazelcast.internal.monitor.LocalRecordStoreStats;
 import com.hazelcast.internal.monitor.impl.IndexesStats;
 import com.hazelcast.internal.monitor.impl.LocalMapStatsImpl;
@@ -236,8 +237,15 @@ public class LocalMapStatsProvider {
         LocalRecordStoreStats stats = recordStore.getLocalRecordStoreStats();
 
         onDemandStats.incrementHits(stats.getHits());
+        onDemandStats.incrementMisses(stats.getMisses());
         onDemandStats.incrementEvictionCount(stats.getEvictionCount());
         onDemandStats.incrementExpirationCount(stats.getExpirationCount());
+        onDemandStats.incrementAdmissionRejectCount(stats.getAdmissionRejectCount());
+        FrequencySketch frequencySketch = recordStore.getFrequencySketch();
+        if (frequencySketch != null) {
+            onDemandStats.incrementFrequencySketchMemoryCost(frequencySketch.getMemoryCost());
+            onDemandStats.incrementHeapCost(frequencySketch.getMemoryCost());
+        }
         onDemandStats.incrementDirtyEntryCount(recordStore.getMapDataStore().notFinishedOperationsCount());
         onDemandStats.incrementOwnedEntryMemoryCost(recordStore.getOwnedEntryCost());
         if (NATIVE != recordStore.getMapContainer().getMapConfig().getInMemoryFormat()) {
@@ -475,8 +483,11 @@ public class LocalMapStatsProvider {
 
         private int backupCount;
         private long hits;
+        private long misses;
         private long evictionCount;
         private long expirationCount;
+        private long admissionRejectCount;
+        private long frequencySketchMemoryCost;
         private long ownedEntryCount;
         private long backupEntryCount;
         private long ownedEntryMemoryCost;
@@ -497,10 +508,22 @@ public class LocalMapStatsProvider {
             this.hits += hits;
         }
 
+        public void incrementMisses(long misses) {
+            this.misses += misses;
+        }
+
         public void incrementEvictionCount(long evictionCount) {
             this.evictionCount += evictionCount;
         }
 
+        public void incrementAdmissionRejectCount(long admissionRejectCount) {
+            this.admissionRejectCount += admissionRejectCount;
+        }
+
+        public void incrementFrequencySketchMemoryCost(long frequencySketchMemoryCost) {
+            this.frequencySketchMemoryCost += frequencySketchMemoryCost;
+        }
+
         public void incrementExpirationCount(long expirationCount) {
             this.expirationCount += expirationCount;
         }
@@ -540,8 +563,11 @@ public class LocalMapStatsProvider {
         public LocalMapStatsImpl updateAndGet(LocalMapStatsImpl stats) {
             stats.setBackupCount(backupCount);
             stats.setHits(hits);
+            stats.setMisses(misses);
             stats.setEvictionCount(evictionCount);
             stats.setExpirationCount(expirationCount);
+            stats.setAdmissionRejectCount(admissionRejectCount);
+            stats.setFrequencySketchMemoryCost(frequencySketchMemoryCost);
             stats.setOwnedEntryCount(ownedEntryCount);
             stats.setBackupEntryCount(backupEntryCount);
             stats.setOwnedEntryMemoryCost(ownedEntryMemoryCost);
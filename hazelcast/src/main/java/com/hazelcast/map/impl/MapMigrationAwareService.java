@@ -16,7 +16,6 @@
 
 package com.hazelcast.map.impl;
 
-import com.hazelcast.config.CacheDeserializedValues;
 import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataGenerator;
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkSuppliers;
@@ -40,7 +39,6 @@ import com.hazelcast.query.impl.CachedQueryEntry;
 import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
-import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.util.ArrayList;
@@ -48,7 +46,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
-import static com.hazelcast.config.CacheDeserializedValues.NEVER;
 import static com.hazelcast.internal.partition.MigrationEndpoint.DESTINATION;
 import static com.hazelcast.internal.partition.MigrationEndpoint.SOURCE;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.flushAccumulator;
@@ -335,21 +332,10 @@ class MapMigrationAwareService
 
             IndexRegistry.beginPartitionUpdate(indexesSnapshot);
 
-            CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
-            CachedQueryEntry<?, ?> cachedEntry = cacheDeserializedValues == NEVER ? new CachedQueryEntry<>(serializationService,
-                    mapContainer.getExtractors()) : null;
             recordStore.beforeOperation();
             try {
-                recordStore.forEach((key, record) -> {
-                    Object value = Records.getValueOrCachedValue(record, serializationService);
-                    if (value != null) {
-                        QueryableEntry queryEntry = mapContainer.newQueryEntry(key, value);
-                        queryEntry.setRecord(record);
-                        CachedQueryEntry<?, ?> newEntry =
-                                cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(key, value);
-                        indexRegistry.putEntry(newEntry, null, queryEntry, Index.OperationSource.SYSTEM);
-                    }
-                }, false);
+                mapServiceContext.getPartitionIndexBuilder()
+                        .populate(mapContainer, recordStore, indexesSnapshot, Index.OperationSource.SYSTEM);
             } finally {
                 recordStore.afterOperation();
             }
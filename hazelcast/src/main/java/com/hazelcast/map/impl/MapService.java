@@ -361,6 +361,9 @@ public class MapService implements ManagedService, ChunkedMigrationAwareService,
                 context.collect(nearCacheDescriptor, nearCacheStats);
             }
         }
+        // index advisor
+        mapServiceContext.getIndexAdvisor().provideDynamicMetrics(descriptor, context);
+
         // stats of offloaded-entry-processor's executor
         ExecutorStats executorStats = mapServiceContext.getOffloadedEntryProcessorExecutorStats();
         executorStats.getStatsMap().forEach((name, offloadedExecutorStats) -> {
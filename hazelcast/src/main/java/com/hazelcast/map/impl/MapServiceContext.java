@@ -33,6 +33,8 @@ import com.hazelcast.map.impl.journal.MapEventJournal;
 import com.hazelcast.map.impl.mapstore.writebehind.NodeWideUsedCapacityCounter;
 import com.hazelcast.map.impl.nearcache.MapNearCacheManager;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
+import com.hazelcast.map.impl.query.IndexAdvisor;
+import com.hazelcast.map.impl.query.PartitionIndexBuilder;
 import com.hazelcast.map.impl.query.QueryEngine;
 import com.hazelcast.map.impl.query.QueryRunner;
 import com.hazelcast.map.impl.query.ResultProcessorRegistry;
@@ -189,6 +191,10 @@ public interface MapServiceContext extends MapServiceContextInterceptorSupport,
 
     QueryRunner getMapQueryRunner(String name);
 
+    IndexAdvisor getIndexAdvisor();
+
+    PartitionIndexBuilder getPartitionIndexBuilder();
+
     QueryOptimizer getQueryOptimizer();
 
     LocalMapStatsProvider getLocalMapStatsProvider();
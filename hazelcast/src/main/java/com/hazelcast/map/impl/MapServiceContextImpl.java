@@ -33,6 +33,7 @@ import com.hazelcast.internal.util.ConstructorFunction;
 import com.hazelcast.internal.util.ContextMutexFactory;
 import com.hazelcast.internal.util.InvocationUtil;
 import com.hazelcast.internal.util.LocalRetryableExecution;
+import com.hazelcast.internal.util.RuntimeAvailableProcessors;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.internal.util.comparators.ValueComparator;
 import com.hazelcast.internal.util.comparators.ValueComparatorUtil;
@@ -56,8 +57,10 @@ import com.hazelcast.map.impl.query.AggregationResult;
 import com.hazelcast.map.impl.query.AggregationResultProcessor;
 import com.hazelcast.map.impl.query.CallerRunsAccumulationExecutor;
 import com.hazelcast.map.impl.query.CallerRunsPartitionScanExecutor;
+import com.hazelcast.map.impl.query.IndexAdvisor;
 import com.hazelcast.map.impl.query.ParallelAccumulationExecutor;
 import com.hazelcast.map.impl.query.ParallelPartitionScanExecutor;
+import com.hazelcast.map.impl.query.PartitionIndexBuilder;
 import com.hazelcast.map.impl.query.PartitionScanExecutor;
 import com.hazelcast.map.impl.query.PartitionScanRunner;
 import com.hazelcast.map.impl.query.QueryEngine;
@@ -66,6 +69,7 @@ import com.hazelcast.map.impl.query.QueryResult;
 import com.hazelcast.map.impl.query.QueryResultProcessor;
 import com.hazelcast.map.impl.query.QueryRunner;
 import com.hazelcast.map.impl.query.ResultProcessorRegistry;
+import com.hazelcast.map.impl.query.WorkStealingPartitionScanExecutor;
 import com.hazelcast.map.impl.querycache.NodeQueryCacheContext;
 import com.hazelcast.map.impl.querycache.QueryCacheContext;
 import com.hazelcast.map.impl.recordstore.DefaultRecordStore;
@@ -95,6 +99,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -103,6 +108,7 @@ import java.util.function.Predicate;
 import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static com.hazelcast.internal.util.SetUtil.immutablePartitionIdSet;
+import static com.hazelcast.internal.util.ThreadUtil.createThreadPoolName;
 import static com.hazelcast.map.impl.ListenerAdapters.createListenerAdapter;
 import static com.hazelcast.map.impl.MapKeyLoader.LOADED_KEY_LIMITER_PER_NODE;
 import static com.hazelcast.map.impl.MapKeyLoader.PROP_LOADED_KEY_LIMITER_PER_NODE;
@@ -113,9 +119,11 @@ import static com.hazelcast.spi.impl.executionservice.ExecutionService.QUERY_EXE
 import static com.hazelcast.spi.impl.operationservice.Operation.GENERIC_PARTITION_ID;
 import static com.hazelcast.spi.properties.ClusterProperty.AGGREGATION_ACCUMULATION_PARALLEL_EVALUATION;
 import static com.hazelcast.spi.properties.ClusterProperty.EXPENSIVE_IMAP_INVOCATION_REPORTING_THRESHOLD;
+import static com.hazelcast.spi.properties.ClusterProperty.INDEX_BUILD_PARALLELISM;
 import static com.hazelcast.spi.properties.ClusterProperty.INDEX_COPY_BEHAVIOR;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.QUERY_PREDICATE_PARALLEL_EVALUATION;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_PREDICATE_PARALLEL_EVALUATION_WORK_STEALING;
 import static java.lang.Thread.currentThread;
 
 /**
@@ -132,6 +140,8 @@ class MapServiceContextImpl implements MapServiceContext {
     private final QueryEngine queryEngine;
     private final EventService eventService;
     private final QueryRunner mapQueryRunner;
+    private final IndexAdvisor indexAdvisor;
+    private final PartitionIndexBuilder partitionIndexBuilder;
     private final MapEventJournal eventJournal;
     private final QueryOptimizer queryOptimizer;
     private final MapEventPublisher mapEventPublisher;
@@ -163,6 +173,7 @@ class MapServiceContextImpl implements MapServiceContext {
     private final int expensiveInvocationReportingThreshold;
 
     private MapService mapService;
+    private PartitionScanExecutor partitionScanExecutor;
 
     @SuppressWarnings("checkstyle:executablestatementcount")
     MapServiceContextImpl(NodeEngine nodeEngine) {
@@ -181,6 +192,8 @@ class MapServiceContextImpl implements MapServiceContext {
         this.resultProcessorRegistry = createResultProcessorRegistry(serializationService);
         this.partitionScanRunner = createPartitionScanRunner();
         this.queryEngine = createMapQueryEngine();
+        this.indexAdvisor = new IndexAdvisor(this);
+        this.partitionIndexBuilder = createPartitionIndexBuilder(nodeEngine);
         this.mapQueryRunner = createMapQueryRunner(nodeEngine, queryOptimizer,
                 resultProcessorRegistry, partitionScanRunner);
         this.eventService = nodeEngine.getEventService();
@@ -270,15 +283,30 @@ class MapServiceContextImpl implements MapServiceContext {
         PartitionScanExecutor partitionScanExecutor;
         if (parallelEvaluation) {
             int opTimeoutInMillis = nodeEngine.getProperties().getInteger(OPERATION_CALL_TIMEOUT_MILLIS);
-            ManagedExecutorService queryExecutorService = nodeEngine.getExecutionService().getExecutor(QUERY_EXECUTOR);
-            partitionScanExecutor = new ParallelPartitionScanExecutor(partitionScanRunner, queryExecutorService,
-                    opTimeoutInMillis);
+            if (nodeEngine.getProperties().getBoolean(QUERY_PREDICATE_PARALLEL_EVALUATION_WORK_STEALING)) {
+                ForkJoinPool pool = WorkStealingPartitionScanExecutor.newPool(RuntimeAvailableProcessors.get(),
+                        createThreadPoolName(nodeEngine.getHazelcastInstance().getName(), "query.scan"),
+                        nodeEngine.getConfigClassLoader());
+                partitionScanExecutor = new WorkStealingPartitionScanExecutor(partitionScanRunner, pool, opTimeoutInMillis);
+            } else {
+                ManagedExecutorService queryExecutorService = nodeEngine.getExecutionService().getExecutor(QUERY_EXECUTOR);
+                partitionScanExecutor = new ParallelPartitionScanExecutor(partitionScanRunner, queryExecutorService,
+                        opTimeoutInMillis);
+            }
         } else {
             partitionScanExecutor = new CallerRunsPartitionScanExecutor(partitionScanRunner);
         }
+        this.partitionScanExecutor = partitionScanExecutor;
         return new QueryRunner(this, queryOptimizer, partitionScanExecutor, resultProcessorRegistry);
     }
 
+    private PartitionIndexBuilder createPartitionIndexBuilder(NodeEngine nodeEngine) {
+        int parallelism = checkPositive(INDEX_BUILD_PARALLELISM.getName(),
+                nodeEngine.getProperties().getInteger(INDEX_BUILD_PARALLELISM));
+        return new PartitionIndexBuilder(serializationService,
+                nodeEngine.getExecutionService().getExecutor(QUERY_EXECUTOR), parallelism);
+    }
+
     private ResultProcessorRegistry createResultProcessorRegistry(SerializationService ss) {
         ResultProcessorRegistry registry = new ResultProcessorRegistry();
         registry.registerProcessor(QueryResult.class, createQueryResultProcessor(ss));
@@ -472,6 +500,7 @@ class MapServiceContextImpl implements MapServiceContext {
         // on LiteMembers we don't have a MapContainer, but we may have a Near Cache and listeners
         mapNearCacheManager.destroyNearCache(mapName);
         nodeEngine.getEventService().deregisterAllLocalListeners(SERVICE_NAME, mapName);
+        indexAdvisor.destroyMap(mapName);
 
         MapContainer mapContainer = mapContainers.get(mapName);
         if (mapContainer == null) {
@@ -550,6 +579,9 @@ class MapServiceContextImpl implements MapServiceContext {
         mapContainers.clear();
         expirationManager.onShutdown();
         offloadedExecutorStats.clear();
+        if (partitionScanExecutor != null) {
+            partitionScanExecutor.shutdown();
+        }
     }
 
     @Override
@@ -624,6 +656,16 @@ class MapServiceContextImpl implements MapServiceContext {
         return mapQueryRunner;
     }
 
+    @Override
+    public IndexAdvisor getIndexAdvisor() {
+        return indexAdvisor;
+    }
+
+    @Override
+    public PartitionIndexBuilder getPartitionIndexBuilder() {
+        return partitionIndexBuilder;
+    }
+
     @Override
     public QueryOptimizer getQueryOptimizer() {
         return queryOptimizer;
@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.eviction;
 
 import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.eviction.FrequencySketch;
 import com.hazelcast.internal.partition.IPartition;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.serialization.Data;
@@ -63,10 +64,36 @@ public class EvictorImpl implements Evictor {
             if (entryView == null) {
                 return;
             }
-            evictEntry(recordStore, entryView, now, backup);
+            Data dataKey = getDataKeyFromEntryView(entryView);
+            if (i == 0 && !admit(recordStore, excludedKey, dataKey, now, backup)) {
+                // the just added entry is evicted instead
+                if (evictEntry(recordStore, excludedKey, now, backup)) {
+                    recordStore.getLocalRecordStoreStats().increaseAdmissionRejects();
+                }
+                return;
+            }
+            evictEntry(recordStore, dataKey, now, backup);
         }
     }
 
+    /**
+     * Decides if the just added entry of the given key is kept in place of
+     * the entry selected for eviction. It isn't kept if its key is estimated
+     * to be accessed less often than the key of the selected entry, so the
+     * entries which are only accessed once, e.g. by a scan, don't evict the
+     * frequently accessed entries. Only the owner replica counts the reads, so
+     * the entries are always admitted to the backup replicas.
+     */
+    private boolean admit(RecordStore recordStore, Data justAddedKey, Data selectedKey,
+                          long now, boolean backup) {
+        FrequencySketch sketch = recordStore.getFrequencySketch();
+        if (sketch == null || justAddedKey == null || backup
+                || justAddedKey.equals(selectedKey) || recordStore.isExpired(selectedKey, now, false)) {
+            return true;
+        }
+        return sketch.frequency(justAddedKey.hashCode()) >= sketch.frequency(selectedKey.hashCode());
+    }
+
     @Override
     public void forceEvictByPercentage(RecordStore recordStore, double evictionPercentage) {
         // NOP.
@@ -75,9 +102,10 @@ public class EvictorImpl implements Evictor {
     @SuppressWarnings("checkstyle:rvcheckcomparetoforspecificreturnvalue")
     private EntryView selectEvictableEntry(RecordStore recordStore, Data excludedKey,
                                            long now, boolean backup) {
+        FrequencySketch sketch = recordStore.getFrequencySketch();
         EntryView excluded = null;
         EntryView selected = null;
-
+        int selectedFrequency = 0;
 
         for (EntryView current : getRandomSamples(recordStore)) {
             Data dataKey = getDataKeyFromEntryView(current);
@@ -93,21 +121,24 @@ public class EvictorImpl implements Evictor {
                 continue;
             }
 
+            // with a frequency sketch, the least frequently accessed entry
+            // is selected and the policy breaks the ties
+            int frequency = sketch == null ? 0 : sketch.frequency(dataKey.hashCode());
             if (selected == null
-                    || policy.compare(current, selected) < 0) {
+                    || frequency < selectedFrequency
+                    || (frequency == selectedFrequency && policy.compare(current, selected) < 0)) {
                 selected = current;
+                selectedFrequency = frequency;
             }
         }
 
         return selected == null ? excluded : selected;
     }
 
-    private void evictEntry(RecordStore recordStore, EntryView selectedEntry,
-                            long now, boolean backup) {
-        Data dataKey = getDataKeyFromEntryView(selectedEntry);
-
+    private boolean evictEntry(RecordStore recordStore, Data dataKey,
+                               long now, boolean backup) {
         if (recordStore.isLocked(dataKey)) {
-            return;
+            return false;
         }
 
         ExpiryReason expiryReason = recordStore.hasExpired(dataKey, now, backup);
@@ -116,6 +147,7 @@ public class EvictorImpl implements Evictor {
         if (value != null && !backup) {
             recordStore.doPostEvictionOperations(dataKey, value, expiryReason);
         }
+        return value != null;
     }
 
     @Override
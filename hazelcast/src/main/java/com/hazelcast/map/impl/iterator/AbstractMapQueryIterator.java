@@ -20,6 +20,10 @@ import com.hazelcast.internal.util.ConstructorFunction;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.emptyIterator;
 
 /**
  * Base class for iterating map entries in the whole cluster with
@@ -32,15 +36,23 @@ import java.util.NoSuchElementException;
 public class AbstractMapQueryIterator<R> implements Iterator<R> {
 
     private final ConstructorFunction<Integer, Iterator<R>> createPartitionIterator;
-    private final int partitionCount;
+    private final PrimitiveIterator.OfInt partitionIds;
     private Iterator<R> it;
-    private int idx;
 
     public AbstractMapQueryIterator(ConstructorFunction<Integer, Iterator<R>> createPartitionIterator, int partitionCount) {
+        this(createPartitionIterator, IntStream.range(0, partitionCount).iterator());
+    }
+
+    /**
+     * @param createPartitionIterator creates the iterator of a partition
+     * @param partitionIds            the IDs of the partitions to iterate, in
+     *                                the order of the iteration
+     */
+    public AbstractMapQueryIterator(ConstructorFunction<Integer, Iterator<R>> createPartitionIterator,
+                                    PrimitiveIterator.OfInt partitionIds) {
         this.createPartitionIterator = createPartitionIterator;
-        this.partitionCount = partitionCount;
-        idx = 0;
-        it = createPartitionIterator.createNew(idx);
+        this.partitionIds = partitionIds;
+        it = partitionIds.hasNext() ? createPartitionIterator.createNew(partitionIds.nextInt()) : emptyIterator();
     }
 
     @Override
@@ -54,10 +66,10 @@ public class AbstractMapQueryIterator<R> implements Iterator<R> {
     @Override
     public boolean hasNext() {
         while (!it.hasNext()) {
-            if (idx == partitionCount - 1) {
+            if (!partitionIds.hasNext()) {
                 return false;
             }
-            it = createPartitionIterator.createNew(++idx);
+            it = createPartitionIterator.createNew(partitionIds.nextInt());
         }
         return true;
     }
@@ -16,6 +16,7 @@
 
 package com.hazelcast.map.impl.iterator;
 
+import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.map.impl.proxy.MapProxyImpl;
 import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
@@ -39,4 +40,9 @@ public class MapQueryIterator<K, V, R> extends AbstractMapQueryIterator<R> {
                             Projection<? super Map.Entry<K, V>, R> projection, Predicate<K, V> predicate) {
         super(partitionId -> mapProxy.iterator(fetchSize, partitionId, projection, predicate), partitionCount);
     }
+
+    public MapQueryIterator(MapProxyImpl<K, V> mapProxy, int fetchSize, PartitionIdSet partitionIds,
+                            Projection<? super Map.Entry<K, V>, R> projection, Predicate<K, V> predicate) {
+        super(partitionId -> mapProxy.iterator(fetchSize, partitionId, projection, predicate), partitionIds.intIterator());
+    }
 }
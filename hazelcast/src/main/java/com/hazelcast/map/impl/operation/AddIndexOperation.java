@@ -16,20 +16,15 @@
 
 package com.hazelcast.map.impl.operation;
 
-import com.hazelcast.config.CacheDeserializedValues;
 import com.hazelcast.config.IndexConfig;
-import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapService;
-import com.hazelcast.map.impl.record.Records;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
-import com.hazelcast.query.impl.CachedQueryEntry;
 import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.IndexUtils;
 import com.hazelcast.query.impl.InternalIndex;
-import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.spi.impl.AllowedDuringPassiveState;
 import com.hazelcast.spi.impl.operationservice.BackupAwareOperation;
 import com.hazelcast.spi.impl.operationservice.MutatingOperation;
@@ -38,8 +33,6 @@ import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
 
 import java.io.IOException;
 
-import static com.hazelcast.config.CacheDeserializedValues.NEVER;
-
 public class AddIndexOperation extends MapOperation
         implements PartitionAwareOperation, MutatingOperation, BackupAwareOperation,
                     // AddIndexOperation is used when map proxy for IMap with indexes is initialized during passive state
@@ -100,21 +93,10 @@ public class AddIndexOperation extends MapOperation
             return;
         }
 
-        SerializationService serializationService = getNodeEngine().getSerializationService();
-
         index.beginPartitionUpdate();
 
-        CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
-        CachedQueryEntry<?, ?> cachedEntry = cacheDeserializedValues == NEVER ? new CachedQueryEntry<>(serializationService,
-                mapContainer.getExtractors()) : null;
-        recordStore.forEach((dataKey, record) -> {
-            Object value = Records.getValueOrCachedValue(record, serializationService);
-            QueryableEntry<?, ?> queryEntry = mapContainer.newQueryEntry(dataKey, value);
-            queryEntry.setRecord(record);
-            CachedQueryEntry<?, ?> newEntry =
-                    cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(dataKey, value);
-            index.putEntry(newEntry, null, queryEntry, Index.OperationSource.USER);
-        }, false, false);
+        mapServiceContext.getPartitionIndexBuilder()
+                .populate(mapContainer, recordStore, new InternalIndex[]{index}, Index.OperationSource.USER);
 
         index.markPartitionAsIndexed(partitionId);
 
@@ -36,6 +36,8 @@ public enum GetOpSteps implements IMapOpStep {
                 Object oldValue = record.getValue();
                 state.setOldValue(oldValue);
                 state.setRecordExistsInMemory(true);
+            } else {
+                recordStore.onMiss(state.getKey());
             }
         }
 
@@ -46,6 +46,7 @@ import com.hazelcast.map.impl.iterator.MapIterator;
 import com.hazelcast.map.impl.iterator.MapPartitionIterable;
 import com.hazelcast.map.impl.iterator.MapPartitionIterator;
 import com.hazelcast.map.impl.iterator.MapQueryIterable;
+import com.hazelcast.map.impl.iterator.MapQueryIterator;
 import com.hazelcast.map.impl.iterator.MapQueryPartitionIterable;
 import com.hazelcast.map.impl.iterator.MapQueryPartitionIterator;
 import com.hazelcast.map.impl.journal.MapEventJournalReadOperation;
@@ -60,7 +61,9 @@ import com.hazelcast.map.impl.querycache.subscriber.SubscriberContext;
 import com.hazelcast.map.listener.MapListener;
 import com.hazelcast.map.listener.MapPartitionLostListener;
 import com.hazelcast.projection.Projection;
+import com.hazelcast.projection.Projections;
 import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.PartitionPredicate;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.Predicates;
 import com.hazelcast.ringbuffer.ReadResultSet;
@@ -92,6 +95,7 @@ import static com.hazelcast.internal.util.Preconditions.checkNoNullInside;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.internal.util.SetUtil.allPartitionIds;
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
 import static com.hazelcast.internal.util.TimeUtil.timeInMsOrTimeIfNullUnit;
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
@@ -1097,6 +1101,23 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         return new MapIterator<>(this, fetchSize, partitionCount, false);
     }
 
+    @Override
+    @Nonnull
+    public Iterator<Entry<K, V>> iterator(int fetchSize, @Nonnull Predicate<K, V> predicate) {
+        checkPositive("fetchSize", fetchSize);
+        checkNotNull(predicate, NULL_PREDICATE_IS_NOT_ALLOWED);
+        checkDoesNotContainPagingPredicate(predicate, "iterator");
+        PartitionIdSet partitionIds;
+        if (predicate instanceof PartitionPredicate<K, V> partitionPredicate) {
+            partitionIds = partitionService.getPartitionIdSet(
+                    partitionPredicate.getPartitionKeys().stream().map(this::toDataWithStrategy));
+            predicate = partitionPredicate.getTarget();
+        } else {
+            partitionIds = allPartitionIds(partitionService.getPartitionCount());
+        }
+        return new MapQueryIterator<>(this, fetchSize, partitionIds, Projections.identity(), predicate);
+    }
+
     /**
      * Returns an iterable providing an iterator for iterating the result
      * of the projection on entries in the {@code partitionId} which
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.predicates.PredicateUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_DISCRIMINATOR_NAME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_ADVISOR_RANGE_SCAN_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_ADVISOR_SCANNED_ENTRY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_ADVISOR_SCAN_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_INDEX_ADVISOR;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_TAG_ATTRIBUTE;
+import static com.hazelcast.internal.metrics.ProbeUnit.COUNT;
+import static com.hazelcast.query.impl.IndexUtils.canonicalizeAttribute;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_INDEX_ADVISOR_ENABLED;
+
+/**
+ * Records the attributes of the queries which could not be served by an
+ * index and had to scan the partitions, and recommends the indexes which
+ * would have served them.
+ * <p>
+ * The attributes are weighted by the number of entries scanned for them, so
+ * the recommendations come first for the attributes of the queries scanning
+ * the most entries. An attribute queried by range comparisons is recommended
+ * a {@link IndexType#SORTED sorted} index, otherwise a {@link IndexType#HASH
+ * hash} one. The recommendations are never applied automatically.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#QUERY_INDEX_ADVISOR_ENABLED
+ */
+public class IndexAdvisor {
+
+    /**
+     * Bounds the number of attributes tracked per map, so the queries on
+     * arbitrary attributes cannot grow the statistics without limits.
+     */
+    static final int MAX_ATTRIBUTES_PER_MAP = 64;
+
+    private final MapServiceContext mapServiceContext;
+    private final boolean enabled;
+    private final ConcurrentMap<String, ConcurrentMap<String, AttributeStats>> statsByMap = new ConcurrentHashMap<>();
+
+    public IndexAdvisor(MapServiceContext mapServiceContext) {
+        this.mapServiceContext = mapServiceContext;
+        this.enabled = mapServiceContext.getNodeEngine().getProperties().getBoolean(QUERY_INDEX_ADVISOR_ENABLED);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records the scan of the given partitions of the given map done to
+     * evaluate the given predicate.
+     *
+     * @param mapName    the name of the scanned map.
+     * @param predicate  the predicate evaluated by the scan.
+     * @param partitions the scanned partitions.
+     */
+    public void onPartitionScan(String mapName, Predicate predicate, Collection<Integer> partitions) {
+        if (!enabled) {
+            return;
+        }
+
+        // canonical names, as the ones of the index definitions, so "this.x"
+        // and "x" are counted together and match an index on either of them
+        Map<String, IndexType> attributes = new HashMap<>();
+        PredicateUtils.collectIndexableAttributes(predicate,
+                (attribute, type) -> attributes.merge(canonicalizeAttribute(attribute), type,
+                        (current, other) -> current == IndexType.SORTED ? current : other));
+        if (attributes.isEmpty()) {
+            return;
+        }
+
+        long scannedEntryCount = 0;
+        for (int partitionId : partitions) {
+            RecordStore recordStore = mapServiceContext.getExistingRecordStore(partitionId, mapName);
+            if (recordStore != null) {
+                scannedEntryCount += recordStore.size();
+            }
+        }
+
+        ConcurrentMap<String, AttributeStats> mapStats = statsByMap.computeIfAbsent(mapName, k -> new ConcurrentHashMap<>());
+        for (Map.Entry<String, IndexType> entry : attributes.entrySet()) {
+            AttributeStats stats = mapStats.get(entry.getKey());
+            if (stats == null) {
+                if (mapStats.size() >= MAX_ATTRIBUTES_PER_MAP) {
+                    continue;
+                }
+                stats = mapStats.computeIfAbsent(entry.getKey(), k -> new AttributeStats());
+            }
+            stats.record(entry.getValue() == IndexType.SORTED, scannedEntryCount);
+        }
+    }
+
+    /**
+     * Returns the indexes recommended for the given map, the most beneficial
+     * ones first. The attributes already served by an index of the map are
+     * not recommended.
+     *
+     * @param mapName the name of the map.
+     * @return the recommended indexes, empty if there are none.
+     */
+    public List<IndexConfig> getRecommendations(String mapName) {
+        Map<String, AttributeStats> mapStats = statsByMap.get(mapName);
+        if (mapStats == null) {
+            return new ArrayList<>();
+        }
+
+        Map<String, IndexType> existingIndexes = getSingleAttributeIndexes(mapName);
+        List<Map.Entry<String, AttributeStats>> candidates = new ArrayList<>();
+        for (Map.Entry<String, AttributeStats> entry : mapStats.entrySet()) {
+            if (!isServed(existingIndexes.get(entry.getKey()), entry.getValue().needsSortedIndex())) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(
+                (Map.Entry<String, AttributeStats> entry) -> entry.getValue().scannedEntryCount.sum()).reversed());
+
+        List<IndexConfig> recommendations = new ArrayList<>(candidates.size());
+        for (Map.Entry<String, AttributeStats> candidate : candidates) {
+            IndexType type = candidate.getValue().needsSortedIndex() ? IndexType.SORTED : IndexType.HASH;
+            recommendations.add(new IndexConfig(type, candidate.getKey()));
+        }
+        return recommendations;
+    }
+
+    /**
+     * Returns the statistics recorded for the attributes of the given map.
+     *
+     * @param mapName the name of the map.
+     * @return the statistics by the attribute names, empty if there are none.
+     */
+    public Map<String, AttributeStats> getStats(String mapName) {
+        Map<String, AttributeStats> mapStats = statsByMap.get(mapName);
+        return mapStats == null ? new HashMap<>() : new HashMap<>(mapStats);
+    }
+
+    /**
+     * Returns the names of the maps having recorded statistics.
+     */
+    public Collection<String> getMapNames() {
+        return new ArrayList<>(statsByMap.keySet());
+    }
+
+    public void destroyMap(String mapName) {
+        statsByMap.remove(mapName);
+    }
+
+    public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (Map.Entry<String, ConcurrentMap<String, AttributeStats>> mapEntry : statsByMap.entrySet()) {
+            for (Map.Entry<String, AttributeStats> entry : mapEntry.getValue().entrySet()) {
+                MetricDescriptor attributeDescriptor = descriptor
+                        .copy()
+                        .withPrefix(MAP_PREFIX_INDEX_ADVISOR)
+                        .withDiscriminator(MAP_DISCRIMINATOR_NAME, mapEntry.getKey())
+                        .withTag(MAP_TAG_ATTRIBUTE, entry.getKey());
+                context.collect(attributeDescriptor, entry.getValue());
+            }
+        }
+    }
+
+    private Map<String, IndexType> getSingleAttributeIndexes(String mapName) {
+        Map<String, IndexType> indexes = new HashMap<>();
+        MapContainer mapContainer = mapServiceContext.getExistingMapContainer(mapName);
+        if (mapContainer == null) {
+            return indexes;
+        }
+        for (IndexConfig config : mapContainer.getIndexDefinitions().values()) {
+            if (config.getAttributes().size() == 1) {
+                String attribute = canonicalizeAttribute(config.getAttributes().get(0));
+                indexes.merge(attribute, config.getType(), (current, other) -> current == IndexType.HASH ? other : current);
+            }
+        }
+        return indexes;
+    }
+
+    private static boolean isServed(IndexType existingIndex, boolean needsSortedIndex) {
+        if (existingIndex == null) {
+            return false;
+        }
+        return existingIndex != IndexType.HASH || !needsSortedIndex;
+    }
+
+    /**
+     * The statistics of the partition scans done for an attribute.
+     */
+    public static final class AttributeStats {
+
+        @Probe(name = MAP_METRIC_INDEX_ADVISOR_SCAN_COUNT, unit = COUNT)
+        private final LongAdder scanCount = new LongAdder();
+        @Probe(name = MAP_METRIC_INDEX_ADVISOR_RANGE_SCAN_COUNT, unit = COUNT)
+        private final LongAdder rangeScanCount = new LongAdder();
+        @Probe(name = MAP_METRIC_INDEX_ADVISOR_SCANNED_ENTRY_COUNT, unit = COUNT)
+        private final LongAdder scannedEntryCount = new LongAdder();
+
+        void record(boolean range, long scannedEntries) {
+            scanCount.increment();
+            if (range) {
+                rangeScanCount.increment();
+            }
+            scannedEntryCount.add(scannedEntries);
+        }
+
+        /**
+         * Returns the number of the partition scans done for the attribute.
+         */
+        public long getScanCount() {
+            return scanCount.sum();
+        }
+
+        /**
+         * Returns the number of the partition scans done for range comparisons
+         * on the attribute.
+         */
+        public long getRangeScanCount() {
+            return rangeScanCount.sum();
+        }
+
+        /**
+         * Returns the number of the entries scanned for the attribute.
+         */
+        public long getScannedEntryCount() {
+            return scannedEntryCount.sum();
+        }
+
+        boolean needsSortedIndex() {
+            return rangeScanCount.sum() > 0;
+        }
+    }
+}
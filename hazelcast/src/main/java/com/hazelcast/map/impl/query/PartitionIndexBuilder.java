@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.Records;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.impl.CachedQueryEntry;
+import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hazelcast.config.CacheDeserializedValues.NEVER;
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+
+/**
+ * Populates indexes with the entries of a partition, for instance when a
+ * partition migrates to this member or when an index is added.
+ * <p>
+ * The records are collected on the calling partition thread, then their
+ * attribute values are extracted and inserted into the indexes in chunks.
+ * When there is more than a chunk of records, helper tasks are submitted to
+ * the given executor to process the chunks in parallel. The calling thread
+ * processes the chunks as well, so the build completes even if the executor
+ * is too busy to run the helpers; it waits only for the chunks already taken
+ * by the helpers. The partition thread is blocked until the build completes,
+ * so the records cannot be mutated meanwhile.
+ * <p>
+ * The on-heap index stores take a write lock per insert, so the helpers only
+ * parallelize the deserialization and the attribute extraction, the inserts
+ * into an index are serialized.
+ * <p>
+ * The entries loaded by a {@code MapLoader} are not populated by this class:
+ * they are put in chunks of {@code hazelcast.map.load.chunk.size} entries,
+ * each indexed as it is put, so the partition stays indexed and queries see
+ * the loaded entries while the load is still in progress.
+ * <p>
+ * The records of the {@link InMemoryFormat#NATIVE native} maps are confined to
+ * the partition thread, their indexes are always populated by the calling
+ * thread.
+ */
+public class PartitionIndexBuilder {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private final SerializationService serializationService;
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * @param serializationService the serialization service.
+     * @param executor             the executor to run the helper tasks on.
+     * @param parallelism          the maximum number of threads populating the
+     *                             indexes of a partition, including the calling
+     *                             thread; {@code 1} disables the helpers.
+     */
+    public PartitionIndexBuilder(SerializationService serializationService, Executor executor, int parallelism) {
+        this.serializationService = serializationService;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Inserts the records of the given record store into the given indexes.
+     * Must be called on the partition thread of the record store.
+     *
+     * @param mapContainer    the container of the map the indexes belong to.
+     * @param recordStore     the record store to read the records of.
+     * @param indexes         the indexes to populate.
+     * @param operationSource the source of the index operations.
+     */
+    public void populate(MapContainer mapContainer, RecordStore<?> recordStore, InternalIndex[] indexes,
+                         Index.OperationSource operationSource) {
+        List<Data> keys = new ArrayList<>(recordStore.size());
+        List<Record> records = new ArrayList<>(recordStore.size());
+        recordStore.forEach((key, record) -> {
+            keys.add(key);
+            records.add(record);
+        }, false, false);
+
+        Build build = new Build(mapContainer, keys, records, indexes, operationSource);
+        int helperCount = Math.min(parallelism, build.chunkCount) - 1;
+        if (mapContainer.getMapConfig().getInMemoryFormat() == InMemoryFormat.NATIVE) {
+            helperCount = 0;
+        }
+        for (int i = 0; i < helperCount; i++) {
+            try {
+                executor.execute(build::processChunks);
+            } catch (RejectedExecutionException e) {
+                // the calling thread processes the remaining chunks
+                break;
+            }
+        }
+        build.processChunks();
+        build.await();
+    }
+
+    private final class Build {
+
+        private final MapContainer mapContainer;
+        private final List<Data> keys;
+        private final List<Record> records;
+        private final InternalIndex[] indexes;
+        private final Index.OperationSource operationSource;
+        private final int chunkCount;
+        private final AtomicInteger nextChunk = new AtomicInteger();
+        private final CountDownLatch completedChunks;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Build(MapContainer mapContainer, List<Data> keys, List<Record> records, InternalIndex[] indexes,
+              Index.OperationSource operationSource) {
+            this.mapContainer = mapContainer;
+            this.keys = keys;
+            this.records = records;
+            this.indexes = indexes;
+            this.operationSource = operationSource;
+            this.chunkCount = (keys.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            this.completedChunks = new CountDownLatch(chunkCount);
+        }
+
+        void processChunks() {
+            CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
+            CachedQueryEntry<?, ?> cachedEntry = cacheDeserializedValues == NEVER
+                    ? new CachedQueryEntry<>(serializationService, mapContainer.getExtractors()) : null;
+            for (int chunk = nextChunk.getAndIncrement(); chunk < chunkCount; chunk = nextChunk.getAndIncrement()) {
+                try {
+                    if (failure.get() == null) {
+                        processChunk(chunk, cachedEntry);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    completedChunks.countDown();
+                }
+            }
+        }
+
+        private void processChunk(int chunk, CachedQueryEntry<?, ?> cachedEntry) {
+            Throwable exception = null;
+            int end = Math.min(keys.size(), (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                Data key = keys.get(i);
+                Record record = records.get(i);
+                Object value = Records.getValueOrCachedValue(record, serializationService);
+                if (value == null) {
+                    continue;
+                }
+                QueryableEntry<?, ?> queryEntry = mapContainer.newQueryEntry(key, value);
+                queryEntry.setRecord(record);
+                CachedQueryEntry<?, ?> newEntry =
+                        cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(key, value);
+                for (InternalIndex index : indexes) {
+                    try {
+                        index.putEntry(newEntry, null, queryEntry, operationSource);
+                    } catch (Exception e) {
+                        if (exception == null) {
+                            exception = e;
+                        }
+                    }
+                }
+            }
+            if (exception != null) {
+                throw rethrow(exception);
+            }
+        }
+
+        void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    completedChunks.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable t = failure.get();
+            if (t != null) {
+                throw rethrow(t);
+            }
+        }
+    }
+}
@@ -57,4 +57,10 @@ public interface PartitionScanExecutor {
     QueryableEntriesSegment execute(
             String mapName, Predicate predicate, int partitionId,
             IterationPointer[] pointers, int fetchSize);
+
+    /**
+     * Releases the resources of this executor.
+     */
+    default void shutdown() {
+    }
 }
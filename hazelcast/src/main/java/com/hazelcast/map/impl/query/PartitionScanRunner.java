@@ -36,9 +36,11 @@ import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.QueryableEntriesSegment;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.query.impl.predicates.BatchPredicateEvaluator;
 import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.OperationService;
+import com.hazelcast.spi.properties.ClusterProperty;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -46,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import static com.hazelcast.internal.util.SortingUtil.compareAnchor;
 import static com.hazelcast.internal.util.ToHeapDataConverter.toHeapData;
@@ -63,6 +66,7 @@ public class PartitionScanRunner {
     protected final IPartitionService partitionService;
     protected final OperationService operationService;
     protected final ClusterService clusterService;
+    protected final boolean batchEvaluationEnabled;
 
     public PartitionScanRunner(MapServiceContext mapServiceContext) {
         this.mapServiceContext = mapServiceContext;
@@ -72,6 +76,7 @@ public class PartitionScanRunner {
         this.logger = nodeEngine.getLogger(getClass());
         this.operationService = nodeEngine.getOperationService();
         this.clusterService = nodeEngine.getClusterService();
+        this.batchEvaluationEnabled = nodeEngine.getProperties().getBoolean(ClusterProperty.QUERY_PREDICATE_BATCH_EVALUATION);
     }
 
     @SuppressWarnings("unchecked")
@@ -88,6 +93,15 @@ public class PartitionScanRunner {
         Map.Entry<Integer, Map.Entry> nearestAnchorEntry =
                 pagingPredicate == null ? null : pagingPredicate.getNearestAnchorEntry();
 
+        BatchPredicateEvaluator batchEvaluator = nativeMemory || pagingPredicate != null
+                ? null : createBatchEvaluator(predicate);
+        if (batchEvaluator != null) {
+            BatchScan batchScan = new BatchScan(batchEvaluator, recordStore, useCachedValues, extractors, result);
+            recordStore.forEachAfterLoad(batchScan, false);
+            batchScan.flush();
+            return;
+        }
+
         recordStore.forEachAfterLoad(new BiConsumer<>() {
             LazyMapEntry queryEntry = new LazyMapEntry();
 
@@ -149,6 +163,7 @@ public class PartitionScanRunner {
         PartitionContainer partitionContainer = mapServiceContext.getPartitionContainer(partitionId);
         RecordStore recordStore = partitionContainer.getRecordStore(mapName);
         Extractors extractors = mapServiceContext.getExtractors(mapName);
+        BatchPredicateEvaluator batchEvaluator = createBatchEvaluator(predicate);
 
         return NamespaceUtil.callWithNamespace(nodeEngine, MapService.lookupNamespace(nodeEngine, mapName), () -> {
             IterationPointer[] localPointers = pointers;
@@ -159,6 +174,15 @@ public class PartitionScanRunner {
                 if (entries.isEmpty()) {
                     break;
                 }
+                if (batchEvaluator != null) {
+                    QueryableEntry[] queryEntries = new QueryableEntry[entries.size()];
+                    int count = 0;
+                    for (Entry<Data, Data> entry : entries) {
+                        queryEntries[count++] = new LazyMapEntry(entry.getKey(), entry.getValue(), ss, extractors);
+                    }
+                    filterInBatches(batchEvaluator, queryEntries, count, resultList::add);
+                    continue;
+                }
                 for (Entry<Data, Data> entry : entries) {
                     QueryableEntry queryEntry = new LazyMapEntry(entry.getKey(), entry.getValue(), ss, extractors);
                     if (predicate.apply(queryEntry)) {
@@ -170,7 +194,219 @@ public class PartitionScanRunner {
         });
     }
 
+    /**
+     * Scans a partition without evaluating a predicate: the entries of the
+     * partition are handed over to the given consumer in chunks, so they can
+     * be evaluated with {@link #runOnChunk} by other threads.
+     *
+     * @return {@code false} if the partition can't be scanned in chunks and
+     * nothing was scanned, the partition then has to be scanned with {@link
+     * #run(String, Predicate, int, Result)}
+     */
+    boolean scanInChunks(String mapName, int partitionId, ChunkConsumer consumer) {
+        PartitionContainer partitionContainer = mapServiceContext.getPartitionContainer(partitionId);
+        RecordStore<Record> recordStore = partitionContainer.getRecordStore(mapName);
+        if (recordStore.getInMemoryFormat() == InMemoryFormat.NATIVE) {
+            // the entries would have to be copied to the heap before evaluating the predicate
+            return false;
+        }
+        MapContainer mapContainer = recordStore.getMapContainer();
+        boolean useCachedValues = isUseCachedDeserializedValuesEnabled(mapContainer, partitionId);
+        Extractors extractors = mapServiceContext.getExtractors(mapName);
+
+        ChunkScan chunkScan = new ChunkScan(consumer, recordStore, useCachedValues, extractors);
+        recordStore.forEachAfterLoad(chunkScan, false);
+        chunkScan.flush();
+        return true;
+    }
+
+    /**
+     * Evaluates the predicate on a chunk of entries handed over by {@link
+     * #scanInChunks} and adds the matching ones to the result.
+     *
+     * @return the number of entries added to the result
+     */
+    int runOnChunk(Predicate predicate, QueryableEntry[] entries, int count, Result result) {
+        PagingPredicateImpl pagingPredicate = predicate instanceof PagingPredicateImpl ppi
+                ? ppi : null;
+        BatchPredicateEvaluator batchEvaluator = pagingPredicate == null ? createBatchEvaluator(predicate) : null;
+        if (batchEvaluator != null) {
+            return filterInBatches(batchEvaluator, entries, count, result::add);
+        }
+
+        Map.Entry<Integer, Map.Entry> nearestAnchorEntry =
+                pagingPredicate == null ? null : pagingPredicate.getNearestAnchorEntry();
+        int added = 0;
+        for (int i = 0; i < count; i++) {
+            QueryableEntry queryEntry = entries[i];
+            if (predicate.apply(queryEntry) && compareAnchor(pagingPredicate, queryEntry, nearestAnchorEntry)) {
+                result.add(queryEntry);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Evaluates the predicate on the given entries in batches and passes the
+     * matching ones to the given consumer.
+     *
+     * @return the number of matching entries
+     */
+    private static int filterInBatches(BatchPredicateEvaluator batchEvaluator, QueryableEntry[] entries, int count,
+                                       Consumer<QueryableEntry> matching) {
+        QueryableEntry[] batch = new QueryableEntry[Math.min(count, BatchPredicateEvaluator.BATCH_SIZE)];
+        boolean[] matches = new boolean[batch.length];
+        int matchCount = 0;
+        for (int from = 0; from < count; from += batch.length) {
+            int batchCount = Math.min(batch.length, count - from);
+            System.arraycopy(entries, from, batch, 0, batchCount);
+            batchEvaluator.evaluate(batch, batchCount, matches);
+            for (int i = 0; i < batchCount; i++) {
+                if (matches[i]) {
+                    matching.accept(batch[i]);
+                    matchCount++;
+                }
+            }
+        }
+        return matchCount;
+    }
+
+    /**
+     * @return the evaluator of the predicate on batches of entries, or
+     * {@code null} if the predicate should be evaluated entry by entry
+     */
+    protected BatchPredicateEvaluator createBatchEvaluator(Predicate predicate) {
+        return batchEvaluationEnabled ? BatchPredicateEvaluator.create(predicate) : null;
+    }
+
     protected boolean isUseCachedDeserializedValuesEnabled(MapContainer mapContainer, int partitionId) {
         return mapContainer.isUseCachedDeserializedValuesEnabled(partitionId);
     }
+
+    /**
+     * Collects the records of a partition into batches and adds the entries
+     * of each batch which match the predicate to the result.
+     */
+    private final class BatchScan implements BiConsumer<Data, Record> {
+
+        private final BatchPredicateEvaluator batchEvaluator;
+        private final RecordStore<Record> recordStore;
+        private final boolean useCachedValues;
+        private final Extractors extractors;
+        private final Result result;
+        private final LazyMapEntry[] batch = new LazyMapEntry[BatchPredicateEvaluator.BATCH_SIZE];
+        private final boolean[] matches = new boolean[BatchPredicateEvaluator.BATCH_SIZE];
+        private int count;
+
+        BatchScan(BatchPredicateEvaluator batchEvaluator, RecordStore<Record> recordStore, boolean useCachedValues,
+                  Extractors extractors, Result result) {
+            this.batchEvaluator = batchEvaluator;
+            this.recordStore = recordStore;
+            this.useCachedValues = useCachedValues;
+            this.extractors = extractors;
+            this.result = result;
+        }
+
+        @Override
+        public void accept(Data key, Record record) {
+            Object value = useCachedValues ? getValueOrCachedValue(record, ss) : record.getValue();
+            if (value == null) {
+                return;
+            }
+
+            LazyMapEntry queryEntry = batch[count];
+            if (queryEntry == null) {
+                queryEntry = new LazyMapEntry();
+                batch[count] = queryEntry;
+            }
+            queryEntry.init(ss, toHeapData(key), value, extractors);
+            queryEntry.setRecord(record);
+            queryEntry.setMetadata(recordStore.getOrCreateMetadataStore().get(key));
+            if (++count == batch.length) {
+                flush();
+            }
+        }
+
+        void flush() {
+            batchEvaluator.evaluate(batch, count, matches);
+            for (int i = 0; i < count; i++) {
+                if (matches[i]) {
+                    result.add(batch[i]);
+                    // the entry was added to the result, it can't be reused
+                    batch[i] = null;
+                }
+            }
+            count = 0;
+        }
+    }
+
+    /**
+     * Collects the records of a partition into chunks handed over to a
+     * {@link ChunkConsumer}.
+     */
+    private final class ChunkScan implements BiConsumer<Data, Record> {
+
+        private final ChunkConsumer consumer;
+        private final RecordStore<Record> recordStore;
+        private final boolean useCachedValues;
+        private final Extractors extractors;
+        private QueryableEntry[] chunk;
+        private int count;
+
+        ChunkScan(ChunkConsumer consumer, RecordStore<Record> recordStore, boolean useCachedValues,
+                  Extractors extractors) {
+            this.consumer = consumer;
+            this.recordStore = recordStore;
+            this.useCachedValues = useCachedValues;
+            this.extractors = extractors;
+        }
+
+        @Override
+        public void accept(Data key, Record record) {
+            Object value = useCachedValues ? getValueOrCachedValue(record, ss) : record.getValue();
+            if (value == null) {
+                return;
+            }
+
+            LazyMapEntry queryEntry = new LazyMapEntry(toHeapData(key), value, ss, extractors);
+            queryEntry.setRecord(record);
+            queryEntry.setMetadata(recordStore.getOrCreateMetadataStore().get(key));
+            if (chunk == null) {
+                chunk = new QueryableEntry[consumer.nextChunkSize()];
+            }
+            chunk[count++] = queryEntry;
+            if (count == chunk.length) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (count > 0) {
+                consumer.accept(chunk, count);
+                chunk = null;
+                count = 0;
+            }
+        }
+    }
+
+    /**
+     * Receives the entries of a partition scanned by {@link #scanInChunks}.
+     */
+    interface ChunkConsumer {
+
+        /**
+         * @return the number of entries of the next chunk
+         */
+        int nextChunkSize();
+
+        /**
+         * Accepts a chunk of entries. The chunk array is not used by the scan
+         * afterward.
+         *
+         * @param entries the entries of the chunk
+         * @param count   the number of entries in the chunk array
+         */
+        void accept(QueryableEntry[] entries, int count);
+    }
 }
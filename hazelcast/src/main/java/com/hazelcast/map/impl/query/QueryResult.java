@@ -186,15 +186,31 @@ public class QueryResult implements Result<QueryResult>, Iterable<QueryResultRow
     @Override
     public void add(QueryableEntry entry) {
         if (++resultSize > resultLimit) {
-            if (mapStats != null) {
-                mapStats.incrementQueryResultSizeExceededCount();
-            }
-            throw new QueryResultSizeExceededException();
+            throw resultSizeExceeded();
         }
 
         rows.add(orderAndLimitExpected ? entry : convertEntryToRow(entry));
     }
 
+    /**
+     * @return the upper limit on the number of items this result can hold.
+     */
+    long getResultLimit() {
+        return resultLimit;
+    }
+
+    /**
+     * Records that the result size limit was exceeded in the map statistics.
+     *
+     * @return the exception to throw.
+     */
+    QueryResultSizeExceededException resultSizeExceeded() {
+        if (mapStats != null) {
+            mapStats.incrementQueryResultSizeExceededCount();
+        }
+        return new QueryResultSizeExceededException();
+    }
+
     @Override
     public QueryResult createSubResult() {
         return new QueryResult(iterationType, projection, ss, resultLimit, orderAndLimitExpected, mapStats);
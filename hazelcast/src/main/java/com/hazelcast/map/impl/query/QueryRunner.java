@@ -30,9 +30,12 @@ import com.hazelcast.map.impl.PartitionContainer;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.GlobalIndexPartitionTracker.PartitionStamp;
 import com.hazelcast.query.impl.IndexRegistry;
+import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.QueryableEntriesSegment;
 import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
 import com.hazelcast.query.impl.predicates.QueryOptimizer;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.OperationService;
@@ -59,6 +62,7 @@ public class QueryRunner {
     protected final ClusterService clusterService;
     protected final LocalMapStatsProvider localMapStatsProvider;
     protected final PartitionScanExecutor partitionScanExecutor;
+    protected final IndexAdvisor indexAdvisor;
     protected final ResultProcessorRegistry resultProcessorRegistry;
 
     private final int partitionCount;
@@ -77,6 +81,7 @@ public class QueryRunner {
         this.clusterService = nodeEngine.getClusterService();
         this.localMapStatsProvider = mapServiceContext.getLocalMapStatsProvider();
         this.partitionScanExecutor = partitionScanExecutor;
+        this.indexAdvisor = mapServiceContext.getIndexAdvisor();
         this.resultProcessorRegistry = resultProcessorRegistry;
         this.partitionCount = nodeEngine.getPartitionService().getPartitionCount();
     }
@@ -160,7 +165,11 @@ public class QueryRunner {
 
         Result result;
         if (entries == null) {
-            result = runUsingPartitionScanSafely(query, predicate, actualPartitions, migrationStamp);
+            result = runUsingPartiallyIndexedGlobalIndexSafely(query, predicate, mapContainer, actualPartitions,
+                    migrationStamp);
+            if (result == null) {
+                result = runUsingPartitionScanSafely(query, predicate, actualPartitions, migrationStamp);
+            }
             if (result == null) {
                 // full scan didn't work, returning empty result
                 result = populateEmptyResult(query, actualPartitions);
@@ -237,6 +246,7 @@ public class QueryRunner {
         if (entries == null) {
             result = createResult(query, partitions);
             partitionScanExecutor.execute(query.getMapName(), predicate, partitions, result);
+            indexAdvisor.onPartitionScan(query.getMapName(), predicate, partitions);
             result.completeConstruction(partitions);
         } else {
             result = populateNonEmptyResult(query, entries, partitions);
@@ -297,6 +307,79 @@ public class QueryRunner {
         return null;
     }
 
+    /**
+     * Runs the query on the partitions already indexed by the global indexes
+     * using the indexes, and on the other partitions using a partition scan.
+     * The global indexes are not used by {@link #runUsingGlobalIndexSafely}
+     * until all the owned partitions are indexed, so without this the queries
+     * scan all the partitions while the indexes of a few partitions are being
+     * populated, for instance after a migration.
+     *
+     * @return the result of the query, or {@code null} if the indexes have no
+     * indexed partitions to serve or can't serve the predicate, or if the
+     * indexed partitions changed during the query.
+     */
+    @SuppressWarnings({"unchecked", "checkstyle:npathcomplexity", "checkstyle:cyclomaticcomplexity"})
+    protected Result runUsingPartiallyIndexedGlobalIndexSafely(Query query, Predicate predicate, MapContainer mapContainer,
+                                                               PartitionIdSet partitions, int migrationStamp) {
+        IndexRegistry indexRegistry = mapContainer.getGlobalIndexRegistry();
+        if (indexRegistry == null || !indexRegistry.isGlobal() || !validateMigrationStamp(migrationStamp)) {
+            return null;
+        }
+
+        // the indexes must agree on the indexed partitions, since the query may use any of them
+        InternalIndex[] indexes = indexRegistry.getIndexes();
+        if (indexes.length == 0) {
+            return null;
+        }
+        PartitionStamp[] stamps = new PartitionStamp[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            stamps[i] = indexes[i].getIndexedPartitionStamp();
+            if (!stamps[i].partitions.equals(stamps[0].partitions)) {
+                return null;
+            }
+        }
+        PartitionIdSet indexedPartitions = partitions.intersectCopy(stamps[0].partitions);
+        if (indexedPartitions.isEmpty()) {
+            return null;
+        }
+
+        Iterable<QueryableEntry> entries = indexRegistry.query(predicate, -1);
+        if (entries == null) {
+            return null;
+        }
+
+        Result result = createResult(query, partitions);
+        for (QueryableEntry entry : entries) {
+            int partitionId = HashUtil.hashToIndex(entry.getKeyData().getPartitionHash(), partitionCount);
+            if (indexedPartitions.contains(partitionId)) {
+                result.add(entry);
+            }
+        }
+        PartitionIdSet scannedPartitions = partitions.copy();
+        scannedPartitions.removeAll(indexedPartitions);
+        if (!scannedPartitions.isEmpty()) {
+            partitionScanExecutor.execute(query.getMapName(), predicate, scannedPartitions, result);
+            indexAdvisor.onPartitionScan(query.getMapName(), predicate, scannedPartitions);
+        }
+        // not every partition scan executor orders and limits the result of a paging query
+        // once all the partitions are scanned, and the entries from the index need it too
+        if (predicate instanceof PagingPredicateImpl pagingPredicate) {
+            result.orderAndLimit(pagingPredicate, pagingPredicate.getNearestAnchorEntry());
+        }
+
+        for (int i = 0; i < indexes.length; i++) {
+            if (!indexes[i].validatePartitionStamp(stamps[i].stamp)) {
+                return null;
+            }
+        }
+        if (!validateMigrationStamp(migrationStamp)) {
+            return null;
+        }
+        result.completeConstruction(partitions);
+        return result;
+    }
+
     protected Result runUsingPartitionScanSafely(Query query, Predicate predicate,
                                                  PartitionIdSet partitions, int migrationStamp) {
 
@@ -306,6 +389,7 @@ public class QueryRunner {
 
         Result result = createResult(query, partitions);
         partitionScanExecutor.execute(query.getMapName(), predicate, partitions, result);
+        indexAdvisor.onPartitionScan(query.getMapName(), predicate, partitions);
 
         // If a migration is in progress or migration ownership changes, this means migrations were executed and we may
         // return stale data, so we should rather return null.
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.QueryableEntriesSegment;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static com.hazelcast.internal.util.FutureUtil.RETHROW_EVERYTHING;
+import static com.hazelcast.internal.util.FutureUtil.returnWithDeadline;
+import static com.hazelcast.internal.util.SetUtil.singletonPartitionIdSet;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Implementation of the {@link PartitionScanExecutor} which scans the
+ * partitions in a work-stealing {@link ForkJoinPool}.
+ * <p>
+ * Each partition is scanned by its own task, which hands the entries of the
+ * partition over in chunks to subtasks evaluating the predicate. Idle workers
+ * steal these subtasks, so a partition much larger than the others is
+ * evaluated by several threads. The chunks start small and grow as the
+ * partition turns out to be large, and a chunk is evaluated by the scanning
+ * task itself when there is already enough queued work to steal.
+ * <p>
+ * When a task fails, for example because the result size limit enforced for
+ * the {@link QueryResultSizeLimiter} is exceeded, or when the scan times out,
+ * the remaining tasks stop at their next chunk.
+ */
+public class WorkStealingPartitionScanExecutor implements PartitionScanExecutor {
+
+    static final int MIN_CHUNK_SIZE = 256;
+    static final int MAX_CHUNK_SIZE = 16 * 1024;
+
+    /**
+     * Chunks are forked only while the scanning worker has fewer queued
+     * tasks than this.
+     */
+    private static final int MAX_SURPLUS_QUEUED_TASKS = 3;
+
+    private final PartitionScanRunner partitionScanRunner;
+    private final ForkJoinPool pool;
+    private final int timeoutInMillis;
+
+    public WorkStealingPartitionScanExecutor(PartitionScanRunner partitionScanRunner,
+                                             ForkJoinPool pool,
+                                             int timeoutInMillis) {
+        this.partitionScanRunner = partitionScanRunner;
+        this.pool = pool;
+        this.timeoutInMillis = timeoutInMillis;
+    }
+
+    /**
+     * Creates a pool for the executor.
+     *
+     * @param parallelism      the number of worker threads
+     * @param threadNamePrefix the prefix of the worker thread names
+     * @param classLoader      the context class loader of the worker threads
+     * @return the created pool
+     */
+    public static ForkJoinPool newPool(int parallelism, String threadNamePrefix, ClassLoader classLoader) {
+        AtomicInteger threadId = new AtomicInteger();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadNamePrefix + threadId.incrementAndGet());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void execute(String mapName, Predicate predicate, Collection<Integer> partitions, Result result) {
+        Scan scan = new Scan(mapName, predicate, result);
+        List<PartitionScanTask> tasks = new ArrayList<>(partitions.size());
+        for (Integer partitionId : partitions) {
+            tasks.add(new PartitionScanTask(scan, partitionId));
+        }
+
+        Future<Void> future = pool.submit(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        try {
+            returnWithDeadline(singletonList(future), timeoutInMillis, MILLISECONDS, RETHROW_EVERYTHING);
+        } finally {
+            // stops the tasks still running after a timeout
+            scan.cancel();
+        }
+
+        Throwable failure = scan.failure.get();
+        if (failure != null) {
+            throw rethrow(failure);
+        }
+        for (Result subResult : scan.subResults) {
+            result.combine(subResult);
+        }
+        if (predicate instanceof PagingPredicateImpl pagingPredicate) {
+            Map.Entry<Integer, Map.Entry> nearestAnchorEntry = pagingPredicate.getNearestAnchorEntry();
+            result.orderAndLimit(pagingPredicate, nearestAnchorEntry);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Parallel execution for a partition chunk query is not supported.
+     */
+    @Override
+    public QueryableEntriesSegment execute(
+            String mapName, Predicate predicate, int partitionId,
+            IterationPointer[] pointers, int fetchSize) {
+        return partitionScanRunner.run(mapName, predicate, partitionId, pointers, fetchSize);
+    }
+
+    @Override
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * State shared by the tasks of a single {@link #execute} call.
+     */
+    private static final class Scan {
+
+        final String mapName;
+        final Predicate predicate;
+        final Result result;
+        final Queue<Result> subResults = new ConcurrentLinkedQueue<>();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final AtomicLong resultSize = new AtomicLong();
+        final long resultLimit;
+        volatile boolean cancelled;
+
+        Scan(String mapName, Predicate predicate, Result result) {
+            this.mapName = mapName;
+            this.predicate = predicate;
+            this.result = result;
+            // the sub results enforce the limit on their own size, this one is
+            // enforced on the total size
+            this.resultLimit = result instanceof QueryResult queryResult ? queryResult.getResultLimit() : Long.MAX_VALUE;
+        }
+
+        void onEntriesAdded(int count) {
+            if (resultSize.addAndGet(count) > resultLimit && !cancelled) {
+                fail(((QueryResult) result).resultSizeExceeded());
+            }
+        }
+
+        void fail(Throwable t) {
+            failure.compareAndSet(null, t);
+            cancel();
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * Scans a partition and hands its entries over to {@link ChunkTask}s.
+     */
+    private final class PartitionScanTask extends RecursiveAction implements PartitionScanRunner.ChunkConsumer {
+
+        private final Scan scan;
+        private final int partitionId;
+        private final List<ChunkTask> forkedTasks = new ArrayList<>();
+        private Result partitionResult;
+        private int chunkSize = MIN_CHUNK_SIZE;
+
+        PartitionScanTask(Scan scan, int partitionId) {
+            this.scan = scan;
+            this.partitionId = partitionId;
+        }
+
+        @Override
+        protected void compute() {
+            partitionResult = newSubResult(scan, partitionId);
+            try {
+                if (!partitionScanRunner.scanInChunks(scan.mapName, partitionId, this)) {
+                    partitionScanRunner.run(scan.mapName, scan.predicate, partitionId, partitionResult);
+                }
+                scan.subResults.add(partitionResult);
+            } catch (ScanCancelledException e) {
+                // another task failed, the result is dropped anyway
+                ignore(e);
+            } catch (Throwable t) {
+                scan.fail(t);
+            }
+            for (ChunkTask task : forkedTasks) {
+                // runs the task here if it was not stolen yet
+                task.join();
+            }
+        }
+
+        @Override
+        public int nextChunkSize() {
+            return chunkSize;
+        }
+
+        @Override
+        public void accept(QueryableEntry[] entries, int count) {
+            if (scan.cancelled) {
+                throw ScanCancelledException.INSTANCE;
+            }
+            // the more chunks a partition has, the larger they get
+            chunkSize = Math.min(chunkSize << 1, MAX_CHUNK_SIZE);
+            if (getSurplusQueuedTaskCount() < MAX_SURPLUS_QUEUED_TASKS) {
+                ChunkTask task = new ChunkTask(scan, partitionId, entries, count);
+                task.fork();
+                forkedTasks.add(task);
+            } else {
+                scan.onEntriesAdded(partitionScanRunner.runOnChunk(scan.predicate, entries, count, partitionResult));
+            }
+        }
+    }
+
+    /**
+     * Evaluates the predicate on a chunk of a partition.
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+        private final Scan scan;
+        private final int partitionId;
+        private final QueryableEntry[] entries;
+        private final int count;
+
+        ChunkTask(Scan scan, int partitionId, QueryableEntry[] entries, int count) {
+            this.scan = scan;
+            this.partitionId = partitionId;
+            this.entries = entries;
+            this.count = count;
+        }
+
+        @Override
+        protected void compute() {
+            if (scan.cancelled) {
+                return;
+            }
+            try {
+                Result chunkResult = newSubResult(scan, partitionId);
+                int added = partitionScanRunner.runOnChunk(scan.predicate, entries, count, chunkResult);
+                scan.subResults.add(chunkResult);
+                scan.onEntriesAdded(added);
+            } catch (Throwable t) {
+                scan.fail(t);
+            }
+        }
+    }
+
+    private Result newSubResult(Scan scan, int partitionId) {
+        Result subResult = scan.result.createSubResult();
+        // the results without partition IDs are skipped when combined
+        PartitionIdSet partitionIds = singletonPartitionIdSet(partitionScanRunner.partitionService.getPartitionCount(),
+                partitionId);
+        subResult.setPartitionIds(partitionIds);
+        return subResult;
+    }
+
+    /**
+     * Stops the scan of a partition when the query has been cancelled.
+     */
+    private static final class ScanCancelledException extends RuntimeException {
+
+        static final ScanCancelledException INSTANCE = new ScanCancelledException();
+
+        private ScanCancelledException() {
+            super("Partition scan cancelled", null, false, false);
+        }
+    }
+}
@@ -59,7 +59,9 @@ public class DataRecordFactory implements RecordFactory<Data> {
         }
 
         if (hasEviction) {
-            if (mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.LRU) {
+            // TINY_LFU breaks the ties of the estimated frequencies by the last access time
+            if (mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.LRU
+                    || mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.TINY_LFU) {
                 return new CachedSimpleRecordWithLRUEviction(valueData);
             }
 
@@ -84,7 +86,9 @@ public class DataRecordFactory implements RecordFactory<Data> {
         }
 
         if (hasEviction) {
-            if (mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.LRU) {
+            // TINY_LFU breaks the ties of the estimated frequencies by the last access time
+            if (mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.LRU
+                    || mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.TINY_LFU) {
                 return new SimpleRecordWithLRUEviction<>(valueData);
             }
 
@@ -56,7 +56,9 @@ public class ObjectRecordFactory implements RecordFactory<Object> {
         }
 
         if (hasEviction) {
-            if (mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.LRU) {
+            // TINY_LFU breaks the ties of the estimated frequencies by the last access time
+            if (mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.LRU
+                    || mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.TINY_LFU) {
                 return new SimpleRecordWithLRUEviction<>(objectValue);
             }
 
@@ -20,6 +20,7 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.core.EntryEventType;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.internal.eviction.ExpiredKey;
+import com.hazelcast.internal.eviction.FrequencySketch;
 import com.hazelcast.internal.nearcache.impl.invalidation.InvalidationQueue;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.map.impl.MapContainer;
@@ -40,6 +41,7 @@ import java.util.Queue;
 
 import static com.hazelcast.core.EntryEventType.EVICTED;
 import static com.hazelcast.core.EntryEventType.EXPIRED;
+import static com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider.usesFrequencySketch;
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
 import static com.hazelcast.map.impl.eviction.Evictor.NULL_EVICTOR;
 import static com.hazelcast.map.impl.recordstore.expiry.ExpiryReason.MAX_IDLE_SECONDS;
@@ -54,6 +56,8 @@ public abstract class AbstractEvictableRecordStore extends AbstractRecordStore {
     protected final EventService eventService;
     protected final MapEventPublisher mapEventPublisher;
     protected final ExpirySystem expirySystem;
+    // only set when the accesses of the keys are counted for the eviction
+    protected final FrequencySketch frequencySketch;
 
     protected AbstractEvictableRecordStore(MapContainer mapContainer, int partitionId) {
         super(mapContainer, partitionId);
@@ -62,6 +66,8 @@ public abstract class AbstractEvictableRecordStore extends AbstractRecordStore {
         mapEventPublisher = mapServiceContext.getMapEventPublisher();
         thisAddress = nodeEngine.getThisAddress();
         expirySystem = createExpirySystem(mapContainer);
+        frequencySketch = usesFrequencySketch(mapContainer.getMapConfig().getEvictionConfig())
+                ? new FrequencySketch() : null;
     }
 
     @Override
@@ -91,6 +97,11 @@ public abstract class AbstractEvictableRecordStore extends AbstractRecordStore {
         }
     }
 
+    @Override
+    public FrequencySketch getFrequencySketch() {
+        return frequencySketch;
+    }
+
     @Override
     public void sampleAndForceRemoveEntries(int entryCountToRemove) {
         Queue<Data> keysToRemove = new LinkedList<>();
@@ -184,6 +195,20 @@ public abstract class AbstractEvictableRecordStore extends AbstractRecordStore {
         record.onAccess(now);
         updateStatsOnGet(now);
         expirySystem.extendExpiryTime(dataKey, now);
+        countAccess(dataKey);
+    }
+
+    @Override
+    public void onMiss(Data dataKey) {
+        stats.increaseMisses();
+        countAccess(dataKey);
+    }
+
+    protected void countAccess(Data dataKey) {
+        if (frequencySketch != null) {
+            frequencySketch.ensureCapacity(storage.size());
+            frequencySketch.increment(dataKey.hashCode());
+        }
     }
 
     public boolean mergeRecordExpiration(Data key, Record record, MapMergeTypes mergingEntry, long now) {
@@ -20,6 +20,7 @@ import com.hazelcast.config.EventJournalConfig;
 import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapStorageType;
 import com.hazelcast.config.MetadataPolicy;
 import com.hazelcast.internal.locksupport.LockStore;
 import com.hazelcast.internal.locksupport.LockSupportService;
@@ -175,6 +176,9 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     }
 
     public Storage createStorage(RecordFactory recordFactory, InMemoryFormat memoryFormat) {
+        if (mapContainer.getMapConfig().getStorageType() == MapStorageType.OPEN_ADDRESSING) {
+            return new OpenAddressingStorageImpl(memoryFormat, getExpirySystem(), serializationService);
+        }
         return new StorageImpl(memoryFormat, getExpirySystem(), serializationService);
     }
 
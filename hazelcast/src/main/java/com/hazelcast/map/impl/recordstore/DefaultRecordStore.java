@@ -751,9 +751,14 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
         Record record = getRecordOrNull(key, now, backup);
         if (record != null && touch) {
             accessRecord(key, record, now);
-        } else if (record == null && mapDataStore != EMPTY_MAP_DATA_STORE) {
-            record = loadRecordOrNull(key, backup, callerAddress, now);
-            record = evictIfExpired(key, now, backup) ? null : record;
+        } else if (record == null) {
+            if (touch) {
+                onMiss(key);
+            }
+            if (mapDataStore != EMPTY_MAP_DATA_STORE) {
+                record = loadRecordOrNull(key, backup, callerAddress, now);
+                record = evictIfExpired(key, now, backup) ? null : record;
+            }
         }
         Object value = record == null ? null : record.getValue();
         value = mapServiceContext.interceptGet(interceptorRegistry, value);
@@ -1078,6 +1083,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
                             boolean backup) {
         storage.put(key, record);
         expirySystem.add(key, ttl, maxIdle, expiryTime, now, now);
+        countAccess(key);
 
         if (entryEventType == EntryEventType.LOADED) {
             mutationObserver.onLoadRecord(key, record, backup);
@@ -1118,6 +1124,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
                                boolean changeExpiryOnUpdate, long ttl, long maxIdle,
                                long expiryTime, long now, boolean backup) {
         Record latestRecordAfterUpdate = storage.updateRecordValue(key, record, newValue);
+        countAccess(key);
         if (changeExpiryOnUpdate) {
             expirySystem.add(key, ttl, maxIdle, expiryTime, now, now);
         }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.serialization.Data;
+
+import java.util.Arrays;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.serialization.impl.HeapData.TYPE_OFFSET;
+
+/**
+ * Append-only store of serialized keys, laid out back to back in
+ * {@code byte[]} pages. Each key blob is prefixed with its length.
+ * <p>
+ * A key is addressed by a {@code long} whose upper half is the page
+ * index and whose lower half is the offset inside the page. Written
+ * bytes are never modified, so a published address stays readable
+ * for as long as the slab instance is reachable. Space of removed
+ * keys is only reclaimed by copying the live keys into a new slab.
+ * <p>
+ * Appends must be done by a single thread, reads are safe from any
+ * thread that obtained the address through a happens-before edge.
+ */
+final class KeySlab {
+
+    static final int MIN_PAGE_SIZE = 1 << 10;
+    static final int MAX_PAGE_SIZE = 1 << 16;
+
+    private static final int PAGE_INDEX_SHIFT = 32;
+    private static final long OFFSET_MASK = 0xFFFFFFFFL;
+
+    private volatile byte[][] pages = new byte[0][];
+    private int pageCount;
+    private int pageOffset;
+    private long usedBytes;
+
+    /**
+     * Appends the blob of the given key.
+     *
+     * @return the address of the appended key
+     */
+    long append(Data key) {
+        int keySize = key.totalSize();
+        byte[] page = pageFor(INT_SIZE_IN_BYTES + keySize);
+        int offset = pageOffset;
+        writeIntB(page, offset, keySize);
+        if (keySize > 0) {
+            key.copyTo(page, offset + INT_SIZE_IN_BYTES);
+        }
+        pageOffset += INT_SIZE_IN_BYTES + keySize;
+        usedBytes += INT_SIZE_IN_BYTES + keySize;
+        return toAddress(pageCount - 1, offset);
+    }
+
+    /**
+     * Copies the key at the given address of another slab into this one.
+     *
+     * @return the address of the copied key in this slab
+     */
+    long copyFrom(KeySlab source, long address) {
+        byte[] sourcePage = source.pages[pageIndex(address)];
+        int sourceOffset = offset(address);
+        int length = INT_SIZE_IN_BYTES + readIntB(sourcePage, sourceOffset);
+        byte[] page = pageFor(length);
+        int offset = pageOffset;
+        System.arraycopy(sourcePage, sourceOffset, page, offset, length);
+        pageOffset += length;
+        usedBytes += length;
+        return toAddress(pageCount - 1, offset);
+    }
+
+    /**
+     * @return a view of the key blob stored at the given address, the
+     * blob is not copied
+     */
+    SlabKey key(long address) {
+        byte[] page = pages[pageIndex(address)];
+        int offset = offset(address);
+        return new SlabKey(page, offset + INT_SIZE_IN_BYTES, readIntB(page, offset));
+    }
+
+    /**
+     * Compares the key blob at the given address with the supplied key,
+     * using the same notion of equality as {@code HeapData#equals}: the
+     * partition hash header is not taken into account.
+     */
+    boolean matches(long address, Data key) {
+        byte[] page = pages[pageIndex(address)];
+        int offset = offset(address);
+        int keySize = readIntB(page, offset);
+        if (keySize != key.totalSize()) {
+            return false;
+        }
+        if (keySize <= TYPE_OFFSET) {
+            return true;
+        }
+        if (key instanceof SlabKey slabKey) {
+            return slabKey.contentEquals(page, offset + INT_SIZE_IN_BYTES);
+        }
+        int from = offset + INT_SIZE_IN_BYTES;
+        return Arrays.equals(page, from + TYPE_OFFSET, from + keySize, key.toByteArray(), TYPE_OFFSET, keySize);
+    }
+
+    /**
+     * @return number of bytes occupied by the key blob at the given
+     * address, including its length prefix
+     */
+    int sizeAt(long address) {
+        return INT_SIZE_IN_BYTES + readIntB(pages[pageIndex(address)], offset(address));
+    }
+
+    /**
+     * @return number of bytes appended to this slab so far, including
+     * the ones of removed keys
+     */
+    long usedBytes() {
+        return usedBytes;
+    }
+
+    private byte[] pageFor(int length) {
+        byte[][] currentPages = pages;
+        if (pageCount > 0 && currentPages[pageCount - 1].length - pageOffset >= length) {
+            return currentPages[pageCount - 1];
+        }
+        int lastPageSize = pageCount > 0 ? currentPages[pageCount - 1].length : 0;
+        byte[] page = new byte[Math.max(length, Math.min(MAX_PAGE_SIZE, Math.max(MIN_PAGE_SIZE, lastPageSize << 1)))];
+        if (pageCount == currentPages.length) {
+            currentPages = Arrays.copyOf(currentPages, Math.max(1, pageCount << 1));
+        }
+        currentPages[pageCount++] = page;
+        pageOffset = 0;
+        // publish the new page before any address referring to it
+        pages = currentPages;
+        return page;
+    }
+
+    private static long toAddress(int pageIndex, int offset) {
+        return ((long) pageIndex << PAGE_INDEX_SHIFT) | offset;
+    }
+
+    private static int pageIndex(long address) {
+        return (int) (address >>> PAGE_INDEX_SHIFT);
+    }
+
+    private static int offset(long address) {
+        return (int) (address & OFFSET_MASK);
+    }
+}
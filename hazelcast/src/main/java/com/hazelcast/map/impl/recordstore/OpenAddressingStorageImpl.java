@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MapStorageType;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.util.ThreadLocalRandomProvider;
+import com.hazelcast.internal.util.collection.HsaHeapMemoryManager;
+import com.hazelcast.internal.util.hashslot.HashSlotArray16byteKey;
+import com.hazelcast.internal.util.hashslot.SlotAssignmentResult;
+import com.hazelcast.internal.util.hashslot.impl.HashSlotArray16byteKeyImpl;
+import com.hazelcast.map.impl.EntryCostEstimator;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.hashslot.impl.CapacityUtil.DEFAULT_LOAD_FACTOR;
+import static com.hazelcast.map.impl.OwnedEntryCostEstimatorFactory.createMapSizeEstimator;
+
+/**
+ * {@link Storage} implementation used when a map is configured with
+ * {@link MapStorageType#OPEN_ADDRESSING}.
+ * <p>
+ * Contrary to {@link StorageImpl}, no hash-map node and no {@link Data}
+ * instance is kept per entry. Serialized keys are appended to a
+ * {@link KeySlab} and located through an open-addressing
+ * {@link HashSlotArray16byteKey}, whose memory is obtained from the
+ * supplied {@link MemoryManager}. The slot key is the 64-bit hash of the
+ * key blob plus a collision ordinal, the slot value is an entry id. The
+ * entry id indexes the tables holding the key address and the record.
+ * <p>
+ * Records stay on-heap since the record store updates their metadata in
+ * place. Entry ids are stable while the entry exists, which is what the
+ * iteration cursors are based on.
+ * <p>
+ * This does not make an entry take fewer bytes. With compressed oops,
+ * {@link StorageImpl} spends about 70 bytes plus the key blob per entry on
+ * the hash-map node, its table slot, the {@link Data} object and its
+ * {@code byte[]}. Here, the 24-byte index slot at a load factor of 0.6, the
+ * key address and record reference, and the 4-byte length prefix of the
+ * key blob add up to a comparable amount. What is saved is the three
+ * objects per entry: keys live in a few large slab pages and the index in
+ * memory manager blocks, so the garbage collector has far fewer objects
+ * to trace. Iteration and sampling hand out {@link SlabKey} views of the
+ * slab instead of copying key blobs.
+ * <p>
+ * All mutations and key lookups must be done by the partition thread.
+ * Iteration and sampling may run concurrently on other threads, e.g. in
+ * a parallel partition scan, and then observe a weakly consistent view.
+ *
+ * @param <R> the value type to be put in this storage.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class OpenAddressingStorageImpl<R extends Record> implements Storage<Data, R> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final long UNASSIGNED_SENTINEL = -1L;
+
+    private final MemoryAccessor mem;
+    private final HashSlotArray16byteKey index;
+    private final SerializationService serializationService;
+    private final ExpirySystem expirySystem;
+    private final InMemoryFormat inMemoryFormat;
+
+    private volatile EntryTable<R> table = new EntryTable<>(DEFAULT_INITIAL_CAPACITY, new KeySlab());
+    private volatile int highWaterMark;
+    @SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT",
+            justification = "Storage is mutated by only its own partition thread.")
+    private volatile int size;
+    private int[] freeIds = new int[DEFAULT_INITIAL_CAPACITY];
+    private int freeIdCount;
+    private long liveKeyBytes;
+
+    // not final for testing purposes.
+    private EntryCostEstimator<Data, Record> entryCostEstimator;
+
+    public OpenAddressingStorageImpl(InMemoryFormat inMemoryFormat, ExpirySystem expirySystem,
+                                     SerializationService serializationService) {
+        this(inMemoryFormat, expirySystem, serializationService, new HsaHeapMemoryManager());
+    }
+
+    /**
+     * @param memoryManager memory manager backing the hash index. It is safe for
+     *                      its {@link MemoryManager#getAccessor} method to return an
+     *                      accessor that only supports aligned memory access.
+     */
+    public OpenAddressingStorageImpl(InMemoryFormat inMemoryFormat, ExpirySystem expirySystem,
+                                     SerializationService serializationService, MemoryManager memoryManager) {
+        this.entryCostEstimator = createMapSizeEstimator(inMemoryFormat);
+        this.inMemoryFormat = inMemoryFormat;
+        this.expirySystem = expirySystem;
+        this.serializationService = serializationService;
+        this.mem = memoryManager.getAccessor();
+        this.index = new HashSlotArray16byteKeyImpl(UNASSIGNED_SENTINEL, memoryManager, LONG_SIZE_IN_BYTES,
+                DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+        this.index.gotoNew();
+    }
+
+    @Override
+    public void put(Data key, R record) {
+        long hash = key.hash64();
+        EntryTable<R> t = table;
+        long ordinal = 0;
+        for (long valueAddress; (valueAddress = index.get(hash, ordinal)) != NULL_ADDRESS; ordinal++) {
+            int id = (int) mem.getLong(valueAddress);
+            if (t.keys.matches(t.keyAddresses.get(id), key)) {
+                R previousRecord = t.records.getAndSet(id, record);
+                updateCostEstimate(-entryCostEstimator.calculateValueCost(previousRecord));
+                updateCostEstimate(entryCostEstimator.calculateValueCost(record));
+                return;
+            }
+        }
+
+        int id = allocateId();
+        t = table;
+        long keyAddress = t.keys.append(key);
+        liveKeyBytes += t.keys.sizeAt(keyAddress);
+        t.keyAddresses.set(id, keyAddress);
+        // publishing the record makes the entry visible to concurrent readers
+        t.records.set(id, record);
+        SlotAssignmentResult slot = index.ensure(hash, ordinal);
+        mem.putLong(slot.address(), id);
+        size++;
+
+        updateCostEstimate(entryCostEstimator.calculateEntryCost(key, record));
+    }
+
+    @Override
+    public R updateRecordValue(Data key, R record, Object value) {
+        updateCostEstimate(-entryCostEstimator.calculateValueCost(record));
+
+        record.setValue(inMemoryFormat == BINARY
+                ? serializationService.toData(value) : serializationService.toObject(value));
+
+        updateCostEstimate(entryCostEstimator.calculateValueCost(record));
+        return record;
+    }
+
+    @Override
+    public R get(Data key) {
+        int id = findId(key, key.hash64());
+        return id < 0 ? null : table.records.get(id);
+    }
+
+    @Override
+    public R getIfSameKey(Data key) {
+        throw new UnsupportedOperationException("OpenAddressingStorageImpl#getIfSameKey");
+    }
+
+    @Override
+    public void removeRecord(Data dataKey, @Nonnull R record) {
+        long hash = dataKey.hash64();
+        EntryTable<R> t = table;
+        long ordinal = 0;
+        int id = -1;
+        for (long valueAddress; (valueAddress = index.get(hash, ordinal)) != NULL_ADDRESS; ordinal++) {
+            int candidate = (int) mem.getLong(valueAddress);
+            if (t.keys.matches(t.keyAddresses.get(candidate), dataKey)) {
+                id = candidate;
+                break;
+            }
+        }
+        if (id < 0) {
+            return;
+        }
+        removeFromIndex(hash, ordinal);
+
+        liveKeyBytes -= t.keys.sizeAt(t.keyAddresses.get(id));
+        t.records.set(id, null);
+        releaseId(id);
+        size--;
+
+        updateCostEstimate(-entryCostEstimator.calculateEntryCost(dataKey, record));
+        compactKeysIfNeeded();
+    }
+
+    @Override
+    public boolean containsKey(Data key) {
+        return findId(key, key.hash64()) >= 0;
+    }
+
+    @Override
+    public Iterator<Map.Entry<Data, R>> mutationTolerantIterator() {
+        return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear(boolean isDuringShutdown) {
+        index.dispose();
+        index.gotoNew();
+        table = new EntryTable<>(DEFAULT_INITIAL_CAPACITY, new KeySlab());
+        highWaterMark = 0;
+        size = 0;
+        freeIds = new int[DEFAULT_INITIAL_CAPACITY];
+        freeIdCount = 0;
+        liveKeyBytes = 0;
+
+        entryCostEstimator.reset();
+    }
+
+    @Override
+    public void destroy(boolean isDuringShutdown) {
+        clear(isDuringShutdown);
+        index.dispose();
+    }
+
+    @Override
+    public EntryCostEstimator getEntryCostEstimator() {
+        return entryCostEstimator;
+    }
+
+    @Override
+    public void setEntryCostEstimator(EntryCostEstimator entryCostEstimator) {
+        this.entryCostEstimator = entryCostEstimator;
+    }
+
+    protected void updateCostEstimate(long entrySize) {
+        entryCostEstimator.adjustEstimateBy(entrySize);
+    }
+
+    @Override
+    public Iterable<EntryView> getRandomSamples(int sampleCount) {
+        if (sampleCount < 0) {
+            throw new IllegalArgumentException("Sample count cannot be a negative value.");
+        }
+        int limit = highWaterMark;
+        if (sampleCount == 0 || size == 0 || limit == 0) {
+            return Collections.emptyList();
+        }
+        EntryTable<R> t = table;
+        limit = Math.min(limit, t.capacity());
+        List<EntryView> samples = new ArrayList<>(sampleCount);
+        EntryCursor<R> cursor = new EntryCursor<>();
+        int start = ThreadLocalRandomProvider.get().nextInt(limit);
+        for (int i = 0; i < limit && samples.size() < sampleCount; i++) {
+            int id = start + i < limit ? start + i : start + i - limit;
+            if (readEntry(t, id, cursor)) {
+                Data key = cursor.key();
+                samples.add(new LazyEvictableEntryView<>(key, cursor.record,
+                        expirySystem.getExpiryMetadata(key), serializationService));
+            }
+        }
+        return samples;
+    }
+
+    @Override
+    public MapKeysWithCursor fetchKeys(IterationPointer[] pointers, int size) {
+        List<Data> keys = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, cursor -> keys.add(cursor.key()));
+        return new MapKeysWithCursor(keys, newPointers);
+    }
+
+    @Override
+    public MapEntriesWithCursor fetchEntries(IterationPointer[] pointers, int size) {
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, cursor -> {
+            Data dataValue = serializationService.toData(cursor.record.getValue());
+            entries.add(new AbstractMap.SimpleEntry<>(cursor.key(), dataValue));
+        });
+        return new MapEntriesWithCursor(entries, newPointers);
+    }
+
+    @Override
+    public Data extractDataKeyFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getDataKey();
+    }
+
+    @Override
+    public Data toBackingDataKeyFormat(Data key) {
+        return key;
+    }
+
+    /**
+     * Entry ids never move while an entry exists, so the iteration state is
+     * a single pointer holding the next id to visit, going downwards.
+     */
+    private IterationPointer[] fetchNext(IterationPointer[] pointers, int size,
+                                         Consumer<EntryCursor<R>> consumer) {
+        EntryTable<R> t = table;
+        int limit = Math.min(highWaterMark, t.capacity());
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+        int nextId = Math.min(lastPointer.getIndex(), limit - 1);
+        int counter = 0;
+        EntryCursor<R> cursor = new EntryCursor<>();
+        while (nextId >= 0 && counter < size) {
+            if (readEntry(t, nextId--, cursor)) {
+                consumer.accept(cursor);
+                counter++;
+            }
+        }
+        return new IterationPointer[]{new IterationPointer(nextId, t.capacity())};
+    }
+
+    private int findId(Data key, long hash) {
+        EntryTable<R> t = table;
+        long ordinal = 0;
+        for (long valueAddress; (valueAddress = index.get(hash, ordinal)) != NULL_ADDRESS; ordinal++) {
+            int id = (int) mem.getLong(valueAddress);
+            if (t.keys.matches(t.keyAddresses.get(id), key)) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the slot {@code (hash, ordinal)} and keeps the collision
+     * ordinals of the remaining slots with the same hash contiguous by
+     * moving the last one into the freed position.
+     */
+    private void removeFromIndex(long hash, long ordinal) {
+        long lastOrdinal = ordinal;
+        while (index.get(hash, lastOrdinal + 1) != NULL_ADDRESS) {
+            lastOrdinal++;
+        }
+        if (lastOrdinal != ordinal) {
+            long lastId = mem.getLong(index.get(hash, lastOrdinal));
+            mem.putLong(index.get(hash, ordinal), lastId);
+        }
+        index.remove(hash, lastOrdinal);
+    }
+
+    private int allocateId() {
+        if (freeIdCount > 0) {
+            return freeIds[--freeIdCount];
+        }
+        EntryTable<R> t = table;
+        int id = highWaterMark;
+        if (id == t.capacity()) {
+            table = t.copy(t.capacity() << 1, t.keys, id);
+        }
+        highWaterMark = id + 1;
+        return id;
+    }
+
+    private void releaseId(int id) {
+        if (freeIdCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIdCount << 1);
+        }
+        freeIds[freeIdCount++] = id;
+    }
+
+    /**
+     * Copies the live keys into a new slab once the space held by removed
+     * keys exceeds the space of the live ones. Readers still holding the
+     * previous table keep reading from the previous slab.
+     */
+    private void compactKeysIfNeeded() {
+        EntryTable<R> t = table;
+        long garbageBytes = t.keys.usedBytes() - liveKeyBytes;
+        if (garbageBytes <= liveKeyBytes || garbageBytes < KeySlab.MAX_PAGE_SIZE) {
+            return;
+        }
+        KeySlab keys = new KeySlab();
+        EntryTable<R> compacted = new EntryTable<>(t.capacity(), keys);
+        int limit = highWaterMark;
+        for (int id = 0; id < limit; id++) {
+            R record = t.records.get(id);
+            if (record != null) {
+                compacted.keyAddresses.set(id, keys.copyFrom(t.keys, t.keyAddresses.get(id)));
+                compacted.records.set(id, record);
+            }
+        }
+        table = compacted;
+    }
+
+    /**
+     * Reads the entry with the given id into the cursor. May be called from
+     * a thread other than the partition thread, in which case the entry is
+     * re-validated after reading the key address to detect a concurrent
+     * removal or id reuse. The key blob itself is never modified, so it can
+     * be read later through the cursor.
+     *
+     * @return {@code true} if there is an entry with this id
+     */
+    private boolean readEntry(EntryTable<R> t, int id, EntryCursor<R> cursor) {
+        while (true) {
+            R record = t.records.get(id);
+            if (record == null) {
+                return false;
+            }
+            long keyAddress = t.keyAddresses.get(id);
+            if (t.records.get(id) == record && t.keyAddresses.get(id) == keyAddress) {
+                cursor.keys = t.keys;
+                cursor.keyAddress = keyAddress;
+                cursor.record = record;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Holds the entry last read by {@link #readEntry}. One cursor is reused
+     * for all the entries visited by an iteration, so visiting an entry
+     * allocates nothing until its key is handed out.
+     */
+    private static final class EntryCursor<R> {
+
+        private KeySlab keys;
+        private long keyAddress;
+        private R record;
+
+        Data key() {
+            return keys.key(keyAddress);
+        }
+    }
+
+    /**
+     * Id-indexed tables of key addresses and records. Writes are published
+     * through the atomic arrays so that a reader observing a record also
+     * observes the key written before it.
+     */
+    private static final class EntryTable<R> {
+
+        private final KeySlab keys;
+        private final AtomicLongArray keyAddresses;
+        private final AtomicReferenceArray<R> records;
+
+        EntryTable(int capacity, KeySlab keys) {
+            this.keys = keys;
+            this.keyAddresses = new AtomicLongArray(capacity);
+            this.records = new AtomicReferenceArray<>(capacity);
+        }
+
+        int capacity() {
+            return records.length();
+        }
+
+        EntryTable<R> copy(int newCapacity, KeySlab newKeys, int limit) {
+            EntryTable<R> copy = new EntryTable<>(newCapacity, newKeys);
+            for (int id = 0; id < limit; id++) {
+                copy.keyAddresses.set(id, keyAddresses.get(id));
+                copy.records.set(id, records.get(id));
+            }
+            return copy;
+        }
+    }
+
+    /**
+     * Iterates entries in descending id order. Entries added during the
+     * iteration may or may not be returned, entries removed before being
+     * reached are not returned.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<Data, R>> {
+
+        private final EntryCursor<R> cursor = new EntryCursor<>();
+        private int nextId = highWaterMark - 1;
+        private Map.Entry<Data, R> next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && nextId >= 0) {
+                EntryTable<R> t = table;
+                int id = nextId--;
+                if (id < t.capacity() && readEntry(t, id, cursor)) {
+                    next = new AbstractMap.SimpleImmutableEntry<>(cursor.key(), cursor.record);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<Data, R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<Data, R> current = next;
+            next = null;
+            return current;
+        }
+    }
+}
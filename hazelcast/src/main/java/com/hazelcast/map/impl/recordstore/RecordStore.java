@@ -20,6 +20,7 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.internal.eviction.ExpiredKey;
+import com.hazelcast.internal.eviction.FrequencySketch;
 import com.hazelcast.internal.iteration.IterationPointer;
 import com.hazelcast.internal.monitor.LocalRecordStoreStats;
 import com.hazelcast.internal.monitor.impl.LocalRecordStoreStatsImpl;
@@ -147,6 +148,15 @@ public interface RecordStore<R extends Record> {
      */
     void accessRecord(Data dataKey, Record record, long now);
 
+    /**
+     * Callback which is called when a read of the given key finds no record.
+     * <p>
+     * An implementation is not supposed to be thread safe.
+     *
+     * @param dataKey the key which has no record
+     */
+    void onMiss(Data dataKey);
+
     /**
      * Similar to {@link RecordStore#remove(Data, CallerProvenance)}
      * except removeBackup doesn't touch mapstore since it does not return previous value.
@@ -498,6 +508,15 @@ public interface RecordStore<R extends Record> {
      */
     void evictEntries(Data excludedKey);
 
+    /**
+     * Returns the sketch estimating how often the keys of this record-store
+     * are accessed, used by the {@link com.hazelcast.config.EvictionPolicy#TINY_LFU}
+     * eviction policy.
+     *
+     * @return the frequency sketch, or {@code null} if the accesses aren't counted
+     */
+    FrequencySketch getFrequencySketch();
+
     /**
      * Returns <code>true</code> if eviction is allowed on this record-store, otherwise <code>false</code>
      *
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.SerializationConstants;
+import com.hazelcast.internal.util.HashUtil;
+
+import java.util.Arrays;
+
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.serialization.impl.HeapData.DATA_OFFSET;
+import static com.hazelcast.internal.serialization.impl.HeapData.HEAP_DATA_OVERHEAD;
+import static com.hazelcast.internal.serialization.impl.HeapData.PARTITION_HASH_OFFSET;
+import static com.hazelcast.internal.serialization.impl.HeapData.TYPE_OFFSET;
+import static com.hazelcast.internal.util.JVMUtil.OBJECT_HEADER_SIZE;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+
+/**
+ * {@link Data} view of a key blob stored in a {@link KeySlab} page.
+ * <p>
+ * Slab pages are never modified once a key is written, so the view stays
+ * valid for as long as it is referenced, even after the key is removed or
+ * the slab is compacted. The key bytes are only copied if
+ * {@link #toByteArray()} is called. Equality and hashes are the same as
+ * the ones of the {@code HeapData} holding the same blob.
+ */
+final class SlabKey implements Data {
+
+    private final byte[] page;
+    private final int offset;
+    private final int size;
+    private byte[] bytes;
+
+    SlabKey(byte[] page, int offset, int size) {
+        this.page = page;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * Compares the key blob of this view with the given range of bytes,
+     * ignoring the partition hash header.
+     */
+    boolean contentEquals(byte[] other, int otherOffset) {
+        return Arrays.equals(page, offset + TYPE_OFFSET, offset + size,
+                other, otherOffset + TYPE_OFFSET, otherOffset + size);
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        if (bytes == null) {
+            bytes = Arrays.copyOfRange(page, offset, offset + size);
+        }
+        return bytes;
+    }
+
+    @Override
+    public int getType() {
+        if (size == 0) {
+            return SerializationConstants.CONSTANT_TYPE_NULL;
+        }
+        return readIntB(page, offset + TYPE_OFFSET);
+    }
+
+    @Override
+    public int totalSize() {
+        return size;
+    }
+
+    @Override
+    public void copyTo(byte[] dest, int destPos) {
+        System.arraycopy(page, offset, dest, destPos, size);
+    }
+
+    @Override
+    public int dataSize() {
+        return Math.max(size - HEAP_DATA_OVERHEAD, 0);
+    }
+
+    @Override
+    public int getHeapCost() {
+        // the page is shared by many keys and owned by the slab
+        return OBJECT_HEADER_SIZE + 2 * REFERENCE_COST_IN_BYTES + 2 * Integer.BYTES
+                + (bytes != null ? bytes.length : 0);
+    }
+
+    @Override
+    public int getPartitionHash() {
+        if (hasPartitionHash()) {
+            return readIntB(page, offset + PARTITION_HASH_OFFSET);
+        }
+        return hashCode();
+    }
+
+    @Override
+    public boolean hasPartitionHash() {
+        return size >= HEAP_DATA_OVERHEAD && readIntB(page, offset + PARTITION_HASH_OFFSET) != 0;
+    }
+
+    @Override
+    public long hash64() {
+        return HashUtil.MurmurHash3_x64_64(page, offset + DATA_OFFSET, dataSize());
+    }
+
+    @Override
+    public boolean isPortable() {
+        return SerializationConstants.CONSTANT_TYPE_PORTABLE == getType();
+    }
+
+    @Override
+    public boolean isJson() {
+        return SerializationConstants.JAVASCRIPT_JSON_SERIALIZATION_TYPE == getType();
+    }
+
+    @Override
+    public boolean isCompact() {
+        return SerializationConstants.TYPE_COMPACT == getType();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Data data)) {
+            return false;
+        }
+        if (getType() != data.getType() || dataSize() != data.dataSize()) {
+            return false;
+        }
+        if (dataSize() == 0) {
+            return true;
+        }
+        if (data instanceof SlabKey other) {
+            return contentEquals(other.page, other.offset);
+        }
+        return contentEquals(data.toByteArray(), 0);
+    }
+
+    @Override
+    public int hashCode() {
+        return HashUtil.MurmurHash3_x86_32(page, offset + DATA_OFFSET, dataSize());
+    }
+
+    @Override
+    public String toString() {
+        return "SlabKey{"
+                + "type=" + getType()
+                + ", hashCode=" + hashCode()
+                + ", partitionHash=" + getPartitionHash()
+                + ", totalSize=" + totalSize()
+                + ", dataSize=" + dataSize()
+                + ", heapCost=" + getHeapCost()
+                + '}';
+    }
+}
@@ -107,4 +107,29 @@ public interface NearCacheStats extends LocalInstanceStats {
      * @return the failure reason of the last Near Cache persistence (when the pre-load feature is enabled)
      */
     String getLastPersistenceFailure();
+
+    /**
+     * Returns the number of entries which weren't stored in the Near Cache
+     * because it was full and their keys are accessed less often than the
+     * keys of the entries they would replace (when the eviction policy is
+     * {@link com.hazelcast.config.EvictionPolicy#TINY_LFU}).
+     *
+     * @return the number of entries which weren't admitted to the Near Cache
+     * @since 6.0
+     */
+    default long getAdmissionRejects() {
+        return 0L;
+    }
+
+    /**
+     * Returns the memory cost of the sketch estimating how often the keys are
+     * accessed (when the eviction policy is
+     * {@link com.hazelcast.config.EvictionPolicy#TINY_LFU}).
+     *
+     * @return the memory cost of the frequency sketch in bytes
+     * @since 6.0
+     */
+    default long getFrequencySketchMemoryCost() {
+        return 0L;
+    }
 }
@@ -387,6 +387,11 @@ public class AttributeIndexRegistry {
             throw newUnsupportedException();
         }
 
+        @Override
+        public PartitionStamp getIndexedPartitionStamp() {
+            throw newUnsupportedException();
+        }
+
         @Override
         public boolean validatePartitionStamp(long stamp) {
             throw newUnsupportedException();
@@ -27,7 +27,10 @@ import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.bitmap.Bitmap;
 import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.predicates.AndPredicate;
+import com.hazelcast.query.impl.predicates.BetweenPredicate;
+import com.hazelcast.query.impl.predicates.BoundedRangePredicate;
 import com.hazelcast.query.impl.predicates.EqualPredicate;
+import com.hazelcast.query.impl.predicates.GreaterLessPredicate;
 import com.hazelcast.query.impl.predicates.InPredicate;
 import com.hazelcast.query.impl.predicates.NotEqualPredicate;
 import com.hazelcast.query.impl.predicates.NotPredicate;
@@ -44,7 +47,8 @@ import java.util.Set;
  * <p>
  * Internally, manages a {@link Bitmap} instance along with key remapping
  * structures used to establish the correspondence between long bitmap keys and
- * actual user-provided keys.
+ * actual user-provided keys. Range predicates on integral attributes are
+ * evaluated using the bit slices maintained by the {@link Bitmap}.
  */
 @SuppressWarnings({"rawtypes", "checkstyle:MethodCount"})
 public final class BitmapIndexStore extends BaseIndexStore {
@@ -65,6 +69,10 @@ public final class BitmapIndexStore extends BaseIndexStore {
         EVALUABLE_PREDICATES.add(EqualPredicate.class);
         EVALUABLE_PREDICATES.add(NotEqualPredicate.class);
         EVALUABLE_PREDICATES.add(InPredicate.class);
+
+        EVALUABLE_PREDICATES.add(GreaterLessPredicate.class);
+        EVALUABLE_PREDICATES.add(BetweenPredicate.class);
+        EVALUABLE_PREDICATES.add(BoundedRangePredicate.class);
     }
 
     private final String keyAttribute;
@@ -70,6 +70,16 @@ public class GlobalIndexPartitionTracker {
         return new PartitionStamp(state0.stamp, state0.indexedPartitions);
     }
 
+    /**
+     * See {@link InternalIndex#getIndexedPartitionStamp()}.
+     */
+    @Nonnull
+    public PartitionStamp getIndexedPartitionStamp() {
+        State state0 = state.get();
+
+        return new PartitionStamp(state0.stamp, state0.indexedPartitions);
+    }
+
     /**
      * See {@link InternalIndex#validatePartitionStamp(long)}.
      */
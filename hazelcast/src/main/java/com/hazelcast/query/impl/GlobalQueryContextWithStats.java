@@ -255,6 +255,11 @@ public class GlobalQueryContextWithStats extends QueryContext {
             return delegate.getPartitionStamp();
         }
 
+        @Override
+        public PartitionStamp getIndexedPartitionStamp() {
+            return delegate.getIndexedPartitionStamp();
+        }
+
         @Override
         public boolean validatePartitionStamp(long stamp) {
             return delegate.validatePartitionStamp(stamp);
@@ -24,6 +24,8 @@ import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.query.impl.GlobalIndexPartitionTracker.PartitionStamp;
 import com.hazelcast.query.impl.getters.Extractors;
 
+import static com.hazelcast.spi.properties.ClusterProperty.INDEX_SORTED_PRIMITIVE_STORE_ENABLED;
+
 /**
  * Provides implementation of on-heap indexes.
  */
@@ -50,7 +52,9 @@ public class IndexImpl extends AbstractIndex {
                                           PerIndexStats stats, String mapName, int ignored) {
         switch (config.getType()) {
             case SORTED:
-                return new OrderedIndexStore(copyBehavior);
+                return isPrimitiveOrderedIndexStoreApplicable(node, config)
+                        ? new PrimitiveOrderedIndexStore(copyBehavior)
+                        : new OrderedIndexStore(copyBehavior);
             case HASH:
                 return new UnorderedIndexStore(copyBehavior);
             case BITMAP:
@@ -60,6 +64,12 @@ public class IndexImpl extends AbstractIndex {
         }
     }
 
+    private static boolean isPrimitiveOrderedIndexStoreApplicable(Node node, IndexConfig config) {
+        // composite values are never encodable
+        return config.getAttributes().size() == 1
+                && node != null && node.getProperties().getBoolean(INDEX_SORTED_PRIMITIVE_STORE_ENABLED);
+    }
+
     @Override
     public final boolean hasPartitionIndexed(int partitionId) {
         return partitionTracker.isIndexed(partitionId);
@@ -106,6 +116,11 @@ public class IndexImpl extends AbstractIndex {
         return partitionTracker.getPartitionStamp();
     }
 
+    @Override
+    public final PartitionStamp getIndexedPartitionStamp() {
+        return partitionTracker.getIndexedPartitionStamp();
+    }
+
     @Override
     public final boolean validatePartitionStamp(long stamp) {
         return partitionTracker.validatePartitionStamp(stamp);
@@ -106,6 +106,19 @@ public interface InternalIndex extends Index {
      */
     PartitionStamp getPartitionStamp();
 
+    /**
+     * Get a monotonically increasing stamp and the IDs of the partitions fully
+     * contained in the index. Unlike {@link #getPartitionStamp()}, the stamp is
+     * returned while partitions are being updated: the partitions being
+     * populated are not included until they are marked as indexed, so the
+     * entries of the returned partitions can be read from the index. The
+     * received stamp is used later to verify that no partition was added or
+     * removed by calling to {@link #validatePartitionStamp(long)}.
+     *
+     * @return the stamp and the indexed partitions.
+     */
+    PartitionStamp getIndexedPartitionStamp();
+
     /**
      * Verifies that the given partition stamp is still valid. It is valid iff there were
      * no partition updates since the call to the {@link #getPartitionStamp()}
@@ -260,12 +260,7 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
             Data lastEntryKeyData
     ) {
         boolean useCursor = lastEntryKeyData != null;
-        if (useCursor && !descending && !fromInclusive) {
-            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `from` must be inclusive");
-        }
-        if (useCursor && descending && !toInclusive) {
-            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `to` must be inclusive");
-        }
+        checkCursorBounds(useCursor, fromInclusive, toInclusive, descending);
 
         int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
         if (order == 0) {
@@ -367,6 +362,23 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
         }
     }
 
+    /**
+     * @return the records associated with the given value or {@code null}
+     * if there are none
+     */
+    final NavigableMap<Data, QueryableEntry> getRecordMap(Comparable value) {
+        return recordMap.get(value);
+    }
+
+    static void checkCursorBounds(boolean useCursor, boolean fromInclusive, boolean toInclusive, boolean descending) {
+        if (useCursor && !descending && !fromInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `from` must be inclusive");
+        }
+        if (useCursor && descending && !toInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `to` must be inclusive");
+        }
+    }
+
     /**
      * Adds entry to the given index map without copying it.
      * Needs to be invoked in a thread-safe way.
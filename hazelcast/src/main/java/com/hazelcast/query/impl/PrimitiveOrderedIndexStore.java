@@ -0,0 +1,749 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+
+import javax.annotation.Nonnull;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+
+/**
+ * Ordered index store specialized for attributes whose values can be
+ * mapped to {@code long}s preserving their order: integral numbers and
+ * the date/time types backing temporal attributes.
+ * <p>
+ * Instead of a skip-list node and a nested map per distinct value, the
+ * encoded values are kept in a {@link SortedLongBlockMap} which refers
+ * to the indexed entry directly. A nested map is only created for values
+ * shared by several entries.
+ * <p>
+ * {@link AbstractIndex#NULL} values are handled by the {@link OrderedIndexStore}
+ * logic this store extends. So are all the values once a value which can't
+ * be encoded, e.g. of another type than the previous ones, is inserted:
+ * the content is then moved over and the store keeps working as a plain
+ * {@link OrderedIndexStore} until it is cleared.
+ */
+@SuppressWarnings({"rawtypes", "unchecked", "checkstyle:methodcount"})
+public class PrimitiveOrderedIndexStore extends OrderedIndexStore {
+
+    private final boolean copyOnWrite;
+
+    /**
+     * Holds either a {@link QueryableEntry} or a map of entries per encoded
+     * value. It's {@code null} once the store switched to the skip-list
+     * representation.
+     */
+    private volatile SortedLongBlockMap<Object> values = new SortedLongBlockMap<>();
+    private volatile Encoding encoding;
+
+    public PrimitiveOrderedIndexStore(IndexCopyBehavior copyOn) {
+        super(copyOn);
+        this.copyOnWrite = copyOn == IndexCopyBehavior.COPY_ON_WRITE;
+    }
+
+    @Override
+    Object insertInternal(Comparable value, QueryableEntry record) {
+        SortedLongBlockMap<Object> map = values;
+        if (map == null || value == NULL) {
+            return super.insertInternal(value, record);
+        }
+
+        Encoding enc = encoding;
+        if (enc == null) {
+            enc = Encoding.of(value);
+            encoding = enc;
+        }
+        if (enc == null || !enc.canStore(value)) {
+            switchToSkipList(map, enc);
+            return super.insertInternal(value, record);
+        }
+
+        long key = enc.encode(value);
+        Object existing = map.get(key);
+        if (existing == null) {
+            map.put(key, record);
+            return null;
+        }
+        if (existing instanceof QueryableEntry entry) {
+            return insertNextToEntry(map, key, entry, record);
+        }
+        return insertIntoRecords(map, key, (NavigableMap<Data, QueryableEntry>) existing, record);
+    }
+
+    private Object insertNextToEntry(SortedLongBlockMap<Object> map, long key, QueryableEntry entry, QueryableEntry record) {
+        if (DATA_COMPARATOR.compare(entry.getKeyData(), record.getKeyData()) == 0) {
+            map.put(key, record);
+            return entry;
+        }
+        NavigableMap<Data, QueryableEntry> records = copyOnWrite
+                ? new TreeMap<>(DATA_COMPARATOR)
+                : new ConcurrentSkipListMap<>(DATA_COMPARATOR);
+        records.put(entry.getKeyData(), entry);
+        records.put(record.getKeyData(), record);
+        map.put(key, records);
+        return null;
+    }
+
+    private Object insertIntoRecords(SortedLongBlockMap<Object> map, long key, NavigableMap<Data, QueryableEntry> records,
+                                     QueryableEntry record) {
+        if (copyOnWrite) {
+            NavigableMap<Data, QueryableEntry> copy = new TreeMap<>(records);
+            Object oldValue = copy.put(record.getKeyData(), record);
+            map.put(key, copy);
+            return oldValue;
+        }
+        return records.put(record.getKeyData(), record);
+    }
+
+    @Override
+    Object removeInternal(Comparable value, Data recordKey) {
+        SortedLongBlockMap<Object> map = values;
+        if (map == null || value == NULL) {
+            return super.removeInternal(value, recordKey);
+        }
+
+        Encoding enc = encoding;
+        if (enc == null || !enc.canStore(value)) {
+            return null;
+        }
+        long key = enc.encode(value);
+        Object existing = map.get(key);
+        if (existing == null) {
+            return null;
+        }
+        if (existing instanceof QueryableEntry entry) {
+            if (DATA_COMPARATOR.compare(entry.getKeyData(), recordKey) != 0) {
+                return null;
+            }
+            map.remove(key);
+            return entry;
+        }
+
+        return removeFromRecords(map, key, (NavigableMap<Data, QueryableEntry>) existing, recordKey);
+    }
+
+    private Object removeFromRecords(SortedLongBlockMap<Object> map, long key, NavigableMap<Data, QueryableEntry> records,
+                                     Data recordKey) {
+        NavigableMap<Data, QueryableEntry> target = copyOnWrite ? new TreeMap<>(records) : records;
+        Object oldValue = target.remove(recordKey);
+        if (target.size() == 1) {
+            map.put(key, target.firstEntry().getValue());
+        } else if (copyOnWrite) {
+            map.put(key, target);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            super.clear();
+            values = new SortedLongBlockMap<>();
+            encoding = null;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable value,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        SortedLongBlockMap<Object> map = values;
+        Encoding enc = encoding;
+        if (map == null || value == NULL) {
+            return super.getSqlRecordIteratorBatch(value, descending, lastEntryKeyData);
+        }
+        if (enc == null) {
+            return emptyIterator();
+        }
+        if (!enc.canEncodeArgument(value)) {
+            return new IndexKeyEntriesIterator(new RangeCursor(map, enc, value, true, value, true, descending),
+                    emptyIterator(), descending, value, lastEntryKeyData);
+        }
+
+        Object holder = map.get(enc.encodeArgument(value));
+        if (holder == null) {
+            return emptyIterator();
+        }
+        return singletonList(new IndexKeyEntries(value, entries(holder, descending, lastEntryKeyData))).iterator();
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(boolean descending) {
+        SortedLongBlockMap<Object> map = values;
+        Encoding enc = encoding;
+        if (map == null) {
+            return super.getSqlRecordIteratorBatch(descending);
+        }
+        Iterator<IndexKeyEntries> nullEntries = super.getSqlRecordIteratorBatch(NULL, descending, null);
+        if (enc == null) {
+            return nullEntries;
+        }
+        return new IndexKeyEntriesIterator(new RangeCursor(map, enc, NULL, true, POSITIVE_INFINITY, true, descending),
+                nullEntries, descending, null, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        SortedLongBlockMap<Object> map = values;
+        Encoding enc = encoding;
+        if (map == null) {
+            return super.getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending, lastEntryKeyData);
+        }
+        boolean useCursor = lastEntryKeyData != null;
+        checkCursorBounds(useCursor, fromInclusive, toInclusive, descending);
+
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+        if (order == 0) {
+            if (!fromInclusive || !toInclusive) {
+                return emptyIterator();
+            }
+            return getSqlRecordIteratorBatch(from, descending, lastEntryKeyData);
+        } else if (order > 0) {
+            return emptyIterator();
+        }
+
+        Comparable cursorValue = descending ? to : from;
+        Iterator<IndexKeyEntries> nullEntries = from == NULL && fromInclusive
+                ? super.getSqlRecordIteratorBatch(NULL, descending, cursorValue == NULL ? lastEntryKeyData : null)
+                : emptyIterator();
+        if (enc == null) {
+            return nullEntries;
+        }
+        return new IndexKeyEntriesIterator(new RangeCursor(map, enc, from, fromInclusive, to, toInclusive, descending),
+                nullEntries, descending, cursorValue, lastEntryKeyData);
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        SortedLongBlockMap<Object> map = values;
+        if (map == null || value == NULL) {
+            return super.getRecords(value);
+        }
+        takeReadLock();
+        try {
+            Encoding enc = encoding;
+            if (enc == null) {
+                return emptySet();
+            }
+            if (!enc.canEncodeArgument(value)) {
+                MultiResultSet results = createMultiResultSet();
+                addRange(results, new RangeCursor(map, enc, value, true, value, true, false));
+                return results;
+            }
+            Object holder = map.get(enc.encodeArgument(value));
+            return toSingleResultSet(holder == null ? null : asMap(holder));
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        SortedLongBlockMap<Object> map = this.values;
+        if (map == null) {
+            return super.getRecords(values);
+        }
+        takeReadLock();
+        try {
+            Encoding enc = encoding;
+            MultiResultSet results = createMultiResultSet();
+            for (Comparable value : values) {
+                if (value == NULL) {
+                    addRecords(results, getRecordMap(NULL));
+                } else if (enc != null && enc.canEncodeArgument(value)) {
+                    Object holder = map.get(enc.encodeArgument(value));
+                    if (holder != null) {
+                        copyToMultiResultSet(results, asMap(holder));
+                    }
+                } else if (enc != null) {
+                    addRange(results, new RangeCursor(map, enc, value, true, value, true, false));
+                }
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        SortedLongBlockMap<Object> map = values;
+        if (map == null) {
+            return super.getRecords(from, fromInclusive, to, toInclusive);
+        }
+        takeReadLock();
+        try {
+            int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+            if (order == 0) {
+                if (!fromInclusive || !toInclusive) {
+                    return emptySet();
+                }
+                return getRecords(from);
+            } else if (order > 0) {
+                return emptySet();
+            }
+            MultiResultSet results = createMultiResultSet();
+            if (from == NULL && fromInclusive) {
+                addRecords(results, getRecordMap(NULL));
+            }
+            Encoding enc = encoding;
+            if (enc != null) {
+                addRange(results, new RangeCursor(map, enc, from, fromInclusive, to, toInclusive, false));
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    /**
+     * Moves the content to the skip-list representation. Invoked under the
+     * write lock, the moved content stays visible to concurrent readers
+     * until the switch is published.
+     */
+    private void switchToSkipList(SortedLongBlockMap<Object> map, Encoding enc) {
+        if (enc != null) {
+            SortedLongBlockMap.Cursor<Object> cursor = map.cursor(Long.MIN_VALUE, Long.MAX_VALUE, false);
+            while (cursor.advance()) {
+                Comparable value = enc.decode(cursor.key());
+                Object holder = cursor.value();
+                if (holder instanceof QueryableEntry entry) {
+                    super.insertInternal(value, entry);
+                } else {
+                    for (QueryableEntry entry : ((Map<Data, QueryableEntry>) holder).values()) {
+                        super.insertInternal(value, entry);
+                    }
+                }
+            }
+        }
+        values = null;
+    }
+
+    private void addRecords(MultiResultSet results, Map<Data, QueryableEntry> records) {
+        if (records != null) {
+            copyToMultiResultSet(results, records);
+        }
+    }
+
+    private void addRange(MultiResultSet results, RangeCursor cursor) {
+        // entries which are alone for their value are collected into a
+        // private map, no need for a copy
+        Map<Data, QueryableEntry> singles = null;
+        while (cursor.advance()) {
+            Object holder = cursor.holder();
+            if (holder instanceof QueryableEntry entry) {
+                if (singles == null) {
+                    singles = new HashMap<>();
+                }
+                singles.put(entry.getKeyData(), entry);
+            } else {
+                copyToMultiResultSet(results, (Map<Data, QueryableEntry>) holder);
+            }
+        }
+        if (singles != null) {
+            results.addResultSet(singles);
+        }
+    }
+
+    private static Map<Data, QueryableEntry> asMap(Object holder) {
+        if (holder instanceof QueryableEntry entry) {
+            return Collections.singletonMap(entry.getKeyData(), entry);
+        }
+        return (Map<Data, QueryableEntry>) holder;
+    }
+
+    private static Iterator<QueryableEntry> entries(Object holder, boolean descending, Data lastEntryKeyData) {
+        if (holder instanceof QueryableEntry entry) {
+            if (lastEntryKeyData != null) {
+                int order = DATA_COMPARATOR.compare(entry.getKeyData(), lastEntryKeyData);
+                if (descending ? order >= 0 : order <= 0) {
+                    return emptyIterator();
+                }
+            }
+            return singletonList(entry).iterator();
+        }
+        NavigableMap<Data, QueryableEntry> records = (NavigableMap<Data, QueryableEntry>) holder;
+        if (descending) {
+            records = records.descendingMap();
+        }
+        if (lastEntryKeyData != null) {
+            records = records.tailMap(lastEntryKeyData, false);
+        }
+        return records.values().iterator();
+    }
+
+    /**
+     * Iterates the encoded values within a range given by index values. When
+     * a bound can't be encoded, e.g. a fractional bound for an integral
+     * attribute, the values are compared one by one against it instead.
+     */
+    private static final class RangeCursor {
+
+        private final SortedLongBlockMap.Cursor<Object> cursor;
+        private final Encoding encoding;
+        private final Comparable from;
+        private final boolean fromInclusive;
+        private final Comparable to;
+        private final boolean toInclusive;
+        private final boolean exact;
+
+        private Comparable value;
+
+        @SuppressWarnings({"checkstyle:ParameterNumber", "checkstyle:ExecutableStatementCount"})
+        RangeCursor(SortedLongBlockMap<Object> map, Encoding encoding, Comparable from, boolean fromInclusive,
+                    Comparable to, boolean toInclusive, boolean descending) {
+            this.encoding = encoding;
+            this.from = from;
+            this.fromInclusive = fromInclusive;
+            this.to = to;
+            this.toInclusive = toInclusive;
+
+            long lower = Long.MIN_VALUE;
+            long upper = Long.MAX_VALUE;
+            boolean exact = true;
+            // only NULL, which is not stored here, is not greater than NULL
+            boolean empty = to == NULL;
+            if (from != NULL) {
+                if (encoding.canEncodeArgument(from)) {
+                    lower = encoding.encodeArgument(from);
+                    if (!fromInclusive) {
+                        empty |= lower == Long.MAX_VALUE;
+                        lower++;
+                    }
+                } else {
+                    exact = false;
+                }
+            }
+            if (to != NULL && to != POSITIVE_INFINITY) {
+                if (encoding.canEncodeArgument(to)) {
+                    upper = encoding.encodeArgument(to);
+                    if (!toInclusive) {
+                        empty |= upper == Long.MIN_VALUE;
+                        upper--;
+                    }
+                } else {
+                    exact = false;
+                }
+            }
+            this.exact = exact;
+            this.cursor = empty ? map.cursor(1, 0, descending) : map.cursor(lower, upper, descending);
+        }
+
+        boolean advance() {
+            while (cursor.advance()) {
+                value = encoding.decode(cursor.key());
+                if (exact || inRange(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Comparable value() {
+            return value;
+        }
+
+        Object holder() {
+            return cursor.value();
+        }
+
+        private boolean inRange(Comparable value) {
+            int fromOrder = SPECIAL_AWARE_COMPARATOR.compare(value, from);
+            int toOrder = SPECIAL_AWARE_COMPARATOR.compare(value, to);
+            return (fromInclusive ? fromOrder >= 0 : fromOrder > 0) && (toInclusive ? toOrder <= 0 : toOrder < 0);
+        }
+    }
+
+    /**
+     * Lazily maps a {@link RangeCursor} to {@link IndexKeyEntries}, the
+     * entries of {@link AbstractIndex#NULL} come first in ascending order
+     * and last in descending order.
+     */
+    private static final class IndexKeyEntriesIterator implements Iterator<IndexKeyEntries> {
+
+        private final RangeCursor cursor;
+        private final Iterator<IndexKeyEntries> nullEntries;
+        private final boolean descending;
+        private final Comparable cursorValue;
+        private final Data lastEntryKeyData;
+
+        private IndexKeyEntries next;
+        private boolean rangeDone;
+
+        IndexKeyEntriesIterator(RangeCursor cursor, Iterator<IndexKeyEntries> nullEntries, boolean descending,
+                                Comparable cursorValue, Data lastEntryKeyData) {
+            this.cursor = cursor;
+            this.nullEntries = nullEntries;
+            this.descending = descending;
+            this.cursorValue = cursorValue;
+            this.lastEntryKeyData = lastEntryKeyData;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (!descending && nullEntries.hasNext()) {
+                next = nullEntries.next();
+                return true;
+            }
+            if (!rangeDone) {
+                if (cursor.advance()) {
+                    Comparable value = cursor.value();
+                    boolean resume = lastEntryKeyData != null
+                            && SPECIAL_AWARE_COMPARATOR.compare(cursorValue, value) == 0;
+                    next = new IndexKeyEntries(value,
+                            entries(cursor.holder(), descending, resume ? lastEntryKeyData : null));
+                    return true;
+                }
+                rangeDone = true;
+            }
+            if (descending && nullEntries.hasNext()) {
+                next = nullEntries.next();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public IndexKeyEntries next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            IndexKeyEntries result = next;
+            next = null;
+            return result;
+        }
+    }
+
+    /**
+     * Order-preserving mapping between values of a type and {@code long}s.
+     */
+    private enum Encoding {
+
+        LONG(Long.class) {
+            @Override
+            long encode(Object value) {
+                return (Long) value;
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return key;
+            }
+        },
+
+        INTEGER(Integer.class) {
+            @Override
+            long encode(Object value) {
+                return (Integer) value;
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return (int) key;
+            }
+        },
+
+        SHORT(Short.class) {
+            @Override
+            long encode(Object value) {
+                return (Short) value;
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return (short) key;
+            }
+        },
+
+        BYTE(Byte.class) {
+            @Override
+            long encode(Object value) {
+                return (Byte) value;
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return (byte) key;
+            }
+        },
+
+        LOCAL_DATE(LocalDate.class) {
+            @Override
+            long encode(Object value) {
+                return ((LocalDate) value).toEpochDay();
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return LocalDate.ofEpochDay(key);
+            }
+        },
+
+        LOCAL_TIME(LocalTime.class) {
+            @Override
+            long encode(Object value) {
+                return ((LocalTime) value).toNanoOfDay();
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return LocalTime.ofNanoOfDay(key);
+            }
+        },
+
+        LOCAL_DATE_TIME(LocalDateTime.class) {
+            @Override
+            boolean canStore(Object value) {
+                return super.canStore(value) && fitsInNanos(((LocalDateTime) value).toEpochSecond(ZoneOffset.UTC));
+            }
+
+            @Override
+            long encode(Object value) {
+                LocalDateTime dateTime = (LocalDateTime) value;
+                return dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + dateTime.getNano();
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return LocalDateTime.ofEpochSecond(Math.floorDiv(key, NANOS_PER_SECOND),
+                        (int) Math.floorMod(key, NANOS_PER_SECOND), ZoneOffset.UTC);
+            }
+        },
+
+        INSTANT(Instant.class) {
+            @Override
+            boolean canStore(Object value) {
+                return super.canStore(value) && fitsInNanos(((Instant) value).getEpochSecond());
+            }
+
+            @Override
+            long encode(Object value) {
+                Instant instant = (Instant) value;
+                return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return Instant.ofEpochSecond(Math.floorDiv(key, NANOS_PER_SECOND), Math.floorMod(key, NANOS_PER_SECOND));
+            }
+        },
+
+        DATE(Date.class) {
+            @Override
+            long encode(Object value) {
+                return ((Date) value).getTime();
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return new Date(key);
+            }
+        };
+
+        private static final long NANOS_PER_SECOND = 1_000_000_000L;
+        private static final long MAX_SECONDS = Long.MAX_VALUE / NANOS_PER_SECOND - 1;
+
+        private final Class<?> type;
+
+        Encoding(Class<?> type) {
+            this.type = type;
+        }
+
+        /**
+         * @return the encoding for the type of the given value or {@code null}
+         * if there is none
+         */
+        static Encoding of(Object value) {
+            for (Encoding encoding : values()) {
+                if (encoding.canStore(value)) {
+                    return encoding;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Values are required to be exactly of the encoded type, so they
+         * decode back to instances equal to the inserted ones.
+         */
+        boolean canStore(Object value) {
+            return value.getClass() == type;
+        }
+
+        /**
+         * Query arguments of integral attributes may be of any integral type,
+         * since their comparison is consistent with the one of longs.
+         */
+        boolean canEncodeArgument(Comparable value) {
+            if (isIntegral()) {
+                return Numbers.isLongRepresentable(value.getClass());
+            }
+            return canStore(value);
+        }
+
+        long encodeArgument(Comparable value) {
+            return isIntegral() ? ((Number) value).longValue() : encode(value);
+        }
+
+        abstract long encode(Object value);
+
+        abstract Comparable decode(long key);
+
+        private boolean isIntegral() {
+            return Numbers.isLongRepresentable(type);
+        }
+
+        private static boolean fitsInNanos(long epochSeconds) {
+            return epochSeconds > -MAX_SECONDS && epochSeconds < MAX_SECONDS;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Sorted map from primitive {@code long} keys to values, laid out as a
+ * sequence of small sorted blocks of parallel key and value arrays.
+ * <p>
+ * Blocks are immutable: a mutation publishes a new copy of the affected
+ * block, and a new block directory when blocks are split or merged. This
+ * keeps range scans on contiguous arrays and lets lookups and cursors run
+ * without locking, concurrently with a mutating thread. Mutations must be
+ * serialized by the caller.
+ *
+ * @param <V> the type of the values
+ */
+final class SortedLongBlockMap<V> {
+
+    static final int MAX_BLOCK_SIZE = 64;
+
+    private static final int MIN_BLOCK_SIZE = MAX_BLOCK_SIZE / 4;
+
+    private volatile Directory directory = new Directory(new long[]{Long.MIN_VALUE}, new Block[]{Block.EMPTY});
+    private int size;
+
+    /**
+     * @return the value mapped to the given key or {@code null} if there
+     * is no such mapping
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        Block block = directory.blockFor(key);
+        int pos = Arrays.binarySearch(block.keys, key);
+        return pos < 0 ? null : (V) block.values[pos];
+    }
+
+    /**
+     * Maps the given key to the given value.
+     *
+     * @return the previously mapped value or {@code null} if there was none
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        assert value != null;
+        Directory dir = directory;
+        int index = dir.indexOf(key);
+        Block block = dir.blocks.get(index);
+        int pos = Arrays.binarySearch(block.keys, key);
+        if (pos >= 0) {
+            dir.blocks.set(index, block.replace(pos, value));
+            return (V) block.values[pos];
+        }
+
+        Block grown = block.insert(-pos - 1, key, value);
+        size++;
+        if (grown.size() <= MAX_BLOCK_SIZE) {
+            dir.blocks.set(index, grown);
+        } else {
+            int half = grown.size() >>> 1;
+            directory = dir.replace(index, 1, grown.slice(0, half), grown.slice(half, grown.size()));
+        }
+        return null;
+    }
+
+    /**
+     * Removes the mapping of the given key.
+     *
+     * @return the removed value or {@code null} if there was no mapping
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        Directory dir = directory;
+        int index = dir.indexOf(key);
+        Block block = dir.blocks.get(index);
+        int pos = Arrays.binarySearch(block.keys, key);
+        if (pos < 0) {
+            return null;
+        }
+
+        Block shrunk = block.delete(pos);
+        size--;
+        int blockCount = dir.size();
+        if (shrunk.size() >= MIN_BLOCK_SIZE || blockCount == 1) {
+            dir.blocks.set(index, shrunk);
+        } else {
+            // merge with a neighbour, or move entries over from it if
+            // the result would not fit into a single block
+            int left = index + 1 < blockCount ? index : index - 1;
+            Block merged = left == index
+                    ? shrunk.concat(dir.blocks.get(index + 1))
+                    : dir.blocks.get(left).concat(shrunk);
+            if (merged.size() <= MAX_BLOCK_SIZE) {
+                directory = dir.replace(left, 2, merged);
+            } else {
+                int half = merged.size() >>> 1;
+                directory = dir.replace(left, 2, merged.slice(0, half), merged.slice(half, merged.size()));
+            }
+        }
+        return (V) block.values[pos];
+    }
+
+    /**
+     * @return the number of mappings, only accurate when called by the
+     * mutating thread
+     */
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        directory = new Directory(new long[]{Long.MIN_VALUE}, new Block[]{Block.EMPTY});
+        size = 0;
+    }
+
+    /**
+     * Creates a cursor over the mappings whose keys are within the given
+     * inclusive bounds. The cursor is weakly consistent: it never returns a
+     * key twice or out of order, but it may or may not reflect mutations
+     * done after its creation.
+     */
+    Cursor<V> cursor(long from, long to, boolean descending) {
+        return new Cursor<>(this, from, to, descending);
+    }
+
+    /**
+     * Cursor over a key range of a {@link SortedLongBlockMap}.
+     *
+     * @param <V> the type of the values
+     */
+    static final class Cursor<V> {
+
+        private final SortedLongBlockMap<V> map;
+        private final long from;
+        private final long to;
+        private final boolean descending;
+
+        private Block block;
+        private int pos;
+        private long key;
+        private boolean started;
+        private boolean done;
+
+        private Cursor(SortedLongBlockMap<V> map, long from, long to, boolean descending) {
+            this.map = map;
+            this.from = from;
+            this.to = to;
+            this.descending = descending;
+            this.done = from > to;
+        }
+
+        /**
+         * Moves to the next mapping.
+         *
+         * @return {@code true} if there is one, {@code false} otherwise
+         */
+        boolean advance() {
+            if (done) {
+                return false;
+            }
+            if (!started) {
+                started = true;
+                seek(descending ? to : from);
+            } else if (descending ? --pos < 0 : ++pos >= block.size()) {
+                if (descending ? key == Long.MIN_VALUE : key == Long.MAX_VALUE) {
+                    done = true;
+                } else {
+                    // re-locate from the latest directory
+                    seek(descending ? key - 1 : key + 1);
+                }
+            }
+            if (done) {
+                return false;
+            }
+            key = block.keys[pos];
+            if (descending ? key < from : key > to) {
+                done = true;
+                return false;
+            }
+            return true;
+        }
+
+        long key() {
+            return key;
+        }
+
+        @SuppressWarnings("unchecked")
+        V value() {
+            return (V) block.values[pos];
+        }
+
+        private void seek(long target) {
+            Directory dir = map.directory;
+            int index = dir.indexOf(target);
+            Block candidate = dir.blocks.get(index);
+            int found = Arrays.binarySearch(candidate.keys, target);
+            if (descending) {
+                int p = found >= 0 ? found : -found - 2;
+                while (p < 0) {
+                    if (--index < 0) {
+                        done = true;
+                        return;
+                    }
+                    candidate = dir.blocks.get(index);
+                    p = candidate.size() - 1;
+                }
+                pos = p;
+            } else {
+                int p = found >= 0 ? found : -found - 1;
+                while (p >= candidate.size()) {
+                    if (++index >= dir.size()) {
+                        done = true;
+                        return;
+                    }
+                    candidate = dir.blocks.get(index);
+                    p = 0;
+                }
+                pos = p;
+            }
+            block = candidate;
+        }
+    }
+
+    /**
+     * Ordered sequence of blocks. Block {@code i} holds the keys in range
+     * {@code [lowerBounds[i], lowerBounds[i + 1])}.
+     */
+    private static final class Directory {
+
+        private final long[] lowerBounds;
+        private final AtomicReferenceArray<Block> blocks;
+
+        Directory(long[] lowerBounds, Block[] blocks) {
+            this.lowerBounds = lowerBounds;
+            this.blocks = new AtomicReferenceArray<>(blocks);
+        }
+
+        int size() {
+            return lowerBounds.length;
+        }
+
+        int indexOf(long key) {
+            int index = Arrays.binarySearch(lowerBounds, key);
+            // the first lower bound is Long.MIN_VALUE, so the insertion point is positive
+            return index >= 0 ? index : -index - 2;
+        }
+
+        Block blockFor(long key) {
+            return blocks.get(indexOf(key));
+        }
+
+        /**
+         * Creates a new directory where {@code count} blocks starting at
+         * {@code index} are replaced with the given non-empty blocks.
+         */
+        Directory replace(int index, int count, Block... replacements) {
+            int newSize = size() - count + replacements.length;
+            long[] newLowerBounds = new long[newSize];
+            Block[] newBlocks = new Block[newSize];
+            for (int i = 0; i < index; i++) {
+                newLowerBounds[i] = lowerBounds[i];
+                newBlocks[i] = blocks.get(i);
+            }
+            for (int i = 0; i < replacements.length; i++) {
+                newLowerBounds[index + i] = i == 0 ? lowerBounds[index] : replacements[i].keys[0];
+                newBlocks[index + i] = replacements[i];
+            }
+            for (int i = index + count; i < size(); i++) {
+                newLowerBounds[i - count + replacements.length] = lowerBounds[i];
+                newBlocks[i - count + replacements.length] = blocks.get(i);
+            }
+            return new Directory(newLowerBounds, newBlocks);
+        }
+    }
+
+    /**
+     * Immutable sorted run of keys and their values.
+     */
+    private static final class Block {
+
+        static final Block EMPTY = new Block(new long[0], new Object[0]);
+
+        final long[] keys;
+        final Object[] values;
+
+        Block(long[] keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        Block replace(int pos, Object value) {
+            Object[] newValues = values.clone();
+            newValues[pos] = value;
+            return new Block(keys, newValues);
+        }
+
+        Block insert(int pos, long key, Object value) {
+            int size = size();
+            long[] newKeys = new long[size + 1];
+            Object[] newValues = new Object[size + 1];
+            System.arraycopy(keys, 0, newKeys, 0, pos);
+            System.arraycopy(values, 0, newValues, 0, pos);
+            newKeys[pos] = key;
+            newValues[pos] = value;
+            System.arraycopy(keys, pos, newKeys, pos + 1, size - pos);
+            System.arraycopy(values, pos, newValues, pos + 1, size - pos);
+            return new Block(newKeys, newValues);
+        }
+
+        Block delete(int pos) {
+            int size = size();
+            long[] newKeys = new long[size - 1];
+            Object[] newValues = new Object[size - 1];
+            System.arraycopy(keys, 0, newKeys, 0, pos);
+            System.arraycopy(values, 0, newValues, 0, pos);
+            System.arraycopy(keys, pos + 1, newKeys, pos, size - pos - 1);
+            System.arraycopy(values, pos + 1, newValues, pos, size - pos - 1);
+            return new Block(newKeys, newValues);
+        }
+
+        Block slice(int from, int to) {
+            return new Block(Arrays.copyOfRange(keys, from, to), Arrays.copyOfRange(values, from, to));
+        }
+
+        Block concat(Block next) {
+            long[] newKeys = Arrays.copyOf(keys, size() + next.size());
+            Object[] newValues = Arrays.copyOf(values, size() + next.size());
+            System.arraycopy(next.keys, 0, newKeys, size(), next.size());
+            System.arraycopy(next.values, 0, newValues, size(), next.size());
+            return new Block(newKeys, newValues);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.bitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bit-sliced representation of {@code long} values associated with unique
+ * {@code long} keys.
+ * <p>
+ * Each bit position of the values has its own slice, a sparse bit set of the
+ * keys having the bit set in their values. Range queries are answered by
+ * combining the slices using {@link BitmapAlgorithms}, so the cost of a query
+ * depends on the number of significant bits of the values instead of the
+ * number of distinct values.
+ * <p>
+ * The values are compared as signed numbers: the comparison is done on the
+ * bits of the values with the sign bit flipped, while the slices store the
+ * bits of the values as is. For non-negative values, this keeps the slices of
+ * the unused high bits empty.
+ */
+final class BitSlices {
+
+    private static final int SIGN_BIT = Long.SIZE - 1;
+
+    private static final int IMPOSSIBLE = 0;
+    private static final int ALWAYS = 1;
+    private static final int REQUIRED = 2;
+
+    private final SparseBitSet[] slices = new SparseBitSet[Long.SIZE];
+    private final long[] cardinalities = new long[Long.SIZE];
+    private SparseBitSet keys = new SparseBitSet();
+    private long size;
+
+    /**
+     * Inserts the given value associated with the given key.
+     */
+    public void insert(long key, long value) {
+        keys.add(key);
+        ++size;
+        for (long bits = value; bits != 0; bits &= bits - 1) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            SparseBitSet slice = slices[bit];
+            if (slice == null) {
+                slice = new SparseBitSet();
+                slices[bit] = slice;
+            }
+            slice.add(key);
+            ++cardinalities[bit];
+        }
+    }
+
+    /**
+     * Removes the given value associated with the given key.
+     */
+    public void remove(long key, long value) {
+        keys.remove(key);
+        --size;
+        for (long bits = value; bits != 0; bits &= bits - 1) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            if (slices[bit].remove(key)) {
+                slices[bit] = null;
+            }
+            --cardinalities[bit];
+        }
+    }
+
+    /**
+     * Clears these slices.
+     */
+    public void clear() {
+        for (int bit = 0; bit < Long.SIZE; ++bit) {
+            slices[bit] = null;
+            cardinalities[bit] = 0;
+        }
+        keys = new SparseBitSet();
+        size = 0;
+    }
+
+    /**
+     * @param from          the lower bound of the range or {@code null} if the
+     *                      range is left-unbounded.
+     * @param fromInclusive {@code true} if the range is left-closed.
+     * @param to            the upper bound of the range or {@code null} if the
+     *                      range is right-unbounded.
+     * @param toInclusive   {@code true} if the range is right-closed.
+     * @return an iterator over the keys having their values in the given range.
+     */
+    @SuppressWarnings({"checkstyle:NPathComplexity", "checkstyle:CyclomaticComplexity"})
+    public AscendingLongIterator range(Long from, boolean fromInclusive, Long to, boolean toInclusive) {
+        long lower = Long.MIN_VALUE;
+        if (from != null) {
+            if (!fromInclusive && from == Long.MAX_VALUE) {
+                return AscendingLongIterator.EMPTY;
+            }
+            lower = fromInclusive ? from : from + 1;
+        }
+        long upper = Long.MAX_VALUE;
+        if (to != null) {
+            if (!toInclusive && to == Long.MIN_VALUE) {
+                return AscendingLongIterator.EMPTY;
+            }
+            upper = toInclusive ? to : to - 1;
+        }
+        if (size == 0 || lower > upper) {
+            return AscendingLongIterator.EMPTY;
+        }
+
+        AscendingLongIterator greater = lower == Long.MIN_VALUE ? null : compare(lower - 1, false);
+        AscendingLongIterator less = upper == Long.MAX_VALUE ? null : compare(upper + 1, true);
+        if (greater == null) {
+            return less == null ? keys.iterator() : less;
+        }
+        return less == null ? greater : BitmapAlgorithms.and(new AscendingLongIterator[]{greater, less});
+    }
+
+    /**
+     * Builds the iterator over the keys having their values less or greater
+     * than the given value.
+     * <p>
+     * A value is less than the given one if, for some bit, the higher bits of
+     * the values are equal while the bit is cleared in the value and set in the
+     * given one. This gives a term per such bit; the terms are combined using
+     * the union.
+     */
+    private AscendingLongIterator compare(long value, boolean less) {
+        long orderBits = value ^ Long.MIN_VALUE;
+        List<AscendingLongIterator> terms = new ArrayList<>();
+        int[] prefix = new int[Long.SIZE];
+        boolean[] prefixBits = new boolean[Long.SIZE];
+        int prefixLength = 0;
+
+        for (int bit = SIGN_BIT; bit >= 0; --bit) {
+            boolean orderBit = (orderBits >>> bit & 1) != 0;
+            if (orderBit == less) {
+                boolean termBit = !orderBit ^ (bit == SIGN_BIT);
+                int state = state(bit, termBit);
+                if (state != IMPOSSIBLE) {
+                    terms.add(term(prefix, prefixBits, prefixLength, state == REQUIRED ? bit : -1, termBit));
+                }
+            }
+
+            // the higher bits of the values of the next terms are equal
+            boolean prefixBit = orderBit ^ (bit == SIGN_BIT);
+            int state = state(bit, prefixBit);
+            if (state == IMPOSSIBLE) {
+                break;
+            } else if (state == REQUIRED) {
+                prefix[prefixLength] = bit;
+                prefixBits[prefixLength] = prefixBit;
+                ++prefixLength;
+            }
+        }
+
+        return switch (terms.size()) {
+            case 0 -> AscendingLongIterator.EMPTY;
+            case 1 -> terms.get(0);
+            default -> BitmapAlgorithms.or(terms.toArray(new AscendingLongIterator[0]));
+        };
+    }
+
+    private int state(int bit, boolean set) {
+        long cardinality = cardinalities[bit];
+        if (cardinality == 0) {
+            return set ? IMPOSSIBLE : ALWAYS;
+        } else if (cardinality == size) {
+            return set ? ALWAYS : IMPOSSIBLE;
+        } else {
+            return REQUIRED;
+        }
+    }
+
+    private AscendingLongIterator term(int[] prefix, boolean[] prefixBits, int prefixLength, int bit, boolean set) {
+        List<AscendingLongIterator> included = new ArrayList<>(prefixLength + 1);
+        List<AscendingLongIterator> excluded = new ArrayList<>(prefixLength + 1);
+        for (int i = 0; i < prefixLength; ++i) {
+            (prefixBits[i] ? included : excluded).add(slices[prefix[i]].iterator());
+        }
+        if (bit != -1) {
+            (set ? included : excluded).add(slices[bit].iterator());
+        }
+
+        AscendingLongIterator iterator = switch (included.size()) {
+            case 0 -> keys.iterator();
+            case 1 -> included.get(0);
+            default -> BitmapAlgorithms.and(included.toArray(new AscendingLongIterator[0]));
+        };
+        return switch (excluded.size()) {
+            case 0 -> iterator;
+            case 1 -> BitmapAlgorithms.andNot(iterator, excluded.get(0));
+            default -> BitmapAlgorithms.andNot(iterator, BitmapAlgorithms.or(excluded.toArray(new AscendingLongIterator[0])));
+        };
+    }
+
+}
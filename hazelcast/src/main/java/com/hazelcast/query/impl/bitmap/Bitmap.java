@@ -19,17 +19,24 @@ package com.hazelcast.query.impl.bitmap;
 import com.hazelcast.core.TypeConverter;
 import com.hazelcast.internal.monitor.impl.IndexOperationStats;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.Comparables;
 import com.hazelcast.query.impl.predicates.AndPredicate;
+import com.hazelcast.query.impl.predicates.BetweenPredicate;
 import com.hazelcast.query.impl.predicates.EqualPredicate;
 import com.hazelcast.query.impl.predicates.InPredicate;
 import com.hazelcast.query.impl.predicates.NotEqualPredicate;
 import com.hazelcast.query.impl.predicates.NotPredicate;
 import com.hazelcast.query.impl.predicates.OrPredicate;
+import com.hazelcast.query.impl.predicates.RangePredicate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+
 /**
  * Provides indexing and querying capabilities for a single attribute of entries
  * of type {@code E}. Each indexed entry is uniquely identified by its unique
@@ -38,6 +45,11 @@ import java.util.Map;
  * Internally, each bitmap manages a set of sparse bit sets, one for each
  * possible attribute value, and a sparse array to map from unique {@code long}
  * entry keys back to entries.
+ * <p>
+ * The entries having a single integral attribute value are also indexed in
+ * {@link BitSlices}, which are used to evaluate range predicates as long as
+ * all the non-null values are such. Otherwise, range predicates are evaluated
+ * by the union of the bit sets of the matching values.
  *
  * @param <E> the type of entries being indexed.
  */
@@ -48,6 +60,12 @@ public final class Bitmap<E> {
 
     private final SparseArray<E> entries = new SparseArray<>();
 
+    private final BitSlices bitSlices = new BitSlices();
+
+    // the number of entries having multiple or non-integral values, these
+    // entries are not bit-sliced
+    private long unslicedCount;
+
     // Note! At the moment bitmap index doesn't support memory statistics,
     // because we cannot produce precise memory estimate.
     // Instead, we provide zero memory consumption estimation.
@@ -62,6 +80,8 @@ public final class Bitmap<E> {
      * @param entry  the entry to insert.
      */
     public void insert(Iterator values, long key, E entry, IndexOperationStats operationStats) {
+        int count = 0;
+        Object lastValue = null;
         while (values.hasNext()) {
             Object value = values.next();
             assert value != null;
@@ -69,7 +89,10 @@ public final class Bitmap<E> {
             SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
             bitSet.add(key);
+            ++count;
+            lastValue = value;
         }
+        slice(key, count, lastValue);
 
         entries.set(key, entry);
     }
@@ -84,6 +107,9 @@ public final class Bitmap<E> {
      * @param entry     the entry to update.
      */
     public void update(Iterator oldValues, Iterator newValues, long key, E entry, IndexOperationStats operationStats) {
+        boolean present = contains(key);
+        int count = 0;
+        Object lastValue = null;
         while (oldValues.hasNext()) {
             Object value = oldValues.next();
             assert value != null;
@@ -93,8 +119,15 @@ public final class Bitmap<E> {
                 bitSet.remove(key);
             }
             operationStats.onEntryRemoved(ZeroCost.ZERO_COST);
+            ++count;
+            lastValue = value;
+        }
+        if (present) {
+            unslice(key, count, lastValue);
         }
 
+        count = 0;
+        lastValue = null;
         while (newValues.hasNext()) {
             Object value = newValues.next();
             assert value != null;
@@ -102,7 +135,10 @@ public final class Bitmap<E> {
             SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
             bitSet.add(key);
+            ++count;
+            lastValue = value;
         }
+        slice(key, count, lastValue);
 
         entries.set(key, entry);
     }
@@ -115,6 +151,9 @@ public final class Bitmap<E> {
      * @param key    the unique key of an entry being removed.
      */
     public void remove(Iterator values, long key, IndexOperationStats operationStats) {
+        boolean present = contains(key);
+        int count = 0;
+        Object lastValue = null;
         while (values.hasNext()) {
             Object value = values.next();
             assert value != null;
@@ -126,6 +165,11 @@ public final class Bitmap<E> {
                 }
             }
             operationStats.onEntryRemoved(ZeroCost.ZERO_COST);
+            ++count;
+            lastValue = value;
+        }
+        if (present) {
+            unslice(key, count, lastValue);
         }
 
         entries.clear(key);
@@ -137,6 +181,28 @@ public final class Bitmap<E> {
     public void clear() {
         bitSets.clear();
         entries.clear();
+        bitSlices.clear();
+        unslicedCount = 0;
+    }
+
+    private boolean contains(long key) {
+        return entries.iterator().advanceAtLeastTo(key) == key;
+    }
+
+    private void slice(long key, int valueCount, Object value) {
+        if (valueCount == 1 && isIntegral(value)) {
+            bitSlices.insert(key, ((Number) value).longValue());
+        } else if (valueCount > 1 || valueCount == 1 && value != NULL) {
+            ++unslicedCount;
+        }
+    }
+
+    private void unslice(long key, int valueCount, Object value) {
+        if (valueCount == 1 && isIntegral(value)) {
+            bitSlices.remove(key, ((Number) value).longValue());
+        } else if (valueCount > 1 || valueCount == 1 && value != NULL) {
+            --unslicedCount;
+        }
     }
 
     /**
@@ -145,7 +211,8 @@ public final class Bitmap<E> {
      * <p>
      * The following predicates (and combinations of them) are supported:
      * {@link AndPredicate}, {@link OrPredicate}, {@link NotPredicate}, {@link
-     * NotEqualPredicate}, {@link EqualPredicate}, {@link InPredicate}.
+     * NotEqualPredicate}, {@link EqualPredicate}, {@link InPredicate} and the
+     * other {@link RangePredicate}s.
      *
      * @param predicate the predicate to evaluate.
      * @param converter the converter to use for the predicate arguments
@@ -156,7 +223,7 @@ public final class Bitmap<E> {
         return new EntryIterator<>(predicateIterator(predicate, converter), entries.iterator());
     }
 
-    @SuppressWarnings("checkstyle:npathcomplexity")
+    @SuppressWarnings({"checkstyle:npathcomplexity", "checkstyle:cyclomaticcomplexity", "checkstyle:returncount"})
     private AscendingLongIterator predicateIterator(Predicate predicate, TypeConverter converter) {
         if (predicate instanceof AndPredicate andPredicate) {
             Predicate[] predicates = andPredicate.getPredicates();
@@ -198,9 +265,90 @@ public final class Bitmap<E> {
             return BitmapAlgorithms.or(valueIterators(values, converter));
         }
 
+        if (predicate instanceof RangePredicate rangePredicate) {
+            return rangeIterator(rangePredicate, converter);
+        }
+
         throw new IllegalArgumentException("unexpected predicate: " + predicate);
     }
 
+    private AscendingLongIterator rangeIterator(RangePredicate predicate, TypeConverter converter) {
+        Comparable from = predicate.getFrom();
+        Comparable to = predicate.getTo();
+        // comparisons with null never match, the null bounds of BETWEEN and
+        // both bounds of other predicates being null are null values
+        if (from == null && to == null || predicate instanceof BetweenPredicate && (from == null || to == null)) {
+            return AscendingLongIterator.EMPTY;
+        }
+        from = convert(from, converter);
+        to = convert(to, converter);
+        if (from == NULL || to == NULL) {
+            return AscendingLongIterator.EMPTY;
+        }
+
+        if (unslicedCount == 0 && isIntegralOrNull(from) && isIntegralOrNull(to)) {
+            return bitSlices.range(toLong(from), predicate.isFromInclusive(), toLong(to), predicate.isToInclusive());
+        } else {
+            return valueRangeIterator(from, predicate.isFromInclusive(), to, predicate.isToInclusive());
+        }
+    }
+
+    private AscendingLongIterator valueRangeIterator(Comparable from, boolean fromInclusive, Comparable to,
+                                                     boolean toInclusive) {
+        List<AscendingLongIterator> iterators = new ArrayList<>();
+        for (Map.Entry<Object, SparseBitSet> bitSet : bitSets.entrySet()) {
+            Object value = bitSet.getKey();
+            if (value != NULL && inRange((Comparable) value, from, fromInclusive, to, toInclusive)) {
+                iterators.add(bitSet.getValue().iterator());
+            }
+        }
+        return iterators.isEmpty() ? AscendingLongIterator.EMPTY
+                : BitmapAlgorithms.or(iterators.toArray(new AscendingLongIterator[0]));
+    }
+
+    private static boolean inRange(Comparable value, Comparable from, boolean fromInclusive, Comparable to,
+                                   boolean toInclusive) {
+        if (from != null) {
+            if (!isComparable(value, from)) {
+                return false;
+            }
+            int order = Comparables.compare(value, from);
+            if (order < 0 || order == 0 && !fromInclusive) {
+                return false;
+            }
+        }
+        if (to != null) {
+            if (!isComparable(value, to)) {
+                return false;
+            }
+            int order = Comparables.compare(value, to);
+            return order < 0 || order == 0 && toInclusive;
+        }
+        return true;
+    }
+
+    private static boolean isComparable(Object lhs, Object rhs) {
+        return lhs.getClass() == rhs.getClass() || lhs instanceof Number && rhs instanceof Number;
+    }
+
+    private static Comparable convert(Comparable bound, TypeConverter converter) {
+        return bound == null ? null : converter.convert(bound);
+    }
+
+    private static boolean isIntegralOrNull(Object value) {
+        return value == null || isIntegral(value);
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    private static boolean isIntegral(Object value) {
+        // the values are canonicalized by the index store, integral values
+        // are represented either as integers or as longs
+        return value instanceof Integer || value instanceof Long;
+    }
+
     private AscendingLongIterator[] predicateIterators(Predicate[] predicates, TypeConverter converter) {
         AscendingLongIterator[] iterators = new AscendingLongIterator[predicates.length];
         for (int i = 0; i < predicates.length; ++i) {
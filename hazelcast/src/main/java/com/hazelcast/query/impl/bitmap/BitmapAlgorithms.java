@@ -53,6 +53,14 @@ final class BitmapAlgorithms {
         return new NotIterator(iterator, universe);
     }
 
+    /**
+     * @return an iterator that represents a result of subtraction of the given
+     * excluded iterator from the given iterator.
+     */
+    public static AscendingLongIterator andNot(AscendingLongIterator iterator, AscendingLongIterator excluded) {
+        return new AndNotIterator(iterator, excluded);
+    }
+
     private static final class AndIterator implements AscendingLongIterator {
 
         // The idea: order iterators by their current index; if the index of the
@@ -378,4 +386,55 @@ final class BitmapAlgorithms {
 
     }
 
+    private static final class AndNotIterator implements AscendingLongIterator {
+
+        // The idea: the base iterator is always positioned at the current index,
+        // the excluded iterator is advanced at least to each candidate index to
+        // find out whether the candidate is excluded.
+
+        private final AscendingLongIterator iterator;
+        private final AscendingLongIterator excluded;
+
+        private long index;
+
+        AndNotIterator(AscendingLongIterator iterator, AscendingLongIterator excluded) {
+            this.iterator = iterator;
+            this.excluded = excluded;
+            this.index = skipExcluded(iterator.getIndex());
+        }
+
+        @Override
+        public long getIndex() {
+            return index;
+        }
+
+        @Override
+        public long advance() {
+            long current = index;
+            if (current != END) {
+                iterator.advance();
+                index = skipExcluded(iterator.getIndex());
+            }
+            return current;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long member) {
+            if (index == END || index >= member) {
+                return index;
+            }
+            index = skipExcluded(iterator.advanceAtLeastTo(member));
+            return index;
+        }
+
+        private long skipExcluded(long candidate) {
+            while (candidate != END && excluded.advanceAtLeastTo(candidate) == candidate) {
+                iterator.advance();
+                candidate = iterator.getIndex();
+            }
+            return candidate;
+        }
+
+    }
+
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.getters;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.serialization.impl.compact.FieldDescriptor;
+import com.hazelcast.internal.serialization.impl.compact.OffsetReader;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.nio.serialization.FieldKind;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.NULL_ARRAY_LENGTH;
+import static com.hazelcast.internal.nio.Bits.SHORT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readInt;
+import static com.hazelcast.internal.nio.Bits.readLong;
+import static com.hazelcast.internal.nio.Bits.readShort;
+import static com.hazelcast.internal.serialization.impl.compact.OffsetReader.BYTE_OFFSET_READER_RANGE;
+import static com.hazelcast.internal.serialization.impl.compact.OffsetReader.NULL_OFFSET;
+import static com.hazelcast.internal.serialization.impl.compact.OffsetReader.SHORT_OFFSET_READER_RANGE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads a top level field of Compact serialized {@link HeapData} directly
+ * from its payload.
+ * <p>
+ * The position of the field is resolved once per schema and cached, so
+ * reading the field does not create an input, a generic record or a query
+ * reader. A scan reading a few fields of wide values thus reads only the
+ * bytes of these fields. The fixed-size fields, the nullable primitive fields
+ * and the string fields are read here. The other fields, such as the arrays
+ * and the nested ones, are reported as {@link #UNSUPPORTED} and read by the
+ * {@link CompactGetter}.
+ * <p>
+ * The binary layout read here is the one written by the
+ * {@code DefaultCompactWriter}: the schema ID, followed by the length of the
+ * data section when there are variable-size fields, followed by the
+ * fixed-size fields, the variable-size fields and the offsets of the
+ * variable-size fields relative to the start of the data section.
+ */
+final class CompactFieldReader {
+
+    /**
+     * Returned when the field cannot be read by this reader.
+     */
+    static final Object UNSUPPORTED = new Object();
+
+    /**
+     * Bounds the number of cached schemas, the field of an evolving type
+     * is seen with a few schemas at most.
+     */
+    static final int MAX_CACHED_SCHEMAS = 8;
+
+    private static final int SCHEMA_ID_POSITION = HeapData.DATA_OFFSET;
+    private static final int DATA_LENGTH_POSITION = SCHEMA_ID_POSITION + LONG_SIZE_IN_BYTES;
+
+    private final String fieldName;
+    private final boolean bigEndian;
+    private volatile FieldLayout[] layouts = new FieldLayout[0];
+
+    CompactFieldReader(String fieldName, ByteOrder byteOrder) {
+        this.fieldName = fieldName;
+        this.bigEndian = byteOrder == ByteOrder.BIG_ENDIAN;
+    }
+
+    Object read(HeapData data, InternalSerializationService serializationService) throws IOException {
+        byte[] payload = data.toByteArray();
+        long schemaId = readLong(payload, SCHEMA_ID_POSITION, bigEndian);
+        FieldLayout layout = getLayout(schemaId);
+        if (layout == null) {
+            layout = cacheLayout(serializationService.extractSchemaFromData(data));
+        }
+        return layout.read(payload, bigEndian);
+    }
+
+    private FieldLayout getLayout(long schemaId) {
+        for (FieldLayout layout : layouts) {
+            if (layout.schemaId == schemaId) {
+                return layout;
+            }
+        }
+        return null;
+    }
+
+    private synchronized FieldLayout cacheLayout(Schema schema) {
+        FieldLayout layout = getLayout(schema.getSchemaId());
+        if (layout != null) {
+            return layout;
+        }
+        layout = new FieldLayout(schema, schema.getField(fieldName));
+        FieldLayout[] current = layouts;
+        if (current.length < MAX_CACHED_SCHEMAS) {
+            FieldLayout[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = layout;
+            layouts = updated;
+        }
+        return layout;
+    }
+
+    /**
+     * The position of the field in the binaries of a schema. For the
+     * variable-size fields, the position is the index of the offset of the
+     * field, the offset is read from each binary.
+     */
+    private static final class FieldLayout {
+
+        private final long schemaId;
+        private final FieldKind kind;
+        private final int dataStart;
+        private final int position;
+        private final int bitOffset;
+        private final int variableSizeIndex;
+
+        FieldLayout(Schema schema, FieldDescriptor field) {
+            this.schemaId = schema.getSchemaId();
+            this.dataStart = schema.getNumberOfVariableSizeFields() == 0 ? DATA_LENGTH_POSITION
+                    : DATA_LENGTH_POSITION + INT_SIZE_IN_BYTES;
+            if (field == null) {
+                this.kind = null;
+                this.position = -1;
+                this.bitOffset = 0;
+                this.variableSizeIndex = -1;
+            } else {
+                this.kind = field.getKind();
+                this.position = dataStart + field.getOffset();
+                this.bitOffset = field.getBitOffset();
+                this.variableSizeIndex = field.getIndex();
+            }
+        }
+
+        Object read(byte[] payload, boolean bigEndian) {
+            if (kind == null) {
+                return UNSUPPORTED;
+            }
+            Object value = readFixedSize(payload, bigEndian);
+            if (value != UNSUPPORTED) {
+                return value;
+            }
+            return readVariableSize(payload, bigEndian);
+        }
+
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        private Object readFixedSize(byte[] payload, boolean bigEndian) {
+            return switch (kind) {
+                case BOOLEAN -> ((payload[position] >>> bitOffset) & 1) != 0;
+                case INT8 -> payload[position];
+                case INT16 -> readShort(payload, position, bigEndian);
+                case INT32 -> readInt(payload, position, bigEndian);
+                case INT64 -> readLong(payload, position, bigEndian);
+                case FLOAT32 -> Float.intBitsToFloat(readInt(payload, position, bigEndian));
+                case FLOAT64 -> Double.longBitsToDouble(readLong(payload, position, bigEndian));
+                default -> UNSUPPORTED;
+            };
+        }
+
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        private Object readVariableSize(byte[] payload, boolean bigEndian) {
+            return switch (kind) {
+                case STRING, NULLABLE_BOOLEAN, NULLABLE_INT8, NULLABLE_INT16, NULLABLE_INT32, NULLABLE_INT64,
+                     NULLABLE_FLOAT32, NULLABLE_FLOAT64 -> {
+                    int fieldPosition = readVariableSizePosition(payload, bigEndian);
+                    yield fieldPosition == NULL_OFFSET ? null
+                            : readVariableSize(payload, fieldPosition, bigEndian);
+                }
+                default -> UNSUPPORTED;
+            };
+        }
+
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        private Object readVariableSize(byte[] payload, int fieldPosition, boolean bigEndian) {
+            return switch (kind) {
+                case STRING -> {
+                    int length = readInt(payload, fieldPosition, bigEndian);
+                    yield length == NULL_ARRAY_LENGTH ? null
+                            : new String(payload, fieldPosition + INT_SIZE_IN_BYTES, length, UTF_8);
+                }
+                case NULLABLE_BOOLEAN -> payload[fieldPosition] != 0;
+                case NULLABLE_INT8 -> payload[fieldPosition];
+                case NULLABLE_INT16 -> readShort(payload, fieldPosition, bigEndian);
+                case NULLABLE_INT32 -> readInt(payload, fieldPosition, bigEndian);
+                case NULLABLE_INT64 -> readLong(payload, fieldPosition, bigEndian);
+                case NULLABLE_FLOAT32 -> Float.intBitsToFloat(readInt(payload, fieldPosition, bigEndian));
+                case NULLABLE_FLOAT64 -> Double.longBitsToDouble(readLong(payload, fieldPosition, bigEndian));
+                default -> UNSUPPORTED;
+            };
+        }
+
+        /**
+         * Reads the offset of the variable-size field, encoded on as few
+         * bytes as the length of the data section allows, see {@link
+         * OffsetReader#readerFor}.
+         */
+        private int readVariableSizePosition(byte[] payload, boolean bigEndian) {
+            int dataLength = readInt(payload, DATA_LENGTH_POSITION, bigEndian);
+            int offsetsPosition = dataStart + dataLength;
+            int offset;
+            if (dataLength < BYTE_OFFSET_READER_RANGE) {
+                byte byteOffset = payload[offsetsPosition + variableSizeIndex];
+                offset = byteOffset == NULL_OFFSET ? NULL_OFFSET : Byte.toUnsignedInt(byteOffset);
+            } else if (dataLength < SHORT_OFFSET_READER_RANGE) {
+                short shortOffset = readShort(payload, offsetsPosition + variableSizeIndex * SHORT_SIZE_IN_BYTES,
+                        bigEndian);
+                offset = shortOffset == NULL_OFFSET ? NULL_OFFSET : Short.toUnsignedInt(shortOffset);
+            } else {
+                offset = readInt(payload, offsetsPosition + variableSizeIndex * INT_SIZE_IN_BYTES, bigEndian);
+            }
+            return offset == NULL_OFFSET ? NULL_OFFSET : dataStart + offset;
+        }
+    }
+}
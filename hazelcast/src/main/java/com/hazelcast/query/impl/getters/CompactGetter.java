@@ -19,11 +19,22 @@ package com.hazelcast.query.impl.getters;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.GenericRecordQueryReader;
+import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class CompactGetter extends Getter {
+
+    /**
+     * Bounds the number of field paths with a cached {@link CompactFieldReader}.
+     */
+    static final int MAX_FIELD_READERS = 1024;
+
     private final InternalSerializationService serializationService;
+    private final Map<String, CompactFieldReader> fieldReaders = new ConcurrentHashMap<>();
 
     public CompactGetter(InternalSerializationService serializationService) {
         super(null);
@@ -31,6 +42,15 @@ public class CompactGetter extends Getter {
     }
 
     private Object getValueInternal(Object target, String fieldPath, boolean useLazyDeserialization) throws Exception {
+        if (target instanceof HeapData data) {
+            CompactFieldReader fieldReader = getFieldReader(fieldPath);
+            if (fieldReader != null) {
+                Object value = fieldReader.read(data, serializationService);
+                if (value != CompactFieldReader.UNSUPPORTED) {
+                    return value;
+                }
+            }
+        }
         InternalGenericRecord record;
         if (target instanceof CompactGenericRecord genericRecord) {
             record = genericRecord;
@@ -41,6 +61,19 @@ public class CompactGetter extends Getter {
         return reader.read(fieldPath);
     }
 
+    private CompactFieldReader getFieldReader(String fieldPath) {
+        CompactFieldReader fieldReader = fieldReaders.get(fieldPath);
+        if (fieldReader != null) {
+            return fieldReader;
+        }
+        // only the top level fields are read directly
+        if (fieldPath.indexOf('.') >= 0 || fieldPath.indexOf('[') >= 0 || fieldReaders.size() >= MAX_FIELD_READERS) {
+            return null;
+        }
+        return fieldReaders.computeIfAbsent(fieldPath,
+                path -> new CompactFieldReader(path, serializationService.getByteOrder()));
+    }
+
     @Override
     public Object getValue(Object target, String fieldPath) throws Exception {
         return getValueInternal(target, fieldPath, false);
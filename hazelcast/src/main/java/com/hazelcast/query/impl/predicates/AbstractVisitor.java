@@ -60,4 +60,14 @@ public abstract class AbstractVisitor implements Visitor {
         return predicate;
     }
 
+    @Override
+    public Predicate visit(GreaterLessPredicate predicate, IndexRegistry indexes) {
+        return predicate;
+    }
+
+    @Override
+    public Predicate visit(BoundedRangePredicate predicate, IndexRegistry indexes) {
+        return predicate;
+    }
+
 }
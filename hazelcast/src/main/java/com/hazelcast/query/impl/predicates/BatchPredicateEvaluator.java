@@ -0,0 +1,487 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.predicates;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.hazelcast.query.impl.predicates.PredicateUtils.isNull;
+
+/**
+ * Evaluates a predicate over a batch of entries at once instead of entry
+ * by entry.
+ * <p>
+ * Equal, greater/less and between predicates are evaluated column-wise:
+ * the attribute they reference is extracted once per entry of the batch
+ * into a primitive {@code long} or {@code double} column, shared by all
+ * the predicates on that attribute, and the comparison runs as a tight
+ * loop over the column. And, or and not predicates combine the results of
+ * their children on a selection vector, so an entry which is already
+ * rejected is neither extracted nor evaluated again. Any other predicate
+ * is evaluated with {@link Predicate#apply}, and an entry whose attribute
+ * value is not a plain number of the type seen first in the batch is
+ * evaluated by the predicate on the already extracted value.
+ * <p>
+ * The result for every entry is the same as the one of {@link
+ * Predicate#apply}. Instances are not thread-safe.
+ */
+public final class BatchPredicateEvaluator {
+
+    /**
+     * The maximum number of entries evaluated at once.
+     */
+    public static final int BATCH_SIZE = 1024;
+
+    private final Map<String, Column> columns = new HashMap<>();
+    private final Node root;
+    private int columnarCount;
+
+    private BatchPredicateEvaluator(Predicate predicate) {
+        this.root = compile(predicate);
+    }
+
+    /**
+     * Creates an evaluator for the given predicate.
+     *
+     * @return the evaluator, or {@code null} if no part of the predicate
+     * can be evaluated column-wise
+     */
+    public static BatchPredicateEvaluator create(Predicate predicate) {
+        BatchPredicateEvaluator evaluator = new BatchPredicateEvaluator(predicate);
+        return evaluator.columnarCount == 0 ? null : evaluator;
+    }
+
+    /**
+     * Evaluates the predicate on the given entries.
+     *
+     * @param entries the entries to evaluate
+     * @param count   the number of entries, at most {@link #BATCH_SIZE}
+     * @param matches receives the result for each entry
+     */
+    public void evaluate(QueryableEntry[] entries, int count, boolean[] matches) {
+        assert count <= BATCH_SIZE;
+        for (Column column : columns.values()) {
+            column.reset(count);
+        }
+        Arrays.fill(matches, 0, count, true);
+        root.filter(entries, count, matches);
+    }
+
+    private Node compile(Predicate predicate) {
+        if (predicate instanceof SqlPredicate sqlPredicate) {
+            return compile(sqlPredicate.getPredicate());
+        } else if (predicate instanceof AndPredicate andPredicate) {
+            return new AndNode(compile(andPredicate.predicates));
+        } else if (predicate instanceof OrPredicate orPredicate) {
+            return new OrNode(compile(orPredicate.predicates));
+        } else if (predicate instanceof NotPredicate notPredicate) {
+            return new NotNode(compile(notPredicate.predicate));
+        } else if (predicate.getClass() == EqualPredicate.class) {
+            EqualPredicate equalPredicate = (EqualPredicate) predicate;
+            return compileComparison(equalPredicate, Operator.EQUAL, equalPredicate.value, null);
+        } else if (predicate instanceof GreaterLessPredicate greaterLessPredicate) {
+            Operator operator = greaterLessPredicate.less
+                    ? (greaterLessPredicate.equal ? Operator.LESS_OR_EQUAL : Operator.LESS)
+                    : (greaterLessPredicate.equal ? Operator.GREATER_OR_EQUAL : Operator.GREATER);
+            return compileComparison(greaterLessPredicate, operator, greaterLessPredicate.value, null);
+        } else if (predicate.getClass() == BetweenPredicate.class) {
+            BetweenPredicate betweenPredicate = (BetweenPredicate) predicate;
+            return compileComparison(betweenPredicate, Operator.BETWEEN, betweenPredicate.from, betweenPredicate.to);
+        }
+        return new ApplyNode(predicate);
+    }
+
+    private Node[] compile(Predicate[] predicates) {
+        Node[] nodes = new Node[predicates.length];
+        for (int i = 0; i < predicates.length; i++) {
+            nodes[i] = compile(predicates[i]);
+        }
+        return nodes;
+    }
+
+    private Node compileComparison(AbstractPredicate predicate, Operator operator, Comparable first, Comparable second) {
+        if (isNull(first) || (operator == Operator.BETWEEN && isNull(second))) {
+            return new ApplyNode(predicate);
+        }
+        columnarCount++;
+        Column column = columns.computeIfAbsent(predicate.attributeName, Column::new);
+        return new ComparisonNode(predicate, column, operator, first, second);
+    }
+
+    private static boolean isLongRepresentable(Class<?> clazz) {
+        return clazz == Long.class || clazz == Integer.class || clazz == Short.class || clazz == Byte.class;
+    }
+
+    private static boolean isDoubleRepresentable(Class<?> clazz) {
+        return clazz == Double.class || clazz == Float.class;
+    }
+
+    private static boolean isLong(Comparable value) {
+        return value != null && isLongRepresentable(value.getClass());
+    }
+
+    private static boolean isDouble(Comparable value) {
+        return value != null && isDoubleRepresentable(value.getClass());
+    }
+
+    /**
+     * Node of the compiled predicate tree.
+     */
+    private abstract static class Node {
+
+        /**
+         * Clears the selection of the entries which do not match. Only the
+         * selected entries are evaluated.
+         */
+        abstract void filter(QueryableEntry[] entries, int count, boolean[] selection);
+    }
+
+    private static final class ApplyNode extends Node {
+
+        private final Predicate predicate;
+
+        ApplyNode(Predicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void filter(QueryableEntry[] entries, int count, boolean[] selection) {
+            for (int i = 0; i < count; i++) {
+                if (selection[i]) {
+                    selection[i] = predicate.apply(entries[i]);
+                }
+            }
+        }
+    }
+
+    private static final class AndNode extends Node {
+
+        private final Node[] children;
+
+        AndNode(Node[] children) {
+            this.children = children;
+        }
+
+        @Override
+        void filter(QueryableEntry[] entries, int count, boolean[] selection) {
+            for (Node child : children) {
+                child.filter(entries, count, selection);
+            }
+        }
+    }
+
+    private static final class OrNode extends Node {
+
+        private final Node[] children;
+        private final boolean[] matched = new boolean[BATCH_SIZE];
+        private final boolean[] candidates = new boolean[BATCH_SIZE];
+
+        OrNode(Node[] children) {
+            this.children = children;
+        }
+
+        @Override
+        void filter(QueryableEntry[] entries, int count, boolean[] selection) {
+            Arrays.fill(matched, 0, count, false);
+            for (Node child : children) {
+                // entries matched by a previous child are not evaluated again
+                for (int i = 0; i < count; i++) {
+                    candidates[i] = selection[i] & !matched[i];
+                }
+                child.filter(entries, count, candidates);
+                for (int i = 0; i < count; i++) {
+                    matched[i] |= candidates[i];
+                }
+            }
+            System.arraycopy(matched, 0, selection, 0, count);
+        }
+    }
+
+    private static final class NotNode extends Node {
+
+        private final Node child;
+        private final boolean[] candidates = new boolean[BATCH_SIZE];
+
+        NotNode(Node child) {
+            this.child = child;
+        }
+
+        @Override
+        void filter(QueryableEntry[] entries, int count, boolean[] selection) {
+            System.arraycopy(selection, 0, candidates, 0, count);
+            child.filter(entries, count, candidates);
+            for (int i = 0; i < count; i++) {
+                selection[i] &= !candidates[i];
+            }
+        }
+    }
+
+    private enum Operator {
+        EQUAL,
+        LESS,
+        LESS_OR_EQUAL,
+        GREATER,
+        GREATER_OR_EQUAL,
+        BETWEEN
+    }
+
+    /**
+     * Equal, greater/less or between comparison of a column with constants.
+     * The constants are converted to the attribute type once per batch,
+     * the same way the predicate converts them for every entry.
+     */
+    private static final class ComparisonNode extends Node {
+
+        private final AbstractPredicate predicate;
+        private final Column column;
+        private final Operator operator;
+        private final Comparable first;
+        private final Comparable second;
+
+        ComparisonNode(AbstractPredicate predicate, Column column, Operator operator, Comparable first, Comparable second) {
+            this.predicate = predicate;
+            this.column = column;
+            this.operator = operator;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        void filter(QueryableEntry[] entries, int count, boolean[] selection) {
+            column.load(entries, count, selection);
+            Comparable sample = column.sample;
+            if (sample != null) {
+                Comparable convertedFirst = predicate.convert(sample, first);
+                Comparable convertedSecond = operator == Operator.BETWEEN ? predicate.convert(sample, second) : convertedFirst;
+                if (column.kind == Column.LONG && isLong(convertedFirst) && isLong(convertedSecond)) {
+                    long lower = ((Number) convertedFirst).longValue();
+                    long upper = ((Number) convertedSecond).longValue();
+                    if (column.mixed) {
+                        filterLongsMixed(count, selection, lower, upper);
+                    } else {
+                        filterLongs(count, selection, lower, upper);
+                    }
+                    return;
+                }
+                if (column.kind == Column.DOUBLE && isDouble(convertedFirst) && isDouble(convertedSecond)) {
+                    filterDoubles(count, selection, ((Number) convertedFirst).doubleValue(),
+                            ((Number) convertedSecond).doubleValue());
+                    return;
+                }
+            }
+            filterByAttributeValue(count, selection);
+        }
+
+        /**
+         * Column of plain longs and possibly not yet loaded entries, which
+         * are not selected: no branches, the loops can be vectorized.
+         */
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        private void filterLongs(int count, boolean[] selection, long lower, long upper) {
+            long[] longs = column.longs;
+            switch (operator) {
+                case EQUAL:
+                    for (int i = 0; i < count; i++) {
+                        selection[i] &= longs[i] == lower;
+                    }
+                    break;
+                case LESS:
+                    for (int i = 0; i < count; i++) {
+                        selection[i] &= longs[i] < lower;
+                    }
+                    break;
+                case LESS_OR_EQUAL:
+                    for (int i = 0; i < count; i++) {
+                        selection[i] &= longs[i] <= lower;
+                    }
+                    break;
+                case GREATER:
+                    for (int i = 0; i < count; i++) {
+                        selection[i] &= longs[i] > lower;
+                    }
+                    break;
+                case GREATER_OR_EQUAL:
+                    for (int i = 0; i < count; i++) {
+                        selection[i] &= longs[i] >= lower;
+                    }
+                    break;
+                case BETWEEN:
+                    for (int i = 0; i < count; i++) {
+                        selection[i] &= longs[i] >= lower & longs[i] <= upper;
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected operator: " + operator);
+            }
+        }
+
+        private void filterLongsMixed(int count, boolean[] selection, long lower, long upper) {
+            byte[] states = column.states;
+            long[] longs = column.longs;
+            for (int i = 0; i < count; i++) {
+                if (selection[i]) {
+                    switch (states[i]) {
+                        case Column.LONG:
+                            selection[i] = matches(Long.compare(longs[i], lower), Long.compare(longs[i], upper));
+                            break;
+                        case Column.NULL:
+                            // none of the predicates matches a null attribute value if the constant is not null
+                            selection[i] = false;
+                            break;
+                        default:
+                            selection[i] = predicate.applyForAttributeValue(column.values[i]);
+                    }
+                }
+            }
+        }
+
+        private void filterDoubles(int count, boolean[] selection, double lower, double upper) {
+            byte[] states = column.states;
+            double[] doubles = column.doubles;
+            for (int i = 0; i < count; i++) {
+                if (selection[i]) {
+                    switch (states[i]) {
+                        case Column.DOUBLE:
+                            // Double.compare() is what Comparables.compare() uses for doubles and floats
+                            selection[i] = matches(Double.compare(doubles[i], lower), Double.compare(doubles[i], upper));
+                            break;
+                        case Column.NULL:
+                            selection[i] = false;
+                            break;
+                        default:
+                            selection[i] = predicate.applyForAttributeValue(column.values[i]);
+                    }
+                }
+            }
+        }
+
+        private void filterByAttributeValue(int count, boolean[] selection) {
+            Object[] values = column.values;
+            for (int i = 0; i < count; i++) {
+                if (selection[i]) {
+                    selection[i] = predicate.applyForAttributeValue(values[i]);
+                }
+            }
+        }
+
+        private boolean matches(int firstComparison, int secondComparison) {
+            return switch (operator) {
+                case EQUAL -> firstComparison == 0;
+                case LESS -> firstComparison < 0;
+                case LESS_OR_EQUAL -> firstComparison <= 0;
+                case GREATER -> firstComparison > 0;
+                case GREATER_OR_EQUAL -> firstComparison >= 0;
+                case BETWEEN -> firstComparison >= 0 && secondComparison <= 0;
+            };
+        }
+    }
+
+    /**
+     * Values of an attribute for the entries of the current batch. The class
+     * of the first non-null value decides the type of the column; values of
+     * any other class are left to {@link Predicate#apply}.
+     */
+    private static final class Column {
+
+        static final byte NOT_LOADED = 0;
+        static final byte NULL = 1;
+        static final byte LONG = 2;
+        static final byte DOUBLE = 3;
+        static final byte OTHER = 4;
+
+        final String attributeName;
+        final byte[] states = new byte[BATCH_SIZE];
+        final long[] longs = new long[BATCH_SIZE];
+        final double[] doubles = new double[BATCH_SIZE];
+        final Object[] values = new Object[BATCH_SIZE];
+
+        /**
+         * The first non-null value of the batch, {@code null} if it is not a
+         * plain number.
+         */
+        Comparable sample;
+        Class<?> valueClass;
+        byte kind;
+        /**
+         * Whether there is an entry of the batch whose value is not of the
+         * column type.
+         */
+        boolean mixed;
+
+        Column(String attributeName) {
+            this.attributeName = attributeName;
+        }
+
+        void reset(int count) {
+            Arrays.fill(states, 0, count, NOT_LOADED);
+            Arrays.fill(values, 0, count, null);
+            sample = null;
+            valueClass = null;
+            kind = NOT_LOADED;
+            mixed = false;
+        }
+
+        /**
+         * Extracts the attribute value of the selected entries which have
+         * not been loaded yet.
+         */
+        void load(QueryableEntry[] entries, int count, boolean[] selection) {
+            for (int i = 0; i < count; i++) {
+                if (selection[i] && states[i] == NOT_LOADED) {
+                    states[i] = store(i, entries[i].getAttributeValue(attributeName));
+                    if (states[i] != kind) {
+                        mixed = true;
+                    }
+                }
+            }
+        }
+
+        private byte store(int index, Object value) {
+            values[index] = value;
+            if (value == null) {
+                return NULL;
+            }
+            Class<?> clazz = value.getClass();
+            if (valueClass == null) {
+                valueClass = clazz;
+                if (isLongRepresentable(clazz)) {
+                    kind = LONG;
+                    sample = (Comparable) value;
+                } else if (isDoubleRepresentable(clazz)) {
+                    kind = DOUBLE;
+                    sample = (Comparable) value;
+                } else {
+                    kind = OTHER;
+                }
+            }
+            if (clazz != valueClass || kind == OTHER) {
+                return OTHER;
+            }
+            if (kind == LONG) {
+                longs[index] = ((Number) value).longValue();
+            } else {
+                doubles[index] = ((Number) value).doubleValue();
+            }
+            return kind;
+        }
+    }
+}
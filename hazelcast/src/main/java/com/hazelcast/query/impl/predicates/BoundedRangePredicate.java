@@ -16,8 +16,10 @@
 
 package com.hazelcast.query.impl.predicates;
 
+import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.Comparables;
 import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.QueryContext;
 import com.hazelcast.query.impl.QueryableEntry;
 
@@ -34,7 +36,7 @@ import static com.hazelcast.query.impl.predicates.PredicateUtils.isNull;
  * Instances of this class are never transferred between members, the
  * serialization is disabled.
  */
-public class BoundedRangePredicate extends AbstractIndexAwarePredicate implements RangePredicate {
+public class BoundedRangePredicate extends AbstractIndexAwarePredicate implements RangePredicate, VisitablePredicate {
 
     private final Comparable from;
     private final boolean fromInclusive;
@@ -65,6 +67,11 @@ public class BoundedRangePredicate extends AbstractIndexAwarePredicate implement
         this.toInclusive = toInclusive;
     }
 
+    @Override
+    public Predicate accept(Visitor visitor, IndexRegistry indexes) {
+        return visitor.visit(this, indexes);
+    }
+
     @Override
     public Set<QueryableEntry> filter(QueryContext queryContext) {
         Index index = matchIndex(queryContext, QueryContext.IndexMatchHint.PREFER_ORDERED);
@@ -259,4 +259,36 @@ public class EvaluateVisitor extends AbstractVisitor {
         return new EvaluatePredicate(predicate, index.getName());
     }
 
+    @Override
+    public Predicate visit(BetweenPredicate predicate, IndexRegistry indexes) {
+        return visitRange(predicate, indexes);
+    }
+
+    @Override
+    public Predicate visit(GreaterLessPredicate predicate, IndexRegistry indexes) {
+        return visitRange(predicate, indexes);
+    }
+
+    @Override
+    public Predicate visit(BoundedRangePredicate predicate, IndexRegistry indexes) {
+        return visitRange(predicate, indexes);
+    }
+
+    private static Predicate visitRange(AbstractIndexAwarePredicate predicate, IndexRegistry indexes) {
+        // only the indexes evaluating range predicates directly are matched
+        // here, the ordered indexes answer them in the predicate filtering
+        Index index = indexes.matchIndex(predicate.attributeName, predicate.getClass(), IndexMatchHint.PREFER_ORDERED,
+                SKIP_PARTITIONS_COUNT_CHECK);
+        if (index == null) {
+            return predicate;
+        }
+
+        TypeConverter converter = index.getConverter();
+        if (converter == null) {
+            return predicate;
+        }
+
+        return new EvaluatePredicate(predicate, index.getName());
+    }
+
 }
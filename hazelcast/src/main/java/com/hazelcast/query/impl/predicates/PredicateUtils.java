@@ -16,6 +16,7 @@
 
 package com.hazelcast.query.impl.predicates;
 
+import com.hazelcast.config.IndexType;
 import com.hazelcast.query.PartitionPredicate;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.AndResultSet;
@@ -24,6 +25,7 @@ import com.hazelcast.query.impl.QueryableEntry;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import static com.hazelcast.query.impl.AbstractIndex.NULL;
 
@@ -107,4 +109,30 @@ public final class PredicateUtils {
         PartitionPredicate partitionPredicate = (PartitionPredicate) predicate;
         return partitionPredicate.getTarget() instanceof PagingPredicateImpl;
     }
+
+    /**
+     * Reports the attributes of the given predicate which could be served by
+     * an index, along with the type of the index serving them: {@link
+     * IndexType#HASH} for equality and {@link IndexType#SORTED} for range
+     * comparisons. The attributes of the negated predicates are not
+     * reported, since a negation is never served by an index.
+     *
+     * @param predicate the predicate to inspect.
+     * @param consumer  the consumer of the attributes and index types.
+     */
+    public static void collectIndexableAttributes(Predicate predicate, BiConsumer<String, IndexType> consumer) {
+        if (predicate instanceof PartitionPredicate partitionPredicate) {
+            collectIndexableAttributes(partitionPredicate.getTarget(), consumer);
+        } else if (predicate instanceof AndPredicate || predicate instanceof OrPredicate) {
+            for (Predicate subPredicate : ((CompoundPredicate) predicate).getPredicates()) {
+                collectIndexableAttributes(subPredicate, consumer);
+            }
+        } else if (predicate instanceof EqualPredicate equalPredicate) {
+            consumer.accept(equalPredicate.attributeName, IndexType.HASH);
+        } else if (predicate instanceof InPredicate inPredicate) {
+            consumer.accept(inPredicate.attributeName, IndexType.HASH);
+        } else if (predicate instanceof RangePredicate rangePredicate) {
+            consumer.accept(rangePredicate.getAttribute(), IndexType.SORTED);
+        }
+    }
 }
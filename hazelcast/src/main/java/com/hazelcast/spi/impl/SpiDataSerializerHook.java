@@ -81,6 +81,8 @@ public final class SpiDataSerializerHook implements DataSerializerHook {
     public static final int SIMPLE_TOKEN_CRED = 24;
     public static final int DISTRIBUTED_OBJECT_EVENT_PACKET = 25;
     public static final int APPEND_TENANT_CONTROL_OPERATION = 26;
+    // the type ID of a packet of batched responses; there is no object for it, see OutboundResponseBatcher
+    public static final int RESPONSE_BATCH = 27;
 
     private static final DataSerializableFactory FACTORY = createFactoryInternal();
 
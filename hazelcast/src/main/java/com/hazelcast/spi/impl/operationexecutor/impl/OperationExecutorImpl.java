@@ -26,6 +26,7 @@ import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.tpc.TpcServerBootstrap;
 import com.hazelcast.internal.util.ThreadAffinity;
 import com.hazelcast.internal.util.concurrent.IdleStrategy;
+import com.hazelcast.internal.util.concurrent.MPSCArrayQueue;
 import com.hazelcast.internal.util.concurrent.MPSCQueue;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.LoggingService;
@@ -41,10 +42,10 @@ import com.hazelcast.spi.impl.operationservice.PartitionTaskFactory;
 import com.hazelcast.spi.impl.operationservice.UrgentSystemOperation;
 import com.hazelcast.spi.impl.operationservice.impl.operations.Backup;
 import com.hazelcast.spi.properties.HazelcastProperties;
-import com.hazelcast.spi.properties.HazelcastProperty;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.BitSet;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -66,7 +67,9 @@ import static com.hazelcast.internal.util.ThreadUtil.createThreadPoolName;
 import static com.hazelcast.spi.impl.operationservice.impl.InboundResponseHandlerSupplier.getIdleStrategy;
 import static com.hazelcast.spi.properties.ClusterProperty.GENERIC_OPERATION_THREAD_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_QUEUE_CHUNK_SIZE;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_IDLE_STRATEGY;
 import static com.hazelcast.spi.properties.ClusterProperty.PRIORITY_GENERIC_OPERATION_THREAD_COUNT;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -93,8 +96,6 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  */
 @SuppressWarnings({"checkstyle:methodcount", "checkstyle:classfanoutcomplexity"})
 public final class OperationExecutorImpl implements OperationExecutor, StaticMetricsProvider {
-    private static final HazelcastProperty IDLE_STRATEGY
-            = new HazelcastProperty("hazelcast.operation.partitionthread.idlestrategy", "block");
     private static final int TERMINATION_TIMEOUT_SECONDS = 3;
     private final ThreadAffinity threadAffinity = newSystemThreadAffinity("hazelcast.operation.thread.affinity");
     private final ILogger logger;
@@ -175,12 +176,16 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
             threadCount = threadAffinity.getThreadCount();
         }
 
-        IdleStrategy idleStrategy = getIdleStrategy(properties, IDLE_STRATEGY);
+        IdleStrategy idleStrategy = getIdleStrategy(properties, PARTITION_OPERATION_THREAD_IDLE_STRATEGY);
+        int chunkSize = properties.getInteger(PARTITION_OPERATION_QUEUE_CHUNK_SIZE);
         PartitionOperationThread[] threads = new PartitionOperationThread[threadCount];
         for (int threadId = 0; threadId < threads.length; threadId++) {
             String threadName = createThreadPoolName(hzName, "partition-operation") + threadId;
-            // the normalQueue will be a blocking queue. We don't want to idle, because there are many operation threads.
-            MPSCQueue<Object> normalQueue = new MPSCQueue<>(idleStrategy);
+            // the normalQueue will be a blocking queue, unless an idle strategy is configured.
+            // We don't want to idle by default, because there are many operation threads.
+            BlockingQueue<Object> normalQueue = chunkSize > 0
+                    ? new MPSCArrayQueue<>(chunkSize, idleStrategy)
+                    : new MPSCQueue<>(idleStrategy);
 
             OperationQueue operationQueue = new OperationQueueImpl(normalQueue, new ConcurrentLinkedQueue<>());
 
@@ -188,7 +193,11 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
                     operationQueue, logger, nodeExtension, partitionOperationRunners, configClassLoader);
             partitionThread.setThreadAffinity(threadAffinity);
             threads[threadId] = partitionThread;
-            normalQueue.setConsumerThread(partitionThread);
+            if (normalQueue instanceof MPSCArrayQueue<Object> arrayQueue) {
+                arrayQueue.setConsumerThread(partitionThread);
+            } else {
+                ((MPSCQueue<Object>) normalQueue).setConsumerThread(partitionThread);
+            }
         }
 
         // we need to assign the PartitionOperationThreads to all OperationRunners they own
@@ -20,6 +20,7 @@ import com.hazelcast.instance.impl.NodeExtension;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
+import com.hazelcast.spi.impl.operationservice.impl.OutboundResponseBatcher;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_PARTITION_OPERATION_THREAD_NORMAL_PENDING_COUNT;
@@ -33,6 +34,10 @@ public class PartitionOperationThread extends OperationThread {
 
     OperationRunner[] partitionOperationRunners;
 
+    // collects the responses sent by this thread if response batching is enabled;
+    // only set by this thread
+    private OutboundResponseBatcher responseBatcher;
+
     @SuppressFBWarnings("EI_EXPOSE_REP")
     public PartitionOperationThread(String name,
                                     int threadId,
@@ -54,6 +59,37 @@ public class PartitionOperationThread extends OperationThread {
         return partitionOperationRunners[partitionId];
     }
 
+    public OutboundResponseBatcher getResponseBatcher() {
+        return responseBatcher;
+    }
+
+    public void setResponseBatcher(OutboundResponseBatcher responseBatcher) {
+        this.responseBatcher = responseBatcher;
+    }
+
+    @Override
+    void process(Object task) {
+        // the responses which waited for longer than the max delay are not
+        // held back for the duration of another task
+        OutboundResponseBatcher batcher = responseBatcher;
+        if (batcher != null) {
+            batcher.flushIfExpired();
+        }
+
+        super.process(task);
+
+        // the batched responses are sent once there is nothing else to run, so
+        // they are only delayed while this thread is busy
+        batcher = responseBatcher;
+        if (batcher != null) {
+            if (queue.isEmpty()) {
+                batcher.flush();
+            } else {
+                batcher.flushIfExpired();
+            }
+        }
+    }
+
     @Probe(name = OPERATION_METRIC_PARTITION_OPERATION_THREAD_PRIORITY_PENDING_COUNT)
     int priorityPendingCount() {
         return queue.prioritySize();
@@ -21,6 +21,7 @@ import com.hazelcast.internal.util.ThreadLocalRandomProvider;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.operationservice.BackupAwareOperation;
 import com.hazelcast.spi.impl.operationservice.UrgentSystemOperation;
+import com.hazelcast.spi.impl.sequence.AdaptiveConcurrencyLimit;
 import com.hazelcast.spi.impl.sequence.CallIdFactory;
 import com.hazelcast.spi.impl.sequence.CallIdSequence;
 import com.hazelcast.spi.properties.HazelcastProperties;
@@ -28,6 +29,7 @@ import com.hazelcast.spi.properties.HazelcastProperties;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ADAPTIVE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION;
@@ -78,6 +80,8 @@ class BackpressureRegulator {
     private final int partitionCount;
     private final int maxConcurrentInvocations;
     private final int backoffTimeoutMs;
+    // null if backpressure or the adaptive limit is disabled
+    private final AdaptiveConcurrencyLimit adaptiveLimit;
 
     BackpressureRegulator(HazelcastProperties properties, ILogger logger) {
         this.enabled = properties.getBoolean(BACKPRESSURE_ENABLED);
@@ -87,11 +91,16 @@ class BackpressureRegulator {
         this.syncCountdown.set(syncWindow);
         this.maxConcurrentInvocations = getMaxConcurrentInvocations(properties);
         this.backoffTimeoutMs = getBackoffTimeoutMs(properties);
+        this.adaptiveLimit = enabled && properties.getBoolean(BACKPRESSURE_ADAPTIVE_ENABLED)
+                // between 1 and the configured number of invocations per partition, +1 for the generic operations
+                ? new AdaptiveConcurrencyLimit(partitionCount + 1, maxConcurrentInvocations, partitionCount + 1)
+                : null;
 
         if (enabled) {
             logger.info("Backpressure is enabled"
                     + ", maxConcurrentInvocations:" + maxConcurrentInvocations
-                    + ", syncWindow: " + syncWindow);
+                    + ", syncWindow: " + syncWindow
+                    + ", adaptive: " + (adaptiveLimit != null));
 
             int backupTimeoutMillis = properties.getInteger(OPERATION_BACKUP_TIMEOUT_MILLIS);
             if (backupTimeoutMillis < MINUTES.toMillis(1)) {
@@ -158,7 +167,18 @@ class BackpressureRegulator {
         }
     }
 
+    /**
+     * Returns the adaptive limit on the number of concurrent invocations, or
+     * {@code null} if the limit is static.
+     */
+    AdaptiveConcurrencyLimit getAdaptiveLimit() {
+        return adaptiveLimit;
+    }
+
     CallIdSequence newCallIdSequence(ConcurrencyDetection concurrencyDetection) {
+        if (adaptiveLimit != null) {
+            return CallIdFactory.newCallIdSequence(adaptiveLimit, backoffTimeoutMs, concurrencyDetection);
+        }
         return CallIdFactory.newCallIdSequence(maxConcurrentInvocations, backoffTimeoutMs, concurrencyDetection);
     }
 
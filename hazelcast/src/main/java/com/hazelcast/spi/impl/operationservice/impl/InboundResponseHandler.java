@@ -28,16 +28,21 @@ import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.impl.responses.ErrorResponse;
 
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
 import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
 import static com.hazelcast.internal.nio.Packet.Type.OPERATION;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.BACKUP_ACK_RESPONSE;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.CALL_TIMEOUT_RESPONSE;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.ERROR_RESPONSE;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.NORMAL_RESPONSE;
+import static com.hazelcast.spi.impl.SpiDataSerializerHook.RESPONSE_BATCH;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseBatcher.OFFSET_RESPONSES;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseBatcher.OFFSET_RESPONSE_COUNT;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse.OFFSET_BACKUP_ACKS;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.OFFSET_CALL_ID;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.OFFSET_TYPE_ID;
@@ -60,6 +65,7 @@ public final class InboundResponseHandler implements Consumer<Packet> {
     final MwCounter responsesBackup = newMwCounter();
     final SwCounter responsesError = newSwCounter();
     final MwCounter responsesMissing = newMwCounter();
+    final SwCounter responsesBatch = newSwCounter();
     private final ILogger logger;
     private final InternalSerializationService serializationService;
     private final InvocationRegistry invocationRegistry;
@@ -100,6 +106,9 @@ public final class InboundResponseHandler implements Consumer<Packet> {
                     ErrorResponse errorResponse = serializationService.toObject(packet);
                     notifyErrorResponse(callId, errorResponse.getCause(), sender);
                     break;
+                case RESPONSE_BATCH:
+                    notifyResponseBatch(packet, sender);
+                    break;
                 default:
                     logger.severe("Unrecognized type: " + typeId + " packet:" + packet);
             }
@@ -108,6 +117,42 @@ public final class InboundResponseHandler implements Consumer<Packet> {
         }
     }
 
+    /**
+     * Notifies the invocations of the responses in a batch sent by the
+     * {@link OutboundResponseBatcher}. Only backup acks and normal responses
+     * are batched.
+     */
+    private void notifyResponseBatch(Packet packet, Address sender) {
+        responsesBatch.inc();
+
+        byte[] bytes = packet.toByteArray();
+        int count = Bits.readInt(bytes, OFFSET_RESPONSE_COUNT, useBigEndian);
+        int offset = OFFSET_RESPONSES;
+        for (int k = 0; k < count; k++) {
+            int length = Bits.readInt(bytes, offset, useBigEndian);
+            offset += INT_SIZE_IN_BYTES;
+            int typeId = Bits.readInt(bytes, offset + OFFSET_TYPE_ID, useBigEndian);
+            long callId = Bits.readLong(bytes, offset + OFFSET_CALL_ID, useBigEndian);
+            try {
+                if (typeId == BACKUP_ACK_RESPONSE) {
+                    notifyBackupComplete(callId);
+                } else if (typeId == NORMAL_RESPONSE) {
+                    // the invocation deserializes the response from a packet of its own
+                    Packet response = new Packet(Arrays.copyOfRange(bytes, offset, offset + length), -1)
+                            .setPacketType(OPERATION)
+                            .raiseFlags(FLAG_OP_RESPONSE);
+                    response.setConn(packet.getConn());
+                    notifyNormalResponse(callId, response, bytes[offset + OFFSET_BACKUP_ACKS], sender);
+                } else {
+                    logger.severe("Unrecognized type in response batch: " + typeId + " packet:" + packet);
+                }
+            } catch (Throwable e) {
+                logger.severe("While processing response...", e);
+            }
+            offset += length;
+        }
+    }
+
     public void notifyBackupComplete(long callId) {
         responsesBackup.inc();
 
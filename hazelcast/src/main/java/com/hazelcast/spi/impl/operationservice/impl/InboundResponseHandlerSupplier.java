@@ -40,6 +40,7 @@ import java.util.function.Supplier;
 
 import static com.hazelcast.instance.impl.OutOfMemoryErrorDispatcher.inspectOutOfMemoryError;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_BACKUP_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_BATCH_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_ERROR_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_MISSING_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_NORMAL_COUNT;
@@ -202,6 +203,15 @@ public class InboundResponseHandlerSupplier implements StaticMetricsProvider, Su
         return result;
     }
 
+    @Probe(name = OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_BATCH_COUNT)
+    long responsesBatch() {
+        long result = 0;
+        for (InboundResponseHandler handler : inboundResponseHandlers) {
+            result += handler.responsesBatch.get();
+        }
+        return result;
+    }
+
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, OPERATION_PREFIX);
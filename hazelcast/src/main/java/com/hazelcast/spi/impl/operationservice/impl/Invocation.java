@@ -137,6 +137,13 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
      */
     volatile long lastHeartbeatMillis;
 
+    /**
+     * The time in nanoseconds the current attempt of the invocation got registered,
+     * or 0 if its round trip time isn't sampled by the adaptive concurrency limit.
+     * Published to the response threads by the registration in the InvocationRegistry.
+     */
+    long registrationNanos;
+
     final Context context;
     final InvocationFuture future;
     final long callTimeoutMillis;
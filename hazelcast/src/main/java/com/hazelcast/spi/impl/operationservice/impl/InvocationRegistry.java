@@ -26,12 +26,15 @@ import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.metrics.StaticMetricsProvider;
 import com.hazelcast.internal.util.LatencyDistribution;
 import com.hazelcast.internal.util.RuntimeAvailableProcessors;
+import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.impl.operations.PartitionIteratingOperation;
+import com.hazelcast.spi.impl.sequence.AdaptiveConcurrencyLimit;
 import com.hazelcast.spi.impl.sequence.CallIdSequence;
 import com.hazelcast.spi.properties.HazelcastProperties;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -39,11 +42,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LAST_CALL_ID;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LIMIT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_PENDING;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_REJECTED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_USED_PERCENTAGE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_INVOCATIONS;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.spi.impl.operationservice.OperationAccessor.deactivate;
 import static com.hazelcast.spi.impl.operationservice.OperationAccessor.setCallId;
 
@@ -56,13 +62,17 @@ import static com.hazelcast.spi.impl.operationservice.OperationAccessor.setCallI
  * {@link com.hazelcast.spi.impl.operationservice.impl.responses.Response} comes in, the
  * appropriate invocation can be looked up.
  * <p>
+ * The invocations are stored in an {@link InvocationTable}, so neither registering an invocation nor looking it up
+ * boxes the call ID.
+ * <p>
+ * If the concurrency limit is adaptive, the registry samples the round trip time of every invocation attempt
+ * that is subject to the limit, from its registration to its deregistration, and feeds it to the
+ * {@link AdaptiveConcurrencyLimit}.
+ * <p>
  * Some ideas:
  * <ul>
- * <li>Use a ringbuffer to store all invocations instead of a CHM. The call ID can be used as sequence ID for this
- * ringbuffer. It can be that you run in slots that have not been released; if that happens, just keep increasing
- * the sequence (although you now get sequence-gaps).</li>
- * <li>Pre-allocate all invocations. Because the ringbuffer has a fixed capacity, pre-allocation should be easy. Also
- * the PartitionInvocation and TargetInvocation can be folded into Invocation.</li>
+ * <li>Pre-allocate all invocations. If the number of concurrent invocations is bounded, the invocations could be
+ * recycled. Also the PartitionInvocation and TargetInvocation can be folded into Invocation.</li>
  * </ul>
  */
 public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsProvider {
@@ -72,26 +82,37 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
     private static final int CONCURRENCY_LEVEL = 16;
 
     private static final int INITIAL_CAPACITY = 1000;
-    private static final float LOAD_FACTOR = 0.75f;
     private static final double HUNDRED_PERCENT = 100d;
 
-    @Probe(name = OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_PENDING, level = MANDATORY)
-    private final ConcurrentMap<Long, Invocation> invocations;
+    private final InvocationTable invocations;
     private final ILogger logger;
     private final CallIdSequence callIdSequence;
+    // null if the concurrency limit is static
+    private final AdaptiveConcurrencyLimit adaptiveLimit;
     private final boolean profilerEnabled;
+    @Probe(name = OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_REJECTED, level = MANDATORY)
+    private final MwCounter rejectedInvocations = newMwCounter();
     private final ConcurrentMap<Class, LatencyDistribution> latencyDistributions = new ConcurrentHashMap<>();
     private volatile boolean alive = true;
 
     public InvocationRegistry(ILogger logger, CallIdSequence callIdSequence, HazelcastProperties properties) {
+        this(logger, callIdSequence, null, properties);
+    }
+
+    /**
+     * @param adaptiveLimit the adaptive limit of the given call ID sequence, or {@code null} if its limit is static
+     */
+    public InvocationRegistry(ILogger logger, CallIdSequence callIdSequence, AdaptiveConcurrencyLimit adaptiveLimit,
+                              HazelcastProperties properties) {
         this.logger = logger;
         this.callIdSequence = callIdSequence;
+        this.adaptiveLimit = adaptiveLimit;
 
         int coreSize = RuntimeAvailableProcessors.get();
         boolean reallyMultiCore = coreSize >= CORE_SIZE_CHECK;
         int concurrencyLevel = reallyMultiCore ? coreSize * CORE_SIZE_FACTOR : CONCURRENCY_LEVEL;
 
-        this.invocations = new ConcurrentHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, concurrencyLevel);
+        this.invocations = new InvocationTable(concurrencyLevel, INITIAL_CAPACITY);
         this.profilerEnabled = properties.getInteger(InvocationProfilerPlugin.PERIOD_SECONDS) > 0;
     }
 
@@ -110,6 +131,23 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
         return (HUNDRED_PERCENT * invocations.size()) / maxConcurrentInvocations;
     }
 
+    /**
+     * Returns the current maximum number of concurrent invocations, {@link Integer#MAX_VALUE} if
+     * backpressure is disabled.
+     */
+    @Probe(name = OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LIMIT, level = MANDATORY)
+    int getMaxConcurrentInvocations() {
+        return callIdSequence.getMaxConcurrentInvocations();
+    }
+
+    /**
+     * Returns the number of invocations rejected because the maximum number of concurrent
+     * invocations was reached.
+     */
+    long getRejectedInvocations() {
+        return rejectedInvocations.get();
+    }
+
     @Probe(name = OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LAST_CALL_ID)
     long getLastCallId() {
         return callIdSequence.getLastCallId();
@@ -127,8 +165,11 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
         try {
             callId = force ? callIdSequence.forceNext() : callIdSequence.next();
         } catch (HazelcastOverloadException e) {
+            rejectedInvocations.inc();
             throw new HazelcastOverloadException("Failed to start invocation due to overload: " + invocation, e);
         }
+        // the forced invocations bypass the limit, so they don't adapt it either
+        invocation.registrationNanos = adaptiveLimit != null && !force ? System.nanoTime() : 0;
         try {
             // fails with IllegalStateException if the operation is already active
             setCallId(invocation.op, callId);
@@ -157,6 +198,10 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
         }
         invocations.remove(invocation.op.getCallId());
         callIdSequence.complete();
+        long registrationNanos = invocation.registrationNanos;
+        if (registrationNanos != 0) {
+            adaptiveLimit.onSample(System.nanoTime() - registrationNanos);
+        }
         return true;
     }
 
@@ -187,22 +232,23 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
      *
      * @return the number of pending invocations
      */
+    @Probe(name = OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_PENDING, level = MANDATORY)
     public int size() {
         return invocations.size();
     }
 
     @Override
     public Iterator<Invocation> iterator() {
-        return invocations.values().iterator();
+        return invocations.iterator();
     }
 
     /**
-     * Intention to expose the entry set is to mutate it.
+     * Returns a snapshot of the pending invocations by their call ID.
      *
      * @return set of invocations in this registry
      */
     public Set<Map.Entry<Long, Invocation>> entrySet() {
-        return invocations.entrySet();
+        return new HashSet<>(invocations.entries());
     }
 
     /**
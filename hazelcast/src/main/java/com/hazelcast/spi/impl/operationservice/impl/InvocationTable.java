@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.hazelcast.internal.util.QuickMath.log2;
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * A concurrent map from the call ID to the {@link Invocation} registered
+ * with it, used by the {@link InvocationRegistry}.
+ * <p>
+ * Unlike a {@code ConcurrentHashMap<Long, Invocation>}, the call IDs are not
+ * boxed and adding an invocation doesn't allocate a node. The table is split
+ * into segments by the lower bits of the call ID; every segment is an open
+ * addressing table with linear probing, storing the call IDs and the
+ * invocations in arrays. Since the call IDs are generated by a sequence,
+ * the consecutive call IDs of a segment are in consecutive slots.
+ * <p>
+ * Adding and removing an invocation is synchronized on its segment; getting
+ * an invocation and iterating the invocations don't lock. A removed
+ * invocation leaves a tombstone so that the lookups can probe past it, and
+ * the segment is rehashed into a new table when the tombstones and the
+ * invocations take half of the slots.
+ * <p>
+ * The call IDs must be positive and an invocation must not be added with the
+ * call ID of an invocation added before, even if it has been removed since.
+ */
+final class InvocationTable implements Iterable<Invocation> {
+
+    static final int MIN_SEGMENT_CAPACITY = 16;
+
+    private static final long FREE = 0;
+    private static final long REMOVED = -1;
+    private static final int LOAD_FACTOR_RECIPROCAL = 2;
+    private static final int REHASH_CAPACITY_FACTOR = 4;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    InvocationTable(int concurrencyLevel, int initialCapacity) {
+        int segmentCount = nextPowerOfTwo(Math.max(1, concurrencyLevel));
+        int segmentCapacity = nextPowerOfTwo(Math.max(MIN_SEGMENT_CAPACITY,
+                LOAD_FACTOR_RECIPROCAL * initialCapacity / segmentCount));
+        this.segments = new Segment[segmentCount];
+        for (int k = 0; k < segmentCount; k++) {
+            segments[k] = new Segment(segmentCapacity, log2(segmentCount));
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * Adds the invocation with the given call ID.
+     *
+     * @param callId     the call ID, must be positive and never added before.
+     * @param invocation the invocation.
+     */
+    void put(long callId, Invocation invocation) {
+        assert callId > 0 : "call ID must be positive: " + callId;
+        segmentOf(callId).put(callId, invocation);
+    }
+
+    /**
+     * Gets the invocation with the given call ID.
+     *
+     * @param callId the call ID.
+     * @return the invocation, or {@code null} if there is no invocation with the call ID.
+     */
+    Invocation get(long callId) {
+        if (callId <= 0) {
+            return null;
+        }
+        Segment segment = segmentOf(callId);
+        for (; ; ) {
+            Table table = segment.table;
+            Invocation invocation = table.get(callId);
+            // if the table got rehashed meanwhile, the invocation could have been added or removed in the new table
+            if (segment.table == table) {
+                return invocation;
+            }
+        }
+    }
+
+    /**
+     * Removes the invocation with the given call ID.
+     *
+     * @param callId the call ID.
+     * @return {@code true} if the invocation got removed, {@code false} if there is no invocation with the call ID.
+     */
+    boolean remove(long callId) {
+        return callId > 0 && segmentOf(callId).remove(callId);
+    }
+
+    /**
+     * Returns the number of invocations. The result is an estimate when the
+     * table is concurrently modified.
+     */
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the invocations by their call ID.
+     */
+    List<Map.Entry<Long, Invocation>> entries() {
+        List<Map.Entry<Long, Invocation>> entries = new ArrayList<>();
+        for (Segment segment : segments) {
+            Table table = segment.table;
+            for (int index = 0; index < table.capacity(); index++) {
+                long callId = table.callIds.get(index);
+                Invocation invocation = callId > 0 ? table.invocationAt(index, callId) : null;
+                if (invocation != null) {
+                    entries.add(new SimpleImmutableEntry<>(callId, invocation));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the invocations: it doesn't
+     * fail on concurrent modification, and it returns the invocations
+     * which are in the table during the whole iteration.
+     */
+    @Override
+    public Iterator<Invocation> iterator() {
+        return new InvocationIterator();
+    }
+
+    private Segment segmentOf(long callId) {
+        return segments[(int) callId & segmentMask];
+    }
+
+    private static final class Segment {
+
+        private final int indexShift;
+        private volatile Table table;
+        // the number of invocations, published for the unsynchronized readers
+        private volatile int size;
+        // the number of invocations, and the number of invocations and tombstones
+        private int count;
+        private int used;
+
+        Segment(int capacity, int indexShift) {
+            this.indexShift = indexShift;
+            this.table = new Table(capacity, indexShift);
+        }
+
+        synchronized void put(long callId, Invocation invocation) {
+            Table table = this.table;
+            if ((used + 1) * LOAD_FACTOR_RECIPROCAL > table.capacity()) {
+                table = rehash(count + 1);
+            }
+
+            int index = table.indexOf(callId);
+            for (; ; ) {
+                long current = table.callIds.get(index);
+                assert current != callId : "call ID " + callId + " is already in use";
+                if (current == FREE || current == REMOVED) {
+                    break;
+                }
+                index = table.next(index);
+            }
+            if (table.callIds.get(index) == FREE) {
+                used++;
+            }
+            // the invocation is set before the call ID, so a lookup finding the call ID sees the invocation
+            table.invocations.lazySet(index, invocation);
+            table.callIds.set(index, callId);
+            size = ++count;
+        }
+
+        synchronized boolean remove(long callId) {
+            Table table = this.table;
+            int index = table.find(callId);
+            if (index == -1) {
+                return false;
+            }
+            table.invocations.lazySet(index, null);
+            table.callIds.set(index, REMOVED);
+            size = --count;
+            return true;
+        }
+
+        private Table rehash(int minSize) {
+            Table oldTable = table;
+            int capacity = nextPowerOfTwo(Math.max(MIN_SEGMENT_CAPACITY, REHASH_CAPACITY_FACTOR * minSize));
+            Table newTable = new Table(capacity, indexShift);
+            for (int index = 0; index < oldTable.capacity(); index++) {
+                long callId = oldTable.callIds.get(index);
+                if (callId > 0) {
+                    int newIndex = newTable.indexOf(callId);
+                    while (newTable.callIds.get(newIndex) != FREE) {
+                        newIndex = newTable.next(newIndex);
+                    }
+                    newTable.invocations.lazySet(newIndex, oldTable.invocations.get(index));
+                    newTable.callIds.lazySet(newIndex, callId);
+                }
+            }
+            used = count;
+            table = newTable;
+            return newTable;
+        }
+    }
+
+    private static final class Table {
+
+        private final AtomicLongArray callIds;
+        private final AtomicReferenceArray<Invocation> invocations;
+        private final int mask;
+        private final int indexShift;
+
+        Table(int capacity, int indexShift) {
+            this.callIds = new AtomicLongArray(capacity);
+            this.invocations = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.indexShift = indexShift;
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        int indexOf(long callId) {
+            return (int) (callId >>> indexShift) & mask;
+        }
+
+        int next(int index) {
+            return (index + 1) & mask;
+        }
+
+        /**
+         * Returns the index of the given call ID, or {@code -1} if the table doesn't contain it.
+         */
+        int find(long callId) {
+            int index = indexOf(callId);
+            // there is always a free slot, so the probing stops
+            for (; ; ) {
+                long current = callIds.get(index);
+                if (current == callId) {
+                    return index;
+                } else if (current == FREE) {
+                    return -1;
+                }
+                index = next(index);
+            }
+        }
+
+        Invocation get(long callId) {
+            int index = find(callId);
+            return index == -1 ? null : invocationAt(index, callId);
+        }
+
+        /**
+         * Returns the invocation at the given index, if the call ID at the
+         * index is still the given call ID after the invocation is read; the
+         * slot could have been reused for another invocation meanwhile.
+         */
+        Invocation invocationAt(int index, long callId) {
+            Invocation invocation = invocations.get(index);
+            return callIds.get(index) == callId ? invocation : null;
+        }
+    }
+
+    private final class InvocationIterator implements Iterator<Invocation> {
+
+        private int segmentIndex = -1;
+        private Table table;
+        private int index;
+        private Invocation next;
+
+        InvocationIterator() {
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Invocation next() {
+            Invocation invocation = next;
+            if (invocation == null) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return invocation;
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null) {
+                if (table == null || index == table.capacity()) {
+                    if (segmentIndex == segments.length - 1) {
+                        return;
+                    }
+                    segmentIndex++;
+                    table = segments[segmentIndex].table;
+                    index = 0;
+                    continue;
+                }
+                long callId = table.callIds.get(index);
+                if (callId > 0) {
+                    next = table.invocationAt(index, callId);
+                }
+                index++;
+            }
+        }
+    }
+}
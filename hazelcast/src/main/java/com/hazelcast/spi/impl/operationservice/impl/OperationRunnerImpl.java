@@ -513,6 +513,8 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
             if (publishCurrentTask) {
                 currentTask = null;
             }
+            // the operation has copied what it needs from the packet
+            packet.release();
         }
     }
 
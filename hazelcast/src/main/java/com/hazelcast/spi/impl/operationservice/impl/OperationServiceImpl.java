@@ -84,6 +84,8 @@ import static com.hazelcast.spi.properties.ClusterProperty.FAIL_ON_INDETERMINATE
 import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_MAX_RETRY_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_RETRY_PAUSE;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.RESPONSE_BATCHING_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.RESPONSE_BATCHING_MAX_DELAY_MICROS;
 import static java.util.Collections.newSetFromMap;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -168,11 +170,13 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
                 properties, node.getLogger(BackpressureRegulator.class));
 
         this.outboundResponseHandler = new OutboundResponseHandler(thisAddress, serializationService,
-                node.getLogger(OutboundResponseHandler.class));
+                node.getLogger(OutboundResponseHandler.class), () -> nodeEngine.getClusterService().getClusterVersion(),
+                properties.getBoolean(RESPONSE_BATCHING_ENABLED), properties.getNanos(RESPONSE_BATCHING_MAX_DELAY_MICROS));
 
         this.invocationRegistry = new InvocationRegistry(
                 node.getLogger(OperationServiceImpl.class),
                 backpressureRegulator.newCallIdSequence(nodeEngine.getConcurrencyDetection()),
+                backpressureRegulator.getAdaptiveLimit(),
                 properties);
 
         this.invocationMonitor = new InvocationMonitor(
@@ -542,7 +546,8 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, OPERATION_PREFIX);
-        registry.provideMetrics(invocationRegistry, invocationMonitor, inboundResponseHandlerSupplier, operationExecutor);
+        registry.provideMetrics(invocationRegistry, invocationMonitor, inboundResponseHandlerSupplier,
+                outboundResponseHandler, operationExecutor);
     }
 
     public void start() {
@@ -551,6 +556,7 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         initInvocationContext();
         invocationMonitor.start();
         operationExecutor.start();
+        outboundResponseHandler.start(nodeEngine.getHazelcastInstance().getName());
         inboundResponseHandlerSupplier.start();
         slowOperationDetector.start();
     }
@@ -606,6 +612,7 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         logger.finest("Shutting down operation executors");
 
         operationExecutor.shutdown();
+        outboundResponseHandler.shutdown();
         slowOperationDetector.shutdown();
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.server.ServerConnectionManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.RESPONSE_SIZE_IN_BYTES;
+
+/**
+ * Collects the responses a partition operation thread sends to other members,
+ * so that the responses to the same member are sent as a single packet.
+ * <p>
+ * A response batch starts with the prologue of a response with the
+ * {@link com.hazelcast.spi.impl.SpiDataSerializerHook#RESPONSE_BATCH} type ID,
+ * followed by the number of responses and the length and the bytes of every
+ * response. The responses are the same bytes as the bytes of the packet the
+ * response would be sent with on its own.
+ * <p>
+ * The batches are sent by the {@link com.hazelcast.spi.impl.operationexecutor.impl.PartitionOperationThread}
+ * once it has no more tasks queued, or before and after running a task once
+ * the oldest collected response is older than the max delay. A batch is also
+ * sent when it is full. While the thread runs a long task, the batches are
+ * sent by the flusher of the {@link OutboundResponseHandler}, so the max delay
+ * bounds the delay of every batched response. The flusher is armed only once
+ * a response is added to an empty batcher, and it isn't armed again before it
+ * fires, so an idle thread causes no wakeups of the flusher.
+ * <p>
+ * The responses are added by the thread the batcher belongs to, and sent
+ * either by this thread or by the flusher, so the methods are synchronized.
+ * The lock is contended only when the flusher runs.
+ */
+public final class OutboundResponseBatcher {
+
+    static final int OFFSET_RESPONSE_COUNT = RESPONSE_SIZE_IN_BYTES;
+    static final int OFFSET_RESPONSES = OFFSET_RESPONSE_COUNT + INT_SIZE_IN_BYTES;
+
+    // the maximum size of a response to be batched; larger responses are sent on their own
+    static final int MAX_BATCHED_RESPONSE_SIZE = 1024;
+    // the size of the responses at which a batch is sent
+    static final int MAX_BATCH_SIZE = 16 * 1024;
+
+    private final OutboundResponseHandler responseHandler;
+    private final long maxDelayNanos;
+    // the batches with responses, in the order of their first response; a
+    // batch is removed once sent, so no batch is retained for a member which
+    // left the cluster
+    private final Map<Address, Batch> batches = new LinkedHashMap<>();
+    private long firstResponseNanos;
+    // if the flusher is going to check this batcher
+    private boolean flushScheduled;
+
+    OutboundResponseBatcher(OutboundResponseHandler responseHandler, long maxDelayNanos) {
+        this.responseHandler = responseHandler;
+        this.maxDelayNanos = maxDelayNanos;
+    }
+
+    synchronized void add(ServerConnectionManager connectionManager, Address target, byte[] response) {
+        if (batches.isEmpty()) {
+            firstResponseNanos = System.nanoTime();
+            if (!flushScheduled) {
+                flushScheduled = responseHandler.scheduleFlush(this, maxDelayNanos);
+            }
+        }
+        Batch batch = batches.computeIfAbsent(target, Batch::new);
+        batch.connectionManager = connectionManager;
+        batch.responses.add(response);
+        batch.size += INT_SIZE_IN_BYTES + response.length;
+
+        if (batch.size >= MAX_BATCH_SIZE) {
+            batches.remove(target);
+            send(batch);
+        }
+    }
+
+    /**
+     * Checks if there are no responses to send.
+     */
+    public synchronized boolean isEmpty() {
+        return batches.isEmpty();
+    }
+
+    /**
+     * Checks if the oldest response waiting to be sent has been waiting for
+     * longer than the max delay.
+     */
+    public synchronized boolean isExpired() {
+        return isOlderThan(maxDelayNanos);
+    }
+
+    /**
+     * Sends all the responses.
+     */
+    public synchronized void flush() {
+        if (batches.isEmpty()) {
+            return;
+        }
+        try {
+            for (Batch batch : batches.values()) {
+                send(batch);
+            }
+        } finally {
+            batches.clear();
+        }
+    }
+
+    /**
+     * Sends all the responses if the oldest one has been waiting for longer
+     * than the max delay.
+     */
+    public synchronized void flushIfExpired() {
+        flushIfOlderThan(maxDelayNanos);
+    }
+
+    /**
+     * Sends all the responses if the oldest one has been waiting for longer
+     * than the given delay.
+     *
+     * @param delayNanos the delay in nanoseconds.
+     */
+    synchronized void flushIfOlderThan(long delayNanos) {
+        if (isOlderThan(delayNanos)) {
+            flush();
+        }
+    }
+
+    /**
+     * Called by the flusher once the delay it was scheduled with has passed.
+     * Sends the responses if the oldest one has been waiting for the max
+     * delay, otherwise checks again once it will have been waiting for the
+     * max delay. Once there are no responses, the flusher is armed again by
+     * the next response.
+     */
+    synchronized void onFlushTimer() {
+        flushScheduled = false;
+        if (batches.isEmpty()) {
+            return;
+        }
+        long delayNanos = System.nanoTime() - firstResponseNanos;
+        if (delayNanos >= maxDelayNanos) {
+            flush();
+        } else {
+            flushScheduled = responseHandler.scheduleFlush(this, maxDelayNanos - delayNanos);
+        }
+    }
+
+    private boolean isOlderThan(long delayNanos) {
+        return !batches.isEmpty() && System.nanoTime() - firstResponseNanos >= delayNanos;
+    }
+
+    private void send(Batch batch) {
+        responseHandler.sendBatch(batch.connectionManager, batch.target, batch.responses, batch.size);
+    }
+
+    private static final class Batch {
+
+        private final Address target;
+        private final List<byte[]> responses = new ArrayList<>();
+        // the size of the responses and their lengths in bytes
+        private int size;
+        private ServerConnectionManager connectionManager;
+
+        Batch(Address target) {
+            this.target = target;
+        }
+    }
+}
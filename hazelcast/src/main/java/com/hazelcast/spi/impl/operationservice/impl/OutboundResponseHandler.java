@@ -16,25 +16,43 @@
 
 package com.hazelcast.spi.impl.operationservice.impl;
 
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.StaticMetricsProvider;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.server.ServerConnectionManager;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.OperationResponseHandler;
 import com.hazelcast.spi.impl.SpiDataSerializerHook;
+import com.hazelcast.spi.impl.operationexecutor.OperationHostileThread;
+import com.hazelcast.spi.impl.operationexecutor.impl.PartitionOperationThread;
 import com.hazelcast.spi.impl.operationservice.impl.responses.CallTimeoutResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.ErrorResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
+import com.hazelcast.version.Version;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OUTBOUND_RESPONSE_HANDLER_BATCHED_RESPONSES_SENT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OUTBOUND_RESPONSE_HANDLER_RESPONSE_BATCHES_SENT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX;
 import static com.hazelcast.internal.serialization.impl.SerializationConstants.CONSTANT_TYPE_DATA_SERIALIZABLE;
 import static com.hazelcast.internal.serialization.impl.SerializationConstants.CONSTANT_TYPE_NULL;
 import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readLong;
 import static com.hazelcast.internal.nio.Bits.writeInt;
 import static com.hazelcast.internal.nio.Bits.writeIntB;
 import static com.hazelcast.internal.nio.Bits.writeLong;
@@ -43,6 +61,10 @@ import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
 import static com.hazelcast.internal.nio.Packet.Type.OPERATION;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.BACKUP_ACK_RESPONSE;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.NORMAL_RESPONSE;
+import static com.hazelcast.spi.impl.SpiDataSerializerHook.RESPONSE_BATCH;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseBatcher.MAX_BATCHED_RESPONSE_SIZE;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseBatcher.OFFSET_RESPONSES;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseBatcher.OFFSET_RESPONSE_COUNT;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.BackupAckResponse.BACKUP_RESPONSE_SIZE_IN_BYTES;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse.OFFSET_BACKUP_ACKS;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse.OFFSET_DATA_LENGTH;
@@ -56,27 +78,109 @@ import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.OF
 import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.OFFSET_TYPE_ID;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.OFFSET_URGENT;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+import static com.hazelcast.internal.util.ThreadUtil.createThreadName;
 import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * An {@link OperationResponseHandler} that is used for a remotely executed Operation. So when a calling member
  * sends an Operation to the receiving member, the receiving member attaches this OutboundResponseHandler
  * to that operation so that the response is returned to the right machine.
+ * <p>
+ * If response batching is enabled, the backup acks and the small normal responses sent
+ * by a {@link PartitionOperationThread} are collected by the {@link OutboundResponseBatcher}
+ * of the thread and sent in batches.
  */
-public final class OutboundResponseHandler implements OperationResponseHandler {
+public final class OutboundResponseHandler implements OperationResponseHandler, StaticMetricsProvider {
+
+    @Probe(name = OPERATION_METRIC_OUTBOUND_RESPONSE_HANDLER_RESPONSE_BATCHES_SENT)
+    final MwCounter responseBatchesSent = newMwCounter();
+    @Probe(name = OPERATION_METRIC_OUTBOUND_RESPONSE_HANDLER_BATCHED_RESPONSES_SENT)
+    final MwCounter batchedResponsesSent = newMwCounter();
 
     private final Address thisAddress;
     private final InternalSerializationService serializationService;
     private final boolean useBigEndian;
     private final ILogger logger;
+    private final Supplier<Version> clusterVersionSupplier;
+    private final boolean batchingEnabled;
+    private final long batchingMaxDelayNanos;
+    private volatile ScheduledExecutorService batchFlusher;
 
     OutboundResponseHandler(Address thisAddress,
                             InternalSerializationService serializationService,
                             ILogger logger) {
+        this(thisAddress, serializationService, logger, null, false, 0);
+    }
+
+    OutboundResponseHandler(Address thisAddress,
+                            InternalSerializationService serializationService,
+                            ILogger logger,
+                            Supplier<Version> clusterVersionSupplier,
+                            boolean batchingEnabled,
+                            long batchingMaxDelayNanos) {
         this.thisAddress = thisAddress;
         this.serializationService = serializationService;
         this.useBigEndian = serializationService.getByteOrder() == BIG_ENDIAN;
         this.logger = logger;
+        this.clusterVersionSupplier = clusterVersionSupplier;
+        this.batchingEnabled = batchingEnabled;
+        this.batchingMaxDelayNanos = batchingMaxDelayNanos;
+    }
+
+    /**
+     * Starts the flusher which sends the response batches the partition
+     * operation threads cannot send while running a long task. The flusher
+     * runs only when a batcher schedules it, see {@link #scheduleFlush}, and
+     * its thread is created once the first batch is scheduled.
+     *
+     * @param hzName the name of the instance, used to name the flusher thread.
+     */
+    void start(String hzName) {
+        if (!batchingEnabled) {
+            return;
+        }
+        batchFlusher = new ScheduledThreadPoolExecutor(1, r -> new ResponseBatchFlusherThread(r, hzName));
+    }
+
+    void shutdown() {
+        ScheduledExecutorService flusher = batchFlusher;
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+    }
+
+    /**
+     * Schedules the flusher to check the given batcher once the given delay
+     * has passed, see {@link OutboundResponseBatcher#onFlushTimer()}.
+     *
+     * @return {@code true} if scheduled, {@code false} if the flusher is not
+     * running, in which case the responses are sent by the partition thread
+     * only.
+     */
+    boolean scheduleFlush(OutboundResponseBatcher batcher, long delayNanos) {
+        ScheduledExecutorService flusher = batchFlusher;
+        if (flusher == null) {
+            return false;
+        }
+        try {
+            flusher.schedule(() -> {
+                try {
+                    batcher.onFlushTimer();
+                } catch (Throwable t) {
+                    logger.warning("Failed to send the batched responses", t);
+                }
+            }, delayNanos, NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void provideStaticMetrics(MetricsRegistry registry) {
+        registry.registerStaticMetrics(this, OPERATION_PREFIX);
     }
 
     @Override
@@ -126,7 +230,7 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
 
         Packet packet = toNormalResponsePacket(callId, (byte) backupAcks, urgent, value);
 
-        return transmit(target, packet, connectionManager);
+        return transmitOrBatch(target, packet, connectionManager);
     }
 
     Packet toNormalResponsePacket(long callId, int backupAcks, boolean urgent, Object value) {
@@ -171,7 +275,7 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
 
         Packet packet = toBackupAckPacket(callId, urgent);
 
-        transmit(target, packet, connectionManager);
+        transmitOrBatch(target, packet, connectionManager);
     }
 
     Packet toBackupAckPacket(long callId, boolean urgent) {
@@ -182,6 +286,39 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
         return newResponsePacket(bytes, urgent);
     }
 
+    void sendBatch(ServerConnectionManager connectionManager, Address target, List<byte[]> responses, int size) {
+        Packet packet = responses.size() == 1
+                ? newResponsePacket(responses.get(0), false)
+                : toResponseBatchPacket(responses, size);
+
+        if (!transmit(target, packet, connectionManager)) {
+            // the same warning as for a response sent on its own
+            for (byte[] response : responses) {
+                logger.warning("Cannot send response with call ID " + readLong(response, OFFSET_CALL_ID, useBigEndian)
+                        + " to " + target + ".");
+            }
+            return;
+        }
+        responseBatchesSent.inc();
+        batchedResponsesSent.inc(responses.size());
+    }
+
+    Packet toResponseBatchPacket(List<byte[]> responses, int size) {
+        byte[] bytes = new byte[OFFSET_RESPONSES + size];
+
+        writeResponsePrologueBytes(bytes, RESPONSE_BATCH, 0, false);
+        writeInt(bytes, OFFSET_RESPONSE_COUNT, responses.size(), useBigEndian);
+        int offset = OFFSET_RESPONSES;
+        for (byte[] response : responses) {
+            writeInt(bytes, offset, response.length, useBigEndian);
+            offset += INT_SIZE_IN_BYTES;
+            System.arraycopy(response, 0, bytes, offset, response.length);
+            offset += response.length;
+        }
+
+        return newResponsePacket(bytes, false);
+    }
+
     private void writeResponsePrologueBytes(byte[] bytes, int typeId, long callId, boolean urgent) {
         // partition hash (which is always 0 in case of response)
         writeIntB(bytes, 0, 0);
@@ -210,6 +347,60 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
         return packet;
     }
 
+    /**
+     * Batches the response if possible, otherwise sends it right away. A
+     * response is batched only if there is a live connection to the target;
+     * otherwise it is sent right away, so the connection manager either
+     * retries it once connected or reports the failure to the caller, just
+     * like without batching.
+     */
+    private boolean transmitOrBatch(Address target, Packet packet, ServerConnectionManager connectionManager) {
+        if (batchingEnabled && !packet.isUrgent() && isBatchingSupported() && isConnected(target, connectionManager)) {
+            byte[] bytes = packet.toByteArray();
+            OutboundResponseBatcher batcher = bytes.length <= MAX_BATCHED_RESPONSE_SIZE ? currentBatcher() : null;
+            if (batcher != null) {
+                batcher.add(connectionManager, target, bytes);
+                return true;
+            }
+        }
+        return transmit(target, packet, connectionManager);
+    }
+
+    /**
+     * Returns the batcher of the current thread, or {@code null} if the responses
+     * of the current thread are not batched. Only the responses of the classic
+     * partition operation threads are batched, since these threads send the
+     * batches once they run out of operations.
+     */
+    private OutboundResponseBatcher currentBatcher() {
+        Thread thread = Thread.currentThread();
+        if (thread.getClass() != PartitionOperationThread.class) {
+            return null;
+        }
+
+        PartitionOperationThread partitionThread = (PartitionOperationThread) thread;
+        OutboundResponseBatcher batcher = partitionThread.getResponseBatcher();
+        if (batcher == null) {
+            batcher = new OutboundResponseBatcher(this, batchingMaxDelayNanos);
+            partitionThread.setResponseBatcher(batcher);
+        }
+        return batcher;
+    }
+
+    private static boolean isConnected(Address target, ServerConnectionManager connectionManager) {
+        ServerConnection connection = connectionManager.get(target);
+        return connection != null && connection.isAlive();
+    }
+
+    /**
+     * Checks if all the members can read the response batches, which were
+     * introduced in 6.0. Until the cluster is upgraded, the responses are
+     * sent one by one.
+     */
+    private boolean isBatchingSupported() {
+        return clusterVersionSupplier.get().isGreaterOrEqual(V6_0);
+    }
+
     private boolean transmit(Address target, Packet packet, ServerConnectionManager connectionManager) {
         // The response is sent over an arbitrary stream id. It needs to be arbitrary so that
         // responses don't end up at stream 0 and the connection this stream belongs to, becomes
@@ -226,4 +417,10 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
             throw new IllegalArgumentException("Target is this node! -> " + target);
         }
     }
+
+    private static final class ResponseBatchFlusherThread extends Thread implements OperationHostileThread {
+        private ResponseBatchFlusherThread(Runnable task, String hzName) {
+            super(task, createThreadName(hzName, "ResponseBatchFlusher"));
+        }
+    }
 }
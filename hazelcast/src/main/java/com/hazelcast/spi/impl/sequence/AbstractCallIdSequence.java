@@ -47,6 +47,8 @@ public abstract class AbstractCallIdSequence implements CallIdSequence {
     private final AtomicLongArray longs = new AtomicLongArray(3 * CACHE_LINE_LENGTH / LONG_SIZE_IN_BYTES);
 
     private final int maxConcurrentInvocations;
+    // null if the maximum number of concurrent invocations is static
+    private final AdaptiveConcurrencyLimit adaptiveLimit;
     private final ConcurrencyDetection concurrencyDetection;
 
     public AbstractCallIdSequence(int maxConcurrentInvocations, ConcurrencyDetection concurrencyDetection) {
@@ -54,6 +56,17 @@ public abstract class AbstractCallIdSequence implements CallIdSequence {
 
         this.concurrencyDetection = concurrencyDetection;
         this.maxConcurrentInvocations = maxConcurrentInvocations;
+        this.adaptiveLimit = null;
+    }
+
+    /**
+     * Creates a sequence whose maximum number of concurrent invocations is the
+     * current limit of the given {@link AdaptiveConcurrencyLimit}.
+     */
+    public AbstractCallIdSequence(AdaptiveConcurrencyLimit adaptiveLimit, ConcurrencyDetection concurrencyDetection) {
+        this.concurrencyDetection = concurrencyDetection;
+        this.maxConcurrentInvocations = adaptiveLimit.maxLimit();
+        this.adaptiveLimit = adaptiveLimit;
     }
 
     @Override
@@ -73,7 +86,7 @@ public abstract class AbstractCallIdSequence implements CallIdSequence {
 
     @Override
     public int getMaxConcurrentInvocations() {
-        return maxConcurrentInvocations;
+        return adaptiveLimit == null ? maxConcurrentInvocations : adaptiveLimit.limit();
     }
 
     @Override
@@ -98,7 +111,7 @@ public abstract class AbstractCallIdSequence implements CallIdSequence {
     }
 
     protected boolean hasSpace() {
-        return concurrentInvocations() < maxConcurrentInvocations;
+        return concurrentInvocations() < getMaxConcurrentInvocations();
     }
 
     public long concurrentInvocations() {
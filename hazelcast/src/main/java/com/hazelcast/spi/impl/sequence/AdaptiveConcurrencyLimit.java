@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.sequence;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A limit on the number of concurrent invocations that adapts to the
+ * round trip time of the invocations, using additive increase and
+ * multiplicative decrease (AIMD).
+ * <p>
+ * The round trip times are collected in windows of at least
+ * {@link #WINDOW_NANOS} and {@link #MIN_WINDOW_SAMPLES} samples. The
+ * minimum round trip time of a window is compared with the baseline, the
+ * smoothed minimum round trip time of the previous windows:
+ * <ul>
+ * <li>if it exceeds the baseline by more than {@link #TOLERANCE}, the
+ * invocations queue up at the members, so the limit is multiplied by
+ * {@link #BACKOFF_RATIO}</li>
+ * <li>otherwise the limit is increased by the increment, up to the maximum
+ * limit</li>
+ * </ul>
+ * The minimum is used instead of the average, since an overload delays all
+ * the invocations, while a few long-running invocations, e.g. executor tasks,
+ * don't say anything about the load.
+ * <p>
+ * The baseline only follows the round trip times of the windows without
+ * overload. If the limit dropped to the minimum and the round trip time is
+ * still too high, the baseline is reset to it, so that a lasting change of
+ * the round trip time, e.g. because the values got larger, isn't taken for a
+ * permanent overload.
+ * <p>
+ * The limit is read by a {@link CallIdSequence} for every new invocation, and
+ * the samples are recorded by the threads completing the invocations.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    /**
+     * The minimum duration of a window.
+     */
+    static final long WINDOW_NANOS = MILLISECONDS.toNanos(100);
+
+    /**
+     * The minimum number of samples of a window.
+     */
+    static final int MIN_WINDOW_SAMPLES = 10;
+
+    /**
+     * The ratio of the minimum round trip time of a window to the baseline
+     * above which the limit is decreased.
+     */
+    static final double TOLERANCE = 2.0;
+
+    /**
+     * The factor the limit is multiplied with on an overload.
+     */
+    static final double BACKOFF_RATIO = 0.9;
+
+    /**
+     * The weight of the minimum round trip time of a window in the baseline.
+     */
+    static final double SMOOTHING = 0.1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int increment;
+    private final AtomicLong windowSamples = new AtomicLong();
+    private final AtomicLong windowMinRttNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicBoolean windowClosing = new AtomicBoolean();
+    private volatile long windowStartNanos = System.nanoTime();
+    private volatile int limit;
+    // only accessed by the thread closing a window
+    private double baselineRttNanos;
+
+    /**
+     * @param minLimit  the minimum limit
+     * @param maxLimit  the maximum and initial limit
+     * @param increment the increase of the limit per window without overload
+     */
+    public AdaptiveConcurrencyLimit(int minLimit, int maxLimit, int increment) {
+        checkPositive("minLimit", minLimit);
+        checkTrue(maxLimit >= minLimit, "maxLimit can't be smaller than minLimit");
+        checkPositive("increment", increment);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.increment = increment;
+        this.limit = maxLimit;
+    }
+
+    /**
+     * Returns the current limit on the number of concurrent invocations.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    int minLimit() {
+        return minLimit;
+    }
+
+    int maxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Records the round trip time of an invocation, and adapts the limit if
+     * the current window is complete.
+     *
+     * @param rttNanos the round trip time of the invocation in nanoseconds
+     */
+    public void onSample(long rttNanos) {
+        onSample(rttNanos, System.nanoTime());
+    }
+
+    void onSample(long rttNanos, long nowNanos) {
+        long samples = windowSamples.incrementAndGet();
+        for (long current = windowMinRttNanos.get(); rttNanos < current; current = windowMinRttNanos.get()) {
+            if (windowMinRttNanos.compareAndSet(current, rttNanos)) {
+                break;
+            }
+        }
+
+        if (samples >= MIN_WINDOW_SAMPLES && nowNanos - windowStartNanos >= WINDOW_NANOS
+                && windowClosing.compareAndSet(false, true)) {
+            try {
+                closeWindow(nowNanos);
+            } finally {
+                windowClosing.set(false);
+            }
+        }
+    }
+
+    private void closeWindow(long nowNanos) {
+        // the samples recorded concurrently are counted in the next window
+        windowSamples.set(0);
+        long minRttNanos = Math.max(windowMinRttNanos.getAndSet(Long.MAX_VALUE), 1);
+        windowStartNanos = nowNanos;
+
+        if (baselineRttNanos == 0) {
+            baselineRttNanos = minRttNanos;
+        } else if (minRttNanos > TOLERANCE * baselineRttNanos) {
+            if (limit == minLimit) {
+                baselineRttNanos = minRttNanos;
+            } else {
+                limit = Math.max(minLimit, (int) (limit * BACKOFF_RATIO));
+            }
+        } else {
+            baselineRttNanos += SMOOTHING * (minRttNanos - baselineRttNanos);
+            limit = (int) Math.min(maxLimit, (long) limit + increment);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyLimit{"
+                + "limit=" + limit
+                + ", minLimit=" + minLimit
+                + ", maxLimit=" + maxLimit
+                + ", increment=" + increment
+                + '}';
+    }
+}
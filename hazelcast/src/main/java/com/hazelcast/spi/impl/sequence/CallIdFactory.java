@@ -37,4 +37,23 @@ public final class CallIdFactory {
             return new CallIdSequenceWithoutBackpressure();
         }
     }
+
+    /**
+     * Creates a sequence whose maximum number of concurrent invocations is the
+     * current limit of the given {@link AdaptiveConcurrencyLimit}.
+     */
+    public static CallIdSequence newCallIdSequence(
+            AdaptiveConcurrencyLimit adaptiveLimit,
+            long backoffTimeoutMs,
+            ConcurrencyDetection concurrencyDetection) {
+        if (concurrencyDetection.enabled()) {
+            if (backoffTimeoutMs > 0) {
+                return new CallIdSequenceWithBackpressure(adaptiveLimit, backoffTimeoutMs, concurrencyDetection);
+            } else {
+                return new FailFastCallIdSequence(adaptiveLimit, concurrencyDetection);
+            }
+        } else {
+            return new CallIdSequenceWithoutBackpressure();
+        }
+    }
 }
@@ -56,6 +56,16 @@ public final class CallIdSequenceWithBackpressure extends AbstractCallIdSequence
         this.backoffTimeoutNanos = MILLISECONDS.toNanos(backoffTimeoutMs);
     }
 
+    public CallIdSequenceWithBackpressure(AdaptiveConcurrencyLimit adaptiveLimit,
+                                          long backoffTimeoutMs,
+                                          ConcurrencyDetection concurrencyDetection) {
+        super(adaptiveLimit, concurrencyDetection);
+
+        checkPositive("backoffTimeoutMs", backoffTimeoutMs);
+
+        this.backoffTimeoutNanos = MILLISECONDS.toNanos(backoffTimeoutMs);
+    }
+
     @Override
     protected void handleNoSpaceLeft() {
         long startNanos = Timer.nanos();
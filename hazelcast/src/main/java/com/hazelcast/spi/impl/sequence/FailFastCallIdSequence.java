@@ -37,6 +37,10 @@ public class FailFastCallIdSequence extends AbstractCallIdSequence {
         super(maxConcurrentInvocations, concurrencyDetection);
     }
 
+    public FailFastCallIdSequence(AdaptiveConcurrencyLimit adaptiveLimit, ConcurrencyDetection concurrencyDetection) {
+        super(adaptiveLimit, concurrencyDetection);
+    }
+
     @Override
     protected void handleNoSpaceLeft() {
         throw new HazelcastOverloadException(
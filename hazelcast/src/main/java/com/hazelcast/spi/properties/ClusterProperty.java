@@ -95,6 +95,26 @@ public final class ClusterProperty {
     public static final HazelcastProperty IO_BALANCER_INTERVAL_SECONDS
             = new HazelcastProperty("hazelcast.io.balancer.interval.seconds", 20, SECONDS);
 
+    /**
+     * Makes the {@link com.hazelcast.internal.networking.nio.iobalancer.IOBalancer}
+     * balance the cost of the connections instead of their number of
+     * transferred bytes.
+     * <p>
+     * The cost of a connection is the time the I/O thread spent processing it
+     * plus its number of transferred bytes, so a connection transferring a few
+     * large packets and a connection handling many tiny events are both seen
+     * as the load they put on the I/O thread. A connection is only moved once
+     * the imbalance persists for several balancer executions, and a moved
+     * connection isn't moved again for several executions, so the connections
+     * don't bounce between the I/O threads.
+     * <p>
+     * It is disabled by default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty IO_BALANCER_COST_BASED_ENABLED
+            = new HazelcastProperty("hazelcast.io.balancer.cost.based.enabled", false);
+
     /**
      * Prefer IPv4 network interface when picking a local address.
      */
@@ -363,6 +383,127 @@ public final class ClusterProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.io.write.through", true);
 
+    /**
+     * Enables gathering writes of the member to member packets. The packets
+     * are written to the socket with a single gathering write of the headers
+     * and small packets, encoded into the send buffer, and of the payloads of
+     * the large packets, which are referenced instead of copied into the send
+     * buffer.
+     * <p>
+     * It has no effect on the connections with TLS, the encrypted output is
+     * always written from the send buffer.
+     * <p>
+     * It is disabled by default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty IO_WRITE_GATHERING_ENABLED
+            = new HazelcastProperty("hazelcast.io.write.gathering.enabled", false);
+
+    /**
+     * Enables the compression of the large packets sent to other members.
+     * <p>
+     * The packets with a payload of at least
+     * {@link #IO_COMPRESSION_THRESHOLD_BYTES} are compressed with LZ4 block
+     * compression, unless their payload doesn't get smaller. This reduces the
+     * network traffic of large responses and of migrations at the cost of the
+     * CPU time of the IO threads.
+     * <p>
+     * The compression is negotiated in the member handshake: a member only
+     * compresses the packets it sends to a member that announced it can
+     * decompress them, so a member with compression enabled can be part of a
+     * cluster with members that don't support it. The members always
+     * decompress the compressed packets they receive, even if they have the
+     * compression disabled.
+     * <p>
+     * It is disabled by default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty IO_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.io.compression.enabled", false);
+
+    /**
+     * The minimum payload size of the packets compressed when
+     * {@link #IO_COMPRESSION_ENABLED} is set. Compressing small packets costs
+     * more than it saves.
+     * <p>
+     * The default is 4096 bytes.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty IO_COMPRESSION_THRESHOLD_BYTES
+            = new HazelcastProperty("hazelcast.io.compression.threshold.bytes", 4096);
+
+    /**
+     * Enables splitting the large packets sent to other members into
+     * fragments.
+     * <p>
+     * The packets with a payload larger than {@link #IO_FRAGMENT_SIZE_BYTES},
+     * e.g. large putAll chunks, getAll responses, query results and migration
+     * data, are written as fragments of that size. The packets queued after a
+     * large packet are written between its fragments, so the small
+     * operations and responses don't wait until the whole large packet is
+     * written. The receiving member reassembles the fragments into the
+     * original packet. The order of the events, of the Jet packets and of the
+     * operations for the same partition is preserved.
+     * <p>
+     * The fragmentation is negotiated in the member handshake: a member only
+     * splits the packets it sends to a member that announced it can
+     * reassemble them. The members always reassemble the fragments they
+     * receive, even if they have the fragmentation disabled.
+     * <p>
+     * It is disabled by default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty IO_FRAGMENTATION_ENABLED
+            = new HazelcastProperty("hazelcast.io.fragmentation.enabled", false);
+
+    /**
+     * The maximum payload size of the fragments the large packets are split
+     * into when {@link #IO_FRAGMENTATION_ENABLED} is set. The packets with a
+     * payload of at most this size are written whole. The minimum is 1024
+     * bytes.
+     * <p>
+     * The default is 65536 bytes.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty IO_FRAGMENT_SIZE_BYTES
+            = new HazelcastProperty("hazelcast.io.fragment.size.bytes", 65536);
+
+    /**
+     * Enables the pooling of the buffers the large operations received from
+     * other members are read into.
+     * <p>
+     * The payload of an operation packet of at least
+     * {@link #IO_INBOUND_BUFFER_POOLING_THRESHOLD_BYTES} is read into a pooled,
+     * reference counted buffer instead of a newly allocated array. The buffer
+     * is returned to the pool once the operation has run, so only the values
+     * the operation copies out of the packet, e.g. the values it stores, are
+     * allocated. This reduces the garbage created by operations with large
+     * values at the cost of the memory retained by the pool.
+     * <p>
+     * It is disabled by default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty IO_INBOUND_BUFFER_POOLING_ENABLED
+            = new HazelcastProperty("hazelcast.io.inbound.buffer.pooling.enabled", false);
+
+    /**
+     * The minimum payload size of the operation packets read into pooled
+     * buffers when {@link #IO_INBOUND_BUFFER_POOLING_ENABLED} is set. It is also
+     * the initial size of the pooled buffers.
+     * <p>
+     * The default is 32768 bytes.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty IO_INBOUND_BUFFER_POOLING_THRESHOLD_BYTES
+            = new HazelcastProperty("hazelcast.io.inbound.buffer.pooling.threshold.bytes", 32768);
+
     /**
      * Property needed for concurrency detection so that write through can be
      * done correctly.
@@ -1009,6 +1150,50 @@ public final class ClusterProperty {
     public static final HazelcastProperty QUERY_PREDICATE_PARALLEL_EVALUATION
             = new HazelcastProperty("hazelcast.query.predicate.parallel.evaluation", false);
 
+    /**
+     * Runs the parallel query evaluations enabled by {@link
+     * #QUERY_PREDICATE_PARALLEL_EVALUATION} in a work-stealing pool instead of
+     * the query executor. Large partitions are split into chunks which are
+     * evaluated by several threads, so a partition much larger than the others
+     * doesn't dominate the query latency. The pool has as many threads as
+     * there are available processors.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty QUERY_PREDICATE_PARALLEL_EVALUATION_WORK_STEALING
+            = new HazelcastProperty("hazelcast.query.predicate.parallel.evaluation.work.stealing", false);
+
+    /**
+     * Enables the index advisor, which records the attributes of the queries
+     * run by partition scans and recommends the indexes which would have
+     * avoided the scans. The recommendations are exposed as the {@code
+     * map.index.advisor} metrics and by the index advisor diagnostics plugin.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty QUERY_INDEX_ADVISOR_ENABLED
+            = new HazelcastProperty("hazelcast.query.index.advisor.enabled", false);
+
+    /**
+     * Evaluates query predicates of full partition scans on batches of
+     * entries instead of entry by entry. Equal, greater/less and between
+     * predicates on numeric attributes, and their and/or/not combinations,
+     * are then evaluated over primitive columns of the attribute values,
+     * which are extracted once per entry and attribute. The results are the
+     * same as the ones of the entry by entry evaluation. Not used for maps
+     * with the {@code NATIVE} in-memory format and for paging predicates.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty QUERY_PREDICATE_BATCH_EVALUATION
+            = new HazelcastProperty("hazelcast.query.predicate.batch.evaluation", false);
+
     /**
      * Run aggregation accumulation for multiple entries in parallel.
      * <p>
@@ -1170,6 +1355,43 @@ public final class ClusterProperty {
     public static final HazelcastProperty INDEX_COPY_BEHAVIOR
             = new HazelcastProperty("hazelcast.index.copy.behavior", IndexCopyBehavior.COPY_ON_READ.toString());
 
+    /**
+     * Enables the compact store of on-heap sorted indexes on a single attribute
+     * of an integral or temporal type ({@code LocalDate}, {@code LocalTime},
+     * {@code LocalDateTime}, {@code Instant} and {@code java.util.Date}). The
+     * attribute values are kept as primitive longs in sorted blocks instead of
+     * a skip-list with a nested map per distinct value, which lowers the memory
+     * footprint and speeds up range scans. Indexes on attributes of other types,
+     * or of mixed types, are not affected.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty INDEX_SORTED_PRIMITIVE_STORE_ENABLED
+            = new HazelcastProperty("hazelcast.index.sorted.primitive.store.enabled", false);
+
+    /**
+     * The maximum number of threads populating the indexes of a partition when
+     * the partition migrates to a member or when an index is added. The
+     * partition thread is one of them, the others are borrowed from the query
+     * executor, so they are not available to queries meanwhile.
+     * <p>
+     * The threads deserialize the entries and extract the attribute values in
+     * parallel, but the on-heap index stores take a write lock per insert, so
+     * the inserts into the same index are still serialized. The helpers pay
+     * off for indexes on attributes which are expensive to extract. The
+     * entries loaded by a {@code MapLoader} are indexed one by one as they are
+     * put, regardless of this property.
+     * <p>
+     * The default is {@code 1}, the indexes are populated on the partition
+     * thread only.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty INDEX_BUILD_PARALLELISM
+            = new HazelcastProperty("hazelcast.index.build.parallelism", 1);
+
     /**
      * The number of threads that the client engine has available for processing
      * requests that are related to the query engine.
@@ -1440,6 +1662,27 @@ public final class ClusterProperty {
     public static final HazelcastProperty BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION
             = new HazelcastProperty("hazelcast.backpressure.max.concurrent.invocations.per.partition", 100);
 
+    /**
+     * Makes the maximum number of concurrent invocations adapt to the round
+     * trip time of the invocations.
+     * <p>
+     * The limit starts at {@link #BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION}
+     * invocations per partition. When the round trip time of the invocations
+     * rises well above its usual value because the invocations queue up on
+     * overloaded members, the limit is reduced multiplicatively, down to 1
+     * invocation per partition. Once the round trip time is back to normal,
+     * the limit grows again by 1 invocation per partition at a time. This keeps
+     * the latency bounded during an overload without tuning the static limit.
+     * <p>
+     * This property only has meaning when backpressure is enabled.
+     * <p>
+     * It is disabled by default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty BACKPRESSURE_ADAPTIVE_ENABLED
+            = new HazelcastProperty("hazelcast.backpressure.adaptive.enabled", false);
+
     /**
      * Hazelcast allows read operations to be performed while a partition is
      * being migrated. This can lead to stale reads for some scenarios. You can
@@ -1459,6 +1702,46 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.operation.thread.count",
             (Function<HazelcastProperties, Integer>) properties -> max(2, RuntimeAvailableProcessors.get()));
 
+    /**
+     * What a partition operation thread does when there are no operations to
+     * run.
+     * <p>
+     * Possible values:
+     * <ul>
+     * <li>{@code block}: the thread blocks until an operation is offered, so
+     * offering an operation to an idle thread needs to unpark it.</li>
+     * <li>{@code busyspin}: the thread keeps checking its queue; this gives the
+     * lowest latency, but every partition thread keeps a core busy.</li>
+     * <li>{@code backoff}: the thread spins, then yields, then parks for an
+     * increasing period; a parked thread isn't unparked when an operation is
+     * offered. The parameters of the backoff can be configured as
+     * {@code backoff,maxSpins,maxYields,minParkPeriodNs,maxParkPeriodNs}.</li>
+     * </ul>
+     * The default is {@code block}. The idling strategies are meant for
+     * latency-sensitive deployments where the partition threads run on
+     * dedicated cores, see also {@link #PARTITION_OPERATION_QUEUE_CHUNK_SIZE}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_OPERATION_THREAD_IDLE_STRATEGY
+            = new HazelcastProperty("hazelcast.operation.partitionthread.idlestrategy", "block");
+
+    /**
+     * The length of the arrays holding the operations queued for a partition
+     * operation thread.
+     * <p>
+     * If positive, the operations are offered to a queue of linked arrays, so
+     * unlike the default linked queue, offering an operation doesn't allocate;
+     * an array is allocated once per this number of offered operations. The
+     * queue is unbounded, just like the default queue.
+     * <p>
+     * The default is {@code 0}, the operations are offered to a linked queue.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_OPERATION_QUEUE_CHUNK_SIZE
+            = new HazelcastProperty("hazelcast.operation.partitionthread.queue.chunk.size", 0);
+
     /**
      * The number of generic operation handler threads per member.
      * <p>
@@ -1499,6 +1782,44 @@ public final class ClusterProperty {
     public static final HazelcastProperty RESPONSE_THREAD_COUNT
             = new HazelcastProperty("hazelcast.operation.response.thread.count", 2);
 
+    /**
+     * Enables batching of the small responses sent by the partition operation
+     * threads to other members.
+     * <p>
+     * If enabled, the backup acks and the small normal responses a partition
+     * operation thread sends to the same member are collected and sent as a
+     * single packet once the thread has no more operations queued, or once the
+     * oldest collected response is older than
+     * {@link #RESPONSE_BATCHING_MAX_DELAY_MICROS}. Under load this reduces the
+     * number of packets to write and read; an idle thread sends a response
+     * right after the operation completes, just like without batching.
+     * <p>
+     * The responses are batched only once the cluster version is 6.0 or
+     * later, so the members of older versions never receive a batch during a
+     * rolling upgrade.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty RESPONSE_BATCHING_ENABLED
+            = new HazelcastProperty("hazelcast.operation.response.batching.enabled", false);
+
+    /**
+     * The maximum time a partition operation thread delays a response to batch
+     * it with other responses, while the thread keeps running operations. The
+     * responses collected before a long running operation are sent by a
+     * flusher thread, which is scheduled once a thread starts collecting
+     * responses, and not while the thread is idle. See
+     * {@link #RESPONSE_BATCHING_ENABLED}.
+     * <p>
+     * The default is 100 microseconds.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty RESPONSE_BATCHING_MAX_DELAY_MICROS
+            = new HazelcastProperty("hazelcast.operation.response.batching.max.delay.micros", 100, MICROSECONDS);
+
     /*
      * ICACHE / JCACHE PROPERTIES
      */
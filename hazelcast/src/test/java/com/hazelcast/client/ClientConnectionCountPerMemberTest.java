@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.impl.connection.tcp.MemberChannelSelection;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.client.impl.clientside.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static com.hazelcast.client.properties.ClientProperty.CONNECTION_COUNT_PER_MEMBER;
+import static com.hazelcast.client.properties.ClientProperty.CONNECTION_SELECTION_PER_MEMBER;
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.test.Accessors.getClientEngineImpl;
+import static com.hazelcast.test.HazelcastTestSupport.assertOpenEventually;
+import static com.hazelcast.test.HazelcastTestSupport.assertTrueAllTheTime;
+import static com.hazelcast.test.HazelcastTestSupport.assertTrueEventually;
+import static com.hazelcast.test.HazelcastTestSupport.randomString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ClientConnectionCountPerMemberTest {
+
+    private static final int CONNECTION_COUNT = 3;
+    private static final int ENTRY_COUNT = 1000;
+
+    @After
+    public void cleanUp() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testPartitionIdSelection() {
+        testConnectionCountPerMember(MemberChannelSelection.PARTITION_ID);
+    }
+
+    @Test
+    public void testLeastPendingBytesSelection() {
+        testConnectionCountPerMember(MemberChannelSelection.LEAST_PENDING_BYTES);
+    }
+
+    @Test
+    public void testClosingAdditionalChannel_doesNotDisconnectClient() {
+        String clusterName = randomString();
+        HazelcastInstance instance = Hazelcast.newHazelcastInstance(new Config().setClusterName(clusterName));
+        AtomicInteger disconnected = new AtomicInteger();
+        instance.getClientService().addClientListener(new ClientListener() {
+            @Override
+            public void clientConnected(Client client) {
+            }
+
+            @Override
+            public void clientDisconnected(Client client) {
+                disconnected.incrementAndGet();
+            }
+        });
+
+        ClientConfig clientConfig = new ClientConfig()
+                .setClusterName(clusterName)
+                .setProperty(CONNECTION_COUNT_PER_MEMBER.getName(), String.valueOf(CONNECTION_COUNT));
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(clientConfig);
+        HazelcastClientInstanceImpl clientImpl = getHazelcastClientInstanceImpl(client);
+
+        IMap<Integer, Integer> map = client.getMap(randomString());
+        CountDownLatch added = new CountDownLatch(2 * ENTRY_COUNT);
+        map.addEntryListener((EntryAddedListener<Integer, Integer>) event -> added.countDown(), false);
+
+        assertTrueEventually(() -> {
+            ClientConnection connection = clientImpl.getConnectionManager().getActiveConnections().iterator().next();
+            assertNotNull(connection.getMemberChannels());
+        });
+        ClientConnection connection = clientImpl.getConnectionManager().getActiveConnections().iterator().next();
+        closeResource(connection.getMemberChannels()[0]);
+
+        // the partitions of the closed channel are sent over the remaining channels
+        assertTrueEventually(() -> assertEquals(CONNECTION_COUNT - 2, connection.getMemberChannels().length));
+        for (int i = 0; i < 2 * ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+        for (int i = 0; i < 2 * ENTRY_COUNT; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+        assertOpenEventually(added);
+
+        assertTrue(connection.isAlive());
+        assertTrueAllTheTime(() -> {
+            assertEquals(0, disconnected.get());
+            assertEquals(1, getClientEngineImpl(instance).getClientEndpointCount());
+        }, 3);
+    }
+
+    private void testConnectionCountPerMember(MemberChannelSelection selection) {
+        String clusterName = randomString();
+        HazelcastInstance instance1 = Hazelcast.newHazelcastInstance(new Config().setClusterName(clusterName));
+        HazelcastInstance instance2 = Hazelcast.newHazelcastInstance(new Config().setClusterName(clusterName));
+
+        ClientConfig clientConfig = new ClientConfig()
+                .setClusterName(clusterName)
+                .setProperty(CONNECTION_COUNT_PER_MEMBER.getName(), String.valueOf(CONNECTION_COUNT))
+                .setProperty(CONNECTION_SELECTION_PER_MEMBER.getName(), selection.name());
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(clientConfig);
+        HazelcastClientInstanceImpl clientImpl = getHazelcastClientInstanceImpl(client);
+
+        assertTrueEventually(() -> {
+            Collection<ClientConnection> connections = clientImpl.getConnectionManager().getActiveConnections();
+            assertEquals(2, connections.size());
+            for (ClientConnection connection : connections) {
+                Channel[] memberChannels = connection.getMemberChannels();
+                assertNotNull(memberChannels);
+                assertEquals(CONNECTION_COUNT - 1, memberChannels.length);
+            }
+        });
+        // the additional channels are attached to the endpoint of the client
+        assertEquals(1, getClientEngineImpl(instance1).getClientEndpointCount());
+        assertEquals(1, getClientEngineImpl(instance2).getClientEndpointCount());
+        assertEquals(1, instance1.getClientService().getConnectedClients().size());
+        assertEquals(1, instance2.getClientService().getConnectedClients().size());
+
+        // the events of the listener are received over the first connection
+        IMap<Integer, Integer> map = client.getMap(randomString());
+        CountDownLatch added = new CountDownLatch(ENTRY_COUNT);
+        map.addEntryListener((EntryAddedListener<Integer, Integer>) event -> added.countDown(), false);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+        assertEquals(ENTRY_COUNT, map.size());
+        assertOpenEventually(added);
+
+        // the additional channels are used by the partition specific invocations,
+        // which write far more than the authentication and the pings
+        for (ClientConnection connection : clientImpl.getConnectionManager().getActiveConnections()) {
+            for (Channel memberChannel : connection.getMemberChannels()) {
+                assertTrue(memberChannel.toString(), memberChannel.bytesWritten() > ENTRY_COUNT);
+            }
+        }
+    }
+}
@@ -17,12 +17,15 @@
 package com.hazelcast.client.impl.clientside;
 
 import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapStorageType;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.dynamicconfig.DynamicConfigTest;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
 import org.junit.After;
+import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
@@ -48,6 +51,13 @@ public class ClientDynamicClusterConfigTest extends DynamicConfigTest {
         factory.terminateAll();
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testMapConfig_withNonDefaultStorageType() {
+        MapConfig config = new MapConfig(randomMapName()).setStorageType(MapStorageType.OPEN_ADDRESSING);
+
+        getDriver().getConfig().addMapConfig(config);
+    }
+
     @Override
     public void testDiagnosticsConfig() {
         // DiagnosticsConfig in dynamic config is only supported on members.
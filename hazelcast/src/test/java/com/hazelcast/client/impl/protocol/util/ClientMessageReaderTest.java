@@ -30,7 +30,9 @@ import java.nio.ByteBuffer;
 import java.util.Random;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -95,6 +97,39 @@ public class ClientMessageReaderTest {
         assertFalse(iterator.hasNext());
     }
 
+    @Test
+    public void testRead_whenEmptyFrames_thenContentArrayShared() {
+        ClientMessage.Frame frame = createFrameWithRandomBytes(10);
+
+        ClientMessage message = ClientMessage.createForEncode();
+        message.add(ClientMessage.BEGIN_FRAME.copy());
+        message.add(ClientMessage.NULL_FRAME.copy());
+        message.add(ClientMessage.END_FRAME.copy());
+        message.add(frame);
+
+        ByteBuffer buffer = writeToBuffer(message);
+
+        ClientMessageReader reader = new ClientMessageReader(-1);
+        assertTrue(reader.readFrom(buffer, true));
+
+        ClientMessage messageRead = reader.getClientMessage();
+        ClientMessage.ForwardFrameIterator iterator = messageRead.frameIterator();
+
+        ClientMessage.Frame beginFrame = iterator.next();
+        assertTrue(beginFrame.isBeginFrame());
+        ClientMessage.Frame nullFrame = iterator.next();
+        assertTrue(nullFrame.isNullFrame());
+        ClientMessage.Frame endFrame = iterator.next();
+        assertTrue(endFrame.isEndFrame());
+        assertEquals(0, endFrame.content.length);
+        // the empty frames share the same content array
+        assertSame(beginFrame.content, nullFrame.content);
+        assertSame(beginFrame.content, endFrame.content);
+
+        assertArrayEquals(frame.content, iterator.next().content);
+        assertFalse(iterator.hasNext());
+    }
+
     @Test
     public void testReadFramesInMultipleCallsToReadFrom() {
         ClientMessage.Frame frame = createFrameWithRandomBytes(1000);
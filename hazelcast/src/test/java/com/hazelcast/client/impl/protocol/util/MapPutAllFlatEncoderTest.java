@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.util;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageReader;
+import com.hazelcast.client.impl.protocol.ClientMessageWriter;
+import com.hazelcast.client.impl.protocol.codec.MapPutAllCodec;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapPutAllFlatEncoderTest {
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private List<Map.Entry<Data, Data>> entries;
+
+    @Before
+    public void setup() {
+        entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new AbstractMap.SimpleEntry<>(serializationService.toData("key-" + i),
+                    serializationService.toData("value-" + i)));
+        }
+    }
+
+    @Test
+    public void encodeRequest_writesSameBytesAsCodec() {
+        ClientMessage expected = MapPutAllCodec.encodeRequest("map", entries, true);
+        ClientMessage actual = MapPutAllFlatEncoder.encodeRequest("map", entries, true);
+
+        assertNotNull(actual.getFlatFrames());
+        assertEquals(expected.getFrameLength(), actual.getFrameLength());
+        assertEquals(expected.getBufferLength(), actual.getBufferLength());
+        assertArrayEquals(write(expected, expected.getFrameLength()), write(actual, actual.getFrameLength()));
+    }
+
+    @Test
+    public void encodeRequest_whenWrittenInChunks_thenSameBytes() {
+        ClientMessage expected = MapPutAllCodec.encodeRequest("map", entries, false);
+        ClientMessage actual = MapPutAllFlatEncoder.encodeRequest("map", entries, false);
+
+        assertArrayEquals(write(expected, 13), write(actual, 13));
+    }
+
+    @Test
+    public void encodeRequest_whenReadByMember_thenDecoded() {
+        ClientMessage message = MapPutAllFlatEncoder.encodeRequest("map", entries, true);
+        ByteBuffer buffer = ByteBuffer.wrap(write(message, message.getFrameLength()));
+
+        ClientMessageReader reader = new ClientMessageReader(-1);
+        assertTrue(reader.readFrom(buffer, true));
+
+        MapPutAllCodec.RequestParameters parameters = MapPutAllCodec.decodeRequest(reader.getClientMessage());
+        assertEquals("map", parameters.name);
+        assertTrue(parameters.triggerMapLoader);
+        assertEquals(entries, parameters.entries);
+    }
+
+    @Test
+    public void frameIterator_decodesFlatFrames() {
+        ClientMessage message = MapPutAllFlatEncoder.encodeRequest("map", entries, false);
+
+        MapPutAllCodec.RequestParameters parameters = MapPutAllCodec.decodeRequest(message);
+        assertEquals("map", parameters.name);
+        assertFalse(parameters.triggerMapLoader);
+        assertEquals(entries, parameters.entries);
+        // iterating doesn't change the message
+        assertEquals(MapPutAllCodec.encodeRequest("map", entries, false).getFrameLength(), message.getFrameLength());
+    }
+
+    @Test
+    public void copyWithNewCorrelationId_sharesFlatFrames() {
+        ClientMessage message = MapPutAllFlatEncoder.encodeRequest("map", entries, false);
+        message.setCorrelationId(1);
+
+        ClientMessage copy = message.copyWithNewCorrelationId(2);
+
+        assertSame(message.getFlatFrames(), copy.getFlatFrames());
+        assertEquals(2, copy.getCorrelationId());
+        assertEquals(message.getFrameLength(), copy.getFrameLength());
+    }
+
+    @Test
+    public void encodeRequest_whenSplitIntoFragments_thenReassembled() {
+        ClientMessage message = MapPutAllFlatEncoder.encodeRequest("map", entries, false);
+
+        List<ClientMessage> fragments = ClientMessageSplitter.getFragments(512, message);
+        assertTrue(fragments.size() > 1);
+
+        ClientMessage merged = null;
+        for (ClientMessage fragment : fragments) {
+            fragment.dropFragmentationFrame();
+            if (merged == null) {
+                merged = fragment;
+            } else {
+                merged.merge(fragment);
+            }
+        }
+        assertEquals(entries, MapPutAllCodec.decodeRequest(merged).entries);
+    }
+
+    private static byte[] write(ClientMessage message, int chunkSize) {
+        ClientMessageWriter writer = new ClientMessageWriter();
+        ByteBuffer result = ByteBuffer.allocate(message.getFrameLength());
+        ByteBuffer chunk = ByteBuffer.allocate(chunkSize);
+        boolean done;
+        do {
+            chunk.clear();
+            done = writer.writeTo(chunk, message);
+            chunk.flip();
+            result.put(chunk);
+        } while (!done);
+        assertFalse(result.hasRemaining());
+        return Arrays.copyOf(result.array(), result.position());
+    }
+}
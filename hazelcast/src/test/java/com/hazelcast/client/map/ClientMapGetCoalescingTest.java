@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.spi.impl.ClientInvocationServiceInternal;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.sequence.CallIdSequence;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.hazelcast.client.impl.clientside.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static com.hazelcast.client.properties.ClientProperty.MAP_GET_COALESCING_ENABLED;
+import static com.hazelcast.client.properties.ClientProperty.MAP_GET_COALESCING_MAX_BATCH_SIZE;
+import static com.hazelcast.client.properties.ClientProperty.MAP_GET_COALESCING_WINDOW_MICROS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapGetCoalescingTest extends HazelcastTestSupport {
+
+    private static final int MAP_SIZE = 1000;
+
+    private TestHazelcastFactory factory;
+    private HazelcastInstance client;
+
+    @Before
+    public void setUp() {
+        factory = new TestHazelcastFactory();
+        factory.newInstances(getConfig(), 2);
+
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(MAP_GET_COALESCING_ENABLED.getName(), "true")
+                .setProperty(MAP_GET_COALESCING_WINDOW_MICROS.getName(), "1000")
+                .setProperty(MAP_GET_COALESCING_MAX_BATCH_SIZE.getName(), "16")
+                .addNearCacheConfig(new NearCacheConfig("nearCached*"));
+        client = factory.newHazelcastClient(clientConfig);
+    }
+
+    @After
+    public void tearDown() {
+        factory.shutdownAll();
+    }
+
+    @Test
+    public void getAsync_returnsValuesOfCoalescedReads() {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+        for (int i = 0; i < MAP_SIZE; i++) {
+            map.set(i, "value-" + i);
+        }
+
+        // every key is read twice, the keys above MAP_SIZE have no value
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 2 * MAP_SIZE; i++) {
+            futures.add(map.getAsync(i % (MAP_SIZE + MAP_SIZE / 2)).toCompletableFuture());
+        }
+
+        for (int i = 0; i < 2 * MAP_SIZE; i++) {
+            int key = i % (MAP_SIZE + MAP_SIZE / 2);
+            String expected = key < MAP_SIZE ? "value-" + key : null;
+            assertEquals(expected, futures.get(i).join());
+        }
+    }
+
+    @Test
+    public void get_returnsValuesOfConcurrentReads() throws Exception {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+        for (int i = 0; i < MAP_SIZE; i++) {
+            map.set(i, "value-" + i);
+        }
+
+        List<CompletableFuture<Void>> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            readers.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < MAP_SIZE; i++) {
+                    assertEquals("value-" + i, map.get(i));
+                }
+            }));
+        }
+        for (CompletableFuture<Void> reader : readers) {
+            reader.get();
+        }
+        assertNull(map.get(MAP_SIZE));
+    }
+
+    @Test
+    public void get_whenNoOtherReadIsWaiting_thenNotDelayedByWindow() throws Exception {
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(MAP_GET_COALESCING_ENABLED.getName(), "true")
+                .setProperty(MAP_GET_COALESCING_WINDOW_MICROS.getName(), String.valueOf(MINUTES.toMicros(10)));
+        HazelcastInstance slowWindowClient = factory.newHazelcastClient(clientConfig);
+        IMap<Integer, String> map = slowWindowClient.getMap(randomMapName());
+        map.set(1, "value");
+
+        assertEquals("value", map.getAsync(1).toCompletableFuture().get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        assertNull(map.getAsync(2).toCompletableFuture().get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+    }
+
+    @Test
+    public void getAsync_whenKeysSpreadOverAllPartitions_thenFewerInvocationsThanReads() {
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(MAP_GET_COALESCING_ENABLED.getName(), "true")
+                .setProperty(MAP_GET_COALESCING_WINDOW_MICROS.getName(), String.valueOf(SECONDS.toMicros(1)));
+        HazelcastInstance coalescingClient = factory.newHazelcastClient(clientConfig);
+        IMap<Integer, String> map = coalescingClient.getMap(randomMapName());
+        for (int i = 0; i < MAP_SIZE; i++) {
+            map.set(i, "value-" + i);
+        }
+        CallIdSequence callIds = ((ClientInvocationServiceInternal) getHazelcastClientInstanceImpl(coalescingClient)
+                .getInvocationService()).getCallIdSequence();
+
+        // random keys, so the reads are spread over all the partitions of both members
+        int readCount = 10 * MAP_SIZE;
+        long invocationsBefore = callIds.getLastCallId();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < readCount; i++) {
+            int key = ThreadLocalRandom.current().nextInt(MAP_SIZE);
+            keys.add(key);
+            futures.add(map.getAsync(key).toCompletableFuture());
+        }
+        for (int i = 0; i < readCount; i++) {
+            assertEquals("value-" + keys.get(i), futures.get(i).join());
+        }
+        long invocations = callIds.getLastCallId() - invocationsBefore;
+
+        // at most one request per partition and window, plus the first read which is sent right away
+        assertTrue("invocations: " + invocations, invocations < readCount / 4);
+    }
+
+    @Test
+    public void get_withNearCache() {
+        IMap<Integer, String> map = client.getMap("nearCached" + randomMapName());
+        map.set(1, "value");
+
+        assertEquals("value", map.get(1));
+        assertEquals("value", map.get(1));
+        assertNull(map.get(2));
+        assertEquals(1, map.getLocalMapStats().getNearCacheStats().getHits());
+    }
+}
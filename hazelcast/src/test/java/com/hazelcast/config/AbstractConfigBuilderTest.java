@@ -160,6 +160,9 @@ public abstract class AbstractConfigBuilderTest extends HazelcastTestSupport {
     @Test
     public abstract void testMapConfig_perEntryStatsEnabled();
 
+    @Test
+    public abstract void testMapConfig_storageType();
+
     @Test
     public abstract void testMapConfig_metadataPolicy_defaultValue();
 
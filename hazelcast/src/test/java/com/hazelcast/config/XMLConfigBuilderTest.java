@@ -1081,6 +1081,21 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
         assertTrue(mapConfig.isPerEntryStatsEnabled());
     }
 
+    @Override
+    @Test
+    public void testMapConfig_storageType() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<storage-type>OPEN_ADDRESSING</storage-type>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+
+        assertEquals(MapStorageType.OPEN_ADDRESSING, config.getMapConfig("mymap").getStorageType());
+        assertEquals(MapStorageType.HASH_MAP, config.getMapConfig("default").getStorageType());
+    }
+
     @Override
     @Test
     public void testMapConfig_metadataPolicy_defaultValue() {
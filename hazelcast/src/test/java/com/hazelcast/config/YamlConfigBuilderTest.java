@@ -1089,6 +1089,21 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
         assertTrue(mapConfig.isStatisticsEnabled());
     }
 
+    @Override
+    @Test
+    public void testMapConfig_storageType() {
+        String yaml = """
+                hazelcast:
+                  map:
+                    mymap:
+                      storage-type: OPEN_ADDRESSING""";
+
+        Config config = buildConfig(yaml);
+
+        assertEquals(MapStorageType.OPEN_ADDRESSING, config.getMapConfig("mymap").getStorageType());
+        assertEquals(MapStorageType.HASH_MAP, config.getMapConfig("default").getStorageType());
+    }
+
     @Override
     @Test
     public void testMapConfig_metadataPolicy_defaultValue() {
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_INDEX_ADVISOR_ENABLED;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class IndexAdvisorPluginTest extends AbstractDiagnosticsPluginTest {
+
+    @Test
+    public void testGetPeriodMillis() {
+        Config config = smallInstanceConfig().setProperty(IndexAdvisorPlugin.PERIOD_SECONDS.getName(), "5");
+        IndexAdvisorPlugin plugin = new IndexAdvisorPlugin(getNodeEngineImpl(createHazelcastInstance(config)));
+
+        assertEquals(SECONDS.toMillis(5), plugin.getPeriodMillis());
+    }
+
+    @Test
+    public void testRun() {
+        Config config = smallInstanceConfig().setProperty(QUERY_INDEX_ADVISOR_ENABLED.getName(), "true");
+        HazelcastInstance hz = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = hz.getMap("map");
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        map.values(Predicates.greaterThan("this", 5));
+
+        IndexAdvisorPlugin plugin = new IndexAdvisorPlugin(getNodeEngineImpl(hz));
+        plugin.onStart();
+        plugin.run(logWriter);
+
+        assertContains("IndexAdvisor[");
+        assertContains("map[");
+        assertContains("this[");
+        assertContains("recommendedIndexType=SORTED");
+        assertContains("scannedEntryCount=10");
+    }
+
+    @Test
+    public void testRun_whenAdvisorDisabled() {
+        HazelcastInstance hz = createHazelcastInstance();
+        hz.getMap("map").values(Predicates.greaterThan("this", 5));
+
+        IndexAdvisorPlugin plugin = new IndexAdvisorPlugin(getNodeEngineImpl(hz));
+        plugin.onStart();
+        plugin.run(logWriter);
+
+        assertNotContains("IndexAdvisor");
+    }
+}
@@ -73,6 +73,8 @@ public class NetworkingImbalancePluginTest extends AbstractDiagnosticsPluginTest
             assertContains("Networking");
             assertContains("InputThreads");
             assertContains("OutputThreads");
+            assertContains("IOBalancer");
+            assertContains("input-imbalance-percentage");
         });
     }
 
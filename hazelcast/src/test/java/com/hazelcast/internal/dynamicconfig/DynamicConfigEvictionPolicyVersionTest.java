@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.dynamicconfig;
+
+import com.hazelcast.config.CacheSimpleConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class DynamicConfigEvictionPolicyVersionTest extends HazelcastTestSupport {
+
+    private ClusterWideConfigurationService service;
+
+    @Before
+    public void setup() {
+        NodeEngine nodeEngine = mock(NodeEngine.class);
+        when(nodeEngine.getConfig()).thenReturn(new Config());
+        when(nodeEngine.getLogger(any(Class.class))).thenReturn(Logger.getLogger(getClass()));
+        service = new ClusterWideConfigurationService(nodeEngine, mock(DynamicConfigListener.class));
+        service.onClusterVersionChange(Versions.V5_5);
+    }
+
+    @Test
+    public void mapConfig_withTinyLfu_whenClusterVersionBefore6_0_thenRejected() {
+        MapConfig mapConfig = new MapConfig("map");
+        mapConfig.getEvictionConfig().setEvictionPolicy(EvictionPolicy.TINY_LFU);
+
+        assertThrows(UnsupportedOperationException.class, () -> service.broadcastConfigAsync(mapConfig));
+    }
+
+    @Test
+    public void mapConfig_withTinyLfuNearCache_whenClusterVersionBefore6_0_thenRejected() {
+        NearCacheConfig nearCacheConfig = new NearCacheConfig();
+        nearCacheConfig.getEvictionConfig().setEvictionPolicy(EvictionPolicy.TINY_LFU);
+        MapConfig mapConfig = new MapConfig("map").setNearCacheConfig(nearCacheConfig);
+
+        assertThrows(UnsupportedOperationException.class, () -> service.broadcastConfigAsync(mapConfig));
+    }
+
+    @Test
+    public void cacheConfig_withTinyLfu_whenClusterVersionBefore6_0_thenRejected() {
+        CacheSimpleConfig cacheConfig = new CacheSimpleConfig().setName("cache");
+        cacheConfig.getEvictionConfig().setEvictionPolicy(EvictionPolicy.TINY_LFU);
+
+        assertThrows(UnsupportedOperationException.class, () -> service.broadcastConfigAsync(cacheConfig));
+    }
+
+    @Test
+    public void mapConfig_withTinyLfu_whenClusterVersion6_0_thenAdded() {
+        HazelcastInstance instance = createHazelcastInstance();
+        MapConfig mapConfig = new MapConfig("map");
+        mapConfig.getEvictionConfig().setEvictionPolicy(EvictionPolicy.TINY_LFU);
+
+        instance.getConfig().addMapConfig(mapConfig);
+
+        assertEquals(EvictionPolicy.TINY_LFU,
+                instance.getConfig().getMapConfig("map").getEvictionConfig().getEvictionPolicy());
+    }
+}
@@ -17,8 +17,10 @@
 package com.hazelcast.internal.eviction;
 
 import com.hazelcast.cache.impl.record.CacheObjectRecord;
+import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
+import com.hazelcast.internal.eviction.impl.evaluator.TinyLFUEvictionPolicyEvaluator;
 import com.hazelcast.spi.eviction.EvictionPolicyComparator;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
@@ -32,7 +34,9 @@ import java.util.List;
 
 import static com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider.getEvictionPolicyEvaluator;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastSerialClassRunner.class)
 @Category(QuickTest.class)
@@ -226,4 +230,36 @@ public class EvictionPolicyEvaluatorTest extends HazelcastTestSupport {
             assertEquals(expectedEvictedRecordValue, evictedRecord.getValue());
         }
     }
+
+    @Test
+    public void test_leastFrequentlyAccessedKey_isSelected_when_evictionPolicy_is_TINY_LFU() {
+        final int recordCount = 15;
+        final int expectedEvictedRecordValue = recordCount / 2;
+
+        EvictionPolicyEvaluator<Integer, CacheObjectRecord> evictionPolicyEvaluator
+                = getEvictionPolicyEvaluator(new EvictionConfig().setEvictionPolicy(EvictionPolicy.TINY_LFU), null);
+        assertInstanceOf(TinyLFUEvictionPolicyEvaluator.class, evictionPolicyEvaluator);
+
+        List<EvictionCandidate<Integer, CacheObjectRecord>> records = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < recordCount; i++) {
+            CacheObjectRecord record = new CacheObjectRecord(i, now, Long.MAX_VALUE);
+            // the least recently accessed record is accessed frequently
+            record.setLastAccessTime(i == 0 ? now - 1000 : now);
+            for (int j = 0; j < 3; j++) {
+                if (i != expectedEvictedRecordValue) {
+                    evictionPolicyEvaluator.onAccess(i);
+                }
+            }
+            records.add(new SimpleEvictionCandidate<>(i, record));
+        }
+
+        EvictionCandidate<Integer, CacheObjectRecord> evictionCandidate = evictionPolicyEvaluator.evaluate(records);
+
+        assertNotNull(evictionCandidate);
+        assertEquals(expectedEvictedRecordValue, evictionCandidate.getEvictable().getValue());
+        // a key is only admitted in place of a candidate accessed at most as often
+        assertFalse(evictionPolicyEvaluator.admit(100, records.get(0)));
+        assertTrue(evictionPolicyEvaluator.admit(1, evictionCandidate));
+    }
 }
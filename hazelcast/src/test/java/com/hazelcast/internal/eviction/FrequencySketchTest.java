@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.eviction;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.eviction.FrequencySketch.MAX_FREQUENCY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class FrequencySketchTest {
+
+    @Test
+    public void frequency_whenNotIncremented_thenZero() {
+        FrequencySketch sketch = new FrequencySketch();
+
+        assertEquals(0, sketch.frequency(42));
+    }
+
+    @Test
+    public void increment() {
+        FrequencySketch sketch = new FrequencySketch();
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment(42);
+        }
+
+        assertEquals(5, sketch.frequency(42));
+    }
+
+    @Test
+    public void increment_whenMaxFrequency_thenSaturates() {
+        FrequencySketch sketch = new FrequencySketch();
+
+        for (int i = 0; i < MAX_FREQUENCY * 2; i++) {
+            sketch.increment(42);
+        }
+
+        assertEquals(MAX_FREQUENCY, sketch.frequency(42));
+    }
+
+    @Test
+    public void increment_whenSampleSizeReached_thenHalved() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 10; i++) {
+            sketch.increment(42);
+        }
+
+        // 16 longs, the counters are halved after 160 increments
+        for (int i = 0; i < 200; i++) {
+            sketch.increment(1000 + i);
+        }
+
+        int frequency = sketch.frequency(42);
+        assertTrue("frequency: " + frequency, frequency >= 5 && frequency < 10);
+    }
+
+    @Test
+    public void frequency_whenHotAndColdKeys_thenHotKeysAreMoreFrequent() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 4; j++) {
+                sketch.increment(i);
+            }
+        }
+        for (int i = 0; i < 500; i++) {
+            sketch.increment(10_000 + i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(sketch.frequency(i) >= 4);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertTrue(sketch.frequency(10_000 + i) < 4);
+        }
+    }
+
+    @Test
+    public void ensureCapacity() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        sketch.increment(42);
+
+        assertFalse(sketch.ensureCapacity(16));
+        assertEquals(16 * Long.BYTES, sketch.getMemoryCost());
+
+        assertTrue(sketch.ensureCapacity(100));
+        assertEquals(128 * Long.BYTES, sketch.getMemoryCost());
+        // growing forgets the counted accesses
+        assertEquals(0, sketch.frequency(42));
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.nearcache.NearCacheRecord;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.nearcache.NearCacheStats;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static com.hazelcast.internal.nearcache.NearCache.CACHED_AS_NULL;
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.WRITE_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.READ_PERMITTED;
+import static com.hazelcast.test.HazelcastTestSupport.sleepAtLeastMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactNearCacheRecordStoreTest {
+
+    private static final int KEY = 23;
+    private static final String VALUE1 = "value1";
+    private static final String VALUE2 = "value2";
+
+    private SerializationService serializationService;
+    private CompactNearCacheRecordStore<Object, String> store;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        store = createStore(new NearCacheConfig());
+    }
+
+    @After
+    public void tearDown() {
+        store.destroy();
+    }
+
+    private CompactNearCacheRecordStore<Object, String> createStore(NearCacheConfig config) {
+        config.setInMemoryFormat(InMemoryFormat.BINARY);
+        CompactNearCacheRecordStore<Object, String> store = new CompactNearCacheRecordStore<>("name", config,
+                serializationService, getClass().getClassLoader());
+        store.initialize();
+        return store;
+    }
+
+    @Test
+    public void testReservation() {
+        Data keyData = serializationService.toData(KEY);
+
+        long reservationId1 = store.tryReserveForUpdate(KEY, keyData, READ_UPDATE);
+        long reservationId2 = store.tryReserveForUpdate(KEY, keyData, READ_UPDATE);
+
+        // only one reservation ID is given for the same key
+        assertNotEquals(NOT_RESERVED, reservationId1);
+        assertEquals(NOT_RESERVED, reservationId2);
+        assertEquals(reservationId1, store.getRecord(KEY).getReservationId());
+        assertNull(store.get(KEY));
+
+        assertEquals(VALUE1, store.tryPublishReserved(KEY, VALUE1, reservationId1, true));
+        assertEquals(READ_PERMITTED, store.getRecord(KEY).getReservationId());
+        assertEquals(VALUE1, store.get(KEY));
+
+        // a stale reservation doesn't publish, but returns the cached value
+        assertEquals(VALUE1, store.tryPublishReserved(KEY, VALUE2, reservationId1, true));
+        assertEquals(VALUE1, store.get(KEY));
+    }
+
+    @Test
+    public void testWriteUpdate_removesConcurrentReservation() {
+        Data keyData = serializationService.toData(KEY);
+        store.put(KEY, keyData, VALUE1, null);
+
+        long reservationId1 = store.tryReserveForUpdate(KEY, keyData, WRITE_UPDATE);
+        assertNotEquals(NOT_RESERVED, reservationId1);
+        // the existing value is readable while its update is reserved
+        assertEquals(VALUE1, store.get(KEY));
+
+        long reservationId2 = store.tryReserveForUpdate(KEY, keyData, WRITE_UPDATE);
+        assertEquals(NOT_RESERVED, reservationId2);
+        assertNull(store.getRecord(KEY));
+        assertEquals(0, store.getNearCacheStats().getOwnedEntryCount());
+        assertEquals(0, store.getNearCacheStats().getOwnedEntryMemoryCost());
+    }
+
+    @Test
+    public void testCachedAsNull() {
+        long reservationId = store.tryReserveForUpdate(KEY, null, READ_UPDATE);
+        store.tryPublishReserved(KEY, null, reservationId, false);
+
+        NearCacheRecord record = store.getRecord(KEY);
+        assertTrue(record.isCachedAsNull());
+        assertSame(CACHED_AS_NULL, store.get(KEY));
+        assertEquals(1, store.getNearCacheStats().getOwnedEntryCount());
+    }
+
+    @Test
+    public void testGet_recordsAccess() {
+        store.put(KEY, null, "value", null);
+
+        assertEquals("value", store.get(KEY));
+        assertEquals("value", store.get(KEY));
+
+        NearCacheRecord record = store.getRecord(KEY);
+        assertEquals(2, record.getHits());
+        assertTrue(record.getLastAccessTime() > 0);
+        assertEquals(2, store.getNearCacheStats().getHits());
+    }
+
+    @Test
+    public void testDataKeys() {
+        for (int i = 0; i < 1000; i++) {
+            Data key = serializationService.toData(i);
+            store.put(key, key, "value-" + i, null);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("value-" + i, store.get(serializationService.toData(i)));
+        }
+        assertNull(store.get(serializationService.toData(1000)));
+        assertEquals(1000, store.size());
+    }
+
+    @Test
+    public void testStats() {
+        for (int i = 0; i < 100; i++) {
+            store.put(i, null, "value-" + i, null);
+        }
+        NearCacheStats stats = store.getNearCacheStats();
+        long memoryCostWhenFull = stats.getOwnedEntryMemoryCost();
+        assertEquals(100, stats.getOwnedEntryCount());
+        assertTrue(memoryCostWhenFull > 100 * CompactNearCacheRecordMap.SLOT_COST);
+
+        // updating with the same value doesn't change the memory cost
+        for (int i = 0; i < 100; i++) {
+            long reservationId = store.tryReserveForUpdate(i, null, WRITE_UPDATE);
+            store.tryPublishReserved(i, "value-" + i, reservationId, false);
+        }
+        assertEquals(100, stats.getOwnedEntryCount());
+        assertEquals(memoryCostWhenFull, stats.getOwnedEntryMemoryCost());
+
+        for (int i = 0; i < 50; i++) {
+            store.invalidate(i);
+        }
+        assertEquals(50, stats.getOwnedEntryCount());
+        assertEquals(50, stats.getInvalidations());
+        assertEquals(memoryCostWhenFull / 2, stats.getOwnedEntryMemoryCost(), 50 * 2);
+
+        store.clear();
+        assertEquals(0, stats.getOwnedEntryCount());
+        assertEquals(0, stats.getOwnedEntryMemoryCost());
+    }
+
+    @Test
+    public void testExpiration() {
+        store.destroy();
+        store = createStore(new NearCacheConfig().setTimeToLiveSeconds(1));
+        for (int i = 0; i < 100; i++) {
+            store.put(i, null, "value-" + i, null);
+        }
+
+        sleepAtLeastMillis(2100);
+        store.doExpiration();
+
+        assertEquals(0, store.size());
+        assertEquals(100, store.getNearCacheStats().getExpirations());
+        assertEquals(0, store.getNearCacheStats().getOwnedEntryCount());
+        assertEquals(0, store.getNearCacheStats().getOwnedEntryMemoryCost());
+    }
+
+    @Test
+    public void testEviction() {
+        store.destroy();
+        EvictionConfig evictionConfig = new EvictionConfig()
+                .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setSize(100);
+        store = createStore(new NearCacheConfig().setEvictionConfig(evictionConfig));
+
+        for (int i = 0; i < 1000; i++) {
+            store.doEvictionToAdmit(i);
+            store.put(i, null, "value-" + i, null);
+            assertTrue(store.size() <= 100);
+        }
+        assertEquals(900, store.getNearCacheStats().getEvictions());
+        assertEquals(100, store.getNearCacheStats().getOwnedEntryCount());
+    }
+
+    @Test
+    public void testRandomOperations_matchHashMap() {
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                store.invalidate(key);
+                expected.remove(key);
+            } else {
+                String value = "value-" + i;
+                long reservationId = store.tryReserveForUpdate(key, null, WRITE_UPDATE);
+                store.tryPublishReserved(key, value, reservationId, false);
+                expected.put(key, value);
+            }
+        }
+
+        assertEquals(expected.size(), store.size());
+        assertEquals(expected.size(), store.getNearCacheStats().getOwnedEntryCount());
+        for (int key = 0; key < 5_000; key++) {
+            assertEquals(expected.get(key), store.get(key));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection_AbstractBasicTest;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class Gathering_TcpIpConnection_BasicTest extends TcpServerConnection_AbstractBasicTest {
+
+    private final List<Packet> received = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    @Override
+    public void setup() throws Exception {
+        networkingFactory = new Gathering_NioNetworkingFactory();
+        super.setup();
+        Consumer<Packet> packetConsumer = serverContextB.packetConsumer;
+        serverContextB.packetConsumer = packet -> {
+            packetConsumer.accept(packet);
+            received.add(packet);
+        };
+    }
+
+    @Test
+    public void write_whenSmallAndLargePackets() {
+        TcpServerConnection connection = connect(tcpServerA, addressB);
+        NioOutboundPipeline pipeline = ((NioChannel) connection.getChannel()).outboundPipeline();
+
+        Random random = new Random();
+        List<Packet> packets = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            // the large packets span several send buffers
+            byte[] payload = new byte[i % 3 == 0 ? 200_000 + random.nextInt(1000) : 16 + random.nextInt(100)];
+            random.nextBytes(payload);
+            Packet packet = new Packet(payload, i);
+            packets.add(packet);
+            assertTrue(connection.write(packet));
+        }
+
+        assertTrueEventually(() -> assertEquals(packets.size(), received.size()));
+        assertEquals(packets, received);
+        assertTrue(pipeline.isGathering());
+        assertTrue(pipeline.socketWrites() > 0);
+    }
+}
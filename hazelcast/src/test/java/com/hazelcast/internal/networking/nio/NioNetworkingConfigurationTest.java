@@ -37,8 +37,8 @@ import static org.junit.runners.Parameterized.UseParametersRunnerFactory;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-// Tests configuration of write-through and selection key wake-up optimizations
-// with different selector modes.
+// Tests configuration of write-through, selection key wake-up and gathering writes
+// optimizations with different selector modes.
 @RunWith(HazelcastParametrizedRunner.class)
 @UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -93,4 +93,14 @@ public class NioNetworkingConfigurationTest {
         Assert.assertEquals(expectedValue, networking.isSelectionKeyWakeupEnabled());
         Assert.assertEquals(expectedValue, networking.isWriteThroughEnabled());
     }
+
+    @Test
+    public void testGatheringWritesConfiguration() {
+        ctx.gatheringWritesEnabled(configuredValue)
+           .selectorMode(selectorMode);
+        NioNetworking networking = new NioNetworking(ctx);
+
+        // gathering writes don't depend on the selector mode
+        Assert.assertEquals(configuredValue, networking.isGatheringWritesEnabled());
+    }
 }
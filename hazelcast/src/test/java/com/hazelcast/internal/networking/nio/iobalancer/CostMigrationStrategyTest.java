@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio.iobalancer;
+
+import com.hazelcast.internal.networking.nio.MigratablePipeline;
+import com.hazelcast.internal.networking.nio.NioThread;
+import com.hazelcast.internal.util.ItemCounter;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.internal.networking.nio.iobalancer.CostMigrationStrategy.CONFIRMATION_CHECKS;
+import static com.hazelcast.internal.networking.nio.iobalancer.CostMigrationStrategy.COOLDOWN_CHECKS;
+import static com.hazelcast.internal.networking.nio.iobalancer.CostMigrationStrategy.MIN_COST_DIFFERENCE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CostMigrationStrategyTest {
+
+    private static final long LOAD = 100 * MIN_COST_DIFFERENCE;
+
+    private Map<NioThread, Set<MigratablePipeline>> ownerToPipelines;
+    private ItemCounter<MigratablePipeline> loadCounter;
+    private LoadImbalance imbalance;
+    private NioThread busyOwner;
+    private NioThread idleOwner;
+
+    private CostMigrationStrategy strategy;
+
+    @Before
+    public void setUp() {
+        ownerToPipelines = new HashMap<>();
+        loadCounter = new ItemCounter<>();
+        imbalance = new LoadImbalance(ownerToPipelines, loadCounter);
+        busyOwner = mock(NioThread.class);
+        idleOwner = mock(NioThread.class);
+        ownerToPipelines.put(busyOwner, new HashSet<>());
+        ownerToPipelines.put(idleOwner, new HashSet<>());
+        strategy = new CostMigrationStrategy();
+    }
+
+    @Test
+    public void load_isProcessTimeAndBytes() {
+        MigratablePipeline pipeline = mock(MigratablePipeline.class);
+        when(pipeline.processTimeNanos()).thenReturn(1000L);
+        when(pipeline.bytesProcessed()).thenReturn(200L);
+        when(pipeline.load()).thenReturn(5L);
+
+        assertEquals(1200, strategy.load(pipeline));
+    }
+
+    @Test
+    public void imbalanceDetected_whenNoOwners() {
+        imbalance.maximumLoad = LOAD;
+        imbalance.minimumLoad = 0;
+
+        for (int k = 0; k < CONFIRMATION_CHECKS; k++) {
+            assertFalse(strategy.imbalanceDetected(imbalance));
+        }
+    }
+
+    @Test
+    public void imbalanceDetected_whenBalanced() {
+        setImbalance(LOAD, (long) (LOAD * 0.8));
+
+        for (int k = 0; k < CONFIRMATION_CHECKS; k++) {
+            assertFalse(strategy.imbalanceDetected(imbalance));
+        }
+    }
+
+    @Test
+    public void imbalanceDetected_whenDifferenceTooSmall() {
+        setImbalance(MIN_COST_DIFFERENCE - 1, 0);
+
+        for (int k = 0; k < CONFIRMATION_CHECKS; k++) {
+            assertFalse(strategy.imbalanceDetected(imbalance));
+        }
+    }
+
+    @Test
+    public void imbalanceDetected_onlyOnceConfirmed() {
+        setImbalance(LOAD, 0);
+
+        for (int k = 0; k < CONFIRMATION_CHECKS - 1; k++) {
+            assertFalse(strategy.imbalanceDetected(imbalance));
+        }
+        assertTrue(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void imbalanceDetected_whenBusiestOwnerChanges_thenConfirmedAgain() {
+        setImbalance(LOAD, 0);
+        for (int k = 0; k < CONFIRMATION_CHECKS - 1; k++) {
+            assertFalse(strategy.imbalanceDetected(imbalance));
+        }
+
+        imbalance.srcOwner = idleOwner;
+        imbalance.dstOwner = busyOwner;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void imbalanceDetected_whenBalancedInBetween_thenConfirmedAgain() {
+        setImbalance(LOAD, 0);
+        for (int k = 0; k < CONFIRMATION_CHECKS - 1; k++) {
+            assertFalse(strategy.imbalanceDetected(imbalance));
+        }
+
+        setImbalance(LOAD, LOAD);
+        assertFalse(strategy.imbalanceDetected(imbalance));
+
+        setImbalance(LOAD, 0);
+        assertFalse(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void findPipelineToMigrate_selectsPipelineClosestToHalfOfDifference() {
+        addPipeline(busyOwner, LOAD / 10);
+        addPipeline(busyOwner, LOAD * 4 / 10);
+        MigratablePipeline half = addPipeline(busyOwner, LOAD / 2);
+        addPipeline(busyOwner, LOAD * 7 / 10);
+        setImbalance(LOAD, 0);
+
+        assertSame(half, strategy.findPipelineToMigrate(imbalance));
+    }
+
+    @Test
+    public void findPipelineToMigrate_whenMigrationWouldSwapOwners_thenNull() {
+        // moving the only heavy pipeline would just make the other owner the busiest
+        addPipeline(busyOwner, LOAD - 100);
+        addPipeline(busyOwner, 100);
+        setImbalance(LOAD, 0);
+
+        assertNull(strategy.findPipelineToMigrate(imbalance));
+    }
+
+    @Test
+    public void findPipelineToMigrate_whenMigrated_thenCoolsDown() {
+        MigratablePipeline pipeline = addPipeline(busyOwner, LOAD / 2);
+        setImbalance(LOAD, 0);
+        confirmImbalance();
+        assertSame(pipeline, strategy.findPipelineToMigrate(imbalance));
+
+        for (int k = 0; k < COOLDOWN_CHECKS; k++) {
+            strategy.imbalanceDetected(imbalance);
+            assertNull(strategy.findPipelineToMigrate(imbalance));
+        }
+
+        strategy.imbalanceDetected(imbalance);
+        assertSame(pipeline, strategy.findPipelineToMigrate(imbalance));
+    }
+
+    @Test
+    public void findPipelineToMigrate_thenImbalanceConfirmedAgain() {
+        addPipeline(busyOwner, LOAD / 2);
+        setImbalance(LOAD, 0);
+        confirmImbalance();
+        strategy.findPipelineToMigrate(imbalance);
+
+        assertFalse(strategy.imbalanceDetected(imbalance));
+    }
+
+    private void confirmImbalance() {
+        for (int k = 0; k < CONFIRMATION_CHECKS; k++) {
+            strategy.imbalanceDetected(imbalance);
+        }
+    }
+
+    private void setImbalance(long max, long min) {
+        imbalance.maximumLoad = max;
+        imbalance.minimumLoad = min;
+        imbalance.srcOwner = busyOwner;
+        imbalance.dstOwner = idleOwner;
+    }
+
+    private MigratablePipeline addPipeline(NioThread owner, long load) {
+        MigratablePipeline pipeline = mock(MigratablePipeline.class);
+        ownerToPipelines.get(owner).add(pipeline);
+        loadCounter.set(pipeline, load);
+        return pipeline;
+    }
+}
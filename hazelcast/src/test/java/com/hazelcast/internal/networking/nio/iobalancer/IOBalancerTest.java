@@ -28,6 +28,8 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import static com.hazelcast.test.HazelcastTestSupport.assertInstanceOf;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -59,4 +61,19 @@ public class IOBalancerTest {
 
         assertTrue(ioBalancer.getWorkQueue().isEmpty());
     }
+
+    @Test
+    public void whenCostBased_thenCostMigrationStrategy() {
+        IOBalancer ioBalancer = new IOBalancer(new NioThread[2], new NioThread[2], "foo", 1, true, loggingService);
+
+        assertInstanceOf(CostMigrationStrategy.class, ioBalancer.getInStrategy());
+        assertEquals(CostMigrationStrategy.class.getSimpleName(), ioBalancer.strategyName());
+    }
+
+    @Test
+    public void whenNotCostBased_thenLoadMigrationStrategy() {
+        IOBalancer ioBalancer = new IOBalancer(new NioThread[2], new NioThread[2], "foo", 1, loggingService);
+
+        assertInstanceOf(LoadMigrationStrategy.class, ioBalancer.getInStrategy());
+    }
 }
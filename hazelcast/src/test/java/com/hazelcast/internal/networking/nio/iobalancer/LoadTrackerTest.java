@@ -89,6 +89,34 @@ public class LoadTrackerTest {
         assertEquals(owner2, loadImbalance.srcOwner);
     }
 
+    @Test
+    public void testUpdateImbalance_withLoadFunction() {
+        loadTracker = new LoadTracker(owner3, mock(ILogger.class), MigratablePipeline::processTimeNanos);
+
+        MigratablePipeline owner1Pipeline1 = mock(MigratablePipeline.class);
+        when(owner1Pipeline1.processTimeNanos()).thenReturn(0L).thenReturn(100L);
+        when(owner1Pipeline1.owner()).thenReturn(owner1);
+        loadTracker.addPipeline(owner1Pipeline1);
+
+        MigratablePipeline owner2Pipeline1 = mock(MigratablePipeline.class);
+        when(owner2Pipeline1.processTimeNanos()).thenReturn(0L).thenReturn(300L);
+        when(owner2Pipeline1.owner()).thenReturn(owner2);
+        loadTracker.addPipeline(owner2Pipeline1);
+
+        MigratablePipeline owner2Pipeline2 = mock(MigratablePipeline.class);
+        when(owner2Pipeline2.processTimeNanos()).thenReturn(0L).thenReturn(100L);
+        when(owner2Pipeline2.owner()).thenReturn(owner2);
+        loadTracker.addPipeline(owner2Pipeline2);
+
+        loadTracker.updateImbalance();
+        assertEquals(0, loadTracker.imbalancePercentage(), 0);
+
+        LoadImbalance loadImbalance = loadTracker.updateImbalance();
+        assertEquals(100, loadImbalance.minimumLoad);
+        assertEquals(400, loadImbalance.maximumLoad);
+        assertEquals(75, loadTracker.imbalancePercentage(), 0);
+    }
+
     // there is no point in selecting a selector with a single handler as source.
     @Test
     public void testUpdateImbalance_notUsingSinglePipelineOwnerAsSource() throws Exception {
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nio;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LZ4BlockTest {
+
+    private final Random random = new Random(42);
+    private final int[] hashTable = LZ4Block.newHashTable();
+
+    @Test
+    public void roundTrip_whenEmpty() {
+        assertRoundTrip(new byte[0]);
+    }
+
+    @Test
+    public void roundTrip_whenSmallerThanMinimumMatch() {
+        for (int length = 1; length < 16; length++) {
+            assertRoundTrip(randomBytes(length));
+        }
+    }
+
+    @Test
+    public void roundTrip_whenRandom() {
+        for (int length : new int[]{100, 4096, 100_000}) {
+            assertRoundTrip(randomBytes(length));
+        }
+    }
+
+    @Test
+    public void roundTrip_whenCompressible() {
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < 2000; k++) {
+            sb.append("{\"id\":").append(k).append(",\"name\":\"name-").append(k % 10).append("\"}");
+        }
+        byte[] bytes = sb.toString().getBytes(UTF_8);
+
+        int compressedLength = assertRoundTrip(bytes);
+        assertTrue("compressed to " + compressedLength + " bytes", compressedLength < bytes.length / 4);
+    }
+
+    @Test
+    public void roundTrip_whenLongRun() {
+        byte[] bytes = new byte[100_000];
+        Arrays.fill(bytes, (byte) 7);
+
+        int compressedLength = assertRoundTrip(bytes);
+        assertTrue("compressed to " + compressedLength + " bytes", compressedLength < 1000);
+    }
+
+    @Test
+    public void roundTrip_whenHashTableReused() {
+        byte[] bytes = new byte[10_000];
+        for (int k = 0; k < bytes.length; k++) {
+            bytes[k] = (byte) (k % 100);
+        }
+        assertRoundTrip(bytes);
+        // the hash table contains the positions of the previous compression
+        assertRoundTrip(Arrays.copyOf(bytes, 5000));
+        assertRoundTrip(randomBytes(20_000));
+    }
+
+    @Test
+    public void compress_whenOffsets() {
+        byte[] bytes = randomCompressibleBytes(10_000);
+        byte[] src = new byte[bytes.length + 20];
+        System.arraycopy(bytes, 0, src, 10, bytes.length);
+        byte[] dst = new byte[LZ4Block.maxCompressedLength(bytes.length) + 30];
+
+        int compressedLength = LZ4Block.compress(src, 10, bytes.length, dst, 30, hashTable);
+        byte[] decompressed = new byte[bytes.length + 5];
+        LZ4Block.decompress(dst, 30, compressedLength, decompressed, 5, bytes.length);
+
+        assertArrayEquals(bytes, Arrays.copyOfRange(decompressed, 5, decompressed.length));
+    }
+
+    @Test
+    public void decompress_whenLengthDiffers() {
+        byte[] bytes = randomCompressibleBytes(1000);
+        byte[] dst = new byte[LZ4Block.maxCompressedLength(bytes.length)];
+        int compressedLength = LZ4Block.compress(bytes, 0, bytes.length, dst, 0, hashTable);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> LZ4Block.decompress(dst, 0, compressedLength, new byte[999], 0, 999));
+        assertThrows(IllegalArgumentException.class,
+                () -> LZ4Block.decompress(dst, 0, compressedLength, new byte[1001], 0, 1001));
+    }
+
+    @Test
+    public void decompress_whenTruncated() {
+        byte[] bytes = randomCompressibleBytes(1000);
+        byte[] dst = new byte[LZ4Block.maxCompressedLength(bytes.length)];
+        int compressedLength = LZ4Block.compress(bytes, 0, bytes.length, dst, 0, hashTable);
+
+        for (int length = 0; length < compressedLength; length++) {
+            int srcLength = length;
+            assertThrows(IllegalArgumentException.class,
+                    () -> LZ4Block.decompress(dst, 0, srcLength, new byte[1000], 0, 1000));
+        }
+    }
+
+    @Test
+    public void decompress_whenMalformed_thenFailsWithinBounds() {
+        byte[] bytes = randomCompressibleBytes(1000);
+        byte[] dst = new byte[LZ4Block.maxCompressedLength(bytes.length)];
+        int compressedLength = LZ4Block.compress(bytes, 0, bytes.length, dst, 0, hashTable);
+
+        for (int k = 0; k < 1000; k++) {
+            byte[] corrupted = Arrays.copyOf(dst, compressedLength);
+            corrupted[random.nextInt(compressedLength)] = (byte) random.nextInt();
+            try {
+                LZ4Block.decompress(corrupted, 0, compressedLength, new byte[1000], 0, 1000);
+            } catch (IllegalArgumentException expected) {
+                // a corruption is either detected or results in different bytes
+                assertEquals("Malformed LZ4 block", expected.getMessage());
+            }
+        }
+    }
+
+    private int assertRoundTrip(byte[] bytes) {
+        byte[] compressed = new byte[LZ4Block.maxCompressedLength(bytes.length)];
+        int compressedLength = LZ4Block.compress(bytes, 0, bytes.length, compressed, 0, hashTable);
+        assertTrue(compressedLength <= compressed.length);
+
+        byte[] decompressed = new byte[bytes.length];
+        LZ4Block.decompress(compressed, 0, compressedLength, decompressed, 0, bytes.length);
+        assertArrayEquals(bytes, decompressed);
+        return compressedLength;
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private byte[] randomCompressibleBytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int k = 0; k < length; k++) {
+            bytes[k] = (byte) ('a' + random.nextInt(4));
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.spi.properties.ClusterProperty.IO_INBOUND_BUFFER_POOLING_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_INBOUND_BUFFER_POOLING_THRESHOLD_BYTES;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class PacketBufferPooling_IntegrationTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 200;
+
+    @After
+    public void tearDown() {
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void whenEnabled_thenStoredValuesNotOverwrittenByReusedBuffers() {
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(newConfig());
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(newConfig());
+        assertClusterSizeEventually(2, hz1, hz2);
+
+        // every value is different, so a value referring to a reused buffer would change
+        IMap<Integer, String> map1 = hz1.getMap("map");
+        IMap<Integer, String> map2 = hz2.getMap("map");
+        for (int k = 0; k < ENTRY_COUNT; k++) {
+            map1.put(k, value(k));
+            map2.put(ENTRY_COUNT + k, value(ENTRY_COUNT + k));
+        }
+
+        for (int k = 0; k < 2 * ENTRY_COUNT; k++) {
+            assertEquals(value(k), map1.get(k));
+            assertEquals(value(k), map2.get(k));
+        }
+    }
+
+    private static String value(int k) {
+        return ("value-" + k + "-").repeat(1000);
+    }
+
+    private static Config newConfig() {
+        Config config = smallInstanceConfig()
+                .setProperty(IO_INBOUND_BUFFER_POOLING_ENABLED.getName(), "true")
+                .setProperty(IO_INBOUND_BUFFER_POOLING_THRESHOLD_BYTES.getName(), "1024");
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        return config;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.ChannelOptions;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.util.counters.SwCounter;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hazelcast.internal.networking.ChannelOption.DIRECT_BUF;
+import static com.hazelcast.internal.networking.ChannelOption.SO_RCVBUF;
+import static com.hazelcast.internal.networking.ChannelOption.SO_SNDBUF;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_CONTROL;
+import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PacketCompressionTest extends HazelcastTestSupport {
+
+    private static final int THRESHOLD = 1024;
+
+    private PacketCompression compression;
+
+    @Before
+    public void setup() {
+        compression = new PacketCompression();
+    }
+
+    @Test
+    public void compress_whenDisabled_thenNotCompressed() {
+        Packet packet = new Packet(compressibleBytes(10_000));
+
+        assertFalse(compression.isEnabled());
+        assertSame(packet, compression.compress(packet));
+    }
+
+    @Test
+    public void compress_whenSmallerThanThreshold_thenNotCompressed() {
+        compression.enable(THRESHOLD);
+        Packet packet = new Packet(compressibleBytes(THRESHOLD - 1));
+
+        assertSame(packet, compression.compress(packet));
+    }
+
+    @Test
+    public void compress_whenIncompressible_thenNotCompressed() {
+        compression.enable(THRESHOLD);
+        byte[] bytes = new byte[THRESHOLD];
+        new Random().nextBytes(bytes);
+        Packet packet = new Packet(bytes);
+
+        assertSame(packet, compression.compress(packet));
+    }
+
+    @Test
+    public void enable_whenThresholdTooSmall_thenMinimumThreshold() {
+        compression.enable(0);
+        Packet packet = new Packet(compressibleBytes(PacketCompression.MIN_THRESHOLD - 1));
+
+        assertSame(packet, compression.compress(packet));
+    }
+
+    @Test
+    public void compressAndDecompress() {
+        compression.enable(THRESHOLD);
+        byte[] bytes = compressibleBytes(10_000);
+        Packet packet = new Packet(bytes, 42).setPacketType(Packet.Type.OPERATION).raiseFlags(FLAG_URGENT | FLAG_OP_CONTROL);
+
+        Packet compressed = compression.compress(packet);
+
+        assertNotSame(packet, compressed);
+        assertTrue(compressed.isFlagRaised(FLAG_COMPRESSED));
+        assertTrue(compressed.totalSize() < bytes.length);
+        // the original packet may be sent to other channels, so it must not be modified
+        assertFalse(packet.isFlagRaised(FLAG_COMPRESSED));
+        assertSame(bytes, packet.toByteArray());
+
+        Packet decompressed = compression.decompress(compressed);
+
+        assertEquals(packet, decompressed);
+        assertEquals(packet.getFlags(), decompressed.getFlags());
+        assertEquals(42, decompressed.getPartitionId());
+        assertEquals(Packet.Type.OPERATION, decompressed.getPacketType());
+        assertTrue(compression.compressionRatio() < 100);
+    }
+
+    @Test
+    public void decompress_whenNotCompressed_thenSamePacket() {
+        Packet packet = new Packet(compressibleBytes(100));
+
+        assertSame(packet, compression.decompress(packet));
+    }
+
+    @Test
+    public void decompress_whenMalformed() {
+        Packet empty = new Packet().raiseFlags(FLAG_COMPRESSED);
+        Packet tooLarge = new Packet(new byte[]{0x7F, 0, 0, 0, 0, 0, 0, 0, 0}).raiseFlags(FLAG_COMPRESSED);
+        Packet garbage = new Packet(new byte[]{0, 0, 0, 10, (byte) 0xFF, 1, 2, 3, 4}).raiseFlags(FLAG_COMPRESSED);
+
+        assertThrows(IllegalArgumentException.class, () -> compression.decompress(empty));
+        assertThrows(IllegalArgumentException.class, () -> compression.decompress(tooLarge));
+        assertThrows(IllegalArgumentException.class, () -> compression.decompress(garbage));
+    }
+
+    @Test
+    public void encoderAndDecoder() throws Exception {
+        Channel outboundChannel = newChannel();
+        PacketCompression.of(outboundChannel).enable(THRESHOLD);
+        PacketEncoder encoder = new PacketEncoder();
+        encoder.setChannel(outboundChannel);
+        encoder.handlerAdded();
+        PacketEncoderTest.PacketSupplier src = new PacketEncoderTest.PacketSupplier();
+        encoder.src(src);
+
+        List<Packet> decoded = new ArrayList<>();
+        PacketDecoder decoder = new PacketDecoder(mock(ServerConnection.class), decoded::add);
+        decoder.setChannel(newChannel());
+        decoder.handlerAdded();
+        decoder.setNormalPacketsRead(SwCounter.newSwCounter());
+        decoder.setPriorityPacketsRead(SwCounter.newSwCounter());
+
+        Packet small = new Packet(compressibleBytes(100));
+        Packet large = new Packet(compressibleBytes(100_000));
+        src.queue.add(small);
+        src.queue.add(large);
+        src.queue.add(small);
+
+        ByteBuffer dst = encoder.dst();
+        ByteBuffer decoderSrc = decoder.src();
+        do {
+            encoder.onWrite();
+            decoderSrc.put(dst);
+            decoder.onRead();
+        } while (decoded.size() < 3);
+
+        assertEquals(List.of(small, large, small), decoded);
+        assertEquals(1, PacketCompression.of(outboundChannel).compressedPacketsWritten.get());
+    }
+
+    private static Channel newChannel() {
+        ChannelOptions options = mock(ChannelOptions.class);
+        doReturn(64 * 1024).when(options).getOption(SO_SNDBUF);
+        doReturn(64 * 1024).when(options).getOption(SO_RCVBUF);
+        doReturn(false).when(options).getOption(DIRECT_BUF);
+        Channel channel = mock(Channel.class);
+        when(channel.options()).thenReturn(options);
+        when(channel.attributeMap()).thenReturn(new ConcurrentHashMap<>());
+        return channel;
+    }
+
+    private static byte[] compressibleBytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int k = 0; k < length; k++) {
+            bytes[k] = (byte) ('a' + k % 7 + k % 13);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.instance.EndpointQualifier.MEMBER;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_ENABLED;
+import static com.hazelcast.test.Accessors.getNode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class PacketCompression_IntegrationTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    @After
+    public void tearDown() {
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void whenEnabled_thenLargePacketsCompressed() {
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(newConfig(true));
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(newConfig(true));
+        assertClusterSizeEventually(2, hz1, hz2);
+
+        putAndGet(hz1);
+
+        assertTrue("no packets were compressed", compressedPacketsWritten(hz1) + compressedPacketsWritten(hz2) > 0);
+    }
+
+    @Test
+    public void whenEnabledOnOneMember_thenOnlyThatMemberCompresses() {
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(newConfig(true));
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(newConfig(false));
+        assertClusterSizeEventually(2, hz1, hz2);
+
+        putAndGet(hz1);
+        putAndGet(hz2);
+
+        assertTrue("no packets were compressed", compressedPacketsWritten(hz1) > 0);
+        assertEquals(0, compressedPacketsWritten(hz2));
+    }
+
+    private static void putAndGet(HazelcastInstance hz) {
+        IMap<Integer, String> map = hz.getMap(randomMapName());
+        String value = "value-".repeat(10_000);
+        for (int k = 0; k < ENTRY_COUNT; k++) {
+            map.put(k, value);
+        }
+        for (int k = 0; k < ENTRY_COUNT; k++) {
+            assertEquals(value, map.get(k));
+        }
+    }
+
+    private static long compressedPacketsWritten(HazelcastInstance hz) {
+        long compressedPacketsWritten = 0;
+        for (ServerConnection connection : getNode(hz).getServer().getConnectionManager(MEMBER).getConnections()) {
+            PacketCompression compression = (PacketCompression) connection.attributeMap().get(PacketCompression.class);
+            compressedPacketsWritten += compression.compressedPacketsWritten.get();
+        }
+        return compressedPacketsWritten;
+    }
+
+    private static Config newConfig(boolean compressionEnabled) {
+        Config config = smallInstanceConfig()
+                .setProperty(IO_COMPRESSION_ENABLED.getName(), String.valueOf(compressionEnabled));
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        return config;
+    }
+}
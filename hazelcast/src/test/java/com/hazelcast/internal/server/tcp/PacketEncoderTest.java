@@ -17,6 +17,7 @@
 package com.hazelcast.internal.server.tcp;
 
 import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.IOVector;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.nio.PacketIOHelper;
 import com.hazelcast.internal.serialization.InternalSerializationService;
@@ -30,7 +31,11 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Supplier;
@@ -38,6 +43,7 @@ import java.util.function.Supplier;
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -90,6 +96,108 @@ public class PacketEncoderTest extends HazelcastTestSupport {
         assertEquals(DIRTY, result);
     }
 
+    @Test
+    public void whenGathering_thenLargePayloadReferenced() {
+        Packet small = new Packet(serializationService.toBytes("foobar"));
+        Packet large = new Packet(new byte[PacketEncoder.GATHERING_PAYLOAD_THRESHOLD]);
+        ByteBuffer dst = ByteBuffer.allocate(2 * PacketEncoder.GATHERING_PAYLOAD_THRESHOLD);
+        dst.flip();
+        IOVector ioVector = new IOVector();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(small);
+        src.queue.add(large);
+        src.queue.add(small);
+
+        encoder.dst(dst);
+        encoder.src(src);
+        encoder.ioVector(ioVector);
+
+        HandlerStatus result = encoder.onWrite();
+
+        assertEquals(CLEAN, result);
+        // the small packet and the header of the large packet, its payload and the last small packet
+        assertEquals(3, ioVector.length());
+        assertSame(large.toByteArray(), ioVector.array()[1].array());
+        assertEquals(0, dst.remaining());
+    }
+
+    @Test
+    public void whenGathering_andPartialWrites() throws Exception {
+        List<Packet> packets = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int size = i % 2 == 0 ? 3 * PacketEncoder.GATHERING_PAYLOAD_THRESHOLD + i : 100 + i;
+            packets.add(new Packet(new byte[size], i));
+        }
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+        IOVector ioVector = new IOVector();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.addAll(packets);
+
+        encoder.dst(dst);
+        encoder.src(src);
+        encoder.ioVector(ioVector);
+
+        // the channel accepts fewer bytes than referenced by the vector
+        LimitedChannel channel = new LimitedChannel(700);
+        HandlerStatus result;
+        do {
+            result = encoder.onWrite();
+            ioVector.write(channel);
+        } while (result != CLEAN || !ioVector.isEmpty());
+
+        ByteBuffer written = ByteBuffer.wrap(channel.out.toByteArray());
+        PacketIOHelper reader = new PacketIOHelper();
+        for (Packet packet : packets) {
+            assertEquals(packet, reader.readFrom(written));
+        }
+        assertEquals(0, written.remaining());
+    }
+
+    static class LimitedChannel implements GatheringByteChannel {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final int maxBytesPerWrite;
+
+        LimitedChannel(int maxBytesPerWrite) {
+            this.maxBytesPerWrite = maxBytesPerWrite;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long written = 0;
+            for (int i = offset; i < offset + length && written < maxBytesPerWrite; i++) {
+                ByteBuffer buffer = srcs[i];
+                int bytes = (int) Math.min(buffer.remaining(), maxBytesPerWrite - written);
+                for (int k = 0; k < bytes; k++) {
+                    out.write(buffer.get());
+                }
+                written += bytes;
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            return (int) write(new ByteBuffer[]{src});
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     static class PacketSupplier implements Supplier<Packet> {
         Queue<Packet> queue = new LinkedBlockingQueue<>();
 
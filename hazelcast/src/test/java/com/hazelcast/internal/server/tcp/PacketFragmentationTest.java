@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.ChannelOptions;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.util.counters.SwCounter;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hazelcast.internal.networking.ChannelOption.DIRECT_BUF;
+import static com.hazelcast.internal.networking.ChannelOption.SO_RCVBUF;
+import static com.hazelcast.internal.networking.ChannelOption.SO_SNDBUF;
+import static com.hazelcast.internal.nio.Packet.FLAG_FRAGMENT;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
+import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PacketFragmentationTest extends HazelcastTestSupport {
+
+    private static final int FRAGMENT_SIZE = 1024;
+
+    private PacketFragmentation fragmentation;
+    private PacketEncoderTest.PacketSupplier src;
+
+    @Before
+    public void setup() {
+        fragmentation = new PacketFragmentation();
+        src = new PacketEncoderTest.PacketSupplier();
+    }
+
+    @Test
+    public void next_whenDisabled_thenNotSplit() {
+        Packet packet = operation(10_000, 1);
+        src.queue.add(packet);
+
+        assertFalse(fragmentation.isEnabled());
+        assertSame(packet, fragmentation.next(src));
+        assertNull(fragmentation.next(src));
+    }
+
+    @Test
+    public void next_whenNotLargerThanFragmentSize_thenNotSplit() {
+        fragmentation.enable(FRAGMENT_SIZE);
+        Packet packet = operation(FRAGMENT_SIZE, 1);
+        src.queue.add(packet);
+
+        assertSame(packet, fragmentation.next(src));
+    }
+
+    @Test
+    public void enable_whenFragmentSizeTooSmall_thenMinimumFragmentSize() {
+        fragmentation.enable(0);
+        Packet packet = operation(PacketFragmentation.MIN_FRAGMENT_SIZE, 1);
+        src.queue.add(packet);
+
+        assertSame(packet, fragmentation.next(src));
+    }
+
+    @Test
+    public void splitAndReassemble() {
+        fragmentation.enable(FRAGMENT_SIZE);
+        Packet packet = operation(FRAGMENT_SIZE * 5 / 2, 42).raiseFlags(FLAG_URGENT);
+        src.queue.add(packet);
+
+        List<Packet> fragments = drain();
+
+        assertEquals(3, fragments.size());
+        for (Packet fragment : fragments) {
+            assertTrue(fragment.isFlagRaised(FLAG_FRAGMENT));
+            assertEquals(42, fragment.getPartitionId());
+        }
+        // the original packet may be sent to other channels, so it must not be modified
+        assertFalse(packet.isFlagRaised(FLAG_FRAGMENT));
+        assertEquals(1, fragmentation.fragmentedPacketsWritten.get());
+
+        PacketFragmentation reassembler = new PacketFragmentation();
+        assertNull(reassembler.reassemble(fragments.get(0)));
+        assertNull(reassembler.reassemble(fragments.get(1)));
+        Packet reassembled = reassembler.reassemble(fragments.get(2));
+
+        assertEquals(packet, reassembled);
+        assertEquals(packet.getFlags(), reassembled.getFlags());
+        assertEquals(Packet.Type.OPERATION, reassembled.getPacketType());
+    }
+
+    @Test
+    public void next_whenOtherPartition_thenOvertakesSplitPacket() {
+        fragmentation.enable(FRAGMENT_SIZE);
+        Packet large = operation(FRAGMENT_SIZE * 3, 1);
+        Packet otherPartition = operation(100, 2);
+        Packet response = operation(100, -1).raiseFlags(FLAG_OP_RESPONSE);
+        src.queue.add(large);
+        src.queue.add(otherPartition);
+        src.queue.add(response);
+
+        List<Packet> packets = drain();
+
+        assertEquals(5, packets.size());
+        assertTrue(packets.get(0).isFlagRaised(FLAG_FRAGMENT));
+        assertSame(otherPartition, packets.get(1));
+        assertTrue(packets.get(2).isFlagRaised(FLAG_FRAGMENT));
+        assertSame(response, packets.get(3));
+        assertTrue(packets.get(4).isFlagRaised(FLAG_FRAGMENT));
+    }
+
+    @Test
+    public void next_whenSamePartition_thenStaysBehindSplitPacket() {
+        fragmentation.enable(FRAGMENT_SIZE);
+        Packet large = operation(FRAGMENT_SIZE * 3, 1);
+        Packet samePartition = operation(100, 1);
+        src.queue.add(large);
+        src.queue.add(samePartition);
+
+        List<Packet> packets = drain();
+
+        assertEquals(4, packets.size());
+        assertSame(samePartition, packets.get(3));
+    }
+
+    @Test
+    public void next_whenEvent_thenStaysBehindSplitPacket() {
+        fragmentation.enable(FRAGMENT_SIZE);
+        Packet large = new Packet(new byte[FRAGMENT_SIZE * 3], 5).setPacketType(Packet.Type.EVENT);
+        Packet event = new Packet(new byte[100], 6).setPacketType(Packet.Type.EVENT);
+        src.queue.add(large);
+        src.queue.add(event);
+
+        List<Packet> packets = drain();
+
+        assertEquals(4, packets.size());
+        assertSame(event, packets.get(3));
+    }
+
+    @Test
+    public void reassemble_whenNotFragment_thenSamePacket() {
+        Packet packet = operation(100, 1);
+
+        assertSame(packet, fragmentation.reassemble(packet));
+    }
+
+    @Test
+    public void reassemble_whenMalformed() {
+        Packet empty = new Packet().raiseFlags(FLAG_FRAGMENT);
+        Packet tooLong = new Packet(new byte[]{0, 0, 0, 1, 0, 0, 0, 0, 1, 2}).raiseFlags(FLAG_FRAGMENT);
+        Packet negativeLength = new Packet(new byte[]{(byte) 0xFF, 0, 0, 0, 0, 0, 0, 0, 1}).raiseFlags(FLAG_FRAGMENT);
+
+        assertThrows(IllegalArgumentException.class, () -> fragmentation.reassemble(empty));
+        assertThrows(IllegalArgumentException.class, () -> fragmentation.reassemble(tooLong));
+        assertThrows(IllegalArgumentException.class, () -> fragmentation.reassemble(negativeLength));
+    }
+
+    @Test
+    public void reassemble_whenFragmentOfOtherPacket() {
+        Packet notFirst = new Packet(new byte[]{0, 0, 0, 2, 0, 0, 0, 1, 1}, 1).raiseFlags(FLAG_FRAGMENT);
+        assertThrows(IllegalArgumentException.class, () -> fragmentation.reassemble(notFirst));
+
+        assertNull(fragmentation.reassemble(new Packet(new byte[]{0, 0, 0, 2, 0, 0, 0, 0, 1}, 1).raiseFlags(FLAG_FRAGMENT)));
+        Packet otherPartition = new Packet(new byte[]{0, 0, 0, 2, 0, 0, 0, 1, 2}, 2).raiseFlags(FLAG_FRAGMENT);
+        assertThrows(IllegalArgumentException.class, () -> fragmentation.reassemble(otherPartition));
+    }
+
+    @Test
+    public void encoderAndDecoder() throws Exception {
+        Channel outboundChannel = newChannel();
+        PacketFragmentation.of(outboundChannel).enable(FRAGMENT_SIZE);
+        PacketEncoder encoder = new PacketEncoder();
+        encoder.setChannel(outboundChannel);
+        encoder.handlerAdded();
+        encoder.src(src);
+
+        List<Packet> decoded = new ArrayList<>();
+        PacketDecoder decoder = new PacketDecoder(mock(ServerConnection.class), decoded::add);
+        decoder.setChannel(newChannel());
+        decoder.handlerAdded();
+        decoder.setNormalPacketsRead(SwCounter.newSwCounter());
+        decoder.setPriorityPacketsRead(SwCounter.newSwCounter());
+
+        Packet large = operation(100_000, 1);
+        Packet small = operation(100, 2);
+        Packet samePartition = operation(100, 1);
+        src.queue.add(large);
+        src.queue.add(small);
+        src.queue.add(samePartition);
+
+        ByteBuffer dst = encoder.dst();
+        ByteBuffer decoderSrc = decoder.src();
+        do {
+            encoder.onWrite();
+            decoderSrc.put(dst);
+            decoder.onRead();
+        } while (decoded.size() < 3);
+
+        assertEquals(List.of(small, large, samePartition), decoded);
+        assertEquals(1, PacketFragmentation.of(outboundChannel).fragmentedPacketsWritten.get());
+    }
+
+    private List<Packet> drain() {
+        List<Packet> packets = new ArrayList<>();
+        for (Packet packet = fragmentation.next(src); packet != null; packet = fragmentation.next(src)) {
+            packets.add(packet);
+        }
+        return packets;
+    }
+
+    private static Packet operation(int length, int partitionId) {
+        byte[] bytes = new byte[length];
+        for (int k = 0; k < length; k++) {
+            bytes[k] = (byte) k;
+        }
+        return new Packet(bytes, partitionId).setPacketType(Packet.Type.OPERATION);
+    }
+
+    private static Channel newChannel() {
+        ChannelOptions options = mock(ChannelOptions.class);
+        doReturn(64 * 1024).when(options).getOption(SO_SNDBUF);
+        doReturn(64 * 1024).when(options).getOption(SO_RCVBUF);
+        doReturn(false).when(options).getOption(DIRECT_BUF);
+        Channel channel = mock(Channel.class);
+        when(channel.options()).thenReturn(options);
+        when(channel.attributeMap()).thenReturn(new ConcurrentHashMap<>());
+        return channel;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util.concurrent;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestThread;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MPSCArrayQueueTest extends HazelcastTestSupport {
+
+    private static final int ITEMS_PER_PRODUCER = 100_000;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void construct_whenChunkSizeNotPositive() {
+        new MPSCArrayQueue<String>(0, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void setConsumerThread_whenNull() {
+        new MPSCArrayQueue<String>(16, null).setConsumerThread(null);
+    }
+
+    @Test
+    public void poll() {
+        MPSCArrayQueue<String> queue = newQueue(16, null);
+
+        queue.offer("1");
+        queue.offer("2");
+
+        assertEquals("1", queue.poll());
+        assertEquals("2", queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void poll_whenMultipleChunks() {
+        MPSCArrayQueue<String> queue = newQueue(2, null);
+
+        for (int k = 0; k < 5; k++) {
+            queue.offer(Integer.toString(k));
+        }
+        assertEquals(5, queue.size());
+
+        assertEquals("0", queue.poll());
+        queue.offer("5");
+        assertEquals("1", queue.poll());
+        queue.offer("6");
+
+        for (int k = 2; k <= 6; k++) {
+            assertEquals(Integer.toString(k), queue.peek());
+            assertEquals(Integer.toString(k), queue.poll());
+        }
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void size_and_isEmpty() {
+        MPSCArrayQueue<String> queue = newQueue(2, null);
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+
+        queue.offer("1");
+        queue.offer("2");
+        queue.offer("3");
+
+        assertFalse(queue.isEmpty());
+        assertEquals(3, queue.size());
+
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void offer_whenNull() {
+        newQueue(16, null).offer(null);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void pollWithTimeout_thenUnsupportedOperation() {
+        newQueue(16, null).poll(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void take_whenItemAvailable() throws Exception {
+        MPSCArrayQueue<String> queue = newQueue(16, null);
+
+        queue.offer("1");
+        queue.offer("2");
+
+        assertEquals("1", queue.take());
+        assertEquals("2", queue.take());
+    }
+
+    @Test
+    public void take_whenItemAvailableAfterSomeBlocking() throws Exception {
+        take_whenItemAvailableAfterSomeWaiting(null);
+    }
+
+    @Test
+    public void take_whenItemAvailableAfterSomeIdling() throws Exception {
+        take_whenItemAvailableAfterSomeWaiting(new BackoffIdleStrategy(100, 1000, 1000, MILLISECONDS.toNanos(1)));
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void take_whenInterruptedWhileWaiting() throws Exception {
+        MPSCArrayQueue<String> queue = newQueue(16, null);
+        Thread consumerThread = Thread.currentThread();
+
+        spawn((Runnable) () -> {
+            sleepSeconds(1);
+            consumerThread.interrupt();
+        });
+
+        queue.take();
+    }
+
+    @Test
+    public void take_whenMultipleProducers_block() throws Exception {
+        take_whenMultipleProducers(null);
+    }
+
+    @Test
+    public void take_whenMultipleProducers_busySpin() throws Exception {
+        take_whenMultipleProducers(new BusySpinIdleStrategy());
+    }
+
+    private void take_whenItemAvailableAfterSomeWaiting(IdleStrategy idleStrategy) throws Exception {
+        MPSCArrayQueue<String> queue = newQueue(16, idleStrategy);
+
+        spawn((Runnable) () -> {
+            sleepSeconds(1);
+            queue.offer("1");
+        });
+
+        assertEquals("1", queue.take());
+    }
+
+    private void take_whenMultipleProducers(IdleStrategy idleStrategy) throws Exception {
+        // small chunks, so the producers regularly link a new chunk
+        MPSCArrayQueue<long[]> queue = new MPSCArrayQueue<>(64, idleStrategy);
+        queue.setConsumerThread(Thread.currentThread());
+
+        List<TestThread> producers = new ArrayList<>();
+        for (int k = 0; k < 4; k++) {
+            int producerId = k;
+            producers.add(new TestThread() {
+                @Override
+                public void doRun() {
+                    for (long i = 0; i < ITEMS_PER_PRODUCER; i++) {
+                        queue.offer(new long[]{producerId, i});
+                    }
+                }
+            });
+        }
+        producers.forEach(Thread::start);
+
+        long[] expectedSequence = new long[producers.size()];
+        for (int i = 0; i < producers.size() * ITEMS_PER_PRODUCER; i++) {
+            long[] item = queue.take();
+            int producerId = (int) item[0];
+            assertEquals(expectedSequence[producerId], item[1]);
+            expectedSequence[producerId]++;
+        }
+
+        for (TestThread producer : producers) {
+            producer.assertSucceedsEventually();
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    private static MPSCArrayQueue<String> newQueue(int chunkSize, IdleStrategy idleStrategy) {
+        MPSCArrayQueue<String> queue = new MPSCArrayQueue<>(chunkSize, idleStrategy);
+        queue.setConsumerThread(Thread.currentThread());
+        return queue;
+    }
+}
@@ -28,6 +28,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
@@ -220,6 +221,50 @@ public abstract class AbstractMapQueryIterableTest extends HazelcastTestSupport
         assertFalse(result.isEmpty());
     }
 
+    @Test
+    public void test_predicateIterator_matchesEntrySet() {
+        IMap<Integer, Integer> map = instanceProxy.getMap(randomMapName());
+        for (int i = 0; i < 1000; ++i) {
+            map.put(i, i);
+        }
+        Predicate<Integer, Integer> predicate = lessEqual("this", 499);
+
+        ArrayList<Entry<Integer, Integer>> entries = collectAll(map.iterator(7, predicate));
+
+        assertEquals(500, entries.size());
+        assertEquals(map.entrySet(predicate), new HashSet<>(entries));
+    }
+
+    @Test
+    public void test_predicateIterator_withPartitionPredicate() {
+        IMap<String, Integer> map = instanceProxy.getMap(randomMapName());
+        int partitionId = randomPartitionId();
+        fillMap(map, partitionId, 100);
+        fillMap(map, (partitionId + 1) % instanceProxy.getPartitionService().getPartitions().size(), 100);
+        String partitionKey = generateKeyForPartition(instanceProxy, partitionId);
+
+        ArrayList<Entry<String, Integer>> entries = collectAll(
+                map.iterator(10, Predicates.partitionPredicate(partitionKey, new EvenPredicate())));
+
+        assertEquals(50, entries.size());
+        for (Entry<String, Integer> entry : entries) {
+            assertEquals(0, entry.getValue() % 2);
+            assertEquals(partitionId, instanceProxy.getPartitionService().getPartition(entry.getKey()).getPartitionId());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_predicateIterator_withPagingPredicate() {
+        IMap<String, String> map = instanceProxy.getMap(randomMapName());
+        map.iterator(10, Predicates.pagingPredicate(10));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_predicateIterator_withNullPredicate() {
+        IMap<String, String> map = instanceProxy.getMap(randomMapName());
+        map.iterator(10, null);
+    }
+
     private void fillMap(IMap<String, String> map, int partitionId, int count, String value) {
         for (int i = 0; i < count; i++) {
             String key = generateKeyForPartition(instanceProxy, partitionId);
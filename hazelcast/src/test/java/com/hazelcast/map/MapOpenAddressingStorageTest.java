@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MapStorageType;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapOpenAddressingStorageTest extends HazelcastTestSupport {
+
+    private static final String MAP_NAME = "open-addressing";
+
+    @Override
+    protected Config getConfig() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig(MAP_NAME).setStorageType(MapStorageType.OPEN_ADDRESSING);
+        return config;
+    }
+
+    @Test
+    public void testBasicOperations() {
+        IMap<Integer, String> map = createHazelcastInstance(getConfig()).getMap(MAP_NAME);
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "value-" + i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            map.remove(i);
+        }
+
+        assertEquals(500, map.size());
+        assertNull(map.get(0));
+        assertEquals("value-1", map.get(1));
+        assertEquals(500, map.keySet().size());
+        assertEquals(100, map.values(Predicates.sql("this like 'value-1%'")).size());
+    }
+
+    @Test
+    public void testIterator() {
+        IMap<Integer, Integer> map = createHazelcastInstance(getConfig()).getMap(MAP_NAME);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+
+        Set<Integer> keys = new HashSet<>();
+        for (Map.Entry<Integer, Integer> entry : map) {
+            assertEquals(entry.getKey(), entry.getValue());
+            assertTrue(keys.add(entry.getKey()));
+        }
+        assertEquals(1000, keys.size());
+    }
+
+    @Test
+    public void testEviction() {
+        Config config = getConfig();
+        config.getMapConfig(MAP_NAME).getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.PER_PARTITION)
+                .setSize(10);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(MAP_NAME);
+
+        int partitionCount = instance.getPartitionService().getPartitions().size();
+        for (int i = 0; i < partitionCount * 100; i++) {
+            map.put(i, i);
+        }
+
+        assertTrue(map.size() <= partitionCount * 10);
+    }
+
+    @Test
+    public void testEntriesSurviveMemberShutdown() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(getConfig());
+        HazelcastInstance instance2 = factory.newHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = instance1.getMap(MAP_NAME);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+
+        instance1.shutdown();
+
+        IMap<Integer, Integer> map2 = instance2.getMap(MAP_NAME);
+        assertEquals(1000, map2.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) map2.get(i));
+        }
+    }
+}
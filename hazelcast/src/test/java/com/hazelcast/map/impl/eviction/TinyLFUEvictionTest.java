@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.eviction;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.LocalMapStats;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.config.MaxSizePolicy.PER_PARTITION;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TinyLFUEvictionTest extends HazelcastTestSupport {
+
+    private static final int MAX_SIZE = 100;
+
+    @Test
+    public void scan_doesNotEvictFrequentlyAccessedEntries() {
+        Config config = getConfig();
+        config.setProperty(PARTITION_COUNT.getName(), "1");
+        String mapName = randomMapName();
+        config.getMapConfig(mapName)
+                .getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.TINY_LFU)
+                .setMaxSizePolicy(PER_PARTITION)
+                .setSize(MAX_SIZE);
+
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+
+        int hotKeyCount = MAX_SIZE / 2;
+        for (int i = 0; i < hotKeyCount; i++) {
+            map.put(i, i);
+        }
+        for (int j = 0; j < 10; j++) {
+            for (int i = 0; i < hotKeyCount; i++) {
+                map.get(i);
+            }
+        }
+
+        // a scan of keys which are accessed once
+        for (int i = 0; i < MAX_SIZE * 10; i++) {
+            map.put(MAX_SIZE + i, i);
+        }
+
+        int hotKeysLeft = 0;
+        for (int i = 0; i < hotKeyCount; i++) {
+            if (map.containsKey(i)) {
+                hotKeysLeft++;
+            }
+        }
+        assertTrue("hot keys left: " + hotKeysLeft, hotKeysLeft >= hotKeyCount * 9 / 10);
+        assertTrue(map.size() <= MAX_SIZE);
+
+        LocalMapStats stats = map.getLocalMapStats();
+        assertTrue(stats.getAdmissionRejectCount() > 0);
+        assertTrue(stats.getFrequencySketchMemoryCost() > 0);
+        assertEquals(hotKeyCount * 10, stats.getHits());
+    }
+
+    @Test
+    public void misses() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+        map.put(1, 1);
+
+        map.get(1);
+        map.get(2);
+        map.get(3);
+
+        LocalMapStats stats = map.getLocalMapStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(0, stats.getFrequencySketchMemoryCost());
+    }
+}
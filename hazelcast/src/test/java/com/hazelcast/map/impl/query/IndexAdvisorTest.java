@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_INDEX_ADVISOR_ENABLED;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class IndexAdvisorTest extends HazelcastTestSupport {
+
+    @Test
+    public void testRecommendations() {
+        HazelcastInstance instance = createHazelcastInstance(advisorConfig(true));
+        IMap<Integer, Person> map = populatedMap(instance);
+        IndexAdvisor advisor = getIndexAdvisor(instance);
+
+        map.values(Predicates.equal("name", "name1"));
+        map.values(Predicates.and(Predicates.equal("name", "name2"), Predicates.greaterThan("age", 10)));
+        map.values(Predicates.or(Predicates.in("name", "name3", "name4"), Predicates.equal("city", "city1")));
+        // a negation is never served by an index
+        map.values(Predicates.not(Predicates.equal("age", 1)));
+
+        List<IndexConfig> recommendations = advisor.getRecommendations(map.getName());
+        assertEquals(3, recommendations.size());
+        assertIndex(IndexType.HASH, "name", recommendations.get(0));
+
+        Map<String, IndexAdvisor.AttributeStats> stats = advisor.getStats(map.getName());
+        assertEquals(3, stats.get("name").getScanCount());
+        assertEquals(0, stats.get("name").getRangeScanCount());
+        assertEquals(300, stats.get("name").getScannedEntryCount());
+        assertEquals(1, stats.get("age").getScanCount());
+        assertEquals(1, stats.get("age").getRangeScanCount());
+        assertEquals(100, stats.get("age").getScannedEntryCount());
+        assertEquals(1, stats.get("city").getScanCount());
+        assertTrue(recommendations.contains(new IndexConfig(IndexType.SORTED, "age")));
+        assertTrue(recommendations.contains(new IndexConfig(IndexType.HASH, "city")));
+    }
+
+    @Test
+    public void testRecommendations_whenRangeQueried() {
+        HazelcastInstance instance = createHazelcastInstance(advisorConfig(true));
+        IMap<Integer, Person> map = populatedMap(instance);
+        IndexAdvisor advisor = getIndexAdvisor(instance);
+
+        map.values(Predicates.equal("age", 1));
+        map.values(Predicates.between("age", 1, 5));
+
+        List<IndexConfig> recommendations = advisor.getRecommendations(map.getName());
+        assertEquals(1, recommendations.size());
+        assertIndex(IndexType.SORTED, "age", recommendations.get(0));
+    }
+
+    @Test
+    public void testRecommendations_whenIndexExists() {
+        HazelcastInstance instance = createHazelcastInstance(advisorConfig(true));
+        IMap<Integer, Person> map = populatedMap(instance);
+        IndexAdvisor advisor = getIndexAdvisor(instance);
+
+        map.values(Predicates.equal("name", "name1"));
+        map.values(Predicates.greaterThan("age", 10));
+        map.addIndex(IndexType.HASH, "name");
+        map.addIndex(IndexType.HASH, "age");
+
+        // a hash index does not serve the range queries
+        List<IndexConfig> recommendations = advisor.getRecommendations(map.getName());
+        assertEquals(1, recommendations.size());
+        assertIndex(IndexType.SORTED, "age", recommendations.get(0));
+
+        map.addIndex(IndexType.SORTED, "age");
+        assertTrue(advisor.getRecommendations(map.getName()).isEmpty());
+    }
+
+    @Test
+    public void testRecommendations_whenAttributeNamesAreNotCanonical() {
+        HazelcastInstance instance = createHazelcastInstance(advisorConfig(true));
+        IMap<Integer, Person> map = populatedMap(instance);
+        IndexAdvisor advisor = getIndexAdvisor(instance);
+
+        map.values(Predicates.equal("name", "name1"));
+        map.values(Predicates.equal("this.name", "name2"));
+
+        Map<String, IndexAdvisor.AttributeStats> stats = advisor.getStats(map.getName());
+        assertEquals(1, stats.size());
+        assertEquals(2, stats.get("name").getScanCount());
+
+        map.addIndex(IndexType.HASH, "this.name");
+        assertTrue(advisor.getRecommendations(map.getName()).isEmpty());
+    }
+
+    @Test
+    public void testDestroyMap() {
+        HazelcastInstance instance = createHazelcastInstance(advisorConfig(true));
+        IMap<Integer, Person> map = populatedMap(instance);
+        IndexAdvisor advisor = getIndexAdvisor(instance);
+
+        map.values(Predicates.equal("name", "name1"));
+        assertEquals(1, advisor.getRecommendations(map.getName()).size());
+
+        map.destroy();
+        assertTrue(advisor.getRecommendations(map.getName()).isEmpty());
+        assertFalse(advisor.getMapNames().contains(map.getName()));
+    }
+
+    @Test
+    public void testDisabled() {
+        HazelcastInstance instance = createHazelcastInstance(advisorConfig(false));
+        IMap<Integer, Person> map = populatedMap(instance);
+        IndexAdvisor advisor = getIndexAdvisor(instance);
+
+        map.values(Predicates.equal("name", "name1"));
+
+        assertFalse(advisor.isEnabled());
+        assertTrue(advisor.getRecommendations(map.getName()).isEmpty());
+    }
+
+    @Test
+    public void testAttributeCountIsBounded() {
+        HazelcastInstance instance = createHazelcastInstance(advisorConfig(true));
+        IndexAdvisor advisor = getIndexAdvisor(instance);
+
+        for (int i = 0; i < IndexAdvisor.MAX_ATTRIBUTES_PER_MAP + 10; i++) {
+            advisor.onPartitionScan("map", Predicates.equal("attribute" + i, i), emptyList());
+        }
+
+        assertEquals(IndexAdvisor.MAX_ATTRIBUTES_PER_MAP, advisor.getStats("map").size());
+    }
+
+    static Config advisorConfig(boolean enabled) {
+        return smallInstanceConfig().setProperty(QUERY_INDEX_ADVISOR_ENABLED.getName(), String.valueOf(enabled));
+    }
+
+    static IMap<Integer, Person> populatedMap(HazelcastInstance instance) {
+        IMap<Integer, Person> map = instance.getMap(randomMapName());
+        for (int i = 0; i < 100; i++) {
+            map.put(i, new Person("name" + i, i, "city" + i % 10));
+        }
+        return map;
+    }
+
+    static IndexAdvisor getIndexAdvisor(HazelcastInstance instance) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        return mapServiceContext.getIndexAdvisor();
+    }
+
+    private static void assertIndex(IndexType expectedType, String expectedAttribute, IndexConfig actual) {
+        assertEquals(expectedType, actual.getType());
+        assertEquals(List.of(expectedAttribute), actual.getAttributes());
+    }
+
+    public static class Person implements Serializable {
+
+        private final String name;
+        private final int age;
+        private final String city;
+
+        Person(String name, int age, String city) {
+            this.name = name;
+            this.age = age;
+            this.city = city;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public String getCity() {
+            return city;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.record.SimpleRecord;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.QueryException;
+import com.hazelcast.query.impl.CachedQueryEntry;
+import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+
+import static com.hazelcast.spi.properties.ClusterProperty.INDEX_BUILD_PARALLELISM;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PartitionIndexBuilderTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 10 * PartitionIndexBuilder.CHUNK_SIZE + 10;
+
+    private final InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+    private final Extractors extractors = Extractors.newBuilder(ss).build();
+    private final Map<Object, Integer> indexed = new ConcurrentHashMap<>();
+    private final MapConfig mapConfig = new MapConfig();
+
+    private ExecutorService executor;
+    private MapContainer mapContainer;
+    private RecordStore recordStore;
+    private InternalIndex index;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        mapContainer = mock(MapContainer.class);
+        when(mapContainer.getMapConfig()).thenReturn(mapConfig);
+        when(mapContainer.getExtractors()).thenReturn(extractors);
+        when(mapContainer.newQueryEntry(any(), any())).thenAnswer(invocation ->
+                new CachedQueryEntry<>(ss, invocation.getArgument(0), invocation.getArgument(1), extractors));
+
+        recordStore = mock(RecordStore.class);
+        when(recordStore.size()).thenReturn(ENTRY_COUNT);
+        doAnswer(invocation -> {
+            BiConsumer<Data, Object> consumer = invocation.getArgument(0);
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                consumer.accept(ss.toData(i), new SimpleRecord<>(ss.toData(i)));
+            }
+            return null;
+        }).when(recordStore).forEach(any(BiConsumer.class), eq(false), eq(false));
+
+        index = mock(InternalIndex.class);
+        doAnswer(invocation -> {
+            CachedQueryEntry<?, ?> entry = invocation.getArgument(0);
+            indexed.merge(entry.getKey(), 1, Integer::sum);
+            return null;
+        }).when(index).putEntry(any(), any(), any(), any());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void populate() {
+        populate(new PartitionIndexBuilder(ss, executor, 4));
+
+        assertAllEntriesIndexedOnce();
+    }
+
+    @Test
+    public void populate_whenCacheDeserializedValuesNever() {
+        mapConfig.setCacheDeserializedValues(CacheDeserializedValues.NEVER);
+
+        populate(new PartitionIndexBuilder(ss, executor, 4));
+
+        assertAllEntriesIndexedOnce();
+    }
+
+    @Test
+    public void populate_whenHelpersDoNotRun() {
+        populate(new PartitionIndexBuilder(ss, command -> { }, 4));
+
+        assertAllEntriesIndexedOnce();
+    }
+
+    @Test
+    public void populate_whenHelpersAreRejected() {
+        populate(new PartitionIndexBuilder(ss, command -> {
+            throw new RejectedExecutionException();
+        }, 4));
+
+        assertAllEntriesIndexedOnce();
+    }
+
+    @Test
+    public void populate_whenNativeInMemoryFormat() {
+        mapConfig.setInMemoryFormat(InMemoryFormat.NATIVE);
+
+        populate(new PartitionIndexBuilder(ss, command -> {
+            throw new AssertionError("helpers must not be used for native maps");
+        }, 4));
+
+        assertAllEntriesIndexedOnce();
+    }
+
+    @Test
+    public void populate_whenIndexFails() {
+        doAnswer(invocation -> {
+            CachedQueryEntry<?, ?> entry = invocation.getArgument(0);
+            if (entry.getKey().equals(ENTRY_COUNT / 2)) {
+                throw new QueryException("expected");
+            }
+            return null;
+        }).when(index).putEntry(any(), any(), any(), any());
+
+        PartitionIndexBuilder builder = new PartitionIndexBuilder(ss, executor, 4);
+        assertThatThrownBy(() -> populate(builder))
+                .isInstanceOf(QueryException.class)
+                .hasMessage("expected");
+    }
+
+    @Test
+    public void testAddIndex() {
+        testAddIndex(4);
+    }
+
+    @Test
+    public void testAddIndex_whenParallelismIsOne() {
+        testAddIndex(1);
+    }
+
+    @Test
+    public void testMigration() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.PARTITION_COUNT.getName(), "3")
+                .setProperty(INDEX_BUILD_PARALLELISM.getName(), "4");
+        config.getMapConfig("map").addIndexConfig(new IndexConfig(IndexType.SORTED, "this"));
+        HazelcastInstance instance1 = factory.newHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance1.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(instance1, instance2);
+
+        assertEquals(2000, instance1.getMap("map").values(Predicates.between("this", 1000, 2999)).size());
+        assertEquals(2000, instance2.getMap("map").values(Predicates.between("this", 1000, 2999)).size());
+    }
+
+    private void testAddIndex(int parallelism) {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.PARTITION_COUNT.getName(), "3")
+                .setProperty(INDEX_BUILD_PARALLELISM.getName(), String.valueOf(parallelism));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        map.addIndex(IndexType.SORTED, "this");
+
+        assertEquals(2000, map.values(Predicates.between("this", 1000, 2999)).size());
+        assertEquals(1, map.getLocalMapStats().getIndexStats().values().iterator().next().getHitCount());
+    }
+
+    private void populate(PartitionIndexBuilder builder) {
+        builder.populate(mapContainer, recordStore, new InternalIndex[]{index}, Index.OperationSource.SYSTEM);
+    }
+
+    private void assertAllEntriesIndexedOnce() {
+        assertEquals(ENTRY_COUNT, indexed.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(Integer.valueOf(1), indexed.get(i));
+        }
+        assertNull(indexed.get(ENTRY_COUNT));
+    }
+}
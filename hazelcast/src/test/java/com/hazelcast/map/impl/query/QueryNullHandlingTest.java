@@ -191,7 +191,8 @@ public class QueryNullHandlingTest extends HazelcastTestSupport {
             return p instanceof EqualPredicate || p instanceof GreaterLessPredicate || p instanceof InPredicate
                     || p instanceof BetweenPredicate;
         } else if (indexType == BITMAP) {
-            return p instanceof EqualPredicate || p instanceof NotEqualPredicate || p instanceof InPredicate;
+            return p instanceof EqualPredicate || p instanceof NotEqualPredicate || p instanceof InPredicate
+                    || p instanceof GreaterLessPredicate || p instanceof BetweenPredicate;
         } else {
             throw new RuntimeException("Unexpected index type");
         }
@@ -23,10 +23,12 @@ import com.hazelcast.internal.partition.PartitionMigrationEvent;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.IterationType;
 import com.hazelcast.internal.util.SetUtil;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.map.IMap;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.QueryContext;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.predicates.EqualPredicate;
@@ -103,6 +105,59 @@ public class QueryRunnerTest extends HazelcastTestSupport {
         assertArrayEquals(result.getPartitionIds().toArray(), mapService.getMapServiceContext().getCachedOwnedPartitions().toArray());
     }
 
+    @Test
+    public void runFullQuery_whenPartitionIsNotIndexed() {
+        map.addIndex(IndexType.HASH, "this");
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        InternalIndex index = mapService.getMapServiceContext().getMapContainer(map.getName())
+                .getGlobalIndexRegistry().getIndexes()[0];
+        index.beginPartitionUpdate();
+        index.markPartitionAsUnindexed(partitionId);
+
+        Query query = Query.of()
+                .mapName(map.getName())
+                .predicate(Predicates.in("this", value, "value1"))
+                .iterationType(IterationType.ENTRY)
+                .partitionIdSet(SetUtil.allPartitionIds(instance.getPartitionService().getPartitions().size()))
+                .build();
+        QueryResult result = (QueryResult) queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(query);
+
+        // the index serves the indexed partitions, the other one is scanned
+        assertEquals(2, result.getRows().size());
+        assertEquals(1, index.getPerIndexStats().getHitCount());
+        assertArrayEquals(result.getPartitionIds().toArray(), mapService.getMapServiceContext().getCachedOwnedPartitions().toArray());
+    }
+
+    @Test
+    public void runPagingQuery_whenOnlyIndexedPartitionsAreQueried() {
+        map.addIndex(IndexType.HASH, "this");
+        Comparable[] values = new Comparable[100];
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + i, "value" + i);
+            values[i] = "value" + i;
+        }
+        InternalIndex index = mapService.getMapServiceContext().getMapContainer(map.getName())
+                .getGlobalIndexRegistry().getIndexes()[0];
+        index.beginPartitionUpdate();
+        index.markPartitionAsUnindexed(partitionId);
+
+        PartitionIdSet partitions = SetUtil.allPartitionIds(instance.getPartitionService().getPartitions().size());
+        partitions.remove(partitionId);
+        Query query = Query.of()
+                .mapName(map.getName())
+                .predicate(Predicates.pagingPredicate(Predicates.in("this", values), 5))
+                .iterationType(IterationType.ENTRY)
+                .partitionIdSet(partitions)
+                .build();
+        QueryResult result = (QueryResult) queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(query);
+
+        // no partition is left to scan, the entries from the index are still limited to the page
+        assertEquals(5, result.getRows().size());
+        assertEquals(1, index.getPerIndexStats().getHitCount());
+    }
+
     @Test
     public void verifyIndexedQueryFailureWhileMigrating() {
         map.addIndex(IndexType.HASH, "this");
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.util.IterationType;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.QueryResultSizeExceededException;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.QueryException;
+import com.hazelcast.query.impl.CachedQueryEntry;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.test.starter.ReflectionUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_PREDICATE_PARALLEL_EVALUATION;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_PREDICATE_PARALLEL_EVALUATION_WORK_STEALING;
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class WorkStealingPartitionScanExecutorTest extends HazelcastTestSupport {
+
+    private final InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+    private final Extractors extractors = Extractors.newBuilder(ss).build();
+
+    private ForkJoinPool pool;
+    private PartitionScanRunner runner;
+    private WorkStealingPartitionScanExecutor executor;
+
+    @Before
+    public void setUp() throws Exception {
+        pool = WorkStealingPartitionScanExecutor.newPool(4, "scan-", currentThread().getContextClassLoader());
+        IPartitionService partitionService = mock(IPartitionService.class);
+        when(partitionService.getPartitionCount()).thenReturn(271);
+        runner = mock(PartitionScanRunner.class);
+        ReflectionUtils.setFieldValueReflectively(runner, "partitionService", partitionService);
+        when(runner.runOnChunk(any(), any(), anyInt(), any())).thenCallRealMethod();
+        executor = new WorkStealingPartitionScanExecutor(runner, pool, 60000);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void execute_whenPartitionsAreSkewed() {
+        givenPartition(1, 100_000);
+        givenPartition(2, 10);
+        givenPartition(3, 0);
+        QueryResult queryResult = new QueryResult(IterationType.VALUE, null, ss, Long.MAX_VALUE, false);
+
+        executor.execute("Map", Predicates.lessThan("this", 50_000), asList(1, 2, 3), queryResult);
+
+        List<QueryResultRow> rows = queryResult.getRows();
+        assertEquals(50_010, rows.size());
+        assertEquals(3, queryResult.getPartitionIds().size());
+    }
+
+    @Test
+    public void execute_whenPartitionCannotBeScannedInChunks() {
+        Predicate<Object, Object> predicate = Predicates.equal("this", 1);
+        QueryResult queryResult = new QueryResult(IterationType.VALUE, null, ss, Long.MAX_VALUE, false);
+
+        executor.execute("Map", predicate, asList(1, 2), queryResult);
+
+        verify(runner).run(eq("Map"), eq(predicate), eq(1), any(QueryResult.class));
+        verify(runner).run(eq("Map"), eq(predicate), eq(2), any(QueryResult.class));
+        assertEquals(2, queryResult.getPartitionIds().size());
+    }
+
+    @Test
+    public void execute_fail() {
+        givenPartition(1, 10_000);
+        when(runner.scanInChunks(anyString(), eq(2), any())).thenThrow(new QueryException());
+        QueryResult queryResult = new QueryResult(IterationType.VALUE, null, ss, Long.MAX_VALUE, false);
+
+        assertThatThrownBy(() -> executor.execute("Map", Predicates.alwaysTrue(), asList(1, 2), queryResult))
+                .isInstanceOf(QueryException.class);
+    }
+
+    @Test
+    public void execute_whenResultSizeLimitIsExceeded() {
+        givenPartition(1, 10_000);
+        givenPartition(2, 10_000);
+        QueryResult queryResult = new QueryResult(IterationType.VALUE, null, ss, 15_000, false);
+
+        assertThatThrownBy(() -> executor.execute("Map", Predicates.alwaysTrue(), asList(1, 2), queryResult))
+                .isInstanceOf(QueryResultSizeExceededException.class);
+    }
+
+    @Test
+    public void testQueries() {
+        Config config = smallInstanceConfig()
+                .setProperty(QUERY_PREDICATE_PARALLEL_EVALUATION.getName(), "true")
+                .setProperty(QUERY_PREDICATE_PARALLEL_EVALUATION_WORK_STEALING.getName(), "true");
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i);
+        }
+
+        assertEquals(5_000, map.values(Predicates.lessThan("this", 5_000)).size());
+        assertEquals(10_000, map.keySet(Predicates.alwaysTrue()).size());
+        assertEquals(5_000, (long) map.aggregate(Aggregators.count(),
+                Predicates.greaterEqual("this", 5_000)));
+    }
+
+    private void givenPartition(int partitionId, int size) {
+        doAnswer(invocation -> {
+            PartitionScanRunner.ChunkConsumer consumer = invocation.getArgument(2);
+            int key = 0;
+            while (key < size) {
+                QueryableEntry[] chunk = new QueryableEntry[consumer.nextChunkSize()];
+                int count = 0;
+                while (count < chunk.length && key < size) {
+                    chunk[count++] = new CachedQueryEntry<>(ss, ss.toData(key), key, extractors);
+                    key++;
+                }
+                consumer.accept(chunk, count);
+            }
+            return true;
+        }).when(runner).scanInChunks(anyString(), eq(partitionId), any());
+    }
+}
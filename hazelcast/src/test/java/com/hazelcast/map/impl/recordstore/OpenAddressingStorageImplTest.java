@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.SimpleRecord;
+import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadata;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OpenAddressingStorageImplTest {
+
+    private SerializationService serializationService;
+    private OpenAddressingStorageImpl<Record> storage;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        ExpirySystem expirySystem = mock(ExpirySystem.class);
+        when(expirySystem.getExpiryMetadata(any())).thenReturn(ExpiryMetadata.NULL);
+        storage = new OpenAddressingStorageImpl<>(BINARY, expirySystem, serializationService);
+    }
+
+    @After
+    public void tearDown() {
+        storage.destroy(false);
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        for (int i = 0; i < 1000; i++) {
+            storage.put(key(i), record(i));
+        }
+        assertEquals(1000, storage.size());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, storage.get(key(i)).getValue());
+        }
+        assertNull(storage.get(key(1000)));
+
+        for (int i = 0; i < 1000; i += 2) {
+            Data key = key(i);
+            storage.removeRecord(key, storage.get(key));
+        }
+        assertEquals(500, storage.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, storage.containsKey(key(i)));
+        }
+    }
+
+    @Test
+    public void testPut_replacesRecordOfExistingKey() {
+        storage.put(key(1), record(1));
+        Record replacement = record(2);
+        storage.put(key(1), replacement);
+
+        assertEquals(1, storage.size());
+        assertSame(replacement, storage.get(key(1)));
+    }
+
+    @Test
+    public void testUpdateRecordValue() {
+        Record record = record(1);
+        storage.put(key(1), record);
+
+        storage.updateRecordValue(key(1), record, 5);
+
+        assertEquals(5, (int) serializationService.toObject(storage.get(key(1)).getValue()));
+    }
+
+    @Test
+    public void testKeysWithCollidingHashes() {
+        for (int i = 0; i < 10; i++) {
+            storage.put(collidingKey(i), record(i));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, storage.get(collidingKey(i)).getValue());
+        }
+
+        // removing a key in the middle of the collision chain
+        storage.removeRecord(collidingKey(3), storage.get(collidingKey(3)));
+
+        assertEquals(9, storage.size());
+        assertNull(storage.get(collidingKey(3)));
+        for (int i = 0; i < 10; i++) {
+            if (i != 3) {
+                assertEquals(i, storage.get(collidingKey(i)).getValue());
+            }
+        }
+    }
+
+    @Test
+    public void testRemovedIdsAreReused() {
+        for (int i = 0; i < 100; i++) {
+            storage.put(key(i), record(i));
+        }
+        for (int i = 0; i < 100; i++) {
+            storage.removeRecord(key(i), storage.get(key(i)));
+        }
+        for (int i = 100; i < 200; i++) {
+            storage.put(key(i), record(i));
+        }
+
+        assertEquals(100, storage.size());
+        for (int i = 100; i < 200; i++) {
+            assertEquals(i, storage.get(key(i)).getValue());
+        }
+    }
+
+    @Test
+    public void testKeysAreCompacted_whenMostOfThemAreRemoved() {
+        int count = 20_000;
+        for (int i = 0; i < count; i++) {
+            storage.put(key(i), record(i));
+        }
+        for (int i = 10; i < count; i++) {
+            storage.removeRecord(key(i), storage.get(key(i)));
+        }
+
+        assertEquals(10, storage.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, storage.get(key(i)).getValue());
+        }
+        assertEquals(10, collectKeys(1).size());
+    }
+
+    @Test
+    public void testFetchKeys_visitsAllEntriesOnce() {
+        for (int i = 0; i < 1000; i++) {
+            storage.put(key(i), record(i));
+        }
+
+        Set<Data> keys = collectKeys(7);
+
+        assertEquals(1000, keys.size());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(keys.contains(key(i)));
+        }
+    }
+
+    @Test
+    public void testFetchEntries() {
+        for (int i = 0; i < 100; i++) {
+            storage.put(key(i), record(i));
+        }
+
+        int count = 0;
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        while (pointers[pointers.length - 1].getIndex() >= 0) {
+            MapEntriesWithCursor cursor = storage.fetchEntries(pointers, 10);
+            for (Map.Entry<Data, Data> entry : cursor.getBatch()) {
+                int key = serializationService.toObject(entry.getKey());
+                assertEquals(key, (int) serializationService.toObject(entry.getValue()));
+                count++;
+            }
+            pointers = cursor.getIterationPointers();
+        }
+        assertEquals(100, count);
+    }
+
+    @Test
+    public void testIteratedKeys_behaveAsHeapData() {
+        for (int i = 0; i < 100; i++) {
+            storage.put(key(i), record(i));
+        }
+
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        while (iterator.hasNext()) {
+            Data key = iterator.next().getKey();
+            int i = serializationService.toObject(key);
+            Data heapKey = key(i);
+
+            assertEquals(heapKey, key);
+            assertEquals(key, heapKey);
+            assertEquals(heapKey.hashCode(), key.hashCode());
+            assertEquals(heapKey.hash64(), key.hash64());
+            assertEquals(heapKey.getPartitionHash(), key.getPartitionHash());
+            assertEquals(heapKey.getType(), key.getType());
+            assertArrayEquals(heapKey.toByteArray(), key.toByteArray());
+            assertEquals(i, storage.get(key).getValue());
+        }
+    }
+
+    @Test
+    public void testFetchKeys_whenEmpty() {
+        MapKeysWithCursor cursor = storage.fetchKeys(new IterationPointer[]{new IterationPointer(Integer.MAX_VALUE, -1)}, 10);
+
+        assertTrue(cursor.getBatch().isEmpty());
+        assertTrue(cursor.getIterationPointers()[0].getIndex() < 0);
+    }
+
+    @Test
+    public void testGetRandomSamples() {
+        for (int i = 0; i < 100; i++) {
+            storage.put(key(i), record(i));
+        }
+
+        Set<Object> sampledKeys = new HashSet<>();
+        for (EntryView sample : storage.getRandomSamples(15)) {
+            sampledKeys.add(sample.getKey());
+            Data dataKey = storage.extractDataKeyFromLazy(sample);
+            assertTrue(storage.containsKey(dataKey));
+        }
+        assertEquals(15, sampledKeys.size());
+    }
+
+    @Test
+    public void testGetRandomSamples_whenSampleCountIsLargerThanSize() {
+        for (int i = 0; i < 5; i++) {
+            storage.put(key(i), record(i));
+        }
+
+        int count = 0;
+        for (EntryView ignored : storage.getRandomSamples(15)) {
+            count++;
+        }
+        assertEquals(5, count);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetRandomSamples_whenNegativeSampleCount() {
+        storage.getRandomSamples(-1);
+    }
+
+    @Test
+    public void testMutationTolerantIterator() {
+        for (int i = 0; i < 100; i++) {
+            storage.put(key(i), record(i));
+        }
+
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            Map.Entry<Data, Record> entry = iterator.next();
+            storage.removeRecord(entry.getKey(), entry.getValue());
+            count++;
+        }
+
+        assertEquals(100, count);
+        assertTrue(storage.isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < 100; i++) {
+            storage.put(key(i), record(i));
+        }
+
+        storage.clear(false);
+
+        assertEquals(0, storage.size());
+        assertFalse(storage.containsKey(key(1)));
+        assertFalse(storage.mutationTolerantIterator().hasNext());
+
+        storage.put(key(1), record(1));
+        assertEquals(1, storage.get(key(1)).getValue());
+    }
+
+    private Set<Data> collectKeys(int batchSize) {
+        Set<Data> keys = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        while (pointers[pointers.length - 1].getIndex() >= 0) {
+            MapKeysWithCursor cursor = storage.fetchKeys(pointers, batchSize);
+            for (Data key : cursor.getBatch()) {
+                assertTrue("Key returned twice: " + key, keys.add(key));
+            }
+            pointers = cursor.getIterationPointers();
+        }
+        return keys;
+    }
+
+    private Data key(int i) {
+        return serializationService.toData(i);
+    }
+
+    private Data collidingKey(int i) {
+        return new HeapData(key(i).toByteArray()) {
+            @Override
+            public long hash64() {
+                return 42;
+            }
+        };
+    }
+
+    private static Record record(int value) {
+        return new SimpleRecord<>(value);
+    }
+}
@@ -17,6 +17,7 @@
 package com.hazelcast.nio;
 
 import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.nio.PacketBufferAllocator;
 import com.hazelcast.internal.nio.PacketIOHelper;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationService;
@@ -43,8 +44,11 @@ import static com.hazelcast.internal.serialization.impl.SerializationConcurrency
 import static com.hazelcast.internal.serialization.impl.SerializationConcurrencyTest.PortableAddress;
 import static com.hazelcast.internal.serialization.impl.SerializationConcurrencyTest.PortablePerson;
 import static org.junit.Assert.assertArrayEquals;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -187,6 +191,78 @@ public class PacketIOHelperTest extends HazelcastTestSupport {
         assertPacketEquals(originalPacket, clonedPacket);
     }
 
+    @Test
+    public void pooledPayload_whenLargeOperation() {
+        PacketIOHelper pooledReader = new PacketIOHelper(new PacketBufferAllocator(1024), 1024);
+        Packet originalPacket = new Packet(generateRandomString(100000).getBytes(), 5)
+                .setPacketType(Packet.Type.OPERATION);
+
+        Packet clonedPacket = writeAndRead(originalPacket, pooledReader);
+
+        assertTrue(clonedPacket.isPooled());
+        assertEquals(originalPacket.totalSize(), clonedPacket.totalSize());
+        assertEquals(originalPacket.getPartitionId(), clonedPacket.getPartitionId());
+        assertEquals(originalPacket, clonedPacket);
+        byte[] copy = new byte[clonedPacket.totalSize()];
+        clonedPacket.copyTo(copy, 0);
+        assertArrayEquals(originalPacket.toByteArray(), copy);
+
+        clonedPacket.release();
+        assertFalse(clonedPacket.isPooled());
+        assertEquals(0, clonedPacket.totalSize());
+    }
+
+    @Test
+    public void pooledPayload_reusedAfterRelease() {
+        PacketIOHelper pooledReader = new PacketIOHelper(new PacketBufferAllocator(1024), 1024);
+        Packet packet1 = new Packet(generateRandomString(5000).getBytes()).setPacketType(Packet.Type.OPERATION);
+        Packet packet2 = new Packet(generateRandomString(3000).getBytes()).setPacketType(Packet.Type.OPERATION);
+
+        Packet clonedPacket1 = writeAndRead(packet1, pooledReader);
+        byte[] buffer = clonedPacket1.toByteArray();
+        clonedPacket1.release();
+        Packet clonedPacket2 = writeAndRead(packet2, pooledReader);
+
+        assertSame(buffer, clonedPacket2.toByteArray());
+        assertEquals(packet2, clonedPacket2);
+    }
+
+    @Test
+    public void notPooled_whenBelowThreshold() {
+        PacketIOHelper pooledReader = new PacketIOHelper(new PacketBufferAllocator(1024), 1024);
+        Packet originalPacket = new Packet(generateRandomString(1000).getBytes()).setPacketType(Packet.Type.OPERATION);
+
+        Packet clonedPacket = writeAndRead(originalPacket, pooledReader);
+
+        assertFalse(clonedPacket.isPooled());
+        assertPacketEquals(originalPacket, clonedPacket);
+    }
+
+    @Test
+    public void notPooled_whenNotAnOperation() {
+        PacketIOHelper pooledReader = new PacketIOHelper(new PacketBufferAllocator(1024), 1024);
+        Packet response = new Packet(generateRandomString(5000).getBytes())
+                .setPacketType(Packet.Type.OPERATION)
+                .raiseFlags(FLAG_OP_RESPONSE);
+        Packet event = new Packet(generateRandomString(5000).getBytes()).setPacketType(Packet.Type.EVENT);
+
+        assertFalse(writeAndRead(response, pooledReader).isPooled());
+        assertFalse(writeAndRead(event, pooledReader).isPooled());
+    }
+
+    private Packet writeAndRead(Packet originalPacket, PacketIOHelper reader) {
+        Packet clonedPacket;
+        ByteBuffer bb = ByteBuffer.allocate(1000);
+        boolean writeCompleted;
+        do {
+            writeCompleted = packetWriter.writeTo(originalPacket, bb);
+            bb.flip();
+            clonedPacket = reader.readFrom(bb);
+            bb.compact();
+        } while (!writeCompleted);
+        return clonedPacket;
+    }
+
     private static void assertPacketEquals(Packet originalPacket, Packet clonedPacket) {
         assertEquals(originalPacket.getFlags(), clonedPacket.getFlags());
         assertArrayEquals(originalPacket.toByteArray(), clonedPacket.toByteArray());
@@ -188,7 +188,7 @@ public class OrderedIndexStoreTest {
         assertFalse(expectedKeyOrder.hasNext());
     }
 
-    private static class DummyEntry extends QueryEntry {
+    static class DummyEntry extends QueryEntry {
         Integer key;
         int value;
         Data keyData;
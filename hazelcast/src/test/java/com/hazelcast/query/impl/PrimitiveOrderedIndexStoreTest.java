@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the {@link OrderedIndexStoreTest} suite against the primitive store
+ * and compares it with an {@link OrderedIndexStore} on random content.
+ */
+public class PrimitiveOrderedIndexStoreTest extends OrderedIndexStoreTest {
+
+    {
+        store = new PrimitiveOrderedIndexStore(IndexCopyBehavior.COPY_ON_WRITE);
+    }
+
+    @Test
+    public void testRandomContent_matchesOrderedIndexStore() {
+        for (IndexCopyBehavior copyBehavior : IndexCopyBehavior.values()) {
+            PrimitiveOrderedIndexStore actual = new PrimitiveOrderedIndexStore(copyBehavior);
+            OrderedIndexStore expected = new OrderedIndexStore(copyBehavior);
+            Random random = new Random();
+            Comparable[] values = new Comparable[5_000];
+            for (int i = 0; i < 50_000; i++) {
+                int key = random.nextInt(values.length);
+                if (values[key] != null) {
+                    assertEquals(keyOf(expected.removeInternal(values[key], entry(key).getKeyData())),
+                            keyOf(actual.removeInternal(values[key], entry(key).getKeyData())));
+                    values[key] = null;
+                }
+                if (random.nextInt(4) != 0) {
+                    // mostly distinct values, some duplicates and some nulls
+                    values[key] = random.nextInt(20) == 0 ? NULL : (long) random.nextInt(20_000) - 10_000;
+                    assertEquals(keyOf(expected.insertInternal(values[key], entry(key))),
+                            keyOf(actual.insertInternal(values[key], entry(key))));
+                }
+            }
+
+            assertSameResults(expected, actual, random);
+        }
+    }
+
+    @Test
+    public void testSwitchToSkipList_whenValueCannotBeEncoded() {
+        PrimitiveOrderedIndexStore actual = new PrimitiveOrderedIndexStore(IndexCopyBehavior.COPY_ON_READ);
+        OrderedIndexStore expected = new OrderedIndexStore(IndexCopyBehavior.COPY_ON_READ);
+        for (int i = 0; i < 1_000; i++) {
+            Comparable value = i == 500 ? 500L : i % 300;
+            expected.insertInternal(value, entry(i));
+            actual.insertInternal(value, entry(i));
+        }
+
+        assertSameResults(expected, actual, new Random());
+    }
+
+    @Test
+    public void testTemporalValues() {
+        PrimitiveOrderedIndexStore actual = new PrimitiveOrderedIndexStore(IndexCopyBehavior.COPY_ON_READ);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < 1_000; i++) {
+            actual.insertInternal(start.plusSeconds(i).plusNanos(i), entry(i));
+        }
+
+        Set<QueryableEntry> records = actual.getRecords(start.plusSeconds(100), true, start.plusSeconds(200), false);
+        assertEquals(100, records.size());
+
+        Iterator<IndexKeyEntries> iterator = actual.getSqlRecordIteratorBatch(Comparison.GREATER, start.plusSeconds(997), true);
+        assertEquals(start.plusSeconds(999).plusNanos(999), iterator.next().getIndexKey());
+        assertEquals(start.plusSeconds(998).plusNanos(998), iterator.next().getIndexKey());
+        assertEquals(start.plusSeconds(997).plusNanos(997), iterator.next().getIndexKey());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testArgumentsWhichCannotBeEncoded() {
+        PrimitiveOrderedIndexStore actual = new PrimitiveOrderedIndexStore(IndexCopyBehavior.COPY_ON_READ);
+        for (int i = 0; i < 100; i++) {
+            actual.insertInternal(i, entry(i));
+        }
+
+        assertEquals(1, actual.getRecords(5.0).size());
+        assertEquals(0, actual.getRecords(5.5).size());
+        assertEquals(5, actual.getRecords(4.5, false, 9.5, true).size());
+        assertEquals(50, actual.getRecords(Comparison.GREATER, 49.5).size());
+        assertEquals(3, actual.getRecords(Set.of(5L, 7.0, (short) 9, 200)).size());
+    }
+
+    @Test
+    public void testClear() {
+        PrimitiveOrderedIndexStore actual = new PrimitiveOrderedIndexStore(IndexCopyBehavior.COPY_ON_READ);
+        actual.insertInternal(1, entry(1));
+        actual.insertInternal(2L, entry(2));
+
+        actual.clear();
+        actual.insertInternal(3, entry(3));
+
+        assertEquals(0, actual.getRecords(1).size());
+        assertEquals(1, actual.getRecords(3).size());
+    }
+
+    private static void assertSameResults(OrderedIndexStore expected, PrimitiveOrderedIndexStore actual, Random random) {
+        assertEquals(keys(expected.getSqlRecordIteratorBatch(false)), keys(actual.getSqlRecordIteratorBatch(false)));
+        assertEquals(keys(expected.getSqlRecordIteratorBatch(true)), keys(actual.getSqlRecordIteratorBatch(true)));
+        assertEquals(keySet(expected.getRecords(NULL)), keySet(actual.getRecords(NULL)));
+
+        for (int i = 0; i < 200; i++) {
+            long from = random.nextInt(22_000) - 11_000;
+            long to = from + random.nextInt(2_000);
+            boolean fromInclusive = random.nextBoolean();
+            boolean toInclusive = random.nextBoolean();
+            boolean descending = random.nextBoolean();
+            Comparable lower = random.nextInt(10) == 0 ? NULL : from;
+            Comparable upper = random.nextInt(10) == 0 ? POSITIVE_INFINITY : to;
+
+            assertEquals(keySet(expected.getRecords(from)), keySet(actual.getRecords(from)));
+            assertEquals(keySet(expected.getRecords(lower, fromInclusive, upper, toInclusive)),
+                    keySet(actual.getRecords(lower, fromInclusive, upper, toInclusive)));
+            Set<Comparable> values = new HashSet<>(Arrays.asList(from, to, NULL));
+            assertEquals(keySet(expected.getRecords(values)), keySet(actual.getRecords(values)));
+            assertEquals(keys(expected.getSqlRecordIteratorBatch(lower, fromInclusive, upper, toInclusive, descending)),
+                    keys(actual.getSqlRecordIteratorBatch(lower, fromInclusive, upper, toInclusive, descending)));
+
+            // resume from an entry of the bound value
+            Iterator<IndexKeyEntries> boundEntries = expected.getSqlRecordIteratorBatch(descending ? upper : lower, descending);
+            if (boundEntries.hasNext()) {
+                Data lastEntryKeyData = boundEntries.next().getEntries().next().getKeyData();
+                assertEquals(keys(expected.getSqlRecordIteratorBatch(lower, true, upper, true, descending, lastEntryKeyData)),
+                        keys(actual.getSqlRecordIteratorBatch(lower, true, upper, true, descending, lastEntryKeyData)));
+                assertEquals(keys(expected.getSqlRecordIteratorBatch(from, descending, lastEntryKeyData)),
+                        keys(actual.getSqlRecordIteratorBatch(from, descending, lastEntryKeyData)));
+            }
+        }
+    }
+
+    private static List<Object> keys(Iterator<IndexKeyEntries> iterator) {
+        List<Object> keys = new ArrayList<>();
+        while (iterator.hasNext()) {
+            IndexKeyEntries indexKeyEntries = iterator.next();
+            keys.add(indexKeyEntries.getIndexKey());
+            indexKeyEntries.getEntries().forEachRemaining(entry -> keys.add(entry.getKey()));
+        }
+        return keys;
+    }
+
+    private static Set<Object> keySet(Set<QueryableEntry> records) {
+        Set<Object> keys = new HashSet<>();
+        for (QueryableEntry record : records) {
+            assertTrue(keys.add(record.getKey()));
+        }
+        assertEquals(records.size(), keys.size());
+        return keys;
+    }
+
+    private static Object keyOf(Object entry) {
+        return entry == null ? null : ((QueryableEntry) entry).getKey();
+    }
+
+    private static DummyEntry entry(int key) {
+        DummyEntry entry = new DummyEntry(key, key);
+        // the payload makes the key data unique, not only its partition hash
+        entry.keyData = new HeapData(ByteBuffer.allocate(12).putInt(key).putInt(0).putInt(key).array());
+        return entry;
+    }
+}
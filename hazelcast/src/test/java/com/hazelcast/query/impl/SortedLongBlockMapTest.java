@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SortedLongBlockMapTest {
+
+    private final SortedLongBlockMap<Long> map = new SortedLongBlockMap<>();
+
+    @Test
+    public void testEmpty() {
+        assertNull(map.get(0));
+        assertNull(map.remove(0));
+        assertFalse(map.cursor(Long.MIN_VALUE, Long.MAX_VALUE, false).advance());
+        assertFalse(map.cursor(Long.MIN_VALUE, Long.MAX_VALUE, true).advance());
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        assertNull(map.put(1, 10L));
+        assertEquals(10L, (long) map.put(1, 11L));
+        assertEquals(11L, (long) map.get(1));
+        assertEquals(1, map.size());
+
+        assertEquals(11L, (long) map.remove(1));
+        assertNull(map.get(1));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testExtremeKeys() {
+        map.put(Long.MIN_VALUE, 1L);
+        map.put(Long.MAX_VALUE, 2L);
+
+        assertEquals(List.of(Long.MIN_VALUE, Long.MAX_VALUE), keys(Long.MIN_VALUE, Long.MAX_VALUE, false));
+        assertEquals(List.of(Long.MAX_VALUE, Long.MIN_VALUE), keys(Long.MIN_VALUE, Long.MAX_VALUE, true));
+    }
+
+    @Test
+    public void testEmptyRange() {
+        map.put(1, 1L);
+
+        assertFalse(map.cursor(2, 1, false).advance());
+        assertFalse(map.cursor(2, 1, true).advance());
+    }
+
+    @Test
+    public void testRandomOperations_matchTreeMap() {
+        Random random = new Random();
+        NavigableMap<Long, Long> expected = new TreeMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            }
+            if (i % 10_000 == 0) {
+                assertContent(expected);
+            }
+        }
+        assertContent(expected);
+
+        for (int i = 0; i < 1_000; i++) {
+            long from = random.nextInt(5_100) - 50;
+            long to = from + random.nextInt(500);
+            assertEquals(new ArrayList<>(expected.subMap(from, true, to, true).keySet()), keys(from, to, false));
+            assertEquals(new ArrayList<>(expected.subMap(from, true, to, true).descendingKeySet()), keys(from, to, true));
+        }
+
+        for (Long key : new ArrayList<>(expected.keySet())) {
+            assertEquals(expected.remove(key), map.remove(key));
+        }
+        assertEquals(0, map.size());
+        assertFalse(map.cursor(Long.MIN_VALUE, Long.MAX_VALUE, false).advance());
+    }
+
+    @Test
+    public void testCursor_whenMapIsMutatedConcurrently() throws Exception {
+        // even keys are stable, odd keys come and go
+        for (long key = 0; key < 10_000; key += 2) {
+            map.put(key, key);
+        }
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            try {
+                while (!stop.get()) {
+                    for (boolean descending : new boolean[]{false, true}) {
+                        SortedLongBlockMap.Cursor<Long> cursor = map.cursor(Long.MIN_VALUE, Long.MAX_VALUE, descending);
+                        long expectedEven = descending ? 9_998 : 0;
+                        while (cursor.advance()) {
+                            assertEquals(cursor.key(), (long) cursor.value());
+                            if (cursor.key() % 2 == 0) {
+                                assertEquals(expectedEven, cursor.key());
+                                expectedEven += descending ? -2 : 2;
+                            }
+                        }
+                        assertEquals(descending ? -2 : 10_000, expectedEven);
+                    }
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                done.countDown();
+            }
+        });
+        reader.start();
+
+        Random random = new Random();
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000) * 2L + 1;
+            if (random.nextBoolean()) {
+                map.put(key, key);
+            } else {
+                map.remove(key);
+            }
+        }
+        stop.set(true);
+        done.await();
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    private void assertContent(NavigableMap<Long, Long> expected) {
+        assertEquals(expected.size(), map.size());
+        SortedLongBlockMap.Cursor<Long> cursor = map.cursor(Long.MIN_VALUE, Long.MAX_VALUE, false);
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertTrue(cursor.advance());
+            assertEquals((long) entry.getKey(), cursor.key());
+            assertEquals(entry.getValue(), cursor.value());
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        assertFalse(cursor.advance());
+    }
+
+    private List<Long> keys(long from, long to, boolean descending) {
+        List<Long> keys = new ArrayList<>();
+        SortedLongBlockMap.Cursor<Long> cursor = map.cursor(from, to, descending);
+        while (cursor.advance()) {
+            keys.add(cursor.key());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.bitmap;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BitSlicesTest {
+
+    private static final long[] BOUNDS = {Long.MIN_VALUE, Long.MIN_VALUE + 1, Integer.MIN_VALUE, -1000, -1, 0, 1, 7, 8,
+            500, 1000, Integer.MAX_VALUE, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+    private final BitSlices actual = new BitSlices();
+    private final Map<Long, Long> expected = new HashMap<>();
+
+    @Test
+    public void testEmpty() {
+        verifyRanges();
+    }
+
+    @Test
+    public void testSingleValue() {
+        insert(10, 500);
+        verifyRanges();
+
+        remove(10);
+        verifyRanges();
+
+        insert(10, -500);
+        verifyRanges();
+    }
+
+    @Test
+    public void testExtremeValues() {
+        insert(0, Long.MIN_VALUE);
+        insert(1, Long.MAX_VALUE);
+        insert(2, 0);
+        insert(3, -1);
+        insert(4, 1);
+        verifyRanges();
+
+        remove(2);
+        remove(4);
+        verifyRanges();
+    }
+
+    @Test
+    public void testRandom() {
+        long seed = System.nanoTime();
+        System.out.println(getClass().getSimpleName() + ".testRandom seed: " + seed);
+        Random random = new Random(seed);
+
+        for (int i = 0; i < 2000; ++i) {
+            insert(i, random.nextInt(2000) - 1000);
+        }
+        verifyRanges();
+
+        for (int i = 0; i < 2000; i += 3) {
+            remove(i);
+        }
+        verifyRanges();
+
+        for (int i = 2000; i < 3000; ++i) {
+            insert(i, random.nextLong());
+        }
+        verifyRanges();
+        verifyRandomRanges(random);
+
+        actual.clear();
+        expected.clear();
+        verifyRanges();
+
+        for (int i = 0; i < 1000; ++i) {
+            insert(random.nextInt(1_000_000), random.nextInt(16));
+        }
+        verifyRanges();
+    }
+
+    private void insert(long key, long value) {
+        Long previous = expected.put(key, value);
+        if (previous != null) {
+            actual.remove(key, previous);
+        }
+        actual.insert(key, value);
+    }
+
+    private void remove(long key) {
+        actual.remove(key, expected.remove(key));
+    }
+
+    private void verifyRanges() {
+        verifyRange(null, false, null, false);
+        for (long from : BOUNDS) {
+            verifyRange(from, true, null, false);
+            verifyRange(from, false, null, false);
+            verifyRange(null, false, from, true);
+            verifyRange(null, false, from, false);
+            for (long to : BOUNDS) {
+                verifyRange(from, true, to, true);
+                verifyRange(from, false, to, true);
+                verifyRange(from, true, to, false);
+                verifyRange(from, false, to, false);
+            }
+        }
+    }
+
+    private void verifyRandomRanges(Random random) {
+        for (int i = 0; i < 100; ++i) {
+            long from = random.nextLong();
+            long to = random.nextLong();
+            verifyRange(Math.min(from, to), random.nextBoolean(), Math.max(from, to), random.nextBoolean());
+        }
+    }
+
+    private void verifyRange(Long from, boolean fromInclusive, Long to, boolean toInclusive) {
+        SortedSet<Long> expectedKeys = new TreeSet<>();
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            long value = entry.getValue();
+            boolean matches = from == null || (fromInclusive ? value >= from : value > from);
+            matches &= to == null || (toInclusive ? value <= to : value < to);
+            if (matches) {
+                expectedKeys.add(entry.getKey());
+            }
+        }
+
+        String range = (fromInclusive ? "[" : "(") + from + ", " + to + (toInclusive ? "]" : ")");
+        AscendingLongIterator iterator = actual.range(from, fromInclusive, to, toInclusive);
+        for (Long expectedKey : expectedKeys) {
+            assertEquals(range, (long) expectedKey, iterator.advance());
+        }
+        assertEquals(range, AscendingLongIterator.END, iterator.advance());
+    }
+
+}
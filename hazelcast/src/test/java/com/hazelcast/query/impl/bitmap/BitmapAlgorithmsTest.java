@@ -206,6 +206,37 @@ public class BitmapAlgorithmsTest {
         verifyNotAndThenClear();
     }
 
+    @Test
+    public void testAndNot() {
+        long seed = System.nanoTime();
+        System.out.println(getClass().getSimpleName() + ".testAndNot seed: " + seed);
+
+        generate(0, 100, 1);
+        actual.add(new SparseBitSet());
+        expected.add(new TreeSet<>());
+        verifyAndNotAndThenClear();
+
+        generate(0, 75000, 1);
+        generate(100, 40000, 2);
+        verifyAndNotAndThenClear();
+
+        generate(100, 40000, 2);
+        generate(0, 75000, 1);
+        verifyAndNotAndThenClear();
+
+        generate(0, 30000, 3);
+        generate(2000000, 30000, 3);
+        verifyAndNotAndThenClear();
+
+        generateRandom(seed, 50000, 100000);
+        generateRandom(seed + 1, 50000, 100000);
+        verifyAndNotAndThenClear();
+
+        generateRandom(seed, 100000, -1);
+        generateRandom(seed, 50000, -1);
+        verifyAndNotAndThenClear();
+    }
+
     private void verifyAnd() {
         assert !actual.isEmpty();
         assert !expected.isEmpty();
@@ -283,6 +314,30 @@ public class BitmapAlgorithmsTest {
         expectedUniverse.clear();
     }
 
+    private void verifyAndNotAndThenClear() {
+        assert actual.size() == 2;
+        assert expected.size() == 2;
+
+        TreeSet<Long> expectedResult = new TreeSet<>(expected.get(0));
+        expectedResult.removeAll(expected.get(1));
+
+        verify(andNot(), expectedResult);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, 1);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, 2);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, 5);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, Short.MAX_VALUE);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, Integer.MAX_VALUE);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, Long.MAX_VALUE / 2);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, Long.MAX_VALUE);
+
+        actual.clear();
+        expected.clear();
+    }
+
+    private AscendingLongIterator andNot() {
+        return BitmapAlgorithms.andNot(actual.get(0).iterator(), actual.get(1).iterator());
+    }
+
     private AscendingLongIterator[] actualIterators() {
         AscendingLongIterator[] actualIterators = new AscendingLongIterator[actual.size()];
         for (int i = 0; i < actual.size(); ++i) {
@@ -32,14 +32,21 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.LongUnaryOperator;
 
 import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.between;
 import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.greaterEqual;
+import static com.hazelcast.query.Predicates.greaterThan;
 import static com.hazelcast.query.Predicates.in;
+import static com.hazelcast.query.Predicates.lessEqual;
+import static com.hazelcast.query.Predicates.lessThan;
 import static com.hazelcast.query.Predicates.not;
 import static com.hazelcast.query.Predicates.notEqual;
 import static com.hazelcast.query.Predicates.or;
 import static com.hazelcast.query.impl.TypeConverters.INTEGER_CONVERTER;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
@@ -52,7 +59,7 @@ public class BitmapTest {
     private static final Predicate[] actualQueries;
 
     static {
-        actualQueries = new Predicate[10];
+        actualQueries = new Predicate[13];
         actualQueries[0] = notEqual("a", "0");
         actualQueries[1] = equal("a", 1L);
         actualQueries[2] = equal("a", 2);
@@ -69,12 +76,17 @@ public class BitmapTest {
         // single-predicate and/or
         actualQueries[8] = or(equal("a", 1.0D));
         actualQueries[9] = and(equal("a", 1.0F));
+
+        // ranges
+        actualQueries[10] = greaterEqual("a", 5);
+        actualQueries[11] = lessThan("a", 2L);
+        actualQueries[12] = and(between("a", 3, 4), not(equal("a", 4)));
     }
 
     private final ExpectedQuery[] expectedQueries;
 
     {
-        expectedQueries = new ExpectedQuery[10];
+        expectedQueries = new ExpectedQuery[13];
         expectedQueries[0] = new ExpectedQuery(value -> !bit(0, value));
         expectedQueries[1] = new ExpectedQuery(value -> bit(1, value));
         expectedQueries[2] = new ExpectedQuery(value -> bit(2, value));
@@ -87,6 +99,9 @@ public class BitmapTest {
                 value -> !(!bit(0, value) && (bit(1, value) || bit(2, value)) && !(bit(3, value) || bit(4, value))));
         expectedQueries[8] = new ExpectedQuery(value -> bit(1, value));
         expectedQueries[9] = new ExpectedQuery(value -> bit(1, value));
+        expectedQueries[10] = new ExpectedQuery(value -> value >= 1L << 5);
+        expectedQueries[11] = new ExpectedQuery(value -> bit(0, value) || bit(1, value));
+        expectedQueries[12] = new ExpectedQuery(value -> bit(3, value) && !bit(4, value));
     }
 
     private final Bitmap<String> bitmap = new Bitmap<>();
@@ -145,6 +160,28 @@ public class BitmapTest {
         clear();
     }
 
+    @Test
+    public void testRangesOnSingleValues() {
+        Bitmap<String> bitmap = new Bitmap<>();
+        for (long i = 0; i < COUNT; ++i) {
+            bitmap.insert(singletonList((int) (i % 100 - 50)).iterator(), i, Long.toString(i), operationStats);
+        }
+        verifyRanges(bitmap, value -> value % 100 - 50);
+
+        for (long i = 0; i < COUNT; i += 2) {
+            bitmap.update(singletonList((int) (i % 100 - 50)).iterator(), singletonList(i).iterator(), i,
+                    Long.toString(i), operationStats);
+        }
+        LongUnaryOperator values = value -> value % 2 == 0 ? value : value % 100 - 50;
+        verifyRanges(bitmap, values);
+
+        // non-integral values are not bit-sliced
+        bitmap.insert(singletonList("value").iterator(), COUNT, "value", operationStats);
+        verifyRanges(bitmap, values);
+        bitmap.remove(singletonList("value").iterator(), COUNT, operationStats);
+        verifyRanges(bitmap, values);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testUnexpectedPredicate() {
         bitmap.evaluate(Predicates.like("a", "b"), INTEGER_CONVERTER);
@@ -188,6 +225,25 @@ public class BitmapTest {
         }
     }
 
+    private static void verifyRanges(Bitmap<String> bitmap, LongUnaryOperator values) {
+        verifyRange(bitmap, values, greaterThan("a", 10), value -> value > 10);
+        verifyRange(bitmap, values, lessEqual("a", -10L), value -> value <= -10);
+        verifyRange(bitmap, values, between("a", -5, 5), value -> value >= -5 && value <= 5);
+        verifyRange(bitmap, values, and(greaterEqual("a", 40), lessThan("a", 500)), value -> value >= 40 && value < 500);
+        verifyRange(bitmap, values, or(lessThan("a", -45), greaterThan("a", "900")), value -> value < -45 || value > 900);
+    }
+
+    private static void verifyRange(Bitmap<String> bitmap, LongUnaryOperator values, Predicate actualQuery,
+                                    LongPredicate predicate) {
+        Iterator<String> actualResult = bitmap.evaluate(actualQuery, INTEGER_CONVERTER);
+        for (long i = 0; i < COUNT; ++i) {
+            if (predicate.test(values.applyAsLong(i))) {
+                assertEquals(actualQuery.toString(), Long.toString(i), actualResult.next());
+            }
+        }
+        assertFalse(actualQuery.toString(), actualResult.hasNext());
+    }
+
     private static Iterator<Integer> values(long key) {
         List<Integer> values = new ArrayList<>(Long.SIZE);
         for (int i = 0; i < Long.SIZE; ++i) {
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.getters;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.GenericRecordQueryReader;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteOrder;
+
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createSerializationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactGetterTest {
+
+    private static final String[] FIELDS = {"boolean1", "boolean2", "int8", "int16", "int32", "int64", "float32", "float64",
+            "string", "nullableInt32", "inner", "inner.int32", "missing"};
+
+    private static final String[] VARIABLE_SIZE_FIELDS = {"int32", "string", "nullString", "unicodeString",
+            "nullableBoolean", "nullableInt8", "nullableInt16", "nullableInt32", "nullableInt64", "nullableFloat32",
+            "nullableFloat64", "nullNullableInt64", "missing"};
+
+    private static final String[] DIRECTLY_READ_FIELDS = {"string", "nullString", "unicodeString", "nullableBoolean",
+            "nullableInt8", "nullableInt16", "nullableInt32", "nullableInt64", "nullableFloat32", "nullableFloat64",
+            "nullNullableInt64"};
+
+    @Test
+    public void testFixedSizeFields() throws Exception {
+        InternalSerializationService ss = createSerializationService();
+        assertFieldsMatchGenericRecord(ss, record(false));
+    }
+
+    @Test
+    public void testFixedSizeFields_whenVariableSizeFieldsPresent() throws Exception {
+        InternalSerializationService ss = createSerializationService();
+        assertFieldsMatchGenericRecord(ss, record(true));
+    }
+
+    @Test
+    public void testFixedSizeFields_whenLittleEndian() throws Exception {
+        InternalSerializationService ss = createSerializationService(
+                new SerializationConfig().setByteOrder(ByteOrder.LITTLE_ENDIAN));
+        assertFieldsMatchGenericRecord(ss, record(true));
+    }
+
+    @Test
+    public void testVariableSizeFields() throws Exception {
+        InternalSerializationService ss = createSerializationService();
+        assertFieldsMatchGenericRecord(ss, variableSizeRecord(0), VARIABLE_SIZE_FIELDS);
+    }
+
+    @Test
+    public void testVariableSizeFields_whenShortOffsets() throws Exception {
+        InternalSerializationService ss = createSerializationService();
+        assertFieldsMatchGenericRecord(ss, variableSizeRecord(1000), VARIABLE_SIZE_FIELDS);
+    }
+
+    @Test
+    public void testVariableSizeFields_whenIntOffsets() throws Exception {
+        InternalSerializationService ss = createSerializationService();
+        assertFieldsMatchGenericRecord(ss, variableSizeRecord(100_000), VARIABLE_SIZE_FIELDS);
+    }
+
+    @Test
+    public void testVariableSizeFields_whenLittleEndian() throws Exception {
+        InternalSerializationService ss = createSerializationService(
+                new SerializationConfig().setByteOrder(ByteOrder.LITTLE_ENDIAN));
+        assertFieldsMatchGenericRecord(ss, variableSizeRecord(1000), VARIABLE_SIZE_FIELDS);
+    }
+
+    @Test
+    public void testVariableSizeFields_readWithoutGenericRecord() throws Exception {
+        InternalSerializationService ss = createSerializationService();
+        HeapData data = (HeapData) ss.toData(variableSizeRecord(0));
+        for (String field : DIRECTLY_READ_FIELDS) {
+            CompactFieldReader fieldReader = new CompactFieldReader(field, ss.getByteOrder());
+            assertNotSame(field, CompactFieldReader.UNSUPPORTED, fieldReader.read(data, ss));
+        }
+        // the arrays are read by the generic record
+        CompactFieldReader fieldReader = new CompactFieldReader("strings", ss.getByteOrder());
+        assertSame(CompactFieldReader.UNSUPPORTED, fieldReader.read(data, ss));
+    }
+
+    @Test
+    public void testSchemaEvolution() throws Exception {
+        InternalSerializationService ss = createSerializationService();
+        CompactGetter getter = new CompactGetter(ss);
+        GenericRecord v1 = GenericRecordBuilder.compact("type").setInt32("int32", 1).build();
+        GenericRecord v2 = GenericRecordBuilder.compact("type").setInt64("int64", 2).setInt32("int32", 3).build();
+        GenericRecord v3 = GenericRecordBuilder.compact("type").setString("int32", "4").build();
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(1, getter.getValue(ss.toData(v1), "int32"));
+            assertEquals(3, getter.getValue(ss.toData(v2), "int32"));
+            assertEquals("4", getter.getValue(ss.toData(v3), "int32"));
+            assertNull(getter.getValue(ss.toData(v1), "int64"));
+            assertEquals(2L, getter.getValue(ss.toData(v2), "int64"));
+        }
+    }
+
+    @Test
+    public void isCacheable() {
+        assertFalse(new CompactGetter(null).isCacheable());
+    }
+
+    private static void assertFieldsMatchGenericRecord(InternalSerializationService ss, GenericRecord record)
+            throws Exception {
+        assertFieldsMatchGenericRecord(ss, record, FIELDS);
+    }
+
+    private static void assertFieldsMatchGenericRecord(InternalSerializationService ss, GenericRecord record,
+                                                       String[] fields) throws Exception {
+        CompactGetter getter = new CompactGetter(ss);
+        Data data = ss.toData(record);
+        for (String field : fields) {
+            GenericRecordQueryReader reader = new GenericRecordQueryReader(ss.readAsInternalGenericRecord(data));
+            Object expected = reader.read(field);
+            // the second read uses the cached field position
+            for (int i = 0; i < 2; i++) {
+                Object actual = getter.getValue(data, field);
+                if (expected instanceof GenericRecord) {
+                    assertEquals(field, expected.toString(), actual.toString());
+                } else if (expected instanceof MultiResult<?> multiResult) {
+                    assertEquals(field, multiResult.getResults(), ((MultiResult<?>) actual).getResults());
+                } else {
+                    assertEquals(field, expected, actual);
+                }
+            }
+        }
+    }
+
+    private static GenericRecord record(boolean withVariableSizeFields) {
+        GenericRecordBuilder builder = GenericRecordBuilder.compact("type" + withVariableSizeFields)
+                .setBoolean("boolean1", false)
+                .setBoolean("boolean2", true)
+                .setInt8("int8", (byte) -8)
+                .setInt16("int16", (short) -1600)
+                .setInt32("int32", -320000)
+                .setInt64("int64", Long.MIN_VALUE + 64)
+                .setFloat32("float32", -32.5f)
+                .setFloat64("float64", Double.MAX_VALUE);
+        if (withVariableSizeFields) {
+            builder.setString("string", "value")
+                    .setNullableInt32("nullableInt32", null)
+                    .setGenericRecord("inner", GenericRecordBuilder.compact("inner").setInt32("int32", 42).build());
+        }
+        return builder.build();
+    }
+
+    private static GenericRecord variableSizeRecord(int paddingLength) {
+        return GenericRecordBuilder.compact("variable" + paddingLength)
+                .setInt32("int32", 32)
+                .setString("padding", "p".repeat(paddingLength))
+                .setString("string", "value")
+                .setString("nullString", null)
+                .setString("unicodeString", "\u00e7\u011f\u0131\u00f6\u015f\u00fc \ud83d\ude00")
+                .setNullableBoolean("nullableBoolean", true)
+                .setNullableInt8("nullableInt8", (byte) -8)
+                .setNullableInt16("nullableInt16", (short) -1600)
+                .setNullableInt32("nullableInt32", -320000)
+                .setNullableInt64("nullableInt64", Long.MAX_VALUE - 64)
+                .setNullableFloat32("nullableFloat32", 32.5f)
+                .setNullableFloat64("nullableFloat64", -Double.MAX_VALUE)
+                .setNullableInt64("nullNullableInt64", null)
+                .setArrayOfString("strings", new String[]{"a", null, "c"})
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.predicates;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.Random;
+
+import static com.hazelcast.query.impl.predicates.PredicateTestUtils.entry;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BatchPredicateEvaluatorTest {
+
+    private static final String[] NAMES = {"a", "b", "c", null};
+
+    @Test
+    public void testCreate_whenNoColumnarPredicate() {
+        assertNull(BatchPredicateEvaluator.create(Predicates.like("name", "a%")));
+        assertNull(BatchPredicateEvaluator.create(Predicates.equal("number", null)));
+        assertNotNull(BatchPredicateEvaluator.create(Predicates.and(Predicates.like("name", "a%"),
+                Predicates.greaterThan("number", 5))));
+        assertNotNull(BatchPredicateEvaluator.create(Predicates.sql("number > 5")));
+    }
+
+    @Test
+    public void testLongColumn() {
+        QueryableEntry[] entries = new QueryableEntry[10];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = (QueryableEntry) entry(i, new Value(i % 5 == 0 ? null : i, null, null, null));
+        }
+        boolean[] matches = new boolean[entries.length];
+
+        BatchPredicateEvaluator.create(Predicates.between("number", 2, 7)).evaluate(entries, entries.length, matches);
+
+        for (int i = 0; i < entries.length; i++) {
+            assertEquals(i >= 2 && i <= 7 && i != 5, matches[i]);
+        }
+    }
+
+    @Test
+    public void testRejectedEntriesAreNotEvaluated() {
+        QueryableEntry[] entries = new QueryableEntry[10];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = (QueryableEntry) entry(i, new Value((long) i, null, null, null));
+        }
+        boolean[] matches = new boolean[entries.length];
+        Predicate failing = entry -> {
+            throw new AssertionError("evaluated " + entry);
+        };
+
+        BatchPredicateEvaluator.create(Predicates.and(Predicates.greaterThan("number", 100), failing))
+                .evaluate(entries, entries.length, matches);
+        BatchPredicateEvaluator.create(Predicates.or(Predicates.lessThan("number", 100), failing))
+                .evaluate(entries, entries.length, matches);
+
+        for (boolean match : matches) {
+            assertTrue(match);
+        }
+    }
+
+    @Test
+    public void testRandomPredicates_matchApply() {
+        Random random = new Random();
+        for (int i = 0; i < 100; i++) {
+            long seed = random.nextLong();
+            int count = 1 + random.nextInt(BatchPredicateEvaluator.BATCH_SIZE);
+            QueryableEntry[] entries = new QueryableEntry[count];
+            for (int j = 0; j < count; j++) {
+                entries[j] = (QueryableEntry) entry(j, randomValue(random, i % 4));
+            }
+
+            // the predicates cache the attribute type, each evaluation uses its own copy
+            Predicate expected = randomPredicate(new Random(seed), 3);
+            Predicate actual = randomPredicate(new Random(seed), 3);
+            BatchPredicateEvaluator evaluator = BatchPredicateEvaluator.create(actual);
+            if (evaluator == null) {
+                continue;
+            }
+            boolean[] matches = new boolean[count];
+            evaluator.evaluate(entries, count, matches);
+
+            for (int j = 0; j < count; j++) {
+                assertEquals(actual + " on " + entries[j].getValue(), expected.apply(entries[j]), matches[j]);
+            }
+        }
+    }
+
+    private static Value randomValue(Random random, int numberType) {
+        int number = random.nextInt(200) - 100;
+        Object numberValue = switch (numberType) {
+            case 0 -> (long) number;
+            case 1 -> number;
+            case 2 -> (short) number;
+            default -> (byte) number;
+        };
+        // integral numbers of mixed types
+        Object mixed = switch (random.nextInt(3)) {
+            case 0 -> (long) number;
+            case 1 -> number;
+            default -> (short) number;
+        };
+        double decimal = random.nextInt(20) == 0 ? Double.NaN : random.nextInt(20) == 0 ? -0.0 : number / 4.0;
+        return new Value(random.nextInt(10) == 0 ? null : numberValue,
+                random.nextInt(10) == 0 ? null : decimal,
+                random.nextInt(10) == 0 ? null : mixed,
+                NAMES[random.nextInt(NAMES.length)]);
+    }
+
+    private static Predicate randomPredicate(Random random, int depth) {
+        int kind = random.nextInt(depth == 0 ? 6 : 9);
+        String attribute = new String[]{"number", "decimal", "mixed"}[random.nextInt(3)];
+        Comparable value = randomConstant(random, attribute);
+        return switch (kind) {
+            case 0 -> Predicates.equal(attribute, value);
+            case 1 -> Predicates.between(attribute, value, randomConstant(random, attribute));
+            case 2 -> Predicates.greaterThan(attribute, value);
+            case 3 -> Predicates.greaterEqual(attribute, value);
+            case 4 -> Predicates.lessEqual(attribute, value);
+            case 5 -> random.nextBoolean() ? Predicates.equal("name", "a") : Predicates.notEqual(attribute, value);
+            case 6 -> Predicates.and(randomPredicate(random, depth - 1), randomPredicate(random, depth - 1));
+            case 7 -> Predicates.or(randomPredicate(random, depth - 1), randomPredicate(random, depth - 1),
+                    randomPredicate(random, depth - 1));
+            default -> Predicates.not(randomPredicate(random, depth - 1));
+        };
+    }
+
+    private static Comparable randomConstant(Random random, String attribute) {
+        int number = random.nextInt(240) - 120;
+        if (attribute.equals("decimal")) {
+            if (random.nextInt(10) == 0) {
+                return Double.NaN;
+            }
+            return random.nextBoolean() ? (Comparable) (number / 4.0) : (Comparable) (number / 4.0f);
+        }
+        return switch (random.nextInt(4)) {
+            case 0 -> (long) number;
+            case 1 -> number;
+            case 2 -> number + 0.5;
+            default -> String.valueOf(number);
+        };
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Value implements Serializable {
+
+        private final Object number;
+        private final Double decimal;
+        private final Object mixed;
+        private final String name;
+
+        Value(Object number, Double decimal, Object mixed, String name) {
+            this.number = number;
+            this.decimal = decimal;
+            this.mixed = mixed;
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return "Value{number=" + number + ", decimal=" + decimal + ", mixed=" + mixed + ", name=" + name + '}';
+        }
+    }
+}
@@ -30,7 +30,9 @@ import java.util.concurrent.TimeUnit;
 import static com.hazelcast.spi.impl.operationservice.Operation.GENERIC_PARTITION_ID;
 import static com.hazelcast.spi.properties.ClusterProperty.GENERIC_OPERATION_THREAD_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_QUEUE_CHUNK_SIZE;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_IDLE_STRATEGY;
 import static com.hazelcast.spi.properties.ClusterProperty.PRIORITY_GENERIC_OPERATION_THREAD_COUNT;
 import static org.junit.Assert.assertEquals;
 
@@ -117,6 +119,34 @@ public class OperationExecutorImpl_BasicTest extends OperationExecutorImpl_Abstr
         assertTrueEventually(() -> assertEquals(expectedCount, executor.getQueueSize()));
     }
 
+    @Test
+    public void test_getQueueSize_whenArrayQueue() {
+        // tiny arrays, so the queued operations span multiple arrays
+        config.setProperty(PARTITION_OPERATION_QUEUE_CHUNK_SIZE.getName(), "2");
+
+        test_getQueueSize();
+    }
+
+    @Test
+    public void test_execute_whenArrayQueueAndIdleStrategy() {
+        config.setProperty(PARTITION_OPERATION_QUEUE_CHUNK_SIZE.getName(), "2");
+        config.setProperty(PARTITION_OPERATION_THREAD_IDLE_STRATEGY.getName(), "backoff");
+        initExecutor();
+
+        int partitionCount = props.getInteger(PARTITION_COUNT);
+        CountDownLatch completed = new CountDownLatch(10 * partitionCount);
+        for (int k = 0; k < 10 * partitionCount; k++) {
+            executor.execute(new Operation() {
+                @Override
+                public void run() {
+                    completed.countDown();
+                }
+            }.setPartitionId(k % partitionCount));
+        }
+
+        assertOpenEventually(completed);
+    }
+
     @Test(expected = NullPointerException.class)
     public void test_runOnAllPartitionThreads_whenTaskNull() {
         initExecutor();
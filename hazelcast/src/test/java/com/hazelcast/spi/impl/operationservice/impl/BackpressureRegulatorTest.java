@@ -36,10 +36,13 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ADAPTIVE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_SYNCWINDOW;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -111,6 +114,32 @@ public class BackpressureRegulatorTest extends HazelcastTestSupport {
         assertEquals(backpressureRegulator.getMaxConcurrentInvocations(), callIdSequence.getMaxConcurrentInvocations());
     }
 
+    @Test
+    public void newCallIdSequence_whenAdaptiveBackPressureEnabled() {
+        Config config = new Config();
+        config.setProperty(BACKPRESSURE_ENABLED.getName(), "true");
+        config.setProperty(BACKPRESSURE_ADAPTIVE_ENABLED.getName(), "true");
+        HazelcastProperties hazelcastProperties = new HazelcastProperties(config);
+        BackpressureRegulator backpressureRegulator = new BackpressureRegulator(hazelcastProperties, logger);
+
+        CallIdSequence callIdSequence = backpressureRegulator.newCallIdSequence(ConcurrencyDetection.createEnabled(100));
+
+        assertInstanceOf(CallIdSequenceWithBackpressure.class, callIdSequence);
+        assertNotNull(backpressureRegulator.getAdaptiveLimit());
+        assertEquals(backpressureRegulator.getAdaptiveLimit().limit(), callIdSequence.getMaxConcurrentInvocations());
+        assertEquals(backpressureRegulator.getMaxConcurrentInvocations(), callIdSequence.getMaxConcurrentInvocations());
+    }
+
+    @Test
+    public void adaptiveLimit_whenBackPressureDisabled_thenNull() {
+        Config config = new Config();
+        config.setProperty(BACKPRESSURE_ADAPTIVE_ENABLED.getName(), "true");
+        HazelcastProperties hazelcastProperties = new HazelcastProperties(config);
+        BackpressureRegulator backpressureRegulator = new BackpressureRegulator(hazelcastProperties, logger);
+
+        assertNull(backpressureRegulator.getAdaptiveLimit());
+    }
+
     @Test
     public void newCallIdSequence_whenBackPressureDisabled() {
         Config config = new Config();
@@ -19,6 +19,8 @@ package com.hazelcast.spi.impl.operationservice.impl;
 import com.hazelcast.config.Config;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.OperationTimeoutException;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.test.ExpectedRuntimeException;
 import com.hazelcast.test.HazelcastParallelClassRunner;
@@ -31,8 +33,10 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
 import static com.hazelcast.test.Accessors.getOperationService;
@@ -40,6 +44,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -221,6 +226,37 @@ public class InboundResponseHandler_NotifyTest extends HazelcastTestSupport {
         assertInvocationDeregisteredEventually(callId);
     }
 
+    // ==================== responseBatch =====================
+
+    @Test
+    public void responseBatch() {
+        Invocation invocation1 = newInvocation();
+        invocationRegistry.register(invocation1);
+        Invocation invocation2 = newInvocation();
+        invocationRegistry.register(invocation2);
+        long callId1 = invocation1.op.getCallId();
+        long callId2 = invocation2.op.getCallId();
+
+        OutboundResponseHandler outboundResponseHandler = operationService.getOutboundResponseHandler();
+        List<byte[]> responses = List.of(
+                outboundResponseHandler.toNormalResponsePacket(callId1, 1, false, "foo").toByteArray(),
+                outboundResponseHandler.toBackupAckPacket(callId1, false).toByteArray(),
+                outboundResponseHandler.toNormalResponsePacket(callId2, 0, false, "bar").toByteArray());
+        int size = responses.stream().mapToInt(response -> INT_SIZE_IN_BYTES + response.length).sum();
+        Packet packet = outboundResponseHandler.toResponseBatchPacket(responses, size);
+        packet.setConn(mock(ServerConnection.class));
+
+        inboundResponseHandler.accept(packet);
+
+        assertEquals("foo", invocation1.future.join());
+        assertEquals("bar", invocation2.future.join());
+        assertInvocationDeregisteredEventually(callId1);
+        assertInvocationDeregisteredEventually(callId2);
+        assertEquals(1, inboundResponseHandler.responsesBatch.get());
+        assertEquals(2, inboundResponseHandler.responsesNormal.get());
+        assertEquals(1, inboundResponseHandler.responsesBackup.get());
+    }
+
     private void assertInvocationDeregisteredEventually(final long callId) {
         assertTrueEventually(() -> assertNull(invocationRegistry.get(callId)));
     }
@@ -17,12 +17,15 @@
 package com.hazelcast.spi.impl.operationservice.impl;
 
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
+import com.hazelcast.core.HazelcastOverloadException;
 import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.internal.util.ConcurrencyDetection;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.impl.Invocation.Context;
+import com.hazelcast.spi.impl.sequence.AdaptiveConcurrencyLimit;
 import com.hazelcast.spi.impl.sequence.CallIdSequenceWithBackpressure;
+import com.hazelcast.spi.impl.sequence.FailFastCallIdSequence;
 import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
@@ -38,8 +41,11 @@ import java.util.concurrent.ExecutionException;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 @RunWith(HazelcastSerialClassRunner.class)
@@ -100,6 +106,39 @@ public class InvocationRegistryTest extends HazelcastTestSupport {
         }
     }
 
+    @Test
+    public void register_whenOverloaded_thenRejectionCounted() {
+        invocationRegistry = new InvocationRegistry(logger,
+                new FailFastCallIdSequence(1, ConcurrencyDetection.createDisabled()), new HazelcastProperties(new Properties()));
+        invocationRegistry.register(newInvocation());
+
+        assertThrows(HazelcastOverloadException.class, () -> invocationRegistry.register(newInvocation()));
+        assertEquals(1, invocationRegistry.getRejectedInvocations());
+    }
+
+    @Test
+    public void register_whenStaticLimit_thenRoundTripTimeNotSampled() {
+        Invocation invocation = newInvocation();
+        invocationRegistry.register(invocation);
+
+        assertEquals(0, invocation.registrationNanos);
+        assertEquals(2, invocationRegistry.getMaxConcurrentInvocations());
+    }
+
+    @Test
+    public void register_whenAdaptiveLimit_thenRoundTripTimeSampled() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 2, 1);
+        invocationRegistry = new InvocationRegistry(logger,
+                new FailFastCallIdSequence(limit, ConcurrencyDetection.createDisabled()), limit,
+                new HazelcastProperties(new Properties()));
+        Invocation invocation = newInvocation();
+        invocationRegistry.register(invocation);
+
+        assertNotEquals(0, invocation.registrationNanos);
+        assertEquals(limit.limit(), invocationRegistry.getMaxConcurrentInvocations());
+        assertTrue(invocationRegistry.deregister(invocation));
+    }
+
     // ====================== deregister ===============================
 
     @Test
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestThread;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class InvocationTableTest extends HazelcastTestSupport {
+
+    private final InvocationTable table = new InvocationTable(4, 16);
+
+    @Test
+    public void put_and_get() {
+        Invocation invocation = mock(Invocation.class);
+
+        table.put(1, invocation);
+
+        assertSame(invocation, table.get(1));
+        assertNull(table.get(2));
+        assertNull(table.get(0));
+        assertNull(table.get(-1));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void remove() {
+        Invocation invocation = mock(Invocation.class);
+        table.put(1, invocation);
+
+        assertTrue(table.remove(1));
+        assertFalse(table.remove(1));
+        assertFalse(table.remove(0));
+
+        assertNull(table.get(1));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    public void put_whenManyInvocations_thenRehashed() {
+        Map<Long, Invocation> expected = new HashMap<>();
+        for (long callId = 1; callId <= 10_000; callId++) {
+            Invocation invocation = mock(Invocation.class);
+            table.put(callId, invocation);
+            expected.put(callId, invocation);
+        }
+
+        assertEquals(expected.size(), table.size());
+        expected.forEach((callId, invocation) -> assertSame(invocation, table.get(callId)));
+    }
+
+    @Test
+    public void put_whenLongRunningInvocations_thenTombstonesReclaimed() {
+        // a few invocations stay while many others are added and removed,
+        // so the slots of the long-running invocations are passed many times
+        Invocation longRunning = mock(Invocation.class);
+        for (long callId = 1; callId <= 3; callId++) {
+            table.put(callId, longRunning);
+        }
+        Invocation invocation = mock(Invocation.class);
+        for (long callId = 4; callId <= 100_000; callId++) {
+            table.put(callId, invocation);
+            assertSame(invocation, table.get(callId));
+            assertTrue(table.remove(callId));
+        }
+
+        assertEquals(3, table.size());
+        for (long callId = 1; callId <= 3; callId++) {
+            assertSame(longRunning, table.get(callId));
+        }
+    }
+
+    @Test
+    public void iterator() {
+        Set<Invocation> expected = new HashSet<>();
+        for (long callId = 1; callId <= 100; callId++) {
+            Invocation invocation = mock(Invocation.class);
+            table.put(callId, invocation);
+            if (callId % 2 == 0) {
+                table.remove(callId);
+            } else {
+                expected.add(invocation);
+            }
+        }
+
+        Set<Invocation> actual = new HashSet<>();
+        for (Invocation invocation : table) {
+            actual.add(invocation);
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void iterator_whenEmpty() {
+        assertFalse(table.iterator().hasNext());
+    }
+
+    @Test
+    public void entries() {
+        Invocation invocation1 = mock(Invocation.class);
+        Invocation invocation2 = mock(Invocation.class);
+        table.put(1, invocation1);
+        table.put(7, invocation2);
+
+        Map<Long, Invocation> entries = new HashMap<>();
+        table.entries().forEach(entry -> entries.put(entry.getKey(), entry.getValue()));
+
+        assertEquals(Map.of(1L, invocation1, 7L, invocation2), entries);
+    }
+
+    @Test
+    public void get_whenConcurrentlyModified() {
+        AtomicLong callIdSequence = new AtomicLong();
+        AtomicBoolean stop = new AtomicBoolean();
+        List<TestThread> threads = new ArrayList<>();
+        for (int k = 0; k < 4; k++) {
+            threads.add(new TestThread() {
+                @Override
+                public void doRun() {
+                    Invocation invocation = mock(Invocation.class);
+                    Invocation other = mock(Invocation.class);
+                    List<Long> pending = new ArrayList<>();
+                    for (int i = 0; i < 50_000; i++) {
+                        long callId = callIdSequence.incrementAndGet();
+                        // every tenth invocation stays for a while
+                        table.put(callId, callId % 10 == 0 ? other : invocation);
+                        if (callId % 10 == 0) {
+                            pending.add(callId);
+                        } else {
+                            assertSame(invocation, table.get(callId));
+                            assertTrue(table.remove(callId));
+                            assertNull(table.get(callId));
+                        }
+                        if (pending.size() == 100) {
+                            for (long pendingCallId : pending) {
+                                assertSame(other, table.get(pendingCallId));
+                                assertTrue(table.remove(pendingCallId));
+                            }
+                            pending.clear();
+                        }
+                    }
+                    pending.forEach(table::remove);
+                }
+            });
+        }
+        TestThread iterating = new TestThread() {
+            @Override
+            public void doRun() {
+                while (!stop.get()) {
+                    for (Invocation invocation : table) {
+                        assertTrue(invocation != null);
+                    }
+                }
+            }
+        };
+        iterating.start();
+        threads.forEach(Thread::start);
+
+        threads.forEach(TestThread::assertSucceedsEventually);
+        stop.set(true);
+        iterating.assertSucceedsEventually();
+        assertEquals(0, table.size());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static com.hazelcast.spi.properties.ClusterProperty.RESPONSE_BATCHING_ENABLED;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OperationServiceImpl_responseBatchingTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 10_000;
+
+    @Test
+    public void whenResponseBatchingEnabled() throws Exception {
+        Config config = smallInstanceConfig()
+                .setProperty(RESPONSE_BATCHING_ENABLED.getName(), "true");
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        warmUpPartitions(instances);
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+
+        // async puts, so that the partition threads have many responses to batch
+        List<CompletionStage<Integer>> futures = new ArrayList<>();
+        for (int k = 0; k < ENTRY_COUNT; k++) {
+            futures.add(map.putAsync(k, k));
+        }
+        for (CompletionStage<Integer> future : futures) {
+            future.toCompletableFuture().get();
+        }
+
+        for (int k = 0; k < ENTRY_COUNT; k++) {
+            assertEquals(k, (int) map.get(k));
+        }
+        long batchedResponses = 0;
+        for (HazelcastInstance instance : instances) {
+            batchedResponses += getOperationService(instance).getOutboundResponseHandler().batchedResponsesSent.get();
+        }
+        assertTrue("no responses were batched", batchedResponses > 0);
+    }
+}
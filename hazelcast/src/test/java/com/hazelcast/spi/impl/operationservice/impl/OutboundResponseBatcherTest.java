@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.instance.impl.NodeExtension;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.ServerConnectionManager;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
+import com.hazelcast.spi.impl.operationexecutor.impl.OperationQueue;
+import com.hazelcast.spi.impl.operationexecutor.impl.OperationQueueImpl;
+import com.hazelcast.spi.impl.operationexecutor.impl.PartitionOperationThread;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.version.Version;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.spi.impl.SpiDataSerializerHook.RESPONSE_BATCH;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseBatcher.MAX_BATCH_SIZE;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseBatcher.OFFSET_RESPONSES;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseBatcher.OFFSET_RESPONSE_COUNT;
+import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.OFFSET_TYPE_ID;
+import static com.hazelcast.test.HazelcastTestSupport.assertOpenEventually;
+import static com.hazelcast.test.HazelcastTestSupport.assertTrueEventually;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OutboundResponseBatcherTest {
+
+    private Address thisAddress;
+    private InternalSerializationService serializationService;
+    private OutboundResponseHandler handler;
+    private ServerConnectionManager connectionManager;
+    private Address target1;
+    private Address target2;
+    private boolean useBigEndian;
+    private volatile Version clusterVersion = Versions.CURRENT_CLUSTER_VERSION;
+
+    @Before
+    public void setup() throws Exception {
+        thisAddress = new Address("127.0.0.1", 5701);
+        target1 = new Address("127.0.0.1", 5702);
+        target2 = new Address("127.0.0.1", 5703);
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        useBigEndian = serializationService.getByteOrder() == BIG_ENDIAN;
+        handler = new OutboundResponseHandler(thisAddress, serializationService,
+                Logger.getLogger(OutboundResponseBatcherTest.class), () -> clusterVersion, true, HOURS.toNanos(1));
+        connectionManager = mock(ServerConnectionManager.class);
+        when(connectionManager.transmit(any(Packet.class), any(Address.class), anyInt())).thenReturn(true);
+        ServerConnection connection = mock(ServerConnection.class);
+        when(connection.isAlive()).thenReturn(true);
+        when(connectionManager.get(any(Address.class))).thenReturn(connection);
+    }
+
+    @Test
+    public void flush_whenSingleResponse_thenSentOnItsOwn() {
+        OutboundResponseBatcher batcher = new OutboundResponseBatcher(handler, HOURS.toNanos(1));
+        byte[] response = backupAck(1);
+
+        batcher.add(connectionManager, target1, response);
+        assertFalse(batcher.isEmpty());
+        verify(connectionManager, never()).transmit(any(Packet.class), any(Address.class), anyInt());
+
+        batcher.flush();
+
+        ArgumentCaptor<Packet> packet = ArgumentCaptor.forClass(Packet.class);
+        verify(connectionManager).transmit(packet.capture(), eq(target1), anyInt());
+        assertArrayEquals(response, packet.getValue().toByteArray());
+        assertTrue(packet.getValue().isFlagRaised(Packet.FLAG_OP_RESPONSE));
+        assertTrue(batcher.isEmpty());
+        assertEquals(1, handler.responseBatchesSent.get());
+        assertEquals(1, handler.batchedResponsesSent.get());
+    }
+
+    @Test
+    public void flush_whenMultipleResponses_thenSentAsBatch() {
+        OutboundResponseBatcher batcher = new OutboundResponseBatcher(handler, HOURS.toNanos(1));
+        byte[] response1 = backupAck(1);
+        byte[] response2 = handler.toNormalResponsePacket(2, 1, false, "foo").toByteArray();
+        byte[] response3 = backupAck(3);
+
+        batcher.add(connectionManager, target1, response1);
+        batcher.add(connectionManager, target1, response2);
+        batcher.add(connectionManager, target1, response3);
+        batcher.flush();
+
+        ArgumentCaptor<Packet> packet = ArgumentCaptor.forClass(Packet.class);
+        verify(connectionManager).transmit(packet.capture(), eq(target1), anyInt());
+        byte[] bytes = packet.getValue().toByteArray();
+        assertEquals(RESPONSE_BATCH, Bits.readInt(bytes, OFFSET_TYPE_ID, useBigEndian));
+        assertEquals(3, Bits.readInt(bytes, OFFSET_RESPONSE_COUNT, useBigEndian));
+        int offset = OFFSET_RESPONSES;
+        for (byte[] response : new byte[][]{response1, response2, response3}) {
+            int length = Bits.readInt(bytes, offset, useBigEndian);
+            offset += INT_SIZE_IN_BYTES;
+            assertArrayEquals(response, Arrays.copyOfRange(bytes, offset, offset + length));
+            offset += length;
+        }
+        assertEquals(bytes.length, offset);
+        assertEquals(1, handler.responseBatchesSent.get());
+        assertEquals(3, handler.batchedResponsesSent.get());
+    }
+
+    @Test
+    public void flush_whenMultipleTargets_thenBatchPerTarget() {
+        OutboundResponseBatcher batcher = new OutboundResponseBatcher(handler, HOURS.toNanos(1));
+
+        batcher.add(connectionManager, target1, backupAck(1));
+        batcher.add(connectionManager, target2, backupAck(2));
+        batcher.add(connectionManager, target1, backupAck(3));
+        batcher.flush();
+
+        verify(connectionManager).transmit(any(Packet.class), eq(target1), anyInt());
+        verify(connectionManager).transmit(any(Packet.class), eq(target2), anyInt());
+        assertEquals(2, handler.responseBatchesSent.get());
+
+        // a new batch is started after the flush
+        batcher.add(connectionManager, target2, backupAck(4));
+        batcher.flush();
+
+        verify(connectionManager, times(2)).transmit(any(Packet.class), eq(target2), anyInt());
+    }
+
+    @Test
+    public void add_whenBatchFull_thenSent() {
+        OutboundResponseBatcher batcher = new OutboundResponseBatcher(handler, HOURS.toNanos(1));
+        byte[] response = backupAck(1);
+        int responsesPerBatch = (MAX_BATCH_SIZE + response.length + INT_SIZE_IN_BYTES - 1)
+                / (response.length + INT_SIZE_IN_BYTES);
+
+        for (int k = 0; k < responsesPerBatch - 1; k++) {
+            batcher.add(connectionManager, target1, response);
+        }
+        verify(connectionManager, never()).transmit(any(Packet.class), any(Address.class), anyInt());
+
+        batcher.add(connectionManager, target1, response);
+
+        verify(connectionManager).transmit(any(Packet.class), eq(target1), anyInt());
+        assertTrue(batcher.isEmpty());
+        assertEquals(responsesPerBatch, handler.batchedResponsesSent.get());
+    }
+
+    @Test
+    public void isExpired() {
+        OutboundResponseBatcher batcher = new OutboundResponseBatcher(handler, 0);
+        assertFalse(batcher.isExpired());
+
+        batcher.add(connectionManager, target1, backupAck(1));
+        assertTrue(batcher.isExpired());
+
+        batcher = new OutboundResponseBatcher(handler, HOURS.toNanos(1));
+        batcher.add(connectionManager, target1, backupAck(1));
+        assertFalse(batcher.isExpired());
+    }
+
+    @Test
+    public void flushIfExpired() {
+        OutboundResponseBatcher batcher = new OutboundResponseBatcher(handler, HOURS.toNanos(1));
+        batcher.add(connectionManager, target1, backupAck(1));
+
+        batcher.flushIfExpired();
+        verify(connectionManager, never()).transmit(any(Packet.class), any(Address.class), anyInt());
+
+        batcher.flushIfOlderThan(0);
+        verify(connectionManager).transmit(any(Packet.class), eq(target1), anyInt());
+        assertTrue(batcher.isEmpty());
+    }
+
+    @Test
+    public void onFlushTimer_whenNotExpired_thenNotSent() {
+        OutboundResponseBatcher batcher = new OutboundResponseBatcher(handler, HOURS.toNanos(1));
+        batcher.add(connectionManager, target1, backupAck(1));
+
+        batcher.onFlushTimer();
+
+        verify(connectionManager, never()).transmit(any(Packet.class), any(Address.class), anyInt());
+        assertFalse(batcher.isEmpty());
+    }
+
+    @Test
+    public void onFlushTimer_whenExpired_thenSent() {
+        OutboundResponseBatcher batcher = new OutboundResponseBatcher(handler, 0);
+        batcher.add(connectionManager, target1, backupAck(1));
+
+        batcher.onFlushTimer();
+
+        verify(connectionManager).transmit(any(Packet.class), eq(target1), anyInt());
+        assertTrue(batcher.isEmpty());
+    }
+
+    @Test
+    public void flush_whenTransmitFails_thenNotCounted() {
+        when(connectionManager.transmit(any(Packet.class), any(Address.class), anyInt())).thenReturn(false);
+        OutboundResponseBatcher batcher = new OutboundResponseBatcher(handler, HOURS.toNanos(1));
+        batcher.add(connectionManager, target1, backupAck(1));
+        batcher.add(connectionManager, target1, backupAck(2));
+
+        batcher.flush();
+
+        verify(connectionManager).transmit(any(Packet.class), eq(target1), anyInt());
+        assertTrue(batcher.isEmpty());
+        assertEquals(0, handler.responseBatchesSent.get());
+        assertEquals(0, handler.batchedResponsesSent.get());
+    }
+
+    @Test
+    public void sendBackupAck_whenPartitionOperationThread_thenBatched() {
+        OperationQueue queue = new OperationQueueImpl();
+        PartitionOperationThread thread = newPartitionOperationThread(queue);
+        thread.start();
+        try {
+            queue.add((Runnable) () -> handler.sendBackupAck(connectionManager, target1, 1, false), false);
+
+            // sent as a batch once the thread runs out of tasks
+            assertTrueEventually(() -> assertEquals(1, handler.responseBatchesSent.get()));
+            verify(connectionManager).transmit(any(Packet.class), eq(target1), anyInt());
+        } finally {
+            thread.shutdown();
+        }
+    }
+
+    @Test
+    public void sendBackupAck_whenLongRunningTask_thenSentByFlusher() {
+        handler = new OutboundResponseHandler(thisAddress, serializationService,
+                Logger.getLogger(OutboundResponseBatcherTest.class), () -> clusterVersion, true, MILLISECONDS.toNanos(1));
+        handler.start("test");
+        OperationQueue queue = new OperationQueueImpl();
+        PartitionOperationThread thread = newPartitionOperationThread(queue);
+        thread.start();
+        CountDownLatch taskCompleted = new CountDownLatch(1);
+        try {
+            queue.add((Runnable) () -> {
+                handler.sendBackupAck(connectionManager, target1, 1, false);
+                assertOpenEventually(taskCompleted);
+            }, false);
+
+            assertTrueEventually(() -> verify(connectionManager).transmit(any(Packet.class), eq(target1), anyInt()));
+            assertEquals(1, handler.responseBatchesSent.get());
+        } finally {
+            taskCompleted.countDown();
+            thread.shutdown();
+            handler.shutdown();
+        }
+    }
+
+    @Test
+    public void sendBackupAck_whenClusterVersionBeforeBatching_thenSentImmediately() {
+        clusterVersion = Versions.V5_5;
+        OperationQueue queue = new OperationQueueImpl();
+        PartitionOperationThread thread = newPartitionOperationThread(queue);
+        thread.start();
+        try {
+            queue.add((Runnable) () -> handler.sendBackupAck(connectionManager, target1, 1, false), false);
+
+            assertTrueEventually(() -> verify(connectionManager).transmit(any(Packet.class), eq(target1), anyInt()));
+            assertEquals(0, handler.responseBatchesSent.get());
+            assertNull(thread.getResponseBatcher());
+        } finally {
+            thread.shutdown();
+        }
+    }
+
+    @Test
+    public void sendBackupAck_whenNotConnected_thenSentImmediately() {
+        when(connectionManager.get(target1)).thenReturn(null);
+        OperationQueue queue = new OperationQueueImpl();
+        PartitionOperationThread thread = newPartitionOperationThread(queue);
+        thread.start();
+        try {
+            queue.add((Runnable) () -> handler.sendBackupAck(connectionManager, target1, 1, false), false);
+
+            // the connection manager gets the response right away, so it connects
+            // or reports the failure just like for a response which isn't batched
+            assertTrueEventually(() -> verify(connectionManager).transmit(any(Packet.class), eq(target1), anyInt()));
+            assertEquals(0, handler.responseBatchesSent.get());
+        } finally {
+            thread.shutdown();
+        }
+    }
+
+    @Test
+    public void sendBackupAck_whenNotPartitionOperationThread_thenSentImmediately() {
+        handler.sendBackupAck(connectionManager, target1, 1, false);
+
+        verify(connectionManager).transmit(any(Packet.class), eq(target1), anyInt());
+        assertEquals(0, handler.responseBatchesSent.get());
+    }
+
+    private static PartitionOperationThread newPartitionOperationThread(OperationQueue queue) {
+        return new PartitionOperationThread("partitionThread", 0, queue, Logger.getLogger(OutboundResponseBatcherTest.class),
+                mock(NodeExtension.class), new OperationRunner[]{mock(OperationRunner.class)},
+                OutboundResponseBatcherTest.class.getClassLoader());
+    }
+
+    private byte[] backupAck(long callId) {
+        return handler.toBackupAckPacket(callId, false).toByteArray();
+    }
+}
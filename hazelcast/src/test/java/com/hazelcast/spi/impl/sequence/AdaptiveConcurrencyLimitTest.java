@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.sequence;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.spi.impl.sequence.AdaptiveConcurrencyLimit.MIN_WINDOW_SAMPLES;
+import static com.hazelcast.spi.impl.sequence.AdaptiveConcurrencyLimit.WINDOW_NANOS;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AdaptiveConcurrencyLimitTest {
+
+    private static final long RTT_NANOS = 1000;
+
+    private AdaptiveConcurrencyLimit limit;
+    private long nowNanos;
+
+    @Before
+    public void setup() {
+        limit = new AdaptiveConcurrencyLimit(10, 100, 5);
+        nowNanos = System.nanoTime();
+        // the first window sets the baseline
+        window(RTT_NANOS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenMinLimitNotPositive() {
+        new AdaptiveConcurrencyLimit(0, 100, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenMaxLimitSmallerThanMinLimit() {
+        new AdaptiveConcurrencyLimit(10, 9, 1);
+    }
+
+    @Test
+    public void startsAtMaxLimit() {
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    public void whenOverloaded_thenLimitDecreased() {
+        window(10 * RTT_NANOS);
+        assertEquals(90, limit.limit());
+
+        window(10 * RTT_NANOS);
+        assertEquals(81, limit.limit());
+    }
+
+    @Test
+    public void whenOverloadEnds_thenLimitIncreasedUpToMaxLimit() {
+        window(10 * RTT_NANOS);
+        window(10 * RTT_NANOS);
+        assertEquals(81, limit.limit());
+
+        window(RTT_NANOS);
+        assertEquals(86, limit.limit());
+
+        for (int k = 0; k < 10; k++) {
+            window(RTT_NANOS);
+        }
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    public void whenSlightlySlower_thenLimitNotDecreased() {
+        window(RTT_NANOS * 3 / 2);
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    public void whenOverloadLasts_thenLimitNotBelowMinLimit_andBaselineReset() {
+        for (int k = 0; k < 100; k++) {
+            window(10 * RTT_NANOS);
+        }
+        assertEquals(10, limit.limit());
+
+        // the higher round trip time became the baseline, so the limit grows again
+        window(10 * RTT_NANOS);
+        assertEquals(15, limit.limit());
+    }
+
+    @Test
+    public void whenWindowTooShort_thenLimitNotChanged() {
+        for (int k = 0; k < 10 * MIN_WINDOW_SAMPLES; k++) {
+            limit.onSample(10 * RTT_NANOS, nowNanos);
+        }
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    public void whenTooFewSamples_thenLimitNotChanged() {
+        nowNanos += WINDOW_NANOS;
+        for (int k = 0; k < MIN_WINDOW_SAMPLES - 1; k++) {
+            limit.onSample(10 * RTT_NANOS, nowNanos);
+        }
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    public void whenSingleFastSample_thenNotOverloaded() {
+        nowNanos += WINDOW_NANOS;
+        limit.onSample(RTT_NANOS, nowNanos);
+        for (int k = 0; k < MIN_WINDOW_SAMPLES; k++) {
+            limit.onSample(100 * RTT_NANOS, nowNanos);
+        }
+        assertEquals(100, limit.limit());
+    }
+
+    private void window(long rttNanos) {
+        nowNanos += WINDOW_NANOS;
+        for (int k = 0; k < MIN_WINDOW_SAMPLES; k++) {
+            limit.onSample(rttNanos, nowNanos);
+        }
+    }
+}
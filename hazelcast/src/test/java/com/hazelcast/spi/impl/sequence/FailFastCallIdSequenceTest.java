@@ -28,6 +28,7 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -70,6 +71,26 @@ public class FailFastCallIdSequenceTest extends HazelcastTestSupport {
         assertEquals(2, sequence.forceNext());
     }
 
+    @Test
+    public void whenAdaptiveLimit_thenCapacityFollowsLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 2, 1);
+        CallIdSequence sequence = new FailFastCallIdSequence(limit, ConcurrencyDetection.createDisabled());
+        assertEquals(2, sequence.getMaxConcurrentInvocations());
+
+        // the first window sets the baseline, the second one is overloaded
+        long nowNanos = System.nanoTime();
+        for (long rttNanos : new long[]{1000, 10_000}) {
+            nowNanos += AdaptiveConcurrencyLimit.WINDOW_NANOS;
+            for (int k = 0; k < AdaptiveConcurrencyLimit.MIN_WINDOW_SAMPLES; k++) {
+                limit.onSample(rttNanos, nowNanos);
+            }
+        }
+        assertEquals(1, sequence.getMaxConcurrentInvocations());
+
+        sequence.next();
+        assertThrows(HazelcastOverloadException.class, sequence::next);
+    }
+
     @Test
     public void whenComplete_thenTailIncrements() {
         FailFastCallIdSequence sequence = new FailFastCallIdSequence(100, ConcurrencyDetection.createDisabled());